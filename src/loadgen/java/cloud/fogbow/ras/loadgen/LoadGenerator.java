@@ -0,0 +1,361 @@
+package cloud.fogbow.ras.loadgen;
+
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.api.http.response.InstanceState;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a running RAS end to end through its REST API, to size deployments and validate releases. Operations
+ * are drawn from the configured mixes of resources and of create, get, status and delete operations, on behalf of
+ * a random synthetic user, and issued at the target rate for the configured duration. The RAS is expected to be
+ * configured with an emulated cloud, from templates/clouds/emulated-cloud, and with its AS pointing at the stub
+ * this generator starts.
+ *
+ * The load is open: operations are started at their scheduled times whether or not the earlier ones have
+ * finished, and their latencies are measured from the scheduled time, so a saturated RAS shows up in the
+ * latencies instead of silently lowering the rate.
+ *
+ * Usage: mvn -P load-generator test-compile exec:java -Dexec.args=path/to/load-generator.conf
+ */
+public class LoadGenerator {
+    private static final Logger LOGGER = Logger.getLogger(LoadGenerator.class);
+
+    public static final String THE_REQUIRED_PROPERTY_S_WAS_NOT_SPECIFIED = "The required property %s was not specified.";
+    public static final String INVALID_MIX_ENTRY_S_OF_PROPERTY_S = "Invalid entry %s of property %s; expected name:weight.";
+    public static final String UNKNOWN_RESOURCE_KIND_S = "Unknown resource kind %s.";
+    public static final String UNKNOWN_OPERATION_KIND_S = "Unknown operation kind %s.";
+    public static final String UNEXPECTED_STATUS_D_OF_S_S_S = "Unexpected status %d of %s %s: %s";
+
+    private static final String OPERATIONS_COMPLETED_D = "%d operations completed";
+    private static final String USAGE = "Usage: LoadGenerator <load-generator.conf>";
+    private static final String USER_NAME_PREFIX = "load-generator-user-";
+    private static final String STUB_IDENTITY_PROVIDER = "load-generator";
+    private static final String INSTANCE_NAME_PREFIX = "load-generator-";
+    private static final String STATE_FIELD = "state";
+    private static final String ATTACHMENT_DEVICE = "/dev/sdb";
+    private static final String CIDR_FORMAT = "10.%d.%d.0/24";
+    private static final int COMPUTE_VCPU = 1;
+    private static final int COMPUTE_RAM = 1024;
+    private static final int COMPUTE_DISK = 20;
+    private static final int VOLUME_SIZE = 1;
+    private static final int CIDR_RANGE = 256;
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+    // deleting the dependent orders first avoids deletions refused while an attachment or public IP is alive
+    private static final ResourceKind[] CLEANUP_ORDER = {ResourceKind.ATTACHMENT, ResourceKind.PUBLIC_IP,
+            ResourceKind.COMPUTE, ResourceKind.VOLUME, ResourceKind.NETWORK};
+
+    private final LoadGeneratorConfiguration configuration;
+    private final RasClient client;
+    private final LoadStatistics statistics;
+    private final List<SyntheticUser> users;
+    private final Map<String, PendingOrder> pendingOrders;
+    private final WeightedChoice<ResourceKind> resourceMix;
+    private final WeightedChoice<OperationKind> operationMix;
+
+    public LoadGenerator(LoadGeneratorConfiguration configuration) {
+        this.configuration = configuration;
+        this.client = new RasClient(configuration.getRasUrl());
+        this.statistics = new LoadStatistics();
+        this.users = new ArrayList<>();
+        this.pendingOrders = new ConcurrentHashMap<>();
+        this.resourceMix = new WeightedChoice<>(configuration.getResourceMix());
+        this.operationMix = new WeightedChoice<>(configuration.getOperationMix());
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+        LoadGeneratorConfiguration configuration = LoadGeneratorConfiguration.load(args[0]);
+        StubAuthenticationService authenticationService = new StubAuthenticationService(
+                configuration.getStubAsPort());
+        authenticationService.start();
+        try {
+            LoadGenerator loadGenerator = new LoadGenerator(configuration);
+            loadGenerator.createUsers(authenticationService);
+            loadGenerator.run();
+        } finally {
+            authenticationService.stop();
+        }
+        System.exit(0);
+    }
+
+    public void createUsers(StubAuthenticationService authenticationService) throws Exception {
+        String rasPublicKey = this.client.getPublicKey();
+        for (int i = 0; i < this.configuration.getUsers(); i++) {
+            String userId = USER_NAME_PREFIX + i;
+            SystemUser systemUser = new SystemUser(userId, userId, STUB_IDENTITY_PROVIDER);
+            this.users.add(new SyntheticUser(authenticationService.createToken(systemUser, rasPublicKey)));
+        }
+    }
+
+    public void run() throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(this.configuration.getThreads());
+        ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor();
+        int pollInterval = this.configuration.getReadyPollInterval();
+        poller.scheduleWithFixedDelay(this::pollPendingOrders, pollInterval, pollInterval, TimeUnit.SECONDS);
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / this.configuration.getRate());
+        long startTime = System.nanoTime();
+        long endTime = startTime + TimeUnit.SECONDS.toNanos(this.configuration.getDuration());
+        long nextProgressTime = startTime + PROGRESS_INTERVAL;
+        for (long scheduledTime = startTime; scheduledTime < endTime; scheduledTime += intervalNanos) {
+            waitUntil(scheduledTime);
+            long operationScheduledTime = scheduledTime;
+            workers.execute(() -> performRandomOperation(operationScheduledTime));
+            if (scheduledTime >= nextProgressTime) {
+                LOGGER.info(String.format(OPERATIONS_COMPLETED_D, this.statistics.getOperationCount()));
+                nextProgressTime += PROGRESS_INTERVAL;
+            }
+        }
+        workers.shutdown();
+        workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        long elapsedTime = System.nanoTime() - startTime;
+
+        waitForPendingOrders();
+        poller.shutdownNow();
+
+        this.statistics.printReport(System.out, elapsedTime);
+        String reportDir = this.configuration.getReportDir();
+        if (reportDir != null) {
+            this.statistics.writeHistograms(reportDir);
+        }
+        if (this.configuration.isCleanup()) {
+            cleanup();
+        }
+    }
+
+    private void performRandomOperation(long scheduledTime) {
+        SyntheticUser user = this.users.get(ThreadLocalRandom.current().nextInt(this.users.size()));
+        ResourceKind resource = this.resourceMix.next();
+        OperationKind operation = this.operationMix.next();
+        String orderId = null;
+        Map<String, Object> body = null;
+        switch (operation) {
+            case CREATE:
+                body = buildCreateBody(user, resource);
+                if (body == null) {
+                    // attachments and public IPs need ready computes and volumes of the same user
+                    this.statistics.recordFallback(resource, operation);
+                    resource = ResourceKind.COMPUTE;
+                    body = buildCreateBody(user, resource);
+                }
+                break;
+            case GET:
+                orderId = user.pickOrder(resource);
+                break;
+            case DELETE:
+                orderId = user.takeOrder(resource);
+                break;
+            default:
+                break;
+        }
+        if ((operation == OperationKind.GET || operation == OperationKind.DELETE) && orderId == null) {
+            this.statistics.recordFallback(resource, operation);
+            operation = OperationKind.STATUS;
+        }
+
+        try {
+            switch (operation) {
+                case CREATE:
+                    String createdOrderId = this.client.create(resource, body, user.getToken());
+                    user.addOrder(resource, createdOrderId);
+                    this.pendingOrders.put(createdOrderId, new PendingOrder(user, resource, scheduledTime));
+                    break;
+                case GET:
+                    this.client.get(resource, orderId, user.getToken());
+                    break;
+                case STATUS:
+                    this.client.getStatus(resource, user.getToken());
+                    break;
+                case DELETE:
+                    this.client.delete(resource, orderId, user.getToken());
+                    user.releaseOrder(resource, orderId);
+                    this.pendingOrders.remove(orderId);
+                    break;
+            }
+        } catch (IOException e) {
+            this.statistics.recordError(resource, operation);
+            if (operation == OperationKind.DELETE) {
+                user.restoreOrder(resource, orderId);
+            }
+            LOGGER.debug(e.getMessage(), e);
+        } finally {
+            this.statistics.recordLatency(resource, operation, System.nanoTime() - scheduledTime);
+        }
+    }
+
+    private Map<String, Object> buildCreateBody(SyntheticUser user, ResourceKind resource) {
+        Map<String, Object> body = new HashMap<>();
+        switch (resource) {
+            case COMPUTE:
+                addLocation(body);
+                body.put("name", INSTANCE_NAME_PREFIX + UUID.randomUUID());
+                body.put("vCPU", COMPUTE_VCPU);
+                body.put("ram", COMPUTE_RAM);
+                body.put("disk", COMPUTE_DISK);
+                body.put("imageId", this.configuration.getImageId());
+                break;
+            case VOLUME:
+                addLocation(body);
+                body.put("name", INSTANCE_NAME_PREFIX + UUID.randomUUID());
+                body.put("size", VOLUME_SIZE);
+                break;
+            case NETWORK:
+                addLocation(body);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                body.put("name", INSTANCE_NAME_PREFIX + UUID.randomUUID());
+                body.put("cidr", String.format(CIDR_FORMAT, random.nextInt(CIDR_RANGE), random.nextInt(CIDR_RANGE)));
+                break;
+            case PUBLIC_IP:
+                String computeId = user.pickReadyOrder(ResourceKind.COMPUTE);
+                if (computeId == null) {
+                    return null;
+                }
+                body.put("computeId", computeId);
+                break;
+            case ATTACHMENT:
+                String attachedComputeId = user.pickReadyOrder(ResourceKind.COMPUTE);
+                String volumeId = user.pickReadyOrder(ResourceKind.VOLUME);
+                if (attachedComputeId == null || volumeId == null) {
+                    return null;
+                }
+                body.put("computeId", attachedComputeId);
+                body.put("volumeId", volumeId);
+                body.put("device", ATTACHMENT_DEVICE);
+                break;
+        }
+        return body;
+    }
+
+    private void addLocation(Map<String, Object> body) {
+        if (this.configuration.getProvider() != null) {
+            body.put("provider", this.configuration.getProvider());
+        }
+        body.put("cloudName", this.configuration.getCloudName());
+    }
+
+    /**
+     * Checks every order not yet ready, recording the time from its creation request to the first time its
+     * instance is seen READY, or whether it failed or timed out.
+     */
+    private void pollPendingOrders() {
+        long timeout = TimeUnit.SECONDS.toNanos(this.configuration.getReadyTimeout());
+        for (Map.Entry<String, PendingOrder> entry : this.pendingOrders.entrySet()) {
+            String orderId = entry.getKey();
+            PendingOrder order = entry.getValue();
+            long now = System.nanoTime();
+            try {
+                JsonObject instance = this.client.get(order.resource, orderId, order.user.getToken());
+                JsonElement state = instance.get(STATE_FIELD);
+                if (state != null && InstanceState.READY.name().equals(state.getAsString())) {
+                    if (this.pendingOrders.remove(orderId) != null) {
+                        this.statistics.recordTimeToReady(order.resource, now - order.creationTime);
+                        order.user.setReady(order.resource, orderId);
+                    }
+                    continue;
+                }
+                if (state != null && isFailed(state.getAsString())) {
+                    if (this.pendingOrders.remove(orderId) != null) {
+                        this.statistics.recordFailedOrder(order.resource);
+                    }
+                    continue;
+                }
+            } catch (IOException e) {
+                LOGGER.debug(e.getMessage(), e);
+            } catch (RuntimeException e) {
+                LOGGER.error(e.getMessage(), e);
+            }
+            if (now - order.creationTime > timeout && this.pendingOrders.remove(orderId) != null) {
+                this.statistics.recordTimedOutOrder(order.resource);
+            }
+        }
+    }
+
+    private boolean isFailed(String state) {
+        return InstanceState.FAILED.name().equals(state) || InstanceState.ERROR.name().equals(state);
+    }
+
+    private void waitForPendingOrders() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.configuration.getReadyTimeout());
+        while (!this.pendingOrders.isEmpty() && System.nanoTime() < deadline) {
+            TimeUnit.SECONDS.sleep(this.configuration.getReadyPollInterval());
+        }
+    }
+
+    private void cleanup() {
+        for (ResourceKind resource : CLEANUP_ORDER) {
+            for (SyntheticUser user : this.users) {
+                for (String orderId : user.takeAllOrders(resource)) {
+                    try {
+                        this.client.delete(resource, orderId, user.getToken());
+                    } catch (IOException e) {
+                        LOGGER.warn(e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private static void waitUntil(long time) {
+        long remaining;
+        while ((remaining = time - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static class PendingOrder {
+        private final SyntheticUser user;
+        private final ResourceKind resource;
+        private final long creationTime;
+
+        private PendingOrder(SyntheticUser user, ResourceKind resource, long creationTime) {
+            this.user = user;
+            this.resource = resource;
+            this.creationTime = creationTime;
+        }
+    }
+
+    private static class WeightedChoice<T> {
+        private final List<T> choices;
+        private final int[] cumulativeWeights;
+
+        private WeightedChoice(Map<T, Integer> weights) {
+            this.choices = new ArrayList<>();
+            this.cumulativeWeights = new int[weights.size()];
+            int total = 0;
+            for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+                total += entry.getValue();
+                this.cumulativeWeights[this.choices.size()] = total;
+                this.choices.add(entry.getKey());
+            }
+        }
+
+        private T next() {
+            int value = ThreadLocalRandom.current().nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+            for (int i = 0; i < this.cumulativeWeights.length; i++) {
+                if (value < this.cumulativeWeights[i]) {
+                    return this.choices.get(i);
+                }
+            }
+            return this.choices.get(this.choices.size() - 1);
+        }
+    }
+}
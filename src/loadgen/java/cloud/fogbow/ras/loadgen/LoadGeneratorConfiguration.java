@@ -0,0 +1,174 @@
+package cloud.fogbow.ras.loadgen;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The settings of a load generation run, read from a properties file; see templates/load-generator.conf.
+ */
+public class LoadGeneratorConfiguration {
+    public static final String RAS_URL_KEY = "ras_url";
+    public static final String PROVIDER_KEY = "provider";
+    public static final String CLOUD_NAME_KEY = "cloud_name";
+    public static final String IMAGE_ID_KEY = "image_id";
+    public static final String STUB_AS_PORT_KEY = "stub_as_port";
+    public static final String USERS_KEY = "users";
+    public static final String RATE_KEY = "rate";
+    public static final String DURATION_KEY = "duration";
+    public static final String THREADS_KEY = "threads";
+    public static final String RESOURCE_MIX_KEY = "resource_mix";
+    public static final String OPERATION_MIX_KEY = "operation_mix";
+    public static final String READY_POLL_INTERVAL_KEY = "ready_poll_interval";
+    public static final String READY_TIMEOUT_KEY = "ready_timeout";
+    public static final String REPORT_DIR_KEY = "report_dir";
+    public static final String CLEANUP_KEY = "cleanup";
+
+    public static final String DEFAULT_RAS_URL = "http://localhost:8080";
+    public static final String DEFAULT_CLOUD_NAME = "emulated-cloud";
+    public static final String DEFAULT_STUB_AS_PORT = "8081";
+    public static final String DEFAULT_USERS = "100";
+    public static final String DEFAULT_RATE = "50";
+    public static final String DEFAULT_DURATION = "300";
+    public static final String DEFAULT_THREADS = "64";
+    public static final String DEFAULT_RESOURCE_MIX = "compute:4,volume:2,network:2,public_ip:1,attachment:1";
+    public static final String DEFAULT_OPERATION_MIX = "create:3,get:4,status:2,delete:1";
+    public static final String DEFAULT_READY_POLL_INTERVAL = "1";
+    public static final String DEFAULT_READY_TIMEOUT = "300";
+    public static final String DEFAULT_CLEANUP = "true";
+
+    private static final String MIX_ENTRY_SEPARATOR = ",";
+    private static final String MIX_WEIGHT_SEPARATOR = ":";
+
+    private final Properties properties;
+
+    public LoadGeneratorConfiguration(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LoadGeneratorConfiguration load(String path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = new FileInputStream(path)) {
+            properties.load(inputStream);
+        }
+        return new LoadGeneratorConfiguration(properties);
+    }
+
+    public String getRasUrl() {
+        String rasUrl = getProperty(RAS_URL_KEY, DEFAULT_RAS_URL);
+        return rasUrl.endsWith("/") ? rasUrl.substring(0, rasUrl.length() - 1) : rasUrl;
+    }
+
+    /**
+     * @return the provider the orders are sent to, or null for the provider that receives them.
+     */
+    public String getProvider() {
+        return getProperty(PROVIDER_KEY, null);
+    }
+
+    public String getCloudName() {
+        return getProperty(CLOUD_NAME_KEY, DEFAULT_CLOUD_NAME);
+    }
+
+    public String getImageId() {
+        String imageId = getProperty(IMAGE_ID_KEY, null);
+        if (imageId == null) {
+            throw new IllegalArgumentException(String.format(LoadGenerator.THE_REQUIRED_PROPERTY_S_WAS_NOT_SPECIFIED,
+                    IMAGE_ID_KEY));
+        }
+        return imageId;
+    }
+
+    public int getStubAsPort() {
+        return getInt(STUB_AS_PORT_KEY, DEFAULT_STUB_AS_PORT);
+    }
+
+    public int getUsers() {
+        return getInt(USERS_KEY, DEFAULT_USERS);
+    }
+
+    /**
+     * @return the target number of operations per second.
+     */
+    public double getRate() {
+        return Double.parseDouble(getProperty(RATE_KEY, DEFAULT_RATE));
+    }
+
+    /**
+     * @return the duration of the run, in seconds.
+     */
+    public int getDuration() {
+        return getInt(DURATION_KEY, DEFAULT_DURATION);
+    }
+
+    public int getThreads() {
+        return getInt(THREADS_KEY, DEFAULT_THREADS);
+    }
+
+    public Map<ResourceKind, Integer> getResourceMix() {
+        Map<ResourceKind, Integer> mix = new EnumMap<>(ResourceKind.class);
+        for (Map.Entry<String, Integer> entry : parseMix(RESOURCE_MIX_KEY, DEFAULT_RESOURCE_MIX).entrySet()) {
+            mix.put(ResourceKind.fromName(entry.getKey()), entry.getValue());
+        }
+        return mix;
+    }
+
+    public Map<OperationKind, Integer> getOperationMix() {
+        Map<OperationKind, Integer> mix = new EnumMap<>(OperationKind.class);
+        for (Map.Entry<String, Integer> entry : parseMix(OPERATION_MIX_KEY, DEFAULT_OPERATION_MIX).entrySet()) {
+            mix.put(OperationKind.fromName(entry.getKey()), entry.getValue());
+        }
+        return mix;
+    }
+
+    /**
+     * @return the interval between checks of the orders not yet ready, in seconds.
+     */
+    public int getReadyPollInterval() {
+        return getInt(READY_POLL_INTERVAL_KEY, DEFAULT_READY_POLL_INTERVAL);
+    }
+
+    /**
+     * @return the time after which an order not yet ready is counted as timed out, in seconds.
+     */
+    public int getReadyTimeout() {
+        return getInt(READY_TIMEOUT_KEY, DEFAULT_READY_TIMEOUT);
+    }
+
+    /**
+     * @return the directory the percentile distributions are written to, or null if they are not written.
+     */
+    public String getReportDir() {
+        return getProperty(REPORT_DIR_KEY, null);
+    }
+
+    public boolean isCleanup() {
+        return Boolean.parseBoolean(getProperty(CLEANUP_KEY, DEFAULT_CLEANUP));
+    }
+
+    private Map<String, Integer> parseMix(String key, String defaultValue) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : getProperty(key, defaultValue).split(MIX_ENTRY_SEPARATOR)) {
+            String[] nameAndWeight = entry.split(MIX_WEIGHT_SEPARATOR);
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException(String.format(LoadGenerator.INVALID_MIX_ENTRY_S_OF_PROPERTY_S,
+                        entry, key));
+            }
+            mix.put(nameAndWeight[0].trim(), Integer.parseInt(nameAndWeight[1].trim()));
+        }
+        return mix;
+    }
+
+    private int getInt(String key, String defaultValue) {
+        return Integer.parseInt(getProperty(key, defaultValue));
+    }
+
+    private String getProperty(String key, String defaultValue) {
+        String value = this.properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+}
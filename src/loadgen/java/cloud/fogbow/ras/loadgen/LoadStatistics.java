@@ -0,0 +1,177 @@
+package cloud.fogbow.ras.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the results of a load generation run. Latencies are recorded in microseconds in HDR histograms, which
+ * can be written to concurrently and keep their precision across the whole range, so the tail percentiles are
+ * exact up to three significant digits; times to ready are recorded in milliseconds.
+ */
+public class LoadStatistics {
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROSECONDS_PER_MILLISECOND = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String HISTOGRAM_FILE_SUFFIX = ".hgrm";
+
+    private static final String OPERATION_HEADER_FORMAT = "%-26s %9s %8s %9s %9s %9s %9s %9s %9s%n";
+    private static final String OPERATION_LINE_FORMAT = "%-26s %9d %8d %9d %9.1f %9.1f %9.1f %9.1f %9.1f%n";
+    private static final String READY_HEADER_FORMAT = "%-26s %9s %8s %9s %9s %9s %9s %9s %9s%n";
+    private static final String READY_LINE_FORMAT = "%-26s %9d %8d %9d %9.0f %9.0f %9.0f %9.0f %9.0f%n";
+
+    private final Map<ResourceKind, Map<OperationKind, Histogram>> latencies;
+    private final Map<ResourceKind, Map<OperationKind, LongAdder>> errors;
+    private final Map<ResourceKind, Map<OperationKind, LongAdder>> fallbacks;
+    private final Map<ResourceKind, Histogram> timesToReady;
+    private final Map<ResourceKind, LongAdder> failedOrders;
+    private final Map<ResourceKind, LongAdder> timedOutOrders;
+
+    public LoadStatistics() {
+        this.latencies = new EnumMap<>(ResourceKind.class);
+        this.errors = new EnumMap<>(ResourceKind.class);
+        this.fallbacks = new EnumMap<>(ResourceKind.class);
+        this.timesToReady = new EnumMap<>(ResourceKind.class);
+        this.failedOrders = new EnumMap<>(ResourceKind.class);
+        this.timedOutOrders = new EnumMap<>(ResourceKind.class);
+        for (ResourceKind resource : ResourceKind.values()) {
+            Map<OperationKind, Histogram> resourceLatencies = new EnumMap<>(OperationKind.class);
+            Map<OperationKind, LongAdder> resourceErrors = new EnumMap<>(OperationKind.class);
+            Map<OperationKind, LongAdder> resourceFallbacks = new EnumMap<>(OperationKind.class);
+            for (OperationKind operation : OperationKind.values()) {
+                resourceLatencies.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+                resourceErrors.put(operation, new LongAdder());
+                resourceFallbacks.put(operation, new LongAdder());
+            }
+            this.latencies.put(resource, resourceLatencies);
+            this.errors.put(resource, resourceErrors);
+            this.fallbacks.put(resource, resourceFallbacks);
+            this.timesToReady.put(resource, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            this.failedOrders.put(resource, new LongAdder());
+            this.timedOutOrders.put(resource, new LongAdder());
+        }
+    }
+
+    public void recordLatency(ResourceKind resource, OperationKind operation, long latencyNanos) {
+        this.latencies.get(resource).get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    public void recordError(ResourceKind resource, OperationKind operation) {
+        this.errors.get(resource).get(operation).increment();
+    }
+
+    /**
+     * Records that the operation drawn could not be performed, for lack of an order to perform it on, and that
+     * another one was performed in its place.
+     */
+    public void recordFallback(ResourceKind resource, OperationKind operation) {
+        this.fallbacks.get(resource).get(operation).increment();
+    }
+
+    public void recordTimeToReady(ResourceKind resource, long timeNanos) {
+        this.timesToReady.get(resource).recordValue(TimeUnit.NANOSECONDS.toMillis(timeNanos));
+    }
+
+    public void recordFailedOrder(ResourceKind resource) {
+        this.failedOrders.get(resource).increment();
+    }
+
+    public void recordTimedOutOrder(ResourceKind resource) {
+        this.timedOutOrders.get(resource).increment();
+    }
+
+    public long getOperationCount() {
+        long count = 0;
+        for (Map<OperationKind, Histogram> resourceLatencies : this.latencies.values()) {
+            for (Histogram histogram : resourceLatencies.values()) {
+                count += histogram.getTotalCount();
+            }
+        }
+        return count;
+    }
+
+    public void printReport(PrintStream out, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        out.printf("Operations: %d in %.1f s (%.1f ops/s)%n%n", getOperationCount(), elapsedSeconds,
+                getOperationCount() / elapsedSeconds);
+
+        out.println("Latency (ms)");
+        out.printf(OPERATION_HEADER_FORMAT, "operation", "count", "errors", "fallbacks", "p50", "p90", "p99",
+                "p99.9", "max");
+        for (ResourceKind resource : ResourceKind.values()) {
+            for (OperationKind operation : OperationKind.values()) {
+                Histogram histogram = this.latencies.get(resource).get(operation);
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                out.printf(OPERATION_LINE_FORMAT, resource.getName() + " " + operation.getName(),
+                        histogram.getTotalCount(), this.errors.get(resource).get(operation).sum(),
+                        this.fallbacks.get(resource).get(operation).sum(),
+                        toMilliseconds(histogram.getValueAtPercentile(PERCENTILES[0])),
+                        toMilliseconds(histogram.getValueAtPercentile(PERCENTILES[1])),
+                        toMilliseconds(histogram.getValueAtPercentile(PERCENTILES[2])),
+                        toMilliseconds(histogram.getValueAtPercentile(PERCENTILES[3])),
+                        toMilliseconds(histogram.getMaxValue()));
+            }
+        }
+
+        out.println();
+        out.println("Time to ready (ms)");
+        out.printf(READY_HEADER_FORMAT, "resource", "ready", "failed", "timed out", "p50", "p90", "p99", "p99.9",
+                "max");
+        for (ResourceKind resource : ResourceKind.values()) {
+            Histogram histogram = this.timesToReady.get(resource);
+            long failed = this.failedOrders.get(resource).sum();
+            long timedOut = this.timedOutOrders.get(resource).sum();
+            if (histogram.getTotalCount() == 0 && failed == 0 && timedOut == 0) {
+                continue;
+            }
+            out.printf(READY_LINE_FORMAT, resource.getName(), histogram.getTotalCount(), failed, timedOut,
+                    (double) histogram.getValueAtPercentile(PERCENTILES[0]),
+                    (double) histogram.getValueAtPercentile(PERCENTILES[1]),
+                    (double) histogram.getValueAtPercentile(PERCENTILES[2]),
+                    (double) histogram.getValueAtPercentile(PERCENTILES[3]),
+                    (double) histogram.getMaxValue());
+        }
+    }
+
+    /**
+     * Writes the full percentile distribution of every histogram, in the format read by the HdrHistogram plotter,
+     * one file per operation and per resource time to ready, with values in milliseconds.
+     */
+    public void writeHistograms(String directory) throws FileNotFoundException {
+        File reportDir = new File(directory);
+        reportDir.mkdirs();
+        for (ResourceKind resource : ResourceKind.values()) {
+            for (OperationKind operation : OperationKind.values()) {
+                Histogram histogram = this.latencies.get(resource).get(operation);
+                if (histogram.getTotalCount() > 0) {
+                    writeHistogram(new File(reportDir, resource.getName() + "-" + operation.getName() +
+                            HISTOGRAM_FILE_SUFFIX), histogram, MICROSECONDS_PER_MILLISECOND);
+                }
+            }
+            Histogram histogram = this.timesToReady.get(resource);
+            if (histogram.getTotalCount() > 0) {
+                writeHistogram(new File(reportDir, resource.getName() + "-ready" + HISTOGRAM_FILE_SUFFIX),
+                        histogram, 1.0);
+            }
+        }
+    }
+
+    private void writeHistogram(File file, Histogram histogram, double scalingRatio) throws FileNotFoundException {
+        try (PrintStream out = new PrintStream(file)) {
+            histogram.outputPercentileDistribution(out, scalingRatio);
+        }
+    }
+
+    private double toMilliseconds(long microseconds) {
+        return microseconds / MICROSECONDS_PER_MILLISECOND;
+    }
+}
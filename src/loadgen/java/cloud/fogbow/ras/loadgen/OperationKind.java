@@ -0,0 +1,27 @@
+package cloud.fogbow.ras.loadgen;
+
+public enum OperationKind {
+    CREATE("create"),
+    GET("get"),
+    STATUS("status"),
+    DELETE("delete");
+
+    private final String name;
+
+    OperationKind(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public static OperationKind fromName(String name) {
+        for (OperationKind kind : values()) {
+            if (kind.name.equals(name)) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException(String.format(LoadGenerator.UNKNOWN_OPERATION_KIND_S, name));
+    }
+}
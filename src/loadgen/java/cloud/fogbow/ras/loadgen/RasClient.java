@@ -0,0 +1,111 @@
+package cloud.fogbow.ras.loadgen;
+
+import cloud.fogbow.ras.api.http.CommonKeys;
+import cloud.fogbow.ras.api.http.request.Compute;
+import cloud.fogbow.ras.api.http.response.PublicKey;
+import cloud.fogbow.ras.api.http.response.ResourceId;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A minimal client of the RAS REST API. It relies on the keep-alive connection cache of HttpURLConnection, so
+ * the connections to the RAS are reused across requests and threads; the response bodies are always read to the
+ * end so that their connections can go back to the cache.
+ */
+public class RasClient {
+    private static final String GET_METHOD = "GET";
+    private static final String POST_METHOD = "POST";
+    private static final String DELETE_METHOD = "DELETE";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final int CONNECT_TIMEOUT = 10000;
+    private static final int READ_TIMEOUT = 60000;
+    private static final int BUFFER_SIZE = 4096;
+
+    private final String rasUrl;
+    private final Gson gson;
+
+    public RasClient(String rasUrl) {
+        this.rasUrl = rasUrl;
+        this.gson = new Gson();
+    }
+
+    public String getPublicKey() throws IOException {
+        String response = send(GET_METHOD, cloud.fogbow.ras.api.http.request.PublicKey.PUBLIC_KEY_ENDPOINT, null,
+                null, HttpURLConnection.HTTP_OK);
+        return this.gson.fromJson(response, PublicKey.class).getPublicKey();
+    }
+
+    /**
+     * @return the id of the created order.
+     */
+    public String create(ResourceKind kind, Object body, String token) throws IOException {
+        String response = send(POST_METHOD, kind.getEndpoint(), this.gson.toJson(body), token,
+                HttpURLConnection.HTTP_CREATED);
+        return this.gson.fromJson(response, ResourceId.class).getId();
+    }
+
+    public JsonObject get(ResourceKind kind, String id, String token) throws IOException {
+        String response = send(GET_METHOD, kind.getEndpoint() + "/" + id, null, token, HttpURLConnection.HTTP_OK);
+        return this.gson.fromJson(response, JsonObject.class);
+    }
+
+    public void getStatus(ResourceKind kind, String token) throws IOException {
+        send(GET_METHOD, kind.getEndpoint() + "/" + Compute.STATUS_SUFFIX_ENDPOINT, null, token,
+                HttpURLConnection.HTTP_OK);
+    }
+
+    public void delete(ResourceKind kind, String id, String token) throws IOException {
+        send(DELETE_METHOD, kind.getEndpoint() + "/" + id, null, token, HttpURLConnection.HTTP_OK);
+    }
+
+    private String send(String method, String endpoint, String body, String token, int expectedStatus)
+            throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(this.rasUrl + "/" + endpoint).openConnection();
+        connection.setRequestMethod(method);
+        connection.setConnectTimeout(CONNECT_TIMEOUT);
+        connection.setReadTimeout(READ_TIMEOUT);
+        if (token != null) {
+            connection.setRequestProperty(CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY, token);
+        }
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE);
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream inputStream = status < HttpURLConnection.HTTP_BAD_REQUEST ?
+                connection.getInputStream() : connection.getErrorStream();
+        String response = read(inputStream);
+        if (status != expectedStatus) {
+            throw new IOException(String.format(LoadGenerator.UNEXPECTED_STATUS_D_OF_S_S_S, status, method, endpoint,
+                    response));
+        }
+        return response;
+    }
+
+    private String read(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            return "";
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream stream = inputStream) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
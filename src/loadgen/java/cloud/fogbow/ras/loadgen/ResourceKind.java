@@ -0,0 +1,40 @@
+package cloud.fogbow.ras.loadgen;
+
+import cloud.fogbow.ras.api.http.request.Attachment;
+import cloud.fogbow.ras.api.http.request.Compute;
+import cloud.fogbow.ras.api.http.request.Network;
+import cloud.fogbow.ras.api.http.request.PublicIp;
+import cloud.fogbow.ras.api.http.request.Volume;
+
+public enum ResourceKind {
+    COMPUTE("compute", Compute.COMPUTE_ENDPOINT),
+    VOLUME("volume", Volume.VOLUME_ENDPOINT),
+    NETWORK("network", Network.NETWORK_ENDPOINT),
+    PUBLIC_IP("public_ip", PublicIp.PUBLIC_IP_ENDPOINT),
+    ATTACHMENT("attachment", Attachment.ATTACHMENT_ENDPOINT);
+
+    private final String name;
+    private final String endpoint;
+
+    ResourceKind(String name, String endpoint) {
+        this.name = name;
+        this.endpoint = endpoint;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public String getEndpoint() {
+        return this.endpoint;
+    }
+
+    public static ResourceKind fromName(String name) {
+        for (ResourceKind kind : values()) {
+            if (kind.name.equals(name)) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException(String.format(LoadGenerator.UNKNOWN_RESOURCE_KIND_S, name));
+    }
+}
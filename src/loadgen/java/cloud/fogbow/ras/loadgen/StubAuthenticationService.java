@@ -0,0 +1,87 @@
+package cloud.fogbow.ras.loadgen;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.common.util.AuthenticationUtil;
+import cloud.fogbow.common.util.CryptoUtil;
+import cloud.fogbow.ras.api.http.response.PublicKey;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * Stands in for the Authentication Service during a load test. It holds a key pair of its own, serves the public
+ * key the RAS fetches to verify tokens, and mints the tokens of the synthetic users with the private key, so no
+ * identity provider is involved.
+ *
+ * The RAS must be configured with as_url and as_port pointing at this stub, and must not have fetched the key of
+ * another AS before the test starts, since it keeps the first key it gets.
+ */
+public class StubAuthenticationService {
+    private static final int KEY_SIZE = 2048;
+    private static final String KEY_ALGORITHM = "RSA";
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
+    private static final String ROOT_CONTEXT = "/";
+
+    private final RSAPrivateKey privateKey;
+    private final RSAPublicKey publicKey;
+    private final HttpServer server;
+
+    public StubAuthenticationService(int port) throws IOException, GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+        keyPairGenerator.initialize(KEY_SIZE);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        this.privateKey = (RSAPrivateKey) keyPair.getPrivate();
+        this.publicKey = (RSAPublicKey) keyPair.getPublic();
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        // the RAS only asks for the public key, so every request gets it
+        this.server.createContext(ROOT_CONTEXT, this::servePublicKey);
+    }
+
+    public void start() {
+        this.server.start();
+    }
+
+    public void stop() {
+        this.server.stop(0);
+    }
+
+    /**
+     * Mints a token of the given user for the RAS whose public key is given.
+     *
+     * @param systemUser the synthetic user.
+     * @param rasPublicKey the public key of the RAS, in base64, as served by its publicKey endpoint.
+     * @return the token to be sent in the Fogbow-User-Token header.
+     */
+    public String createToken(SystemUser systemUser, String rasPublicKey) throws FogbowException {
+        return AuthenticationUtil.createFogbowToken(systemUser, this.privateKey, rasPublicKey);
+    }
+
+    private void servePublicKey(HttpExchange exchange) throws IOException {
+        try {
+            String json = new Gson().toJson(new PublicKey(CryptoUtil.toBase64(this.publicKey)));
+            byte[] body = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set(CONTENT_TYPE_HEADER, JSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } catch (GeneralSecurityException e) {
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_INTERNAL_ERROR, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package cloud.fogbow.ras.loadgen;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A user on whose behalf the load generator sends requests, with the orders it has created and not deleted yet.
+ * An order becomes ready once its instance is reported READY; only ready computes and volumes are used by the
+ * attachments and public IPs of the user. An order being deleted is kept aside, with its readiness, until the
+ * deletion either succeeds or fails, in which case it is restored as it was.
+ */
+public class SyntheticUser {
+    private final String token;
+    // the fields below are guarded by this
+    private final Map<ResourceKind, List<String>> orderIds;
+    private final Map<ResourceKind, List<String>> readyOrderIds;
+    // order id -> whether it is ready, for the orders being deleted
+    private final Map<ResourceKind, Map<String, Boolean>> takenOrders;
+
+    public SyntheticUser(String token) {
+        this.token = token;
+        this.orderIds = new EnumMap<>(ResourceKind.class);
+        this.readyOrderIds = new EnumMap<>(ResourceKind.class);
+        this.takenOrders = new EnumMap<>(ResourceKind.class);
+        for (ResourceKind kind : ResourceKind.values()) {
+            this.orderIds.put(kind, new ArrayList<>());
+            this.readyOrderIds.put(kind, new ArrayList<>());
+            this.takenOrders.put(kind, new HashMap<>());
+        }
+    }
+
+    public String getToken() {
+        return this.token;
+    }
+
+    public synchronized void addOrder(ResourceKind kind, String orderId) {
+        this.orderIds.get(kind).add(orderId);
+    }
+
+    public synchronized void setReady(ResourceKind kind, String orderId) {
+        if (this.orderIds.get(kind).contains(orderId)) {
+            this.readyOrderIds.get(kind).add(orderId);
+        } else if (this.takenOrders.get(kind).containsKey(orderId)) {
+            this.takenOrders.get(kind).put(orderId, true);
+        }
+    }
+
+    /**
+     * @return the id of a random order of the kind, or null if the user has none.
+     */
+    public synchronized String pickOrder(ResourceKind kind) {
+        return pick(this.orderIds.get(kind));
+    }
+
+    /**
+     * @return the id of a random ready order of the kind, or null if the user has none.
+     */
+    public synchronized String pickReadyOrder(ResourceKind kind) {
+        return pick(this.readyOrderIds.get(kind));
+    }
+
+    /**
+     * Removes a random order of the kind, which the caller is about to delete. The caller must then either
+     * release the order, once it is deleted, or restore it, if the deletion fails.
+     *
+     * @return the id of the order, or null if the user has none.
+     */
+    public synchronized String takeOrder(ResourceKind kind) {
+        List<String> ids = this.orderIds.get(kind);
+        if (ids.isEmpty()) {
+            return null;
+        }
+        String orderId = ids.remove(ThreadLocalRandom.current().nextInt(ids.size()));
+        boolean ready = this.readyOrderIds.get(kind).remove(orderId);
+        this.takenOrders.get(kind).put(orderId, ready);
+        return orderId;
+    }
+
+    public synchronized void releaseOrder(ResourceKind kind, String orderId) {
+        this.takenOrders.get(kind).remove(orderId);
+    }
+
+    /**
+     * Gives back an order whose deletion failed, keeping it ready if it was ready when taken or became ready since.
+     */
+    public synchronized void restoreOrder(ResourceKind kind, String orderId) {
+        Boolean ready = this.takenOrders.get(kind).remove(orderId);
+        if (ready == null) {
+            return;
+        }
+        this.orderIds.get(kind).add(orderId);
+        if (ready) {
+            this.readyOrderIds.get(kind).add(orderId);
+        }
+    }
+
+    public synchronized List<String> takeAllOrders(ResourceKind kind) {
+        List<String> ids = new ArrayList<>(this.orderIds.get(kind));
+        this.orderIds.get(kind).clear();
+        this.readyOrderIds.get(kind).clear();
+        return ids;
+    }
+
+    private String pick(List<String> ids) {
+        return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
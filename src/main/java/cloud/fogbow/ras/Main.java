@@ -15,6 +15,7 @@ import cloud.fogbow.ras.core.datastore.services.AuditableRequestService;
 import cloud.fogbow.ras.core.datastore.services.RecoveryService;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.metrics.OrderLatencyTracker;
 import cloud.fogbow.ras.core.models.RasOperation;
 import org.apache.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,6 +55,9 @@ public class Main implements ApplicationRunner {
             ServiceAsymmetricKeysHolder.getInstance().setPublicKeyFilePath(publicKeyFilePath);
             ServiceAsymmetricKeysHolder.getInstance().setPrivateKeyFilePath(privateKeyFilePath);
 
+            // Setting up the tracking of slow orders, so that its configuration is checked at startup
+            OrderLatencyTracker.getInstance();
+
             // Setting up controllers and application facade
             String className = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.AUTHORIZATION_PLUGIN_CLASS_KEY);
             AuthorizationPlugin<RasOperation> authorizationPlugin = AuthorizationPluginInstantiator.getAuthorizationPlugin(className);
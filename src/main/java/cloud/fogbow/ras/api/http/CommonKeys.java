@@ -2,4 +2,6 @@ package cloud.fogbow.ras.api.http;
 
 public class CommonKeys {
     public static final String SYSTEM_USER_TOKEN_HEADER_KEY = "Fogbow-User-Token";
+    public static final String TRACE_ID_HEADER_KEY = "Fogbow-Trace-Id";
+    public static final String MAX_INSTANCE_AGE_PARAMETER_KEY = "maxInstanceAge";
 }
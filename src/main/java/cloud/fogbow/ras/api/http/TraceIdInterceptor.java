@@ -0,0 +1,33 @@
+package cloud.fogbow.ras.api.http;
+
+import cloud.fogbow.ras.core.metrics.TraceContext;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Sets the trace ID of each REST request for the thread that handles it, and returns it in the response. The ID
+ * sent by the client is kept; otherwise, one is generated only if tracing is enabled.
+ */
+public class TraceIdInterceptor extends HandlerInterceptorAdapter {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String traceId = request.getHeader(CommonKeys.TRACE_ID_HEADER_KEY);
+        if ((traceId == null || traceId.isEmpty()) && TraceContext.isEnabled()) {
+            traceId = TraceContext.generateTraceId();
+        }
+        TraceContext.setTraceId(traceId);
+        if (TraceContext.getTraceId() != null) {
+            response.setHeader(CommonKeys.TRACE_ID_HEADER_KEY, traceId);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        TraceContext.clear();
+    }
+}
@@ -72,6 +72,8 @@ public class Attachment {
     public ResponseEntity<AttachmentInstance> getAttachment(
             @ApiParam(value = ApiDocumentation.Attachment.ID)
             @PathVariable String attachmentId,
+            @ApiParam(value = ApiDocumentation.CommonParameters.MAX_INSTANCE_AGE)
+            @RequestParam(required = false, value = CommonKeys.MAX_INSTANCE_AGE_PARAMETER_KEY) Long maxInstanceAge,
             @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
             @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
             throws FogbowException {
@@ -79,7 +81,7 @@ public class Attachment {
         try {
             LOGGER.info(String.format(Messages.Log.RECEIVING_GET_REQUEST_S, ORDER_CONTROLLER_TYPE, attachmentId));
             AttachmentInstance attachmentInstance =
-                ApplicationFacade.getInstance().getAttachment(attachmentId, systemUserToken);
+                ApplicationFacade.getInstance().getAttachment(attachmentId, systemUserToken, maxInstanceAge);
             return new ResponseEntity<>(attachmentInstance, HttpStatus.OK);
         } catch (Exception e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
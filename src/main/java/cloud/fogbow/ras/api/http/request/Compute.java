@@ -74,13 +74,15 @@ public class Compute {
     public ResponseEntity<ComputeInstance> getCompute(
             @ApiParam(value = ApiDocumentation.Compute.ID)
             @PathVariable String computeId,
+            @ApiParam(value = ApiDocumentation.CommonParameters.MAX_INSTANCE_AGE)
+            @RequestParam(required = false, value = CommonKeys.MAX_INSTANCE_AGE_PARAMETER_KEY) Long maxInstanceAge,
             @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
             @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
             throws FogbowException {
 
         try {
             LOGGER.info(String.format(Messages.Log.RECEIVING_GET_REQUEST_S, ORDER_CONTROLLER_TYPE, computeId));
-            ComputeInstance compute = ApplicationFacade.getInstance().getCompute(computeId, systemUserToken);
+            ComputeInstance compute = ApplicationFacade.getInstance().getCompute(computeId, systemUserToken, maxInstanceAge);
             return new ResponseEntity<ComputeInstance>(compute, HttpStatus.OK);
         } catch (Exception e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
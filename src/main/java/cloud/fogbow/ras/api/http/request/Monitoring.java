@@ -0,0 +1,123 @@
+package cloud.fogbow.ras.api.http.request;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.ras.api.http.CommonKeys;
+import cloud.fogbow.ras.api.http.response.CircuitBreakerStatus;
+import cloud.fogbow.ras.api.http.response.MetricStatus;
+import cloud.fogbow.ras.api.http.response.RateLimiterStatus;
+import cloud.fogbow.ras.api.http.response.SlowOrderStatus;
+import cloud.fogbow.ras.api.http.response.XmppHandlerStatus;
+import cloud.fogbow.ras.constants.ApiDocumentation;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.ApplicationFacade;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import org.apache.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@CrossOrigin
+@RestController
+@RequestMapping(value = Monitoring.MONITORING_ENDPOINT)
+@Api(description = ApiDocumentation.Monitoring.API)
+public class Monitoring {
+    public static final String MONITORING_SUFFIX_ENDPOINT = "monitoring";
+    public static final String MONITORING_ENDPOINT = SystemConstants.SERVICE_BASE_ENDPOINT + MONITORING_SUFFIX_ENDPOINT;
+    public static final String CIRCUIT_BREAKERS_SUFFIX_ENDPOINT = "/circuitBreakers";
+    public static final String METRICS_SUFFIX_ENDPOINT = "/metrics";
+    public static final String RATE_LIMITERS_SUFFIX_ENDPOINT = "/rateLimiters";
+    public static final String SLOW_ORDERS_SUFFIX_ENDPOINT = "/slowOrders";
+    public static final String LIMIT_PARAMETER_KEY = "limit";
+    public static final String DEFAULT_SLOW_ORDERS_LIMIT = "10";
+    public static final String XMPP_HANDLERS_SUFFIX_ENDPOINT = "/xmppHandlers";
+
+    private final Logger LOGGER = Logger.getLogger(Monitoring.class);
+
+    @ApiOperation(value = ApiDocumentation.Monitoring.GET_CIRCUIT_BREAKERS_OPERATION)
+    @RequestMapping(value = CIRCUIT_BREAKERS_SUFFIX_ENDPOINT, method = RequestMethod.GET)
+    public ResponseEntity<List<CircuitBreakerStatus>> getCircuitBreakers(
+            @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
+            @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
+            throws FogbowException {
+        try {
+            LOGGER.info(Messages.Log.RECEIVING_GET_CIRCUIT_BREAKERS_REQUEST);
+            List<CircuitBreakerStatus> circuitBreakers =
+                    ApplicationFacade.getInstance().getCircuitBreakersStatus(systemUserToken);
+            return new ResponseEntity<>(circuitBreakers, HttpStatus.OK);
+        } catch (Exception e) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
+            throw e;
+        }
+    }
+
+    @ApiOperation(value = ApiDocumentation.Monitoring.GET_RATE_LIMITERS_OPERATION)
+    @RequestMapping(value = RATE_LIMITERS_SUFFIX_ENDPOINT, method = RequestMethod.GET)
+    public ResponseEntity<List<RateLimiterStatus>> getRateLimiters(
+            @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
+            @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
+            throws FogbowException {
+        try {
+            LOGGER.info(Messages.Log.RECEIVING_GET_RATE_LIMITERS_REQUEST);
+            List<RateLimiterStatus> rateLimiters = ApplicationFacade.getInstance().getRateLimitersStatus(systemUserToken);
+            return new ResponseEntity<>(rateLimiters, HttpStatus.OK);
+        } catch (Exception e) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
+            throw e;
+        }
+    }
+
+    @ApiOperation(value = ApiDocumentation.Monitoring.GET_SLOW_ORDERS_OPERATION)
+    @RequestMapping(value = SLOW_ORDERS_SUFFIX_ENDPOINT, method = RequestMethod.GET)
+    public ResponseEntity<List<SlowOrderStatus>> getSlowOrders(
+            @ApiParam(value = ApiDocumentation.Monitoring.SLOW_ORDERS_LIMIT)
+            @RequestParam(required = false, value = LIMIT_PARAMETER_KEY, defaultValue = DEFAULT_SLOW_ORDERS_LIMIT) int limit,
+            @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
+            @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
+            throws FogbowException {
+        try {
+            LOGGER.info(Messages.Log.RECEIVING_GET_SLOW_ORDERS_REQUEST);
+            List<SlowOrderStatus> slowOrders = ApplicationFacade.getInstance().getSlowOrders(systemUserToken, limit);
+            return new ResponseEntity<>(slowOrders, HttpStatus.OK);
+        } catch (Exception e) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
+            throw e;
+        }
+    }
+
+    @ApiOperation(value = ApiDocumentation.Monitoring.GET_XMPP_HANDLERS_OPERATION)
+    @RequestMapping(value = XMPP_HANDLERS_SUFFIX_ENDPOINT, method = RequestMethod.GET)
+    public ResponseEntity<List<XmppHandlerStatus>> getXmppHandlers(
+            @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
+            @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
+            throws FogbowException {
+        try {
+            LOGGER.info(Messages.Log.RECEIVING_GET_XMPP_HANDLERS_REQUEST);
+            List<XmppHandlerStatus> xmppHandlers = ApplicationFacade.getInstance().getXmppHandlersStatus(systemUserToken);
+            return new ResponseEntity<>(xmppHandlers, HttpStatus.OK);
+        } catch (Exception e) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
+            throw e;
+        }
+    }
+
+    @ApiOperation(value = ApiDocumentation.Monitoring.GET_METRICS_OPERATION)
+    @RequestMapping(value = METRICS_SUFFIX_ENDPOINT, method = RequestMethod.GET)
+    public ResponseEntity<List<MetricStatus>> getMetrics(
+            @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
+            @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
+            throws FogbowException {
+        try {
+            LOGGER.info(Messages.Log.RECEIVING_GET_METRICS_REQUEST);
+            List<MetricStatus> metrics = ApplicationFacade.getInstance().getMetrics(systemUserToken);
+            return new ResponseEntity<>(metrics, HttpStatus.OK);
+        } catch (Exception e) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
+            throw e;
+        }
+    }
+}
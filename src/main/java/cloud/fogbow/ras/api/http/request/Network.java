@@ -80,13 +80,15 @@ public class Network {
     public ResponseEntity<NetworkInstance> getNetwork(
             @ApiParam(value = ApiDocumentation.Network.ID)
             @PathVariable String networkId,
+            @ApiParam(value = ApiDocumentation.CommonParameters.MAX_INSTANCE_AGE)
+            @RequestParam(required = false, value = CommonKeys.MAX_INSTANCE_AGE_PARAMETER_KEY) Long maxInstanceAge,
             @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
             @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
             throws FogbowException {
 
         try {
             LOGGER.info(String.format(Messages.Log.RECEIVING_GET_REQUEST_S, ORDER_CONTROLLER_TYPE, networkId));
-            NetworkInstance networkInstance = ApplicationFacade.getInstance().getNetwork(networkId, systemUserToken);
+            NetworkInstance networkInstance = ApplicationFacade.getInstance().getNetwork(networkId, systemUserToken, maxInstanceAge);
             return new ResponseEntity<>(networkInstance, HttpStatus.OK);
         } catch (Exception e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
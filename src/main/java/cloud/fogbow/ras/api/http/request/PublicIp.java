@@ -63,6 +63,8 @@ public class PublicIp {
     public ResponseEntity<PublicIpInstance> getPublicIp(
             @ApiParam(value = ApiDocumentation.PublicIp.ID)
             @PathVariable String publicIpId,
+            @ApiParam(value = ApiDocumentation.CommonParameters.MAX_INSTANCE_AGE)
+            @RequestParam(required = false, value = CommonKeys.MAX_INSTANCE_AGE_PARAMETER_KEY) Long maxInstanceAge,
             @ApiParam(value = cloud.fogbow.common.constants.ApiDocumentation.Token.SYSTEM_USER_TOKEN)
             @RequestHeader(required = false, value = CommonKeys.SYSTEM_USER_TOKEN_HEADER_KEY) String systemUserToken)
             throws FogbowException {
@@ -70,7 +72,7 @@ public class PublicIp {
         try {
             LOGGER.info(String.format(Messages.Log.RECEIVING_GET_REQUEST_S, ORDER_CONTROLLER_TYPE, publicIpId));
             PublicIpInstance publicIpInstance =
-                ApplicationFacade.getInstance().getPublicIp(publicIpId, systemUserToken);
+                ApplicationFacade.getInstance().getPublicIp(publicIpId, systemUserToken, maxInstanceAge);
             return new ResponseEntity<>(publicIpInstance, HttpStatus.OK);
         } catch (Exception e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()), e);
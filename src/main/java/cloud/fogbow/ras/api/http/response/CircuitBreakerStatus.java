@@ -0,0 +1,40 @@
+package cloud.fogbow.ras.api.http.response;
+
+import cloud.fogbow.ras.constants.ApiDocumentation;
+import io.swagger.annotations.ApiModelProperty;
+
+public class CircuitBreakerStatus {
+    @ApiModelProperty(position = 0, example = ApiDocumentation.Model.CIRCUIT_BREAKER_NAME,
+            notes = ApiDocumentation.Model.CIRCUIT_BREAKER_NAME_NOTE)
+    private String name;
+    @ApiModelProperty(position = 1, example = ApiDocumentation.Model.CIRCUIT_BREAKER_STATE,
+            notes = ApiDocumentation.Model.CIRCUIT_BREAKER_STATE_NOTE)
+    private String state;
+    @ApiModelProperty(position = 2, example = "75.0", notes = ApiDocumentation.Model.CIRCUIT_BREAKER_FAILURE_RATE_NOTE)
+    private double failureRate;
+    @ApiModelProperty(position = 3, example = "1571500800000", notes = ApiDocumentation.Model.CIRCUIT_BREAKER_OPEN_UNTIL_NOTE)
+    private long openUntil;
+
+    public CircuitBreakerStatus(String name, String state, double failureRate, long openUntil) {
+        this.name = name;
+        this.state = state;
+        this.failureRate = failureRate;
+        this.openUntil = openUntil;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    public long getOpenUntil() {
+        return openUntil;
+    }
+}
@@ -4,6 +4,7 @@ import cloud.fogbow.ras.constants.ApiDocumentation;
 import cloud.fogbow.ras.core.models.UserData;
 import io.swagger.annotations.ApiModelProperty;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class ComputeInstance extends OrderInstance {
@@ -79,6 +80,16 @@ public class ComputeInstance extends OrderInstance {
         super(id);
     }
 
+    @Override
+    public ComputeInstance copy() {
+        ComputeInstance copy = (ComputeInstance) super.copy();
+        // the lists are completed with the data of the order, so they must not be shared with the copy
+        copy.ipAddresses = this.ipAddresses == null ? null : new ArrayList<>(this.ipAddresses);
+        copy.networks = this.networks == null ? null : new ArrayList<>(this.networks);
+        copy.userData = this.userData == null ? null : new ArrayList<>(this.userData);
+        return copy;
+    }
+
     public int getDisk() {
         return this.disk;
     }
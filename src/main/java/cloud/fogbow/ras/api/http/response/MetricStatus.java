@@ -0,0 +1,50 @@
+package cloud.fogbow.ras.api.http.response;
+
+import cloud.fogbow.ras.constants.ApiDocumentation;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.Map;
+
+public class MetricStatus {
+    public static final String COUNT = "count";
+    public static final String ERRORS = "errors";
+    public static final String MEAN = "mean";
+    public static final String MAX = "max";
+    public static final String P50 = "p50";
+    public static final String P95 = "p95";
+    public static final String P99 = "p99";
+    public static final String RATE = "rate";
+    public static final String VALUE = "value";
+
+    @ApiModelProperty(position = 0, example = ApiDocumentation.Model.METRIC_NAME)
+    private String name;
+    @ApiModelProperty(position = 1, example = "timer", notes = ApiDocumentation.Model.METRIC_TYPE_NOTE)
+    private String type;
+    @ApiModelProperty(position = 2)
+    private Map<String, String> tags;
+    @ApiModelProperty(position = 3, notes = ApiDocumentation.Model.METRIC_VALUES_NOTE)
+    private Map<String, Number> values;
+
+    public MetricStatus(String name, String type, Map<String, String> tags, Map<String, Number> values) {
+        this.name = name;
+        this.type = type;
+        this.tags = tags;
+        this.values = values;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public Map<String, Number> getValues() {
+        return values;
+    }
+}
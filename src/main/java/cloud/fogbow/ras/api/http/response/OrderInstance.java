@@ -3,7 +3,7 @@ package cloud.fogbow.ras.api.http.response;
 import cloud.fogbow.ras.constants.ApiDocumentation;
 import io.swagger.annotations.ApiModelProperty;
 
-public class OrderInstance extends Instance {
+public class OrderInstance extends Instance implements Cloneable {
     @ApiModelProperty(position = 3, example = "READY")
     private InstanceState state;
     @ApiModelProperty(position = 4, example = "active")
@@ -69,6 +69,17 @@ public class OrderInstance extends Instance {
         return hasFailed;
     }
 
+    /**
+     * @return a copy of the instance whose fields may be set without changing this one.
+     */
+    public OrderInstance copy() {
+        try {
+            return (OrderInstance) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public void setHasFailed() {
         this.hasFailed = true;
         this.isReady = false;
@@ -0,0 +1,84 @@
+package cloud.fogbow.ras.api.http.response;
+
+import cloud.fogbow.ras.constants.ApiDocumentation;
+import io.swagger.annotations.ApiModelProperty;
+
+public class RateLimiterStatus {
+    @ApiModelProperty(position = 0, example = ApiDocumentation.Model.RATE_LIMITER_NAME,
+            notes = ApiDocumentation.Model.RATE_LIMITER_NAME_NOTE)
+    private String name;
+    @ApiModelProperty(position = 1, example = "10.0")
+    private double permitsPerSecond;
+    @ApiModelProperty(position = 2, example = "5")
+    private int burstSize;
+    @ApiModelProperty(position = 3, example = "0", notes = ApiDocumentation.Model.RATE_LIMITER_WAITING_REQUESTS_NOTE)
+    private int waitingRequests;
+    @ApiModelProperty(position = 4, example = "1200")
+    private long highPriorityAcquisitions;
+    @ApiModelProperty(position = 5, example = "3.5", notes = ApiDocumentation.Model.RATE_LIMITER_QUEUEING_DELAY_NOTE)
+    private double highPriorityAverageQueueingDelay;
+    @ApiModelProperty(position = 6, example = "250", notes = ApiDocumentation.Model.RATE_LIMITER_QUEUEING_DELAY_NOTE)
+    private long highPriorityMaxQueueingDelay;
+    @ApiModelProperty(position = 7, example = "8400")
+    private long lowPriorityAcquisitions;
+    @ApiModelProperty(position = 8, example = "40.2", notes = ApiDocumentation.Model.RATE_LIMITER_QUEUEING_DELAY_NOTE)
+    private double lowPriorityAverageQueueingDelay;
+    @ApiModelProperty(position = 9, example = "1800", notes = ApiDocumentation.Model.RATE_LIMITER_QUEUEING_DELAY_NOTE)
+    private long lowPriorityMaxQueueingDelay;
+
+    public RateLimiterStatus(String name, double permitsPerSecond, int burstSize, int waitingRequests,
+                             long highPriorityAcquisitions, double highPriorityAverageQueueingDelay,
+                             long highPriorityMaxQueueingDelay, long lowPriorityAcquisitions,
+                             double lowPriorityAverageQueueingDelay, long lowPriorityMaxQueueingDelay) {
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstSize = burstSize;
+        this.waitingRequests = waitingRequests;
+        this.highPriorityAcquisitions = highPriorityAcquisitions;
+        this.highPriorityAverageQueueingDelay = highPriorityAverageQueueingDelay;
+        this.highPriorityMaxQueueingDelay = highPriorityMaxQueueingDelay;
+        this.lowPriorityAcquisitions = lowPriorityAcquisitions;
+        this.lowPriorityAverageQueueingDelay = lowPriorityAverageQueueingDelay;
+        this.lowPriorityMaxQueueingDelay = lowPriorityMaxQueueingDelay;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    public int getWaitingRequests() {
+        return waitingRequests;
+    }
+
+    public long getHighPriorityAcquisitions() {
+        return highPriorityAcquisitions;
+    }
+
+    public double getHighPriorityAverageQueueingDelay() {
+        return highPriorityAverageQueueingDelay;
+    }
+
+    public long getHighPriorityMaxQueueingDelay() {
+        return highPriorityMaxQueueingDelay;
+    }
+
+    public long getLowPriorityAcquisitions() {
+        return lowPriorityAcquisitions;
+    }
+
+    public double getLowPriorityAverageQueueingDelay() {
+        return lowPriorityAverageQueueingDelay;
+    }
+
+    public long getLowPriorityMaxQueueingDelay() {
+        return lowPriorityMaxQueueingDelay;
+    }
+}
@@ -0,0 +1,67 @@
+package cloud.fogbow.ras.api.http.response;
+
+import cloud.fogbow.ras.constants.ApiDocumentation;
+import io.swagger.annotations.ApiModelProperty;
+
+public class SlowOrderStatus {
+    @ApiModelProperty(position = 0, example = ApiDocumentation.Model.COMPUTE_ID)
+    private String orderId;
+    @ApiModelProperty(position = 1, example = ApiDocumentation.Model.PROVIDER)
+    private String provider;
+    @ApiModelProperty(position = 2, example = ApiDocumentation.Model.CLOUD_NAME)
+    private String cloudName;
+    @ApiModelProperty(position = 3, example = "COMPUTE")
+    private String resourceType;
+    @ApiModelProperty(position = 4, example = "SPAWNING")
+    private String state;
+    @ApiModelProperty(position = 5, example = "2400000", notes = ApiDocumentation.Model.SLOW_ORDER_TIME_NOTE)
+    private long timeInState;
+    @ApiModelProperty(position = 6, example = "1800000", notes = ApiDocumentation.Model.SLOW_ORDER_TIME_NOTE)
+    private long threshold;
+    @ApiModelProperty(position = 7, example = "true", notes = ApiDocumentation.Model.SLOW_ORDER_EXCEEDED_NOTE)
+    private boolean exceeded;
+
+    public SlowOrderStatus(String orderId, String provider, String cloudName, String resourceType, String state,
+                           long timeInState, long threshold) {
+        this.orderId = orderId;
+        this.provider = provider;
+        this.cloudName = cloudName;
+        this.resourceType = resourceType;
+        this.state = state;
+        this.timeInState = timeInState;
+        this.threshold = threshold;
+        this.exceeded = timeInState > threshold;
+    }
+
+    public String getOrderId() {
+        return orderId;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public String getCloudName() {
+        return cloudName;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public long getTimeInState() {
+        return timeInState;
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    public boolean isExceeded() {
+        return exceeded;
+    }
+}
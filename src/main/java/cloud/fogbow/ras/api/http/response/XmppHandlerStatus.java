@@ -0,0 +1,75 @@
+package cloud.fogbow.ras.api.http.response;
+
+import cloud.fogbow.ras.constants.ApiDocumentation;
+import io.swagger.annotations.ApiModelProperty;
+
+public class XmppHandlerStatus {
+    @ApiModelProperty(position = 0, example = ApiDocumentation.Model.XMPP_HANDLER_METHOD)
+    private String method;
+    @ApiModelProperty(position = 1, example = "3")
+    private int queuedRequests;
+    @ApiModelProperty(position = 2, example = "2")
+    private int runningRequests;
+    @ApiModelProperty(position = 3, example = "5400")
+    private long handledRequests;
+    @ApiModelProperty(position = 4, example = "12", notes = ApiDocumentation.Model.XMPP_HANDLER_REJECTED_REQUESTS_NOTE)
+    private long rejectedRequests;
+    @ApiModelProperty(position = 5, example = "4.2", notes = ApiDocumentation.Model.XMPP_HANDLER_TIME_NOTE)
+    private double averageQueueingTime;
+    @ApiModelProperty(position = 6, example = "310", notes = ApiDocumentation.Model.XMPP_HANDLER_TIME_NOTE)
+    private long maxQueueingTime;
+    @ApiModelProperty(position = 7, example = "85.7", notes = ApiDocumentation.Model.XMPP_HANDLER_TIME_NOTE)
+    private double averageHandlingTime;
+    @ApiModelProperty(position = 8, example = "2300", notes = ApiDocumentation.Model.XMPP_HANDLER_TIME_NOTE)
+    private long maxHandlingTime;
+
+    public XmppHandlerStatus(String method, int queuedRequests, int runningRequests, long handledRequests,
+                             long rejectedRequests, double averageQueueingTime, long maxQueueingTime,
+                             double averageHandlingTime, long maxHandlingTime) {
+        this.method = method;
+        this.queuedRequests = queuedRequests;
+        this.runningRequests = runningRequests;
+        this.handledRequests = handledRequests;
+        this.rejectedRequests = rejectedRequests;
+        this.averageQueueingTime = averageQueueingTime;
+        this.maxQueueingTime = maxQueueingTime;
+        this.averageHandlingTime = averageHandlingTime;
+        this.maxHandlingTime = maxHandlingTime;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public int getQueuedRequests() {
+        return queuedRequests;
+    }
+
+    public int getRunningRequests() {
+        return runningRequests;
+    }
+
+    public long getHandledRequests() {
+        return handledRequests;
+    }
+
+    public long getRejectedRequests() {
+        return rejectedRequests;
+    }
+
+    public double getAverageQueueingTime() {
+        return averageQueueingTime;
+    }
+
+    public long getMaxQueueingTime() {
+        return maxQueueingTime;
+    }
+
+    public double getAverageHandlingTime() {
+        return averageHandlingTime;
+    }
+
+    public long getMaxHandlingTime() {
+        return maxHandlingTime;
+    }
+}
@@ -47,6 +47,23 @@ public class ApiDocumentation {
         public static final String ID = "The ID of the specific image.";
     }
 
+    public static class Monitoring {
+        public static final String API = "Queries the internal state of the RAS.";
+        public static final String GET_CIRCUIT_BREAKERS_OPERATION = "Returns the state of the circuit breakers that " +
+                "protect the clouds managed by the RAS.";
+        public static final String GET_METRICS_OPERATION = "Returns the metrics of the RAS: the number of orders " +
+                "in each state, the sweeps of the processors, the latency of the cloud, database and XMPP requests " +
+                "and the time spent by the orders in each state.";
+        public static final String GET_SLOW_ORDERS_OPERATION = "Returns the orders that have been the longest in " +
+                "the states watched for slowness, such as SELECTED, SPAWNING and CHECKING_DELETION, flagging the " +
+                "ones over the threshold of their state.";
+        public static final String SLOW_ORDERS_LIMIT = "The maximum number of orders returned.";
+        public static final String GET_RATE_LIMITERS_OPERATION = "Returns the state of the rate limiters of the " +
+                "clouds managed by the RAS, including the time spent by the requests waiting for a permit.";
+        public static final String GET_XMPP_HANDLERS_OPERATION = "Returns, for each remote method, the load of the " +
+                "requests received from other providers, including the ones rejected due to overload.";
+    }
+
     public static class Network {
         public static final String API = "Manages private networks.";
         public static final String CREATE_OPERATION = "Creates a private network.";
@@ -108,6 +125,9 @@ public class ApiDocumentation {
     public static class CommonParameters {
         public static final String PROVIDER_ID = "The ID of the specific target provider.";
         public static final String CLOUD_NAME = "The name of the specific target cloud.";
+        public static final String MAX_INSTANCE_AGE = "The maximum age, in milliseconds, of the instance information " +
+                "returned; zero requests fresh information from the cloud. If omitted, recently retrieved information " +
+                "may be returned.";
     }
 
     public static class Model {
@@ -164,5 +184,24 @@ public class ApiDocumentation {
         public static final String NETWORK_ID_NOTE = "(the network ID)";
         public static final String NETWORK_NAME_NOTE = "(the network name)";
         public static final String COMPUTE_ID_NOTE = "(the ID of the compute to which the IP has been assigned)";
+        public static final String CIRCUIT_BREAKER_NAME = "cloud-name:COMPUTE:GET";
+        public static final String CIRCUIT_BREAKER_NAME_NOTE = "(the cloud, resource type and operation protected by the breaker)";
+        public static final String CIRCUIT_BREAKER_STATE = "OPEN";
+        public static final String CIRCUIT_BREAKER_STATE_NOTE = "(either CLOSED, OPEN or HALF_OPEN)";
+        public static final String CIRCUIT_BREAKER_FAILURE_RATE_NOTE = "(the percentage of failed calls in the sliding window)";
+        public static final String RATE_LIMITER_NAME = "cloud-name:CREATE";
+        public static final String RATE_LIMITER_NAME_NOTE = "(the cloud and operation class limited by the rate limiter)";
+        public static final String RATE_LIMITER_WAITING_REQUESTS_NOTE = "(the number of requests waiting for a permit)";
+        public static final String RATE_LIMITER_QUEUEING_DELAY_NOTE = "(in milliseconds)";
+        public static final String XMPP_HANDLER_METHOD = "remoteGetOrder";
+        public static final String XMPP_HANDLER_REJECTED_REQUESTS_NOTE = "(the number of requests rejected due to overload)";
+        public static final String XMPP_HANDLER_TIME_NOTE = "(in milliseconds)";
+        public static final String METRIC_NAME = "cloud.request";
+        public static final String METRIC_TYPE_NOTE = "(either timer, meter or gauge)";
+        public static final String METRIC_VALUES_NOTE = "(count, errors, mean, max, p50, p95 and p99 for a timer, " +
+                "in milliseconds; count and rate, in events per second, for a meter; value for a gauge)";
+        public static final String SLOW_ORDER_TIME_NOTE = "(in milliseconds)";
+        public static final String SLOW_ORDER_EXCEEDED_NOTE = "(whether the order has been in its state for longer than the threshold)";
+        public static final String CIRCUIT_BREAKER_OPEN_UNTIL_NOTE = "(the time, in milliseconds since the epoch, when a new call will be probed)";
     }
 }
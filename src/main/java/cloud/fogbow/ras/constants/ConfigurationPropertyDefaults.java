@@ -18,13 +18,63 @@ public class ConfigurationPropertyDefaults {
     public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_SLEEP_TIME = Long.toString(TimeUnit.SECONDS.toMillis(10));
     // reference value is 10 seconds
     public static final String UNABLE_TO_CHECK_ORDERS_SLEEP_TIME = Long.toString(TimeUnit.SECONDS.toMillis(10));
+    // reference value is 5 seconds
+    public static final String INSTANCE_CACHE_TTL = Long.toString(TimeUnit.SECONDS.toMillis(5));
+    public static final String LAUNCH_COMMAND_GZIP_ENABLED = "false";
     public static final String BUILD_NUMBER = "[testing mode]";
 
+    // CIRCUIT BREAKER CONF DEFAULTS
+    public static final String CIRCUIT_BREAKER_ENABLED = "true";
+    public static final String CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE = Integer.toString(20);
+    public static final String CIRCUIT_BREAKER_MINIMUM_CALLS = Integer.toString(10);
+    // percentage of failed calls in the sliding window
+    public static final String CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD = Double.toString(50);
+    // reference value is 5 seconds
+    public static final String CIRCUIT_BREAKER_OPEN_TIME = Long.toString(TimeUnit.SECONDS.toMillis(5));
+    // reference value is 5 minutes
+    public static final String CIRCUIT_BREAKER_MAX_OPEN_TIME = Long.toString(TimeUnit.MINUTES.toMillis(5));
+    public static final String CIRCUIT_BREAKER_BACKOFF_MULTIPLIER = Double.toString(2);
+
+    // RATE LIMIT CONF DEFAULTS
+    // zero requests per second means no limit
+    public static final String RATE_LIMIT_REQUESTS_PER_SECOND = Double.toString(0);
+    public static final String RATE_LIMIT_BURST_SIZE = Integer.toString(5);
+    // the time, in milliseconds, the user-facing calls wait for a permit
+    public static final String RATE_LIMIT_MAX_WAIT = Long.toString(TimeUnit.SECONDS.toMillis(10));
+
+    // CLOUD HTTP TRANSPORT CONF DEFAULTS
+    public static final String HTTP_MAX_CONNECTIONS = Integer.toString(100);
+    public static final String HTTP_MAX_CONNECTIONS_PER_ROUTE = Integer.toString(20);
+    // reference value is 10 seconds
+    public static final String HTTP_CONNECT_TIMEOUT = Long.toString(TimeUnit.SECONDS.toMillis(10));
+    // reference value is 60 seconds
+    public static final String HTTP_READ_TIMEOUT = Long.toString(TimeUnit.SECONDS.toMillis(60));
+    // idle connections are closed after this time; reference value is 30 seconds
+    public static final String HTTP_KEEP_ALIVE_TIME = Long.toString(TimeUnit.SECONDS.toMillis(30));
+
+    // METRICS AND TRACING CONF DEFAULTS
+    public static final String METRICS_JMX_ENABLED = "true";
+    public static final String TRACING_ENABLED = "false";
+    // state:milliseconds pairs; reference values are 10 minutes to be spawned and 30 minutes to spawn or be deleted
+    public static final String SLOW_ORDER_THRESHOLDS = "SELECTED:" + TimeUnit.MINUTES.toMillis(10) +
+            ",SPAWNING:" + TimeUnit.MINUTES.toMillis(30) + ",CHECKING_DELETION:" + TimeUnit.MINUTES.toMillis(30);
+
     // INTERCOMPONENT CONF DEFAULT
     public static final String XMPP_ENABLED = "true";
     public static final String XMPP_TIMEOUT = Long.toString(TimeUnit.SECONDS.toMillis(5));
     // reference value is 5 seconds
     public static final String XMPP_CSC_PORT = Integer.toString(5347);
+    // maximum number of remote requests being sent at the same time
+    public static final String REMOTE_REQUESTS_POOL_SIZE = Integer.toString(20);
+    // maximum number of requests from remote providers being handled at the same time
+    public static final String XMPP_HANDLER_POOL_SIZE = Integer.toString(16);
+    // maximum number of requests from remote providers waiting to be handled, per remote method
+    public static final String XMPP_HANDLER_METHOD_QUEUE_CAPACITY = Integer.toString(100);
+    // maximum number of requests from a single remote provider waiting or being handled
+    public static final String XMPP_HANDLER_SENDER_CAPACITY = Integer.toString(20);
+    public static final String XMPP_PAYLOAD_COMPRESSION_ENABLED = "true";
+    // payloads shorter than this number of characters are always sent as plain JSON
+    public static final String XMPP_PAYLOAD_COMPRESSION_THRESHOLD = Integer.toString(4096);
 
     // SSH CONF DEFAULTS
     public static final String SSH_COMMON_USER = "fogbow";
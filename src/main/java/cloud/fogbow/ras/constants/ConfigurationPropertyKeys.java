@@ -7,6 +7,12 @@ public class ConfigurationPropertyKeys {
     public static final String XMPP_SERVER_IP_KEY = "xmpp_server_ip";
     public static final String XMPP_C2C_PORT_KEY = "xmpp_c2c_port";
     public static final String XMPP_TIMEOUT_KEY = "xmpp_timeout";
+    public static final String REMOTE_REQUESTS_POOL_SIZE_KEY = "remote_requests_pool_size";
+    public static final String XMPP_HANDLER_POOL_SIZE_KEY = "xmpp_handler_pool_size";
+    public static final String XMPP_HANDLER_METHOD_QUEUE_CAPACITY_KEY = "xmpp_handler_method_queue_capacity";
+    public static final String XMPP_HANDLER_SENDER_CAPACITY_KEY = "xmpp_handler_sender_capacity";
+    public static final String XMPP_PAYLOAD_COMPRESSION_ENABLED_KEY = "xmpp_payload_compression_enabled";
+    public static final String XMPP_PAYLOAD_COMPRESSION_THRESHOLD_KEY = "xmpp_payload_compression_threshold";
 
     // RAS configuration
     public static final String PROVIDER_ID_KEY = "provider_id";
@@ -18,8 +24,39 @@ public class ConfigurationPropertyKeys {
     public static final String ASSIGNED_FOR_DELETION_ORDERS_SLEEP_TIME_KEY = "assigned_for_deletion_orders_sleep_period";
     public static final String REMOTE_ORDER_STATE_SYNCHRONIZATION_SLEEP_TIME_KEY = "remote_order_state_synchronization_sleep_period";
     public static final String CLOUD_NAMES_KEY = "cloud_names";
+    public static final String INSTANCE_CACHE_TTL_KEY = "instance_cache_ttl";
+    public static final String LAUNCH_COMMAND_GZIP_ENABLED_KEY = "launch_command_gzip_enabled";
     public static final String BUILD_NUMBER_KEY = "build_number";
 
+    // Circuit breaker configuration
+    public static final String CIRCUIT_BREAKER_ENABLED_KEY = "circuit_breaker_enabled";
+    public static final String CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_KEY = "circuit_breaker_sliding_window_size";
+    public static final String CIRCUIT_BREAKER_MINIMUM_CALLS_KEY = "circuit_breaker_minimum_calls";
+    public static final String CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD_KEY = "circuit_breaker_failure_rate_threshold";
+    public static final String CIRCUIT_BREAKER_OPEN_TIME_KEY = "circuit_breaker_open_time";
+    public static final String CIRCUIT_BREAKER_MAX_OPEN_TIME_KEY = "circuit_breaker_max_open_time";
+    public static final String CIRCUIT_BREAKER_BACKOFF_MULTIPLIER_KEY = "circuit_breaker_backoff_multiplier";
+
+    // Rate limiting configuration
+    public static final String RATE_LIMIT_CREATE_REQUESTS_PER_SECOND_KEY = "rate_limit_create_requests_per_second";
+    public static final String RATE_LIMIT_GET_REQUESTS_PER_SECOND_KEY = "rate_limit_get_requests_per_second";
+    public static final String RATE_LIMIT_DELETE_REQUESTS_PER_SECOND_KEY = "rate_limit_delete_requests_per_second";
+    public static final String RATE_LIMIT_LIST_REQUESTS_PER_SECOND_KEY = "rate_limit_list_requests_per_second";
+    public static final String RATE_LIMIT_BURST_SIZE_KEY = "rate_limit_burst_size";
+    public static final String RATE_LIMIT_MAX_WAIT_KEY = "rate_limit_max_wait";
+
+    // Cloud HTTP transport configuration
+    public static final String HTTP_MAX_CONNECTIONS_KEY = "http_max_connections";
+    public static final String HTTP_MAX_CONNECTIONS_PER_ROUTE_KEY = "http_max_connections_per_route";
+    public static final String HTTP_CONNECT_TIMEOUT_KEY = "http_connect_timeout";
+    public static final String HTTP_READ_TIMEOUT_KEY = "http_read_timeout";
+    public static final String HTTP_KEEP_ALIVE_TIME_KEY = "http_keep_alive_time";
+
+    // Metrics and tracing configuration
+    public static final String METRICS_JMX_ENABLED_KEY = "metrics_jmx_enabled";
+    public static final String TRACING_ENABLED_KEY = "tracing_enabled";
+    public static final String SLOW_ORDER_THRESHOLDS_KEY = "slow_order_thresholds";
+
     // Plugins
     public static final String AUTHORIZATION_PLUGIN_CLASS_KEY = "authorization_plugin_class";
     public static final String PUBLIC_IP_PLUGIN_CLASS_KEY = "public_ip_plugin_class";
@@ -3,6 +3,7 @@ package cloud.fogbow.ras.constants;
 public class Messages {
 
     public static class Exception {
+        public static final String CIRCUIT_BREAKER_OPEN_S = "The circuit breaker %s is open; the cloud is temporarily unavailable.";
         public static final String CLOUD_NAMES_DO_NOT_MATCH = "The embedded resource has not been instantiated in the same cloud.";
         public static final String DEFAULT_CREDENTIALS_NOT_FOUND = "Default credentials not found.";
         public static final String DEFAULT_NETWORK_NOT_FOUND = "Default network not found.";
@@ -39,13 +40,16 @@ public class Messages {
         public static final String NON_EXISTENT_REQUEST = "Request does not exist.";
         public static final String NOT_FOUND_ORDER_ID_S = "Order ID %s not found.";
         public static final String NO_CLOUD_SPECIFIED = "No cloud names specified in ras.conf file.";
+        public static final String NO_ASYNC_PACKET_SENDER = "No packet sender able to send remote requests asynchronously.";
         public static final String NO_IMAGES_PUBLISHER = "No virtual machine images publishers specified in azure cloud.conf.";
         public static final String NO_MATCHING_FLAVOR = "No matching flavor.";
         public static final String NO_PROJECT_ID = "No projectId in local token.";
         public static final String NO_SECURITY_GROUP_FOUND_S = "There is no security group with the id %s";
         public static final String NULL_VALUE_RETURNED = "Plugin returned a null value for the instanceId.";
         public static final String PORT_NOT_FOUND_S = "No port found connecting virtual machine %s to default network %s.";
+        public static final String PROVIDER_OVERLOADED = "The provider is overloaded; try again later.";
         public static final String PROVIDERS_DONT_MATCH = "The attachment provider does not match with the compute and/or volume providers.";
+        public static final String RATE_LIMITER_S_PERMIT_NOT_GRANTED_IN_TIME = "No permit of the rate limiter %s was granted in time; the cloud is temporarily unavailable.";
         public static final String REQUESTER_DOES_NOT_OWN_REQUEST = "Requester does not own request.";
         public static final String REQUEST_ALREADY_EXIST = "Request already exists.";
         public static final String REQUEST_ID_ALREADY_ACTIVATED_S = "Request %s has already been activated.";
@@ -58,6 +62,7 @@ public class Messages {
         public static final String SIGNALING_PROVIDER_DIFFERENT_OF_PROVIDER_S_S = "Signalling provider %s is not the provider %s.";
         public static final String TOO_BIG_USER_DATA_FILE_CONTENT = "Too big user data file.";
         public static final String TRYING_TO_USE_RESOURCES_FROM_ANOTHER_USER = "Trying to use resources from another user.";
+        public static final String UNABLE_TO_COMMUNICATE_WITH_CLOUD_S = "Unable to communicate with the cloud: %s.";
         public static final String UNABLE_TO_COMPLETE_REQUEST_CLOUDSTACK = "Unable to complete request.";
         public static final String UNABLE_TO_COMPLETE_REQUEST_DISK_OFFERING_CLOUDSTACK = "Unable to complete disk offering.";
         public static final String UNABLE_TO_COMPLETE_REQUEST_SERVICE_OFFERING_CLOUDSTACK = "Unable to complete service offering.";
@@ -78,6 +83,7 @@ public class Messages {
         public static final String UNEXPECTED_JOB_STATUS = "Job status must be one of {0, 1, 2}.";
         public static final String UNEXPECTED_OPERATION_S = "Unexpected operation: %s.";
         public static final String UNSUPPORTED_REQUEST_TYPE_S = "Request type %s not supported.";
+        public static final String VIRTUAL_MACHINE_S_DID_NOT_REACH_STATE_S = Log.VIRTUAL_MACHINE_S_DID_NOT_REACH_STATE_S;
         public static final String WRONG_URI_SYNTAX_S = "Wrong syntax for endpoint %s.";
     }
 
@@ -85,11 +91,16 @@ public class Messages {
         public static final String ACTIVATING_NEW_REQUEST = "Activating new request.";
         public static final String ASYNCHRONOUS_PUBLIC_IP_STATE_S = "The asynchronous public ip request %s is in the state %s.";
         public static final String CHANGE_TO_DEFAULT_RESOURCE_GROUP = "Changing to the default resource group.";
+        public static final String CIRCUIT_BREAKER_S_CHANGED_STATE_TO_S = "Circuit breaker %s changed state to %s.";
+        public static final String CIRCUIT_OPEN_SKIPPING_ORDER_S = "The circuit of the cloud is open; skipping order %s.";
         public static final String CONNECTING_UP_PACKET_SENDER = "Connecting XMPP packet sender.";
         public static final String CONTENT_SECURITY_GROUP_NOT_DEFINED = "The content of SecuriryGroups in the VirtualNetwork template is not defined.";
         public static final String COULD_NOT_FIND_DEPENDENCY_S_S = "Could not find dependency %s for order %s.";
+        public static final String CREATE_RATE_LIMITED_SKIPPING_ORDER_S = "No create permit of the cloud was granted in time; skipping order %s.";
         public static final String DELETING_INSTANCE_S_WITH_TOKEN_S = "Deleting instance %s with token %s.";
         public static final String DELETING_INSTANCE_S = "Deleting instance %s.";
+        public static final String DELETING_RESOURCE_GROUPS_S = "Deleting resource groups %s.";
+        public static final String DISCARDING_STALE_RESULT_FOR_ORDER_S = "Discarding the result of a cloud request for order %s, whose state changed meanwhile.";
         public static final String DISK_OFFERING_COMPATIBLE_NOT_FOUND = "There is not disk offering compatible with volume order size.";
         public static final String DISK_OFFERING_CUSTOMIZED_NOT_FOUND ="There is not disk offering customized in the cloud.";
         public static final String END_ASYNC_INSTANCE_CREATION_S = "End instance (%s) creation.";
@@ -141,9 +152,11 @@ public class Messages {
         public static final String ERROR_WHILE_GETTING_DISK_SIZE = "Error while getting VM disk size.";
         public static final String ERROR_WHILE_GETTING_GROUP_S_S = "Error while getting info about group %s: %s.";
         public static final String ERROR_WHILE_GETTING_RESOURCE_S_FROM_CLOUD = "Error while getting %s from the cloud.";
+        public static final String ERROR_WHILE_GETTING_SECURITY_GROUPS_S = "Error while getting info about security groups: %s.";
         public static final String ERROR_WHILE_GETTING_TEMPLATES_S = "Error while getting info about templates: %s.";
         public static final String ERROR_WHILE_GETTING_USER_S_S = "Error while getting info about user %s: %s.";
         public static final String ERROR_WHILE_GETTING_USERS_S = "Error while getting info about users: %s.";
+        public static final String ERROR_WHILE_GETTING_VIRTUAL_MACHINES_S = "Error while getting info about virtual machines: %s.";
         public static final String ERROR_WHILE_GETTING_VOLUME_INSTANCE = "Error while getting volume instance.";
         public static final String ERROR_WHILE_INSTANTIATING_FROM_TEMPLATE_S = "Error while instantiating an instance from template: %s.";
         public static final String ERROR_WHILE_LOADING_IMAGE_S = "Error while loading the following image: %s";
@@ -171,28 +184,38 @@ public class Messages {
         public static final String INSTANCE_TYPE_NOT_DEFINED = "Instance type not defined.";
         public static final String INVALID_LIST_SECURITY_RULE_TYPE_S = "Invalid list security rule type. Order irregular: %s.";
         public static final String INVALID_NUMBER_FORMAT = "Invalid number format.";
+        public static final String INVALID_SLOW_ORDER_THRESHOLDS_S = "Invalid slow order thresholds %s; using the default thresholds.";
         public static final String MAPPED_USER_S = "User mapped to: %s.";
         public static final String MAPPING_USER_OP_S = "Mapping user for operation %s on order/systemUser %s.";
         public static final String NETWORK_NOT_FOUND_S = "Network id %s was not found when trying to delete it.";
         public static final String NO_PACKET_SENDER = "PacketSender was not initialized. Trying again.";
         public static final String NO_REMOTE_COMMUNICATION_CONFIGURED = "No remote communication configured.";
         public static final String ORDER_S_CHANGED_STATE_TO_S = "Order changed %s state to %s.";
+        public static final String ORDER_S_SPENT_S_MS_IN_STATE_S_OVER_THRESHOLD_S_MS = "Order %s spent %s ms in state %s, over the threshold of %s ms.";
         public static final String PACKET_SENDER_INITIALIZED = "XMPP packet sender initialized.";
         public static final String RECEIVING_COMPUTE_QUOTA_REQUEST_S_S = "Get compute %s request for provider %s received.";
         public static final String RECEIVING_CREATE_REQUEST_S = "Create request for %s received.";
         public static final String RECEIVING_DELETE_REQUEST_S_S = "Delete request for %s %s received.";
         public static final String RECEIVING_GET_ALL_IMAGES_REQUEST = "Get all images request received.";
         public static final String RECEIVING_GET_ALL_REQUEST_S = "Get status request for all %s received.";
+        public static final String RECEIVING_GET_CIRCUIT_BREAKERS_REQUEST = "Get request for circuit breakers received.";
         public static final String RECEIVING_GET_CLOUDS_REQUEST = "Get request for cloud names received.";
         public static final String RECEIVING_GET_IMAGE_REQUEST_S = "Get request for image %s received.";
+        public static final String RECEIVING_GET_METRICS_REQUEST = "Get request for metrics received.";
+        public static final String RECEIVING_GET_RATE_LIMITERS_REQUEST = "Get request for rate limiters received.";
         public static final String RECEIVING_GET_REQUEST_S = "Get request for %s %s received.";
+        public static final String RECEIVING_GET_SLOW_ORDERS_REQUEST = "Get request for slow orders received.";
+        public static final String RECEIVING_GET_XMPP_HANDLERS_REQUEST = "Get request for XMPP handlers received.";
         public static final String RECEIVING_REMOTE_REQUEST_S = "Received remote request for request: %s.";
         public static final String RECEIVING_RESOURCE_S_REQUEST_S = "Get %s request for provider %s received.";
+        public static final String REJECTING_REMOTE_REQUEST_S_FROM_S_OVERLOAD = "Rejecting remote request %s from %s due to overload.";
         public static final String RECOVERING_LIST_OF_ORDERS_S_D = "Recovering requests in %s list: %d requests recovered so far.";
+        public static final String REMOTE_REQUEST_S_TIMED_OUT = "Remote request %s timed out; a late response to it will be discarded.";
         public static final String REMOVING_ORDER_IN_SELECT_STATE_S = "Order %s might have left garbage in cloud.";
         public static final String REQUESTING_GET_ALL_FROM_PROVIDER = "Requesting all images from provider.";
         public static final String REQUESTING_INSTANCE_FROM_PROVIDER = "Requesting instance from provider.";
         public static final String REQUESTING_TO_CLOUD_S_S = "Requesting to the cloud by the user %s. URL: %s";
+        public static final String RESTARTING_PUBLIC_IP_REMOVAL_S = "Restarting the removal of public IP %s.";
         public static final String RESOURCE_CREATION_FAILED_S = "Resource creation failed: %s";
         public static final String RESPONSE_RECEIVED_S = "Received response: %s.";
         public static final String SECOND_STEP_CREATE_AND_ATTACH_NSG_ASYNC_BEHAVIOUR = "Second step: Create network security group and associated with the network interface.";
@@ -220,14 +243,20 @@ public class Messages {
         public static final String UNABLE_TO_LOCATE_ORDER_S_S = "Unable to locate order %s notified by %s.";
         public static final String UNABLE_TO_MARSHALL_IN_XML = "Unable to marshall in xml.";
         public static final String UNABLE_TO_NOTIFY_REQUESTING_PROVIDER_S_S = "Unable to notify requesting provider %s for request %s.";
+        public static final String UNABLE_TO_REGISTER_METRIC_S_IN_JMX = "Unable to register metric %s in JMX.";
+        public static final String UNABLE_TO_REMOVE_PUBLIC_IP_S = "Unable to remove public IP %s; the removal will be retried.";
         public static final String UNABLE_TO_RETRIEVE_NETWORK_ID_S = "Unable to retrieve network id from json %s.";
         public static final String UNABLE_TO_RETRIEVE_ROOT_VOLUME_S = "Unable to retrieve root volume for virtual machine %s; assigning -1 to disk size.";
+        public static final String UNABLE_TO_SEND_RESPONSE_S_TO_S = "Unable to send the response to request %s to %s.";
+        public static final String UNABLE_TO_UNDO_ACTIVATION_OF_ORDER_S = "Unable to undo the activation of order %s.";
+        public static final String UNABLE_TO_UNDO_PROVISIONING_STEP = "Unable to undo a provisioning step; the resource it created may be left behind.";
         public static final String UNABLE_TO_UNMARSHALL_XML_S = "Unable to unmarshall xml: %s.";
         public static final String UNDEFINED_INSTANCE_STATE_MAPPING_S_S = "State %s was not mapped to a Fogbow state by %s.";
         public static final String UNEXPECTED_ERROR = "Unexpected error.";
         public static final String UNEXPECTED_ERROR_WITH_MESSAGE_S = "Unexpected exception error: %s.";
         public static final String UNEXPECTED_JOB_STATUS = "Unexpected job status.";
         public static final String UNSPECIFIED_PROJECT_ID = "Unspecified projectId.";
+        public static final String VIRTUAL_MACHINE_S_DID_NOT_REACH_STATE_S = "Virtual machine %s did not reach the %s state in time.";
         public static final String XMPP_HANDLERS_SET = "XMPP handlers set.";
     }
 }
@@ -22,14 +22,19 @@ import cloud.fogbow.common.util.CryptoUtil;
 import cloud.fogbow.common.util.PropertiesUtil;
 import cloud.fogbow.common.util.ServiceAsymmetricKeysHolder;
 import cloud.fogbow.ras.api.http.response.AttachmentInstance;
+import cloud.fogbow.ras.api.http.response.CircuitBreakerStatus;
 import cloud.fogbow.ras.api.http.response.ComputeInstance;
 import cloud.fogbow.ras.api.http.response.ImageInstance;
 import cloud.fogbow.ras.api.http.response.ImageSummary;
 import cloud.fogbow.ras.api.http.response.Instance;
 import cloud.fogbow.ras.api.http.response.InstanceStatus;
+import cloud.fogbow.ras.api.http.response.MetricStatus;
 import cloud.fogbow.ras.api.http.response.NetworkInstance;
 import cloud.fogbow.ras.api.http.response.PublicIpInstance;
+import cloud.fogbow.ras.api.http.response.RateLimiterStatus;
+import cloud.fogbow.ras.api.http.response.XmppHandlerStatus;
 import cloud.fogbow.ras.api.http.response.SecurityRuleInstance;
+import cloud.fogbow.ras.api.http.response.SlowOrderStatus;
 import cloud.fogbow.ras.api.http.response.VolumeInstance;
 import cloud.fogbow.ras.api.http.response.quotas.Quota;
 import cloud.fogbow.ras.api.http.response.quotas.ResourceQuota;
@@ -38,9 +43,14 @@ import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
+import cloud.fogbow.ras.core.cloudconnector.CircuitBreakerRegistry;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.RateLimiterRegistry;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteRequestHandlerDispatcher;
 import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.RemoteGetCloudNamesRequest;
+import cloud.fogbow.ras.core.metrics.MetricsRegistry;
+import cloud.fogbow.ras.core.metrics.OrderLatencyTracker;
 import cloud.fogbow.ras.core.models.Operation;
 import cloud.fogbow.ras.core.models.RasOperation;
 import cloud.fogbow.ras.core.models.ResourceType;
@@ -131,6 +141,44 @@ public class ApplicationFacade {
         }
     }
 
+    public List<CircuitBreakerStatus> getCircuitBreakersStatus(String userToken) throws FogbowException {
+        SystemUser requester = authenticate(userToken);
+        RasOperation rasOperation = new RasOperation(Operation.GET, ResourceType.MONITORING);
+        this.authorizationPlugin.isAuthorized(requester, rasOperation);
+        return CircuitBreakerRegistry.getInstance().getCircuitBreakersStatus();
+    }
+
+    public List<RateLimiterStatus> getRateLimitersStatus(String userToken) throws FogbowException {
+        SystemUser requester = authenticate(userToken);
+        RasOperation rasOperation = new RasOperation(Operation.GET, ResourceType.MONITORING);
+        this.authorizationPlugin.isAuthorized(requester, rasOperation);
+        return RateLimiterRegistry.getInstance().getRateLimitersStatus();
+    }
+
+    public List<MetricStatus> getMetrics(String userToken) throws FogbowException {
+        SystemUser requester = authenticate(userToken);
+        RasOperation rasOperation = new RasOperation(Operation.GET, ResourceType.MONITORING);
+        this.authorizationPlugin.isAuthorized(requester, rasOperation);
+        return MetricsRegistry.getInstance().getMetricsStatus();
+    }
+
+    public List<SlowOrderStatus> getSlowOrders(String userToken, int limit) throws FogbowException {
+        SystemUser requester = authenticate(userToken);
+        RasOperation rasOperation = new RasOperation(Operation.GET, ResourceType.MONITORING);
+        this.authorizationPlugin.isAuthorized(requester, rasOperation);
+        if (limit <= 0) {
+            throw new InvalidParameterException(String.format(Messages.Exception.INVALID_PARAMETER_S, limit));
+        }
+        return OrderLatencyTracker.getInstance().getSlowestOrders(limit);
+    }
+
+    public List<XmppHandlerStatus> getXmppHandlersStatus(String userToken) throws FogbowException {
+        SystemUser requester = authenticate(userToken);
+        RasOperation rasOperation = new RasOperation(Operation.GET, ResourceType.MONITORING);
+        this.authorizationPlugin.isAuthorized(requester, rasOperation);
+        return RemoteRequestHandlerDispatcher.getInstance().getHandlersStatus();
+    }
+
     public String createCompute(ComputeOrder order, String userToken) throws FogbowException {
         // if userData is null we need to prevent a NullPointerException when trying to save the order
         // in the database
@@ -151,6 +199,10 @@ public class ApplicationFacade {
         return (ComputeInstance) getResourceInstance(orderId, userToken, ResourceType.COMPUTE);
     }
 
+    public ComputeInstance getCompute(String orderId, String userToken, Long maxInstanceAge) throws FogbowException {
+        return (ComputeInstance) getResourceInstance(orderId, userToken, ResourceType.COMPUTE, maxInstanceAge);
+    }
+
     public void deleteCompute(String orderId, String userToken) throws FogbowException {
         deleteOrder(orderId, userToken, ResourceType.COMPUTE);
     }
@@ -188,6 +240,10 @@ public class ApplicationFacade {
         return (VolumeInstance) getResourceInstance(orderId, userToken, ResourceType.VOLUME);
     }
 
+    public VolumeInstance getVolume(String orderId, String userToken, Long maxInstanceAge) throws FogbowException {
+        return (VolumeInstance) getResourceInstance(orderId, userToken, ResourceType.VOLUME, maxInstanceAge);
+    }
+
     public void deleteVolume(String orderId, String userToken) throws FogbowException {
         deleteOrder(orderId, userToken, ResourceType.VOLUME);
     }
@@ -200,6 +256,10 @@ public class ApplicationFacade {
         return (NetworkInstance) getResourceInstance(orderId, userToken, ResourceType.NETWORK);
     }
 
+    public NetworkInstance getNetwork(String orderId, String userToken, Long maxInstanceAge) throws FogbowException {
+        return (NetworkInstance) getResourceInstance(orderId, userToken, ResourceType.NETWORK, maxInstanceAge);
+    }
+
     public void deleteNetwork(String orderId, String userToken) throws FogbowException {
         deleteOrder(orderId, userToken, ResourceType.NETWORK);
     }
@@ -212,6 +272,10 @@ public class ApplicationFacade {
         return (AttachmentInstance) getResourceInstance(orderId, userToken, ResourceType.ATTACHMENT);
     }
 
+    public AttachmentInstance getAttachment(String orderId, String userToken, Long maxInstanceAge) throws FogbowException {
+        return (AttachmentInstance) getResourceInstance(orderId, userToken, ResourceType.ATTACHMENT, maxInstanceAge);
+    }
+
     public void deleteAttachment(String orderId, String userToken) throws FogbowException {
         deleteOrder(orderId, userToken, ResourceType.ATTACHMENT);
     }
@@ -224,6 +288,10 @@ public class ApplicationFacade {
         return (PublicIpInstance) getResourceInstance(publicIpOrderId, userToken, ResourceType.PUBLIC_IP);
     }
 
+    public PublicIpInstance getPublicIp(String publicIpOrderId, String userToken, Long maxInstanceAge) throws FogbowException {
+        return (PublicIpInstance) getResourceInstance(publicIpOrderId, userToken, ResourceType.PUBLIC_IP, maxInstanceAge);
+    }
+
     public void deletePublicIp(String publicIpOrderId, String userToken) throws FogbowException {
         deleteOrder(publicIpOrderId, userToken, ResourceType.PUBLIC_IP);
     }
@@ -349,6 +417,15 @@ public class ApplicationFacade {
         return this.orderController.getResourceInstance(order);
     }
 
+    protected Instance getResourceInstance(String orderId, String userToken, ResourceType resourceType,
+                                           Long maxInstanceAge) throws FogbowException {
+        SystemUser requester = authenticate(userToken);
+        Order order = this.orderController.getOrder(orderId);
+        RasOperation rasOperation = new RasOperation(Operation.GET, resourceType, order.getCloudName(), order);
+        this.authorizationPlugin.isAuthorized(requester, rasOperation);
+        return this.orderController.getResourceInstance(order, maxInstanceAge);
+    }
+
     protected void deleteOrder(String orderId, String userToken, ResourceType resourceType) throws FogbowException {
         SystemUser requester = authenticate(userToken);
         Order order = this.orderController.getOrder(orderId);
@@ -28,7 +28,7 @@ public class InteroperabilityPluginInstantiator {
         this.cloudPropertiesCache = new HashMap<>();
     }
 
-    private String getCloudProperty(String cloudName, String propertyKey) {
+    public synchronized String getCloudProperty(String cloudName, String propertyKey) {
         if (!cloudPropertiesCache.containsKey(cloudName)) {
             Properties cloudProperties = readCloudProperties(cloudName);
             cloudPropertiesCache.put(cloudName, cloudProperties);
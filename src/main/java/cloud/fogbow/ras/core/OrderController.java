@@ -5,18 +5,20 @@ import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.exceptions.UnacceptableOperationException;
 import cloud.fogbow.common.models.SystemUser;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.api.http.response.*;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.*;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.OrderInstanceCache;
 import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
 import cloud.fogbow.ras.core.intercomponent.xmpp.requesters.CloseOrderAtRemoteProviderRequest;
+import cloud.fogbow.ras.core.metrics.TraceContext;
 import cloud.fogbow.ras.core.models.Operation;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.UserData;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.*;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
@@ -31,15 +33,13 @@ public class OrderController {
     @VisibleForTesting static final String FAULT_MESSAGE_EMPTY =  "";
 
     private final SharedOrderHolders orderHolders;
-    private Map<String, List<String>> orderDependencies;
+    private final OrderDependencyGraph orderDependencyGraph;
     private String localProviderId;
 
     public OrderController() throws InternalServerErrorException {
         this.orderHolders = SharedOrderHolders.getInstance();
-        this.orderDependencies = new ConcurrentHashMap<>();
+        this.orderDependencyGraph = this.orderHolders.getOrderDependencyGraph();
         this.localProviderId = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.PROVIDER_ID_KEY);
-        // We need to repopulate ordersDependencies after a restart of the service
-        updateAllOrdersDependencies();
     }
 
     public Order getOrder(String orderId) throws InstanceNotFoundException {
@@ -55,18 +55,42 @@ public class OrderController {
         LOGGER.info(Messages.Log.ACTIVATING_NEW_REQUEST);
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         Map<String, Order> activeOrdersMap = sharedOrderHolders.getActiveOrdersMap();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
-
-        synchronized (activeOrdersMap) {
-            String orderId = order.getId();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        Set<String> activatingOrderIds = sharedOrderHolders.getActivatingOrderIds();
+
+        // The ownership of the order id is claimed atomically through the set of ids being activated, thus
+        // concurrent activations (REST requests, remote create requests, etc.) do not need to serialize on a global
+        // lock. The claim is dropped only after the order is in the active orders map, so a later activation of
+        // the same id either fails to claim it or finds the order in the map.
+        String orderId = order.getId();
+        if (!activatingOrderIds.add(orderId)) {
+            throw new InternalServerErrorException(String.format(Messages.Exception.REQUEST_ID_ALREADY_ACTIVATED_S, orderId));
+        }
+        try {
             if (activeOrdersMap.containsKey(orderId)) {
-                String message = String.format(Messages.Exception.REQUEST_ID_ALREADY_ACTIVATED_S, orderId);
-                throw new InternalServerErrorException(message);
+                throw new InternalServerErrorException(String.format(Messages.Exception.REQUEST_ID_ALREADY_ACTIVATED_S, orderId));
             }
+            // Only the thread that claimed the id gets here, so persisting the order in stable storage only
+            // requires the lock of the order itself.
+            synchronized (order) {
+                this.openOrder(order, openOrdersList);
+                // The order is made visible only once it is OPEN, in the open orders list and in the dependency graph.
+                activeOrdersMap.put(orderId, order);
+                return orderId;
+            }
+        } finally {
+            activatingOrderIds.remove(orderId);
+        }
+    }
 
-            order.setOrderState(OrderState.OPEN);
-            activeOrdersMap.put(orderId, order);
+    private void openOrder(Order order, ConcurrentOrderList<Order> openOrdersList) throws FogbowException {
+        order.setOrderState(OrderState.OPEN);
+        boolean addedToOpenOrders = false;
+        boolean addedToDependencies = false;
+        try {
+            order.setTraceId(TraceContext.getTraceId());
             openOrdersList.addItem(order);
+            addedToOpenOrders = true;
             // Sometimes an order depends on other orders (ex. an attachment depends on a volume and a compute).
             // We need to keep this information, so to disallow the deletion of an order on which another order
             // depends (ex. we should not allow the deletion of a volume, for which there is an active attachment),
@@ -74,8 +98,27 @@ public class OrderController {
             // REST API.
             if (order.isRequesterLocal(this.localProviderId)) {
                 this.updateOrderDependencies(order, Operation.CREATE);
+                addedToDependencies = true;
             }
-            return order.getId();
+        } catch (FogbowException | RuntimeException e) {
+            this.undoOpenOrder(order, openOrdersList, addedToOpenOrders, addedToDependencies);
+            throw e;
+        }
+    }
+
+    private void undoOpenOrder(Order order, ConcurrentOrderList<Order> openOrdersList, boolean addedToOpenOrders,
+                               boolean addedToDependencies) {
+        try {
+            if (addedToDependencies) {
+                this.updateOrderDependencies(order, Operation.DELETE);
+            }
+            if (addedToOpenOrders) {
+                openOrdersList.removeItem(order);
+            }
+            // the order is already in stable storage, which must not recover it as an open order
+            order.setOrderState(OrderState.CLOSED);
+        } catch (InternalServerErrorException e) {
+            LOGGER.error(String.format(Messages.Log.UNABLE_TO_UNDO_ACTIVATION_OF_ORDER_S, order.getId()), e);
         }
     }
 
@@ -96,17 +139,15 @@ public class OrderController {
             // simply drop this redundant signal (see handleRemoteEvent() in RemoteFacade class).
             SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
             Map<String, Order> activeOrdersMap = sharedOrderHolders.getActiveOrdersMap();
-            ChainedList<Order> checkingDeletionOrders = sharedOrderHolders.getCheckingDeletionOrdersList();
-            ChainedList<Order> remoteProviderOrders = sharedOrderHolders.getRemoteProviderOrdersList();
+            ConcurrentOrderList<Order> checkingDeletionOrders = sharedOrderHolders.getCheckingDeletionOrdersList();
+            ConcurrentOrderList<Order> remoteProviderOrders = sharedOrderHolders.getRemoteProviderOrdersList();
 
-            synchronized (activeOrdersMap) {
-                if (activeOrdersMap.containsKey(order.getId())) {
-                    activeOrdersMap.remove(order.getId());
-                } else {
-                    String message = String.format(Messages.Exception.UNABLE_TO_REMOVE_INACTIVE_REQUEST_S, order.getId());
-                    throw new InternalServerErrorException(message);
-                }
+            // The remove operation of the map is atomic, so only one closing thread succeeds.
+            if (activeOrdersMap.remove(order.getId()) == null) {
+                String message = String.format(Messages.Exception.UNABLE_TO_REMOVE_INACTIVE_REQUEST_S, order.getId());
+                throw new InternalServerErrorException(message);
             }
+            OrderInstanceCache.getInstance().invalidate(order.getId());
 
             if (order.isProviderLocal(this.localProviderId)) {
                 checkingDeletionOrders.removeItem(order);
@@ -125,8 +166,9 @@ public class OrderController {
                 throw new UnacceptableOperationException(Messages.Exception.DELETE_OPERATION_ALREADY_ONGOING);
             }
             if (order.isRequesterLocal(this.localProviderId) && hasOrderDependencies(order.getId())) {
+                // the ids are listed in the order the dependent orders can be deleted
                 throw new UnacceptableOperationException(String.format(Messages.Exception.DEPENDENCY_DETECTED_S_S,
-                        order.getId(), this.orderDependencies.get(order.getId())));
+                        order.getId(), this.orderDependencyGraph.planDeletion(order.getId())));
             }
             if (order.getOrderState().equals(OrderState.SELECTED)) {
                 // This only happens if the provider has failed between selecting the order and saving the new state.
@@ -158,23 +200,46 @@ public class OrderController {
     }
 
     public Instance getResourceInstance(Order order) throws FogbowException {
+        return getResourceInstance(order, null);
+    }
+
+    /**
+     * Gets the instance of the order. For local orders, an instance retrieved from the cloud at most
+     * maxInstanceAge milliseconds ago may be returned instead of issuing a new call to the cloud.
+     *
+     * @param order the order whose instance is requested.
+     * @param maxInstanceAge the maximum age accepted for the instance; if null, the time to live of the cache is
+     *                       used, and if zero, the instance is always retrieved from the cloud.
+     * @return the instance of the order.
+     */
+    public Instance getResourceInstance(Order order, Long maxInstanceAge) throws FogbowException {
+        if (order.isProviderLocal(this.localProviderId)) {
+            // The order is not locked while its instance is looked up, since that may call the cloud; the only
+            // change made to the order, the update of its fault message, takes the lock in setFaultMessage.
+            OrderInstanceCache orderInstanceCache = OrderInstanceCache.getInstance();
+            long maxAge = maxInstanceAge == null ? orderInstanceCache.getTimeToLive() : maxInstanceAge;
+            OrderInstance instance = orderInstanceCache.getIfFresh(order, maxAge);
+            if (instance != null) {
+                instance.setState(InstanceStatus.mapInstanceStateFromOrderState(order.getOrderState(),
+                        true, instance.isReady(), instance.hasFailed()));
+            } else {
+                instance = getCloudConnector(order).getInstance(order);
+            }
+            return updateInstanceUsingOrderData(instance, order);
+        }
         synchronized (order) {
-            CloudConnector cloudConnector = getCloudConnector(order);
-            if (order.isProviderLocal(this.localProviderId)) {
-                Instance instance = cloudConnector.getInstance(order);
-                return updateInstanceUsingOrderData(instance, order);
-            } else if (order.getOrderState().equals(OrderState.OPEN) || order.getOrderState().equals(OrderState.SELECTED)) {
+            if (order.getOrderState().equals(OrderState.OPEN) || order.getOrderState().equals(OrderState.SELECTED)) {
                 // This is an order for a remote provider that has never been received by that provider.
                 // We create an empty Instance and update the Instance fields with the values held in the order.
                 InstanceState instanceState = InstanceStatus.mapInstanceStateFromOrderState(order.getOrderState());
                 OrderInstance emptyInstance = EmptyOrderInstanceGenerator.createEmptyInstance(order);
                 emptyInstance.setState(instanceState);
                 return updateInstanceUsingOrderData(emptyInstance, order);
-            } else {
-                return cloudConnector.getInstance(order);
             }
-
         }
+        // The remote provider is queried without holding the lock of the order, which would otherwise block the
+        // processors and the other requests on the order for as long as the provider takes to answer.
+        return getCloudConnector(order).getInstance(order);
     }
 
     public Allocation getUserAllocation(String providerId, String cloudName, SystemUser systemUser, ResourceType resourceType)
@@ -323,33 +388,18 @@ public class OrderController {
 
     public void updateOrderDependencies(Order order, Operation operation) throws InternalServerErrorException {
         synchronized (order) {
-            List<String> dependentOrderIds = new LinkedList<>();
-
-            switch (order.getType()) {
-                case ATTACHMENT:
-                    AttachmentOrder attachmentOrder = (AttachmentOrder) order;
-                    dependentOrderIds.add(attachmentOrder.getComputeOrderId());
-                    dependentOrderIds.add(attachmentOrder.getVolumeOrderId());
-                    break;
-                case COMPUTE:
-                    ComputeOrder computeOrder = (ComputeOrder) order;
-                    dependentOrderIds.addAll(computeOrder.getNetworkOrderIds());
-                    break;
-                case PUBLIC_IP:
-                    PublicIpOrder publicIpOrder = (PublicIpOrder) order;
-                    dependentOrderIds.add(publicIpOrder.getComputeOrderId());
-                    break;
-                default:
-                    // Dependencies apply only to attachment, compute and public IP orders for now.
-                    return;
-            }
-
             switch (operation) {
                 case CREATE:
-                    addOrderDependency(order.getId(), dependentOrderIds);
+                    this.orderDependencyGraph.addOrder(order);
                     break;
                 case DELETE:
-                    deleteOrderDependency(order.getId(), dependentOrderIds);
+                    Set<String> removedOrderIds = this.orderDependencyGraph.removeOrder(order);
+                    for (String dependentOrderId : OrderDependencyGraph.getDependencyIds(order)) {
+                        if (!removedOrderIds.contains(dependentOrderId)) {
+                            LOGGER.error(String.format(Messages.Log.COULD_NOT_FIND_DEPENDENCY_S_S, dependentOrderId,
+                                    order.getId()));
+                        }
+                    }
                     break;
                 default:
                     throw new InternalServerErrorException(String.format(Messages.Exception.UNEXPECTED_OPERATION_S, operation));
@@ -357,21 +407,6 @@ public class OrderController {
         }
     }
 
-    @VisibleForTesting
-    void updateAllOrdersDependencies() throws InternalServerErrorException {
-        Map<String, Order> activeOrdersMap = this.orderHolders.getActiveOrdersMap();
-
-        Collection<Order> allOrders = activeOrdersMap.values();
-
-        for (Order order : allOrders) {
-            // No need to synchronize as this is only executed at startup time, and the processor threads
-            // have not yet been started.
-            if (order.isRequesterLocal(this.localProviderId)) {
-                this.updateOrderDependencies(order, Operation.CREATE);
-            }
-        }
-    }
-
     @VisibleForTesting
     Instance updateInstanceUsingOrderData(Instance instance, Order order) {
         switch (order.getType()) {
@@ -403,14 +438,16 @@ public class OrderController {
     void setFaultMessage(Instance instance, Order order) {
         if (instance instanceof OrderInstance) {
             OrderInstance orderInstance = (OrderInstance) instance;
-            if (order.getFaultMessage() == null) {
-                if (orderInstance.getFaultMessage() == null) {
-                    orderInstance.setFaultMessage(FAULT_MESSAGE_EMPTY);
+            synchronized (order) {
+                if (order.getFaultMessage() == null) {
+                    if (orderInstance.getFaultMessage() == null) {
+                        orderInstance.setFaultMessage(FAULT_MESSAGE_EMPTY);
+                    } else {
+                        order.setOnceFaultMessage(orderInstance.getFaultMessage());
+                    }
                 } else {
-                    order.setOnceFaultMessage(orderInstance.getFaultMessage());
+                    orderInstance.setFaultMessage(order.getFaultMessage());
                 }
-            } else {
-                orderInstance.setFaultMessage(order.getFaultMessage());
             }
         }
     }
@@ -444,10 +481,8 @@ public class OrderController {
         // Remember that the instance ids seen by the user are really order ids, thus, when an order embeds other
         // orders, the instance that is returned needs to display order ids for these embedded orders, and not the
         // corresponding instance ids.
-        String volumeOrderId = order.getVolumeOrderId();
-        String computeOrderId = order.getComputeOrderId();
-        ComputeOrder computeOrder = (ComputeOrder) SharedOrderHolders.getInstance().getActiveOrdersMap().get(computeOrderId);
-        VolumeOrder volumeOrder = (VolumeOrder) SharedOrderHolders.getInstance().getActiveOrdersMap().get(volumeOrderId);
+        ComputeOrder computeOrder = order.getComputeOrder();
+        VolumeOrder volumeOrder = order.getVolumeOrder();
         instance.setComputeName(computeOrder.getName());
         instance.setComputeId(computeOrder.getId());
         instance.setVolumeName(volumeOrder.getName());
@@ -458,8 +493,7 @@ public class OrderController {
         // Remember that the instance ids seen by the user are really order ids, thus, when an order embeds other
         // orders, the instance that is returned needs to display order ids for these embedded orders, and not the
         // corresponding instance ids.
-        String computeOrderId = order.getComputeOrderId();
-        ComputeOrder computeOrder = (ComputeOrder) SharedOrderHolders.getInstance().getActiveOrdersMap().get(computeOrderId);
+        ComputeOrder computeOrder = order.getComputeOrder();
         String computeInstanceName = computeOrder.getName();
         String computeInstanceId = computeOrder.getId();
         instance.setComputeName(computeInstanceName);
@@ -467,61 +501,18 @@ public class OrderController {
     }
 
     private List<NetworkSummary> addPrivateNetworksToMap(List<NetworkSummary> networks, ComputeOrder order) {
-        List<NetworkSummary> mappedNetworks = new ArrayList<>();
-        Iterator<NetworkSummary> iterator = networks.iterator();
-        while (iterator.hasNext()) {
-            mappedNetworks.add(iterator.next());
-        }
-        List<NetworkOrder> networkOrders = order.getNetworkOrders();
-        for (NetworkOrder networkOrder : networkOrders) {
-            mappedNetworks.add(new NetworkSummary(networkOrder.getId(), networkOrder.getName()));
+        List<NetworkSummary> privateNetworks = order.getNetworkSummaries();
+        if (privateNetworks.isEmpty()) {
+            return networks;
         }
+        List<NetworkSummary> mappedNetworks = new ArrayList<>(networks.size() + privateNetworks.size());
+        mappedNetworks.addAll(networks);
+        mappedNetworks.addAll(privateNetworks);
         return mappedNetworks;
     }
 
-    private void deleteOrderDependency(String orderId, List<String> dependentOrderIds) {
-        Order order = SharedOrderHolders.getInstance().getActiveOrdersMap().get(orderId);
-        synchronized (order) {
-            for (String dependentOrderId : dependentOrderIds) {
-                if (this.orderDependencies.containsKey(dependentOrderId)) {
-                    List<String> currentList = this.orderDependencies.get(dependentOrderId);
-                    if (currentList.remove(orderId)) {
-                        this.orderDependencies.put(dependentOrderId, currentList);
-                    } else {
-                        LOGGER.error(String.format(Messages.Log.COULD_NOT_FIND_DEPENDENCY_S_S, dependentOrderId, orderId));
-                    }
-                } else {
-                    LOGGER.error(String.format(Messages.Log.COULD_NOT_FIND_DEPENDENCY_S_S, dependentOrderId, orderId));
-                }
-            }
-        }
-    }
-
-    private void addOrderDependency(String orderId, List<String> dependentOrderIds) {
-        Order order = SharedOrderHolders.getInstance().getActiveOrdersMap().get(orderId);
-        synchronized (order) {
-            for (String dependentOrderId : dependentOrderIds) {
-                if (this.orderDependencies.containsKey(dependentOrderId)) {
-                    List<String> currentList = this.orderDependencies.get(dependentOrderId);
-                    currentList.add(orderId);
-                    this.orderDependencies.put(dependentOrderId, currentList);
-                } else {
-                    List<String> currentList = new LinkedList<>();
-                    currentList.add(orderId);
-                    this.orderDependencies.put(dependentOrderId, currentList);
-                }
-            }
-        }
-    }
-
     protected boolean hasOrderDependencies(String orderId) {
-        Order order = SharedOrderHolders.getInstance().getActiveOrdersMap().get(orderId);
-        synchronized (order) {
-            if (this.orderDependencies.containsKey(orderId) && !this.orderDependencies.get(orderId).isEmpty()) {
-                return true;
-            }
-        }
-        return false;
+        return this.orderDependencyGraph.hasDependents(orderId);
     }
 
     protected void notifyRequesterToCloseOrder(Order order) throws FogbowException {
@@ -0,0 +1,148 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.ras.core.models.orders.AttachmentOrder;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The dependencies among the active orders requested through the local REST API: an attachment depends on its
+ * compute and volume, a public IP on its compute, and a compute on its networks. Both directions of each edge
+ * are kept in concurrent sets, so that checking whether an order has dependents and removing an order only touch
+ * the edges of that order.
+ *
+ * The edges are derived from the ids of the embedded orders, which are stored with each order, thus the graph is
+ * filled while the active orders are recovered from the database and needs no separate pass at startup.
+ */
+public class OrderDependencyGraph {
+
+    // order id -> ids of the orders it depends on
+    private final Map<String, Set<String>> dependencies;
+    // order id -> ids of the orders that depend on it
+    private final Map<String, Set<String>> dependents;
+
+    public OrderDependencyGraph() {
+        this.dependencies = new ConcurrentHashMap<>();
+        this.dependents = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the ids of the orders the given order depends on; empty for the types of order that do not depend
+     * on others.
+     */
+    public static List<String> getDependencyIds(Order order) {
+        List<String> dependencyIds = new ArrayList<>();
+        switch (order.getType()) {
+            case ATTACHMENT:
+                AttachmentOrder attachmentOrder = (AttachmentOrder) order;
+                dependencyIds.add(attachmentOrder.getComputeOrderId());
+                dependencyIds.add(attachmentOrder.getVolumeOrderId());
+                break;
+            case COMPUTE:
+                dependencyIds.addAll(((ComputeOrder) order).getNetworkOrderIds());
+                break;
+            case PUBLIC_IP:
+                dependencyIds.add(((PublicIpOrder) order).getComputeOrderId());
+                break;
+            default:
+                // Dependencies apply only to attachment, compute and public IP orders for now.
+                break;
+        }
+        return dependencyIds;
+    }
+
+    public void addOrder(Order order) {
+        String orderId = order.getId();
+        List<String> dependencyIds = getDependencyIds(order);
+        if (dependencyIds.isEmpty()) {
+            return;
+        }
+        this.dependencies.computeIfAbsent(orderId, key -> ConcurrentHashMap.newKeySet()).addAll(dependencyIds);
+        for (String dependencyId : dependencyIds) {
+            // the set is created and updated inside compute, so it is never dropped by a concurrent removal
+            // between being looked up and updated
+            this.dependents.compute(dependencyId, (key, orderIds) -> {
+                Set<String> updatedOrderIds = orderIds == null ? ConcurrentHashMap.newKeySet() : orderIds;
+                updatedOrderIds.add(orderId);
+                return updatedOrderIds;
+            });
+        }
+    }
+
+    /**
+     * Removes the edges from the given order to the orders it depends on.
+     *
+     * @return the ids of the orders the given order depended on.
+     */
+    public Set<String> removeOrder(Order order) {
+        String orderId = order.getId();
+        Set<String> dependencyIds = this.dependencies.remove(orderId);
+        if (dependencyIds == null) {
+            return Collections.emptySet();
+        }
+        for (String dependencyId : dependencyIds) {
+            this.dependents.computeIfPresent(dependencyId, (key, orderIds) -> {
+                orderIds.remove(orderId);
+                return orderIds.isEmpty() ? null : orderIds;
+            });
+        }
+        return dependencyIds;
+    }
+
+    public boolean hasDependents(String orderId) {
+        return this.dependents.containsKey(orderId);
+    }
+
+    public Set<String> getDependents(String orderId) {
+        Set<String> orderIds = this.dependents.get(orderId);
+        return orderIds == null ? Collections.emptySet() : Collections.unmodifiableSet(orderIds);
+    }
+
+    public Set<String> getDependencies(String orderId) {
+        Set<String> orderIds = this.dependencies.get(orderId);
+        return orderIds == null ? Collections.emptySet() : Collections.unmodifiableSet(orderIds);
+    }
+
+    /**
+     * Lists the orders that need to be deleted before the given one, directly or through other dependents (ex.
+     * the attachments of a compute that is attached to a network), such that each order comes after the orders
+     * that depend on it. Each edge is visited once, so the cost is bounded by the degrees of the listed orders.
+     *
+     * @return the ids of the dependents of the given order in the order they can be deleted, without the given
+     * order itself.
+     */
+    public List<String> planDeletion(String orderId) {
+        List<String> plan = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Deque<Iterator<String>> stack = new ArrayDeque<>();
+        Deque<String> path = new ArrayDeque<>();
+        visited.add(orderId);
+        stack.push(getDependents(orderId).iterator());
+        path.push(orderId);
+        while (!stack.isEmpty()) {
+            Iterator<String> iterator = stack.peek();
+            if (iterator.hasNext()) {
+                String dependentId = iterator.next();
+                if (visited.add(dependentId)) {
+                    stack.push(getDependents(dependentId).iterator());
+                    path.push(dependentId);
+                }
+            } else {
+                stack.pop();
+                String visitedId = path.pop();
+                if (!visitedId.equals(orderId)) {
+                    plan.add(visitedId);
+                }
+            }
+        }
+        return plan;
+    }
+
+    void clear() {
+        this.dependencies.clear();
+        this.dependents.clear();
+    }
+}
@@ -1,12 +1,14 @@
 package cloud.fogbow.ras.core;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
+import org.apache.log4j.Logger;
 
 public class OrderStateTransitioner {
+    private static final Logger LOGGER = Logger.getLogger(OrderStateTransitioner.class);
 
     /**
      * It will move the order to the RemoteProviderList with a specific state.
@@ -27,6 +29,40 @@ public class OrderStateTransitioner {
         transition(order, newState, newState);
     }
 
+    /**
+     * Applies the result of a cloud request issued without holding the lock of the order: the order is moved to
+     * the new state only if its state has not changed since the given version was read. Otherwise, another thread
+     * (e.g. a user deleting the order) has acted on it while the request was in flight, and the result is stale.
+     * @param order - Order to be moved;
+     * @param expectedVersion - Version of the order read, under its lock, before the request was issued;
+     * @param newState - New state related to the List and the order state.
+     * @return true if the order was moved, false if the result was discarded.
+     * @throws InternalServerErrorException
+     */
+    public static boolean transitionIfUnchanged(Order order, long expectedVersion, OrderState newState)
+            throws InternalServerErrorException {
+        return transitionIfUnchanged(order, expectedVersion, newState, null);
+    }
+
+    /**
+     * Same as {@link #transitionIfUnchanged(Order, long, OrderState)}, also recording the fault that caused the
+     * transition if the order is moved.
+     */
+    public static boolean transitionIfUnchanged(Order order, long expectedVersion, OrderState newState,
+                                                String faultMessage) throws InternalServerErrorException {
+        synchronized (order) {
+            if (order.getVersion() != expectedVersion) {
+                LOGGER.debug(String.format(Messages.Log.DISCARDING_STALE_RESULT_FOR_ORDER_S, order.getId()));
+                return false;
+            }
+            if (faultMessage != null) {
+                order.setOnceFaultMessage(faultMessage);
+            }
+            transition(order, newState);
+            return true;
+        }
+    }
+
     private static void transition(Order order, OrderState newStateList, OrderState newStateOrder) throws InternalServerErrorException {
         synchronized (order) {
             OrderState currentState = order.getOrderState();
@@ -38,8 +74,8 @@ public class OrderStateTransitioner {
             }
 
             SharedOrderHolders ordersHolder = SharedOrderHolders.getInstance();
-            SynchronizedDoublyLinkedList<Order> origin = ordersHolder.getOrdersList(currentState);
-            SynchronizedDoublyLinkedList<Order> destination = ordersHolder.getOrdersList(newStateList);
+            ConcurrentOrderList<Order> origin = ordersHolder.getOrdersList(currentState);
+            ConcurrentOrderList<Order> destination = ordersHolder.getOrdersList(newStateList);
 
             if (origin == null) {
                 String message = String.format(Messages.Exception.UNABLE_TO_FIND_LIST_FOR_REQUESTS_S, currentState);
@@ -2,37 +2,46 @@ package cloud.fogbow.ras.core;
 
 import cloud.fogbow.common.exceptions.FatalErrorException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.metrics.MetricsRegistry;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class SharedOrderHolders {
     private static final Logger LOGGER = Logger.getLogger(SharedOrderHolders.class);
 
+    private static final String REMOTE_LIST_NAME = "REMOTE";
+
     private static SharedOrderHolders instance;
 
     private Map<String, Order> activeOrdersMap;
-    private SynchronizedDoublyLinkedList<Order> openOrders;
-    private SynchronizedDoublyLinkedList<Order> selectedOrders;
-    private SynchronizedDoublyLinkedList<Order> spawningOrders;
-    private SynchronizedDoublyLinkedList<Order> failedAfterSuccessfulRequestOrders;
-    private SynchronizedDoublyLinkedList<Order> failedOnRequestOrders;
-    private SynchronizedDoublyLinkedList<Order> fulfilledOrders;
-    private SynchronizedDoublyLinkedList<Order> unableToCheckStatus;
-    private SynchronizedDoublyLinkedList<Order> remoteProviderOrders;
-    private SynchronizedDoublyLinkedList<Order> assignedForDeletionOrders;
-    private SynchronizedDoublyLinkedList<Order> checkingDeletionOrders;
+    // the ids of the orders being activated, which are not yet in the active orders map
+    private Set<String> activatingOrderIds;
+    private OrderDependencyGraph orderDependencyGraph;
+    private ConcurrentOrderList<Order> openOrders;
+    private ConcurrentOrderList<Order> selectedOrders;
+    private ConcurrentOrderList<Order> spawningOrders;
+    private ConcurrentOrderList<Order> failedAfterSuccessfulRequestOrders;
+    private ConcurrentOrderList<Order> failedOnRequestOrders;
+    private ConcurrentOrderList<Order> fulfilledOrders;
+    private ConcurrentOrderList<Order> unableToCheckStatus;
+    private ConcurrentOrderList<Order> remoteProviderOrders;
+    private ConcurrentOrderList<Order> assignedForDeletionOrders;
+    private ConcurrentOrderList<Order> checkingDeletionOrders;
 
     public SharedOrderHolders() {
         DatabaseManager databaseManager = DatabaseManager.getInstance();
         this.activeOrdersMap = new ConcurrentHashMap<>();
+        this.activatingOrderIds = ConcurrentHashMap.newKeySet();
+        this.orderDependencyGraph = new OrderDependencyGraph();
 
         try {
             // All orders in the PENDING state have remote providers
@@ -80,28 +89,53 @@ public class SharedOrderHolders {
         } catch (Exception e) {
             throw new FatalErrorException(e.getMessage(), e);
         }
+        registerListSizeGauges();
+    }
+
+    private void registerListSizeGauges() {
+        registerListSizeGauge(OrderState.OPEN.name(), this.openOrders);
+        registerListSizeGauge(OrderState.SELECTED.name(), this.selectedOrders);
+        registerListSizeGauge(OrderState.SPAWNING.name(), this.spawningOrders);
+        registerListSizeGauge(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST.name(), this.failedAfterSuccessfulRequestOrders);
+        registerListSizeGauge(OrderState.FAILED_ON_REQUEST.name(), this.failedOnRequestOrders);
+        registerListSizeGauge(OrderState.FULFILLED.name(), this.fulfilledOrders);
+        registerListSizeGauge(OrderState.UNABLE_TO_CHECK_STATUS.name(), this.unableToCheckStatus);
+        registerListSizeGauge(OrderState.ASSIGNED_FOR_DELETION.name(), this.assignedForDeletionOrders);
+        registerListSizeGauge(OrderState.CHECKING_DELETION.name(), this.checkingDeletionOrders);
+        // the orders of remote providers are kept in a single list, whatever their state
+        registerListSizeGauge(REMOTE_LIST_NAME, this.remoteProviderOrders);
     }
 
-    private void moveRemoteProviderOrdersToRemoteProviderOrdersList(SynchronizedDoublyLinkedList<Order> list) throws InternalServerErrorException {
+    private void registerListSizeGauge(String listName, ConcurrentOrderList<Order> list) {
+        MetricsRegistry.getInstance().registerGauge(MetricsRegistry.ORDERS_LIST_SIZE, list::size,
+                MetricsRegistry.LIST_TAG, listName);
+    }
+
+    private void moveRemoteProviderOrdersToRemoteProviderOrdersList(ConcurrentOrderList<Order> list) throws InternalServerErrorException {
         Order order;
         String localProviderId = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.PROVIDER_ID_KEY);
+        ConcurrentOrderList.Cursor<Order> cursor = list.newCursor();
 
-        while ((order = list.getNext()) != null) {
+        while ((order = cursor.getNext()) != null) {
             if (order.isProviderRemote(localProviderId)) {
                 list.removeItem(order);
                 this.remoteProviderOrders.addItem(order);
             }
         }
-        list.resetPointer();
     }
 
-    private void addOrdersToMap(SynchronizedDoublyLinkedList<Order> ordersList, Map<String, Order> activeOrdersMap) {
+    private void addOrdersToMap(ConcurrentOrderList<Order> ordersList, Map<String, Order> activeOrdersMap) {
         Order order;
+        String localProviderId = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.PROVIDER_ID_KEY);
+        ConcurrentOrderList.Cursor<Order> cursor = ordersList.newCursor();
 
-        while ((order = ordersList.getNext()) != null) {
+        while ((order = cursor.getNext()) != null) {
             activeOrdersMap.put(order.getId(), order);
+            // The dependencies are only kept at the provider that received the create request through its REST API
+            if (order.isRequesterLocal(localProviderId)) {
+                this.orderDependencyGraph.addOrder(order);
+            }
         }
-        ordersList.resetPointer();
     }
 
     public static SharedOrderHolders getInstance() {
@@ -117,48 +151,56 @@ public class SharedOrderHolders {
         return this.activeOrdersMap;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getOpenOrdersList() {
+    public Set<String> getActivatingOrderIds() {
+        return this.activatingOrderIds;
+    }
+
+    public OrderDependencyGraph getOrderDependencyGraph() {
+        return this.orderDependencyGraph;
+    }
+
+    public ConcurrentOrderList<Order> getOpenOrdersList() {
         return this.openOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getSelectedOrdersList() {
+    public ConcurrentOrderList<Order> getSelectedOrdersList() {
         return this.selectedOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getSpawningOrdersList() {
+    public ConcurrentOrderList<Order> getSpawningOrdersList() {
         return this.spawningOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getFailedAfterSuccessfulRequestOrdersList() {
+    public ConcurrentOrderList<Order> getFailedAfterSuccessfulRequestOrdersList() {
         return this.failedAfterSuccessfulRequestOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getFailedOnRequestOrdersList() {
+    public ConcurrentOrderList<Order> getFailedOnRequestOrdersList() {
         return this.failedOnRequestOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getFulfilledOrdersList() {
+    public ConcurrentOrderList<Order> getFulfilledOrdersList() {
         return this.fulfilledOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getUnableToCheckStatusOrdersList() {
+    public ConcurrentOrderList<Order> getUnableToCheckStatusOrdersList() {
         return this.unableToCheckStatus;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getRemoteProviderOrdersList() {
+    public ConcurrentOrderList<Order> getRemoteProviderOrdersList() {
         return this.remoteProviderOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getAssignedForDeletionOrdersList() {
+    public ConcurrentOrderList<Order> getAssignedForDeletionOrdersList() {
         return this.assignedForDeletionOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getCheckingDeletionOrdersList() {
+    public ConcurrentOrderList<Order> getCheckingDeletionOrdersList() {
         return this.checkingDeletionOrders;
     }
 
-    public SynchronizedDoublyLinkedList<Order> getOrdersList(OrderState orderState) {
-        SynchronizedDoublyLinkedList<Order> list = null;
+    public ConcurrentOrderList<Order> getOrdersList(OrderState orderState) {
+        ConcurrentOrderList<Order> list = null;
         switch (orderState) {
             case OPEN:
                 list = SharedOrderHolders.getInstance().getOpenOrdersList();
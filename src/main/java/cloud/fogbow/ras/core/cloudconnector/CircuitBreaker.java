@@ -0,0 +1,194 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+/**
+ * Circuit breaker protecting a single plugin operation of a cloud. The breaker records the outcome of the
+ * last calls in a sliding window; when the failure rate in this window reaches the configured threshold the
+ * breaker opens, and calls are rejected without reaching the cloud. After the open time has elapsed, a single
+ * probe call is allowed (half-open state). If the probe succeeds, the breaker closes; otherwise, it opens
+ * again, and the open time grows exponentially up to the configured maximum.
+ */
+public class CircuitBreaker {
+    private static final Logger LOGGER = Logger.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long baseOpenTime;
+    private final long maxOpenTime;
+    private final double backoffMultiplier;
+
+    private final boolean[] outcomes;
+    private int nextOutcome;
+    private int recordedCalls;
+    private int recordedFailures;
+
+    private State state;
+    private long openUntil;
+    private int consecutiveOpenings;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, int slidingWindowSize, int minimumCalls, double failureRateThreshold,
+                          long baseOpenTime, long maxOpenTime, double backoffMultiplier) {
+        this.name = name;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.baseOpenTime = baseOpenTime;
+        this.maxOpenTime = maxOpenTime;
+        this.backoffMultiplier = backoffMultiplier;
+        this.outcomes = new boolean[slidingWindowSize];
+        this.state = State.CLOSED;
+    }
+
+    /**
+     * Checks whether a call may be issued to the cloud. In the half-open state only one probe call is allowed
+     * at a time; every call that is allowed must be followed by either recordSuccess(), recordFailure() or, if it
+     * is not issued after all, releaseRequest().
+     *
+     * @return true if the call is allowed.
+     */
+    public synchronized boolean allowRequest() {
+        switch (this.state) {
+            case OPEN:
+                if (getCurrentTime() < this.openUntil) {
+                    return false;
+                }
+                changeState(State.HALF_OPEN);
+                this.probeInFlight = true;
+                return true;
+            case HALF_OPEN:
+                if (this.probeInFlight) {
+                    return false;
+                }
+                this.probeInFlight = true;
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Indicates whether calls are currently being rejected. A breaker whose open time has elapsed is not
+     * considered open, so that the next call can be used as a probe.
+     *
+     * @return true if the breaker is open.
+     */
+    public synchronized boolean isOpen() {
+        return (this.state == State.OPEN && getCurrentTime() < this.openUntil) ||
+                (this.state == State.HALF_OPEN && this.probeInFlight);
+    }
+
+    /**
+     * Gives back a call that was allowed but not issued to the cloud, so that, in the half-open state, another
+     * call can be used as the probe.
+     */
+    public synchronized void releaseRequest() {
+        if (this.state == State.HALF_OPEN) {
+            this.probeInFlight = false;
+        }
+    }
+
+    public synchronized void recordSuccess() {
+        switch (this.state) {
+            case HALF_OPEN:
+                close();
+                break;
+            case CLOSED:
+                recordOutcome(false);
+                break;
+            default:
+                // Calls allowed before the breaker opened do not change its state.
+                break;
+        }
+    }
+
+    public synchronized void recordFailure() {
+        switch (this.state) {
+            case HALF_OPEN:
+                open();
+                break;
+            case CLOSED:
+                recordOutcome(true);
+                if (this.recordedCalls >= this.minimumCalls && getFailureRate() >= this.failureRateThreshold) {
+                    open();
+                }
+                break;
+            default:
+                // Calls allowed before the breaker opened do not change its state.
+                break;
+        }
+    }
+
+    public synchronized State getState() {
+        return this.state;
+    }
+
+    public synchronized double getFailureRate() {
+        if (this.recordedCalls == 0) {
+            return 0;
+        }
+        return (100.0 * this.recordedFailures) / this.recordedCalls;
+    }
+
+    public synchronized long getOpenUntil() {
+        return this.state == State.CLOSED ? 0 : this.openUntil;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private void recordOutcome(boolean failure) {
+        if (this.recordedCalls == this.outcomes.length) {
+            // The window is full: the oldest outcome is discarded
+            if (this.outcomes[this.nextOutcome]) {
+                this.recordedFailures--;
+            }
+        } else {
+            this.recordedCalls++;
+        }
+        this.outcomes[this.nextOutcome] = failure;
+        if (failure) {
+            this.recordedFailures++;
+        }
+        this.nextOutcome = (this.nextOutcome + 1) % this.outcomes.length;
+    }
+
+    private void open() {
+        long openTime = (long) (this.baseOpenTime * Math.pow(this.backoffMultiplier, this.consecutiveOpenings));
+        openTime = Math.min(openTime, this.maxOpenTime);
+        this.consecutiveOpenings++;
+        this.openUntil = getCurrentTime() + openTime;
+        this.probeInFlight = false;
+        changeState(State.OPEN);
+    }
+
+    private void close() {
+        this.consecutiveOpenings = 0;
+        this.openUntil = 0;
+        this.probeInFlight = false;
+        this.nextOutcome = 0;
+        this.recordedCalls = 0;
+        this.recordedFailures = 0;
+        changeState(State.CLOSED);
+    }
+
+    private void changeState(State newState) {
+        if (this.state != newState) {
+            LOGGER.info(String.format(Messages.Log.CIRCUIT_BREAKER_S_CHANGED_STATE_TO_S, this.name, newState));
+            this.state = newState;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.api.http.response.CircuitBreakerStatus;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.ResourceType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the circuit breakers of the local clouds. Cloud connectors are created on demand by the
+ * {@link CloudConnectorFactory}, thus the breakers, which must outlive them, are kept here; there is one
+ * breaker for each (cloud, resource type, operation) triple.
+ */
+public class CircuitBreakerRegistry {
+    private static final String CIRCUIT_BREAKER_NAME_FORMAT = "%s:%s:%s";
+
+    private static CircuitBreakerRegistry instance;
+
+    private final Map<String, CircuitBreaker> circuitBreakers;
+    private final boolean enabled;
+    private final int slidingWindowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long baseOpenTime;
+    private final long maxOpenTime;
+    private final double backoffMultiplier;
+
+    private CircuitBreakerRegistry() {
+        PropertiesHolder properties = PropertiesHolder.getInstance();
+        this.circuitBreakers = new ConcurrentHashMap<>();
+        this.enabled = Boolean.parseBoolean(properties.getProperty(
+                ConfigurationPropertyKeys.CIRCUIT_BREAKER_ENABLED_KEY,
+                ConfigurationPropertyDefaults.CIRCUIT_BREAKER_ENABLED));
+        this.slidingWindowSize = Integer.parseInt(properties.getProperty(
+                ConfigurationPropertyKeys.CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_KEY,
+                ConfigurationPropertyDefaults.CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE));
+        this.minimumCalls = Integer.parseInt(properties.getProperty(
+                ConfigurationPropertyKeys.CIRCUIT_BREAKER_MINIMUM_CALLS_KEY,
+                ConfigurationPropertyDefaults.CIRCUIT_BREAKER_MINIMUM_CALLS));
+        this.failureRateThreshold = Double.parseDouble(properties.getProperty(
+                ConfigurationPropertyKeys.CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD_KEY,
+                ConfigurationPropertyDefaults.CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD));
+        this.baseOpenTime = Long.parseLong(properties.getProperty(
+                ConfigurationPropertyKeys.CIRCUIT_BREAKER_OPEN_TIME_KEY,
+                ConfigurationPropertyDefaults.CIRCUIT_BREAKER_OPEN_TIME));
+        this.maxOpenTime = Long.parseLong(properties.getProperty(
+                ConfigurationPropertyKeys.CIRCUIT_BREAKER_MAX_OPEN_TIME_KEY,
+                ConfigurationPropertyDefaults.CIRCUIT_BREAKER_MAX_OPEN_TIME));
+        this.backoffMultiplier = Double.parseDouble(properties.getProperty(
+                ConfigurationPropertyKeys.CIRCUIT_BREAKER_BACKOFF_MULTIPLIER_KEY,
+                ConfigurationPropertyDefaults.CIRCUIT_BREAKER_BACKOFF_MULTIPLIER));
+    }
+
+    public static synchronized CircuitBreakerRegistry getInstance() {
+        if (instance == null) {
+            instance = new CircuitBreakerRegistry();
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public CircuitBreaker getCircuitBreaker(String cloudName, ResourceType resourceType, Operation operation) {
+        String name = String.format(CIRCUIT_BREAKER_NAME_FORMAT, cloudName, resourceType, operation);
+        return this.circuitBreakers.computeIfAbsent(name, key -> new CircuitBreaker(key, this.slidingWindowSize,
+                this.minimumCalls, this.failureRateThreshold, this.baseOpenTime, this.maxOpenTime,
+                this.backoffMultiplier));
+    }
+
+    public boolean isOpen(String cloudName, ResourceType resourceType, Operation operation) {
+        return this.enabled && getCircuitBreaker(cloudName, resourceType, operation).isOpen();
+    }
+
+    /**
+     * Only errors that indicate that the cloud could not be reached count as failures; errors such as
+     * InstanceNotFoundException or UnauthorizedRequestException are legitimate answers of the cloud.
+     *
+     * @param throwable the error raised by the plugin.
+     * @return true if the error should be counted as a failure by the circuit breakers.
+     */
+    public static boolean isCloudFailure(Throwable throwable) {
+        return throwable instanceof UnavailableProviderException || !(throwable instanceof FogbowException);
+    }
+
+    public List<CircuitBreakerStatus> getCircuitBreakersStatus() {
+        List<CircuitBreakerStatus> statusList = new ArrayList<>();
+        for (CircuitBreaker circuitBreaker : this.circuitBreakers.values()) {
+            statusList.add(new CircuitBreakerStatus(circuitBreaker.getName(), circuitBreaker.getState().name(),
+                    circuitBreaker.getFailureRate(), circuitBreaker.getOpenUntil()));
+        }
+        return statusList;
+    }
+}
@@ -6,10 +6,12 @@ import java.util.List;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.api.http.response.*;
 import cloud.fogbow.ras.core.models.orders.*;
+import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
 import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.api.http.response.quotas.Quota;
@@ -17,6 +19,8 @@ import cloud.fogbow.ras.api.parameters.SecurityRule;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.InteroperabilityPluginInstantiator;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.metrics.MetricsRegistry;
+import cloud.fogbow.ras.core.metrics.Timer;
 import cloud.fogbow.ras.core.models.Operation;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.auditing.AuditableRequest;
@@ -55,9 +59,20 @@ public class LocalCloudConnector implements CloudConnector {
     private SecurityRulePlugin securityRulePlugin;
     private QuotaPlugin quotaPlugin;
 
+    private String cloudName;
+    private InteroperabilityPluginInstantiator instantiator;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private RateLimiterRegistry rateLimiterRegistry;
+
     private boolean auditRequestsOn = true;
+    private RateLimiter.Priority priority = RateLimiter.Priority.HIGH;
+    private boolean createPermitTaken = false;
 
     public LocalCloudConnector(InteroperabilityPluginInstantiator instantiator, String cloudName) {
+        this.cloudName = cloudName;
+        this.instantiator = instantiator;
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.getInstance();
+        this.rateLimiterRegistry = RateLimiterRegistry.getInstance();
         this.attachmentPlugin = instantiator.getAttachmentPlugin(cloudName);
         this.computePlugin = instantiator.getComputePlugin(cloudName);
         this.networkPlugin = instantiator.getNetworkPlugin(cloudName);
@@ -77,7 +92,7 @@ public class LocalCloudConnector implements CloudConnector {
 
         String response = null;
         try {
-            response = doRequestInstance(order, cloudUser);
+            response = callCloud(order.getType(), Operation.CREATE, () -> doRequestInstance(order, cloudUser));
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, response));
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
@@ -98,7 +113,10 @@ public class LocalCloudConnector implements CloudConnector {
 
         String response = null;
         try {
-            doDeleteInstance(order, cloudUser);
+            callCloud(order.getType(), Operation.DELETE, () -> {
+                doDeleteInstance(order, cloudUser);
+                return null;
+            });
             LOGGER.debug(Messages.Log.SUCCESS);
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
@@ -109,16 +127,21 @@ public class LocalCloudConnector implements CloudConnector {
         }
     }
 
+    /**
+     * Retrieves the instance of the order from the cloud. Concurrent retrievals of the instance of the same
+     * order share a single call to the cloud, whose result is kept in the {@link OrderInstanceCache}.
+     */
     @Override
     public OrderInstance getInstance(Order order) throws FogbowException {
-        LOGGER.debug(String.format(Messages.Log.MAPPING_USER_OP_S, GET_INSTANCE_OPERATION, order));
-        CloudUser cloudUser = this.mapperPlugin.map(order.getSystemUser());
-        LOGGER.debug(String.format(Messages.Log.MAPPED_USER_S, cloudUser));
-
         String auditableResponse = null;
         OrderInstance instance = null;
         try {
-            instance = doGetInstance(order, cloudUser);
+            instance = OrderInstanceCache.getInstance().load(order, () -> {
+                LOGGER.debug(String.format(Messages.Log.MAPPING_USER_OP_S, GET_INSTANCE_OPERATION, order));
+                CloudUser cloudUser = this.mapperPlugin.map(order.getSystemUser());
+                LOGGER.debug(String.format(Messages.Log.MAPPED_USER_S, cloudUser));
+                return callCloud(order.getType(), Operation.GET, () -> doGetInstance(order, cloudUser));
+            });
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, instance));
             instance.setState(InstanceStatus.mapInstanceStateFromOrderState(order.getOrderState(),
                     true, instance.isReady(), instance.hasFailed()));
@@ -143,7 +166,7 @@ public class LocalCloudConnector implements CloudConnector {
         String auditableResponse = null;
         Quota quota = null;
         try {
-            quota = this.quotaPlugin.getUserQuota(cloudUser);
+            quota = callCloud(ResourceType.QUOTA, Operation.GET, () -> this.quotaPlugin.getUserQuota(cloudUser));
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, quota));
             auditableResponse = quota.toString();
         } catch (Throwable e) {
@@ -166,7 +189,7 @@ public class LocalCloudConnector implements CloudConnector {
         List<ImageSummary> images = null;
         String auditableResponse = null;
         try {
-            images = doGetAllImages(cloudUser);
+            images = callCloud(ResourceType.IMAGE, Operation.GET_ALL, () -> doGetAllImages(cloudUser));
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, images));
             auditableResponse = images.toString();
         } catch (Throwable e) {
@@ -189,7 +212,7 @@ public class LocalCloudConnector implements CloudConnector {
         ImageInstance imageInstance = null;
         String auditableResponse = null;
         try {
-            imageInstance = doGetImage(imageId, cloudUser);
+            imageInstance = callCloud(ResourceType.IMAGE, Operation.GET, () -> doGetImage(imageId, cloudUser));
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, imageInstance));
             auditableResponse = imageInstance.toString();
         } catch (Throwable e) {
@@ -212,7 +235,8 @@ public class LocalCloudConnector implements CloudConnector {
         List<SecurityRuleInstance> securityRuleInstances = null;
         String auditableResponse = null;
         try {
-            securityRuleInstances = doGetAllSecurityRules(order, cloudUser);
+            securityRuleInstances = callCloud(ResourceType.SECURITY_RULE, Operation.GET_ALL,
+                    () -> doGetAllSecurityRules(order, cloudUser));
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, securityRuleInstances));
             auditableResponse = securityRuleInstances.toString();
         } catch (Throwable e) {
@@ -234,7 +258,8 @@ public class LocalCloudConnector implements CloudConnector {
 
         String response = null;
         try {
-            response = doRequestSecurityRule(order, securityRule, cloudUser);
+            response = callCloud(ResourceType.SECURITY_RULE, Operation.CREATE,
+                    () -> doRequestSecurityRule(order, securityRule, cloudUser));
             LOGGER.debug(String.format(Messages.Log.RESPONSE_RECEIVED_S, response));
         } catch (Throwable e) {
             LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e + e.getMessage()));
@@ -255,7 +280,10 @@ public class LocalCloudConnector implements CloudConnector {
 
         String response = null;
         try {
-            doDeleteSecurityRule(securityRuleId, cloudUser);
+            callCloud(ResourceType.SECURITY_RULE, Operation.DELETE, () -> {
+                doDeleteSecurityRule(securityRuleId, cloudUser);
+                return null;
+            });
             LOGGER.debug(Messages.Log.SUCCESS);
         } catch (Throwable e) {
             response = e.getClass().getName();
@@ -265,6 +293,149 @@ public class LocalCloudConnector implements CloudConnector {
         }
     }
 
+    /**
+     * Indicates whether the circuit breaker that protects the given operation on the resource type of the
+     * order is open, in which case a call to the cloud would be rejected without being issued.
+     *
+     * @param order the order to be processed.
+     * @param operation the operation to be performed.
+     * @return true if the circuit breaker is open.
+     */
+    public boolean isCircuitOpen(Order order, Operation operation) {
+        return this.circuitBreakerRegistry.isOpen(this.cloudName, order.getType(), operation);
+    }
+
+    /**
+     * Takes, in advance, the rate limit permit of the next requestInstance() call of this connector, waiting up to
+     * the maximum wait configured for the cloud. It lets the OpenProcessor wait for a permit before selecting the
+     * order and without holding its lock, and leave the order OPEN when no permit is granted in time.
+     *
+     * @return true if the permit was taken or the creations in the cloud are not rate limited, false if no
+     * permit was granted in time.
+     * @throws InternalServerErrorException if the thread is interrupted while waiting for a permit.
+     */
+    public boolean acquireCreatePermit() throws InternalServerErrorException {
+        RateLimiter rateLimiter = this.rateLimiterRegistry.getRateLimiter(this.cloudName, Operation.CREATE,
+                this.instantiator);
+        if (rateLimiter == null) {
+            return true;
+        }
+        try {
+            this.createPermitTaken = rateLimiter.tryAcquire(this.priority, rateLimiter.getMaxWait());
+            return this.createPermitTaken;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    /**
+     * Gives back the create permit taken in advance through acquireCreatePermit(), when the order it was taken
+     * for is not going to be requested after all. It does nothing if no permit was taken.
+     */
+    public void releaseCreatePermit() {
+        if (!this.createPermitTaken) {
+            return;
+        }
+        this.createPermitTaken = false;
+        RateLimiter rateLimiter = this.rateLimiterRegistry.getRateLimiter(this.cloudName, Operation.CREATE,
+                this.instantiator);
+        if (rateLimiter != null) {
+            rateLimiter.release();
+        }
+    }
+
+    /**
+     * Issues a call to the cloud through the circuit breaker of the (cloud, resource type, operation) triple, after
+     * taking a permit from the rate limiter of the operation class. The breaker is checked first: when it is open,
+     * the call is rejected with an UnavailableProviderException, without taking a permit, so that the caller does not
+     * wait for the cloud to time out. The high priority callers wait for a permit for a bounded time only, and are
+     * also answered with an UnavailableProviderException when none is granted in time.
+     */
+    private <T> T callCloud(ResourceType resourceType, Operation operation, CloudCall<T> cloudCall)
+            throws FogbowException {
+        if (!this.circuitBreakerRegistry.isEnabled()) {
+            acquireRatePermit(operation);
+            return timeCloudCall(resourceType, operation, cloudCall);
+        }
+        CircuitBreaker circuitBreaker = this.circuitBreakerRegistry.getCircuitBreaker(this.cloudName, resourceType,
+                operation);
+        if (!circuitBreaker.allowRequest()) {
+            throw new UnavailableProviderException(String.format(Messages.Exception.CIRCUIT_BREAKER_OPEN_S,
+                    circuitBreaker.getName()));
+        }
+        try {
+            acquireRatePermit(operation);
+        } catch (Throwable e) {
+            circuitBreaker.releaseRequest();
+            throw e;
+        }
+        try {
+            T result = timeCloudCall(resourceType, operation, cloudCall);
+            circuitBreaker.recordSuccess();
+            return result;
+        } catch (Throwable e) {
+            if (CircuitBreakerRegistry.isCloudFailure(e)) {
+                circuitBreaker.recordFailure();
+            } else {
+                circuitBreaker.recordSuccess();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Records the latency of the call, excluding any wait for a rate limit permit, and whether it failed.
+     */
+    private <T> T timeCloudCall(ResourceType resourceType, Operation operation, CloudCall<T> cloudCall)
+            throws FogbowException {
+        Timer timer = MetricsRegistry.getInstance().timer(MetricsRegistry.CLOUD_REQUEST,
+                MetricsRegistry.CLOUD_TAG, this.cloudName, MetricsRegistry.RESOURCE_TYPE_TAG, resourceType.name(),
+                MetricsRegistry.OPERATION_TAG, operation.name());
+        long startTime = System.currentTimeMillis();
+        boolean failed = true;
+        try {
+            T result = cloudCall.call();
+            failed = false;
+            return result;
+        } finally {
+            timer.record(System.currentTimeMillis() - startTime, failed);
+        }
+    }
+
+    private void acquireRatePermit(Operation operation) throws InternalServerErrorException,
+            UnavailableProviderException {
+        RateLimiter rateLimiter = this.rateLimiterRegistry.getRateLimiter(this.cloudName, operation, this.instantiator);
+        if (rateLimiter == null) {
+            return;
+        }
+        if (operation == Operation.CREATE && this.createPermitTaken) {
+            this.createPermitTaken = false;
+            return;
+        }
+        try {
+            if (this.priority == RateLimiter.Priority.LOW) {
+                rateLimiter.acquire(this.priority);
+            } else if (!rateLimiter.tryAcquire(this.priority, rateLimiter.getMaxWait())) {
+                throw new UnavailableProviderException(String.format(
+                        Messages.Exception.RATE_LIMITER_S_PERMIT_NOT_GRANTED_IN_TIME, rateLimiter.getName()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    @VisibleForTesting
+    void setCircuitBreakerRegistry(CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+    }
+
+    @VisibleForTesting
+    void setRateLimiterRegistry(RateLimiterRegistry rateLimiterRegistry) {
+        this.rateLimiterRegistry = rateLimiterRegistry;
+    }
+
     protected String doRequestInstance(Order order, CloudUser cloudUser) throws FogbowException {
         String instanceId;
         OrderPlugin plugin = checkOrderCastingAndSetPlugin(order, order.getType());
@@ -385,6 +556,14 @@ public class LocalCloudConnector implements CloudConnector {
         this.auditRequestsOn = false;
     }
 
+    /**
+     * Makes the calls issued by this connector yield to the user-facing ones when the cloud is rate limited.
+     * It should be used by the processors that periodically check the state of the orders.
+     */
+    public void switchToLowPriority() {
+        this.priority = RateLimiter.Priority.LOW;
+    }
+
     protected void auditRequest(Operation operation, ResourceType resourceType, SystemUser systemUser,
                               String response) throws InternalServerErrorException {
         if (this.auditRequestsOn) {
@@ -399,4 +578,9 @@ public class LocalCloudConnector implements CloudConnector {
             DatabaseManager.getInstance().auditRequest(auditableRequest);
         }
     }
+
+    @FunctionalInterface
+    private interface CloudCall<T> {
+        T call() throws FogbowException;
+    }
 }
\ No newline at end of file
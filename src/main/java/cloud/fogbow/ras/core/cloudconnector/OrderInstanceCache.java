@@ -0,0 +1,170 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.api.http.response.OrderInstance;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps the instances recently retrieved from the local clouds, and coalesces concurrent retrievals of the
+ * instance of the same order into a single call to the cloud (single-flight): the callers that arrive while a
+ * call is in progress wait for its result instead of issuing their own call.
+ *
+ * The processors always retrieve fresh instances, which are then stored in the cache, so that the REST reads
+ * can be served from it as long as the cached instance is not older than the maximum age they accept. Only
+ * instances of orders that already have an instance id are cached, and an entry is only used while the order
+ * keeps the instance id it was retrieved with. The cache keeps its own snapshot of each instance and every
+ * caller gets a copy of it, since the callers complete the instance with the data of the order (state, provider,
+ * networks) without holding the lock of the order. Invalidating an order also discards the result of a retrieval
+ * of its instance still in progress, so that an instance retrieved before the invalidation is not cached after it.
+ */
+public class OrderInstanceCache {
+
+    private static OrderInstanceCache instance;
+
+    private final Map<String, CachedInstance> cachedInstances;
+    private final Map<String, CompletableFuture<OrderInstance>> inFlightRetrievals;
+    private final long timeToLive;
+
+    @VisibleForTesting
+    OrderInstanceCache(long timeToLive) {
+        this.cachedInstances = new ConcurrentHashMap<>();
+        this.inFlightRetrievals = new ConcurrentHashMap<>();
+        this.timeToLive = timeToLive;
+    }
+
+    public static synchronized OrderInstanceCache getInstance() {
+        if (instance == null) {
+            long timeToLive = Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.INSTANCE_CACHE_TTL_KEY, ConfigurationPropertyDefaults.INSTANCE_CACHE_TTL));
+            instance = new OrderInstanceCache(timeToLive);
+        }
+        return instance;
+    }
+
+    /**
+     * @return the maximum age of the instances returned to requests that do not specify one, which is the time
+     * the instances are kept in the cache.
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Returns the cached instance of the order, if it is not older than maxAge milliseconds.
+     *
+     * @param order the order whose instance is requested.
+     * @param maxAge the maximum age, in milliseconds, of the instance.
+     * @return the cached instance, or null if there is no instance fresh enough.
+     */
+    public OrderInstance getIfFresh(Order order, long maxAge) {
+        CachedInstance cachedInstance = this.cachedInstances.get(order.getId());
+        if (cachedInstance == null || !Objects.equals(cachedInstance.instanceId, order.getInstanceId())) {
+            return null;
+        }
+        long age = getCurrentTime() - cachedInstance.retrievalTime;
+        if (age > Math.min(maxAge, this.timeToLive)) {
+            return null;
+        }
+        return copy(cachedInstance.instance);
+    }
+
+    /**
+     * Retrieves the instance of the order through the loader, unless a retrieval of the same order is already in
+     * progress, in which case its result is returned. The retrieved instance is stored in the cache.
+     *
+     * @param order the order whose instance is requested.
+     * @param loader the call that retrieves the instance from the cloud.
+     * @return a copy of the retrieved instance.
+     * @throws FogbowException if the retrieval fails.
+     */
+    public OrderInstance load(Order order, InstanceLoader loader) throws FogbowException {
+        String orderId = order.getId();
+        CompletableFuture<OrderInstance> retrieval = new CompletableFuture<>();
+        CompletableFuture<OrderInstance> inFlightRetrieval = this.inFlightRetrievals.putIfAbsent(orderId, retrieval);
+        if (inFlightRetrieval != null) {
+            return copy(await(inFlightRetrieval));
+        }
+        try {
+            String instanceId = order.getInstanceId();
+            long retrievalTime = getCurrentTime();
+            OrderInstance snapshot = copy(loader.load());
+            if (instanceId != null && snapshot != null) {
+                // the retrieval is only cached if the order has not been invalidated since it started
+                this.inFlightRetrievals.computeIfPresent(orderId, (key, inFlight) -> {
+                    if (inFlight == retrieval) {
+                        this.cachedInstances.put(orderId, new CachedInstance(snapshot, instanceId, retrievalTime));
+                    }
+                    return inFlight;
+                });
+            }
+            retrieval.complete(snapshot);
+            return copy(snapshot);
+        } catch (Throwable e) {
+            this.cachedInstances.remove(orderId);
+            retrieval.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlightRetrievals.remove(orderId, retrieval);
+        }
+    }
+
+    public void invalidate(String orderId) {
+        this.inFlightRetrievals.remove(orderId);
+        this.cachedInstances.remove(orderId);
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private static OrderInstance copy(OrderInstance instance) {
+        return instance == null ? null : instance.copy();
+    }
+
+    private OrderInstance await(CompletableFuture<OrderInstance> retrieval) throws FogbowException {
+        try {
+            return retrieval.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(e.getMessage());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FogbowException) {
+                throw (FogbowException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new InternalServerErrorException(cause.getMessage());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface InstanceLoader {
+        OrderInstance load() throws FogbowException;
+    }
+
+    private static class CachedInstance {
+        private final OrderInstance instance;
+        private final String instanceId;
+        private final long retrievalTime;
+
+        private CachedInstance(OrderInstance instance, String instanceId, long retrievalTime) {
+            this.instance = instance;
+            this.instanceId = instanceId;
+            this.retrievalTime = retrievalTime;
+        }
+    }
+}
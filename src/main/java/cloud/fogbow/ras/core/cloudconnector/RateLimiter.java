@@ -0,0 +1,175 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket limiting the rate of the calls issued to a cloud for a class of operations. Permits are
+ * replenished at a constant rate, and up to burstSize permits can be accumulated while the cloud is idle.
+ * Callers that find no permit available are queued until one is replenished; low priority callers (e.g. the
+ * processors that periodically check the state of the orders) are only served when there is no high priority
+ * caller waiting. High priority callers give up after maxWait milliseconds, so that the user-facing requests are
+ * answered even when the cloud is saturated. The time spent in the queue is recorded for monitoring purposes.
+ */
+public class RateLimiter {
+
+    public enum Priority {
+        HIGH, LOW
+    }
+
+    private final String name;
+    private final double permitsPerSecond;
+    private final int burstSize;
+    private final long maxWait;
+
+    private double availablePermits;
+    private long lastRefillTime;
+    private int waitingRequests;
+    private int waitingHighPriorityRequests;
+
+    private final long[] acquisitions;
+    private final long[] totalQueueingDelay;
+    private final long[] maxQueueingDelay;
+
+    public RateLimiter(String name, double permitsPerSecond, int burstSize, long maxWait) {
+        this.name = name;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstSize = Math.max(1, burstSize);
+        this.maxWait = maxWait;
+        this.availablePermits = this.burstSize;
+        this.lastRefillTime = getNanoTime();
+        this.acquisitions = new long[Priority.values().length];
+        this.totalQueueingDelay = new long[Priority.values().length];
+        this.maxQueueingDelay = new long[Priority.values().length];
+    }
+
+    /**
+     * Takes a permit, waiting until one is available.
+     *
+     * @param priority the priority of the caller.
+     * @throws InterruptedException if the thread is interrupted while waiting for a permit.
+     */
+    public void acquire(Priority priority) throws InterruptedException {
+        tryAcquire(priority, Long.MAX_VALUE);
+    }
+
+    /**
+     * Takes a permit, waiting up to the given time for one to be available.
+     *
+     * @param priority the priority of the caller.
+     * @param timeout the maximum time to wait, in milliseconds.
+     * @return true if the permit was taken, false if the time elapsed first.
+     * @throws InterruptedException if the thread is interrupted while waiting for a permit.
+     */
+    public boolean tryAcquire(Priority priority, long timeout) throws InterruptedException {
+        long startTime = getNanoTime();
+        long timeoutNanos = timeout == Long.MAX_VALUE ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(timeout);
+        synchronized (this) {
+            this.waitingRequests++;
+            if (priority == Priority.HIGH) {
+                this.waitingHighPriorityRequests++;
+            }
+            try {
+                while (!tryTakePermit(priority)) {
+                    long remainingNanos = timeoutNanos - (getNanoTime() - startTime);
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    wait(Math.min(getMillisUntilNextPermit(), Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos))));
+                }
+            } finally {
+                this.waitingRequests--;
+                if (priority == Priority.HIGH) {
+                    this.waitingHighPriorityRequests--;
+                }
+                // Low priority callers may be waiting for the high priority ones to be served
+                notifyAll();
+            }
+            long queueingDelay = TimeUnit.NANOSECONDS.toMillis(getNanoTime() - startTime);
+            int index = priority.ordinal();
+            this.acquisitions[index]++;
+            this.totalQueueingDelay[index] += queueingDelay;
+            this.maxQueueingDelay[index] = Math.max(this.maxQueueingDelay[index], queueingDelay);
+            return true;
+        }
+    }
+
+    /**
+     * Gives back a permit that was taken but not used by any call, so that it can be taken by another caller.
+     */
+    public synchronized void release() {
+        refill();
+        this.availablePermits = Math.min(this.burstSize, this.availablePermits + 1);
+        notifyAll();
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public double getPermitsPerSecond() {
+        return this.permitsPerSecond;
+    }
+
+    public int getBurstSize() {
+        return this.burstSize;
+    }
+
+    /**
+     * @return the time, in milliseconds, the high priority callers wait for a permit.
+     */
+    public long getMaxWait() {
+        return this.maxWait;
+    }
+
+    public synchronized int getWaitingRequests() {
+        return this.waitingRequests;
+    }
+
+    public synchronized long getAcquisitions(Priority priority) {
+        return this.acquisitions[priority.ordinal()];
+    }
+
+    public synchronized double getAverageQueueingDelay(Priority priority) {
+        int index = priority.ordinal();
+        return this.acquisitions[index] == 0 ? 0 : (double) this.totalQueueingDelay[index] / this.acquisitions[index];
+    }
+
+    public synchronized long getMaxQueueingDelay(Priority priority) {
+        return this.maxQueueingDelay[priority.ordinal()];
+    }
+
+    @VisibleForTesting
+    protected long getNanoTime() {
+        return System.nanoTime();
+    }
+
+    private boolean tryTakePermit(Priority priority) {
+        refill();
+        if (this.availablePermits < 1) {
+            return false;
+        }
+        if (priority == Priority.LOW && this.waitingHighPriorityRequests > 0) {
+            return false;
+        }
+        this.availablePermits--;
+        return true;
+    }
+
+    private void refill() {
+        long now = getNanoTime();
+        double replenishedPermits = (now - this.lastRefillTime) * this.permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.availablePermits = Math.min(this.burstSize, this.availablePermits + replenishedPermits);
+        this.lastRefillTime = now;
+    }
+
+    private long getMillisUntilNextPermit() {
+        if (this.availablePermits >= 1) {
+            // The caller is waiting for the high priority callers, which notify it once served
+            return TimeUnit.SECONDS.toMillis(1);
+        }
+        double missingPermit = 1 - this.availablePermits;
+        return Math.max(1, (long) Math.ceil(missingPermit * TimeUnit.SECONDS.toMillis(1) / this.permitsPerSecond));
+    }
+}
@@ -0,0 +1,116 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.ras.api.http.response.RateLimiterStatus;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.InteroperabilityPluginInstantiator;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.models.Operation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the rate limiters of the local clouds; there is one limiter for each (cloud, operation class) pair,
+ * shared by all the cloud connectors of that cloud. The limits are read from the plugins.conf file of the
+ * cloud and, when absent there, from ras.conf. A limit of zero requests per second disables the limiter.
+ */
+public class RateLimiterRegistry {
+    private static final String RATE_LIMITER_NAME_FORMAT = "%s:%s";
+
+    private static RateLimiterRegistry instance;
+
+    private final Map<String, Optional<RateLimiter>> rateLimiters;
+
+    private RateLimiterRegistry() {
+        this.rateLimiters = new ConcurrentHashMap<>();
+    }
+
+    public static synchronized RateLimiterRegistry getInstance() {
+        if (instance == null) {
+            instance = new RateLimiterRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the rate limiter of the given cloud for the class of the given operation, creating it on first use.
+     *
+     * @param cloudName the name of the cloud.
+     * @param operation the operation to be performed in the cloud.
+     * @param instantiator the instantiator used to read the configuration of the cloud.
+     * @return the rate limiter, or null if the operation class of the cloud is not rate limited.
+     */
+    public RateLimiter getRateLimiter(String cloudName, Operation operation,
+                                      InteroperabilityPluginInstantiator instantiator) {
+        Operation operationClass = getOperationClass(operation);
+        String name = String.format(RATE_LIMITER_NAME_FORMAT, cloudName, operationClass);
+        return this.rateLimiters.computeIfAbsent(name,
+                key -> createRateLimiter(key, cloudName, operationClass, instantiator)).orElse(null);
+    }
+
+    public List<RateLimiterStatus> getRateLimitersStatus() {
+        List<RateLimiterStatus> statusList = new ArrayList<>();
+        for (Optional<RateLimiter> rateLimiter : this.rateLimiters.values()) {
+            rateLimiter.ifPresent(limiter -> statusList.add(new RateLimiterStatus(limiter.getName(),
+                    limiter.getPermitsPerSecond(), limiter.getBurstSize(), limiter.getWaitingRequests(),
+                    limiter.getAcquisitions(RateLimiter.Priority.HIGH),
+                    limiter.getAverageQueueingDelay(RateLimiter.Priority.HIGH),
+                    limiter.getMaxQueueingDelay(RateLimiter.Priority.HIGH),
+                    limiter.getAcquisitions(RateLimiter.Priority.LOW),
+                    limiter.getAverageQueueingDelay(RateLimiter.Priority.LOW),
+                    limiter.getMaxQueueingDelay(RateLimiter.Priority.LOW))));
+        }
+        return statusList;
+    }
+
+    private Optional<RateLimiter> createRateLimiter(String name, String cloudName, Operation operationClass,
+                                                    InteroperabilityPluginInstantiator instantiator) {
+        double permitsPerSecond = Double.parseDouble(getProperty(cloudName, getRateKey(operationClass),
+                ConfigurationPropertyDefaults.RATE_LIMIT_REQUESTS_PER_SECOND, instantiator));
+        if (permitsPerSecond <= 0) {
+            return Optional.empty();
+        }
+        int burstSize = Integer.parseInt(getProperty(cloudName, ConfigurationPropertyKeys.RATE_LIMIT_BURST_SIZE_KEY,
+                ConfigurationPropertyDefaults.RATE_LIMIT_BURST_SIZE, instantiator));
+        long maxWait = Long.parseLong(getProperty(cloudName, ConfigurationPropertyKeys.RATE_LIMIT_MAX_WAIT_KEY,
+                ConfigurationPropertyDefaults.RATE_LIMIT_MAX_WAIT, instantiator));
+        return Optional.of(new RateLimiter(name, permitsPerSecond, burstSize, maxWait));
+    }
+
+    private String getProperty(String cloudName, String key, String defaultValue,
+                               InteroperabilityPluginInstantiator instantiator) {
+        String value = instantiator.getCloudProperty(cloudName, key);
+        if (value == null || value.trim().isEmpty()) {
+            value = PropertiesHolder.getInstance().getProperty(key, defaultValue);
+        }
+        return value.trim();
+    }
+
+    private String getRateKey(Operation operationClass) {
+        switch (operationClass) {
+            case CREATE:
+                return ConfigurationPropertyKeys.RATE_LIMIT_CREATE_REQUESTS_PER_SECOND_KEY;
+            case DELETE:
+                return ConfigurationPropertyKeys.RATE_LIMIT_DELETE_REQUESTS_PER_SECOND_KEY;
+            case GET_ALL:
+                return ConfigurationPropertyKeys.RATE_LIMIT_LIST_REQUESTS_PER_SECOND_KEY;
+            default:
+                return ConfigurationPropertyKeys.RATE_LIMIT_GET_REQUESTS_PER_SECOND_KEY;
+        }
+    }
+
+    private Operation getOperationClass(Operation operation) {
+        switch (operation) {
+            case CREATE:
+            case DELETE:
+            case GET_ALL:
+                return operation;
+            default:
+                return Operation.GET;
+        }
+    }
+}
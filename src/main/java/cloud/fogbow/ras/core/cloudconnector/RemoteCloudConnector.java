@@ -15,6 +15,8 @@ import cloud.fogbow.ras.core.models.orders.Order;
 import org.apache.log4j.Logger;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class RemoteCloudConnector implements CloudConnector {
     private static final Logger LOGGER = Logger.getLogger(RemoteCloudConnector.class);
@@ -38,6 +40,18 @@ public class RemoteCloudConnector implements CloudConnector {
         }
     }
 
+    /**
+     * Requests the order from its provider without waiting for the response, so that the caller may have
+     * several orders being retrieved at the same time.
+     *
+     * @param localOrder the local counterpart of the remote order.
+     * @return the future remote order, which fails with a FogbowException if it cannot be retrieved.
+     */
+    public CompletableFuture<Order> getRemoteOrderAsync(Order localOrder) {
+        RemoteGetOrderRequest remoteGetOrderRequest = new RemoteGetOrderRequest(localOrder);
+        return translateFailure(remoteGetOrderRequest.sendAsync());
+    }
+
     @Override
     public String requestInstance(Order order) throws FogbowException {
         try {
@@ -159,4 +173,23 @@ public class RemoteCloudConnector implements CloudConnector {
             throw new FogbowException(e.getMessage());
         }
     }
+
+    /**
+     * Makes the asynchronous requests fail just as their synchronous counterparts: an InstanceNotFoundException is
+     * kept as it is, and any other failure is reported as a FogbowException.
+     */
+    private <T> CompletableFuture<T> translateFailure(CompletableFuture<T> request) {
+        return request.handle((result, e) -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                if (cause instanceof InstanceNotFoundException) {
+                    LOGGER.info(Messages.Exception.INSTANCE_NOT_FOUND);
+                    throw new CompletionException(cause);
+                }
+                LOGGER.error(cause.toString(), cause);
+                throw new CompletionException(new FogbowException(cause.getMessage()));
+            }
+            return result;
+        });
+    }
 }
@@ -1,11 +1,12 @@
 package cloud.fogbow.ras.core.datastore;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.ras.core.datastore.services.AuditableOrderStateChangeService;
 import cloud.fogbow.ras.core.datastore.services.AuditableRequestService;
 import cloud.fogbow.ras.core.datastore.services.RecoveryService;
+import cloud.fogbow.ras.core.metrics.MetricsRegistry;
 import cloud.fogbow.ras.core.models.auditing.AuditableRequest;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
@@ -13,6 +14,10 @@ import org.apache.log4j.Logger;
 public class DatabaseManager implements StableStorage {
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class);
 
+    private static final String ADD_OPERATION = "add";
+    private static final String UPDATE_OPERATION = "update";
+    private static final String AUDIT_REQUEST_OPERATION = "auditRequest";
+
     private static DatabaseManager instance;
 
     private RecoveryService recoveryService;
@@ -31,27 +36,51 @@ public class DatabaseManager implements StableStorage {
 
     @Override
     public void add(Order order) throws InternalServerErrorException {
-        this.recoveryService.save(order);
-        this.auditableOrderStateChangeService.registerStateChange(order);
+        long startTime = System.currentTimeMillis();
+        boolean failed = true;
+        try {
+            this.recoveryService.save(order);
+            order.clearDirty();
+            this.auditableOrderStateChangeService.registerStateChange(order);
+            failed = false;
+        } finally {
+            recordWrite(ADD_OPERATION, startTime, failed);
+        }
     }
 
     @Override
     public void update(Order order, boolean orderStateChanged) throws InternalServerErrorException {
-        this.recoveryService.update(order);
-        if (orderStateChanged) {
-            this.auditableOrderStateChangeService.registerStateChange(order);
+        if (!orderStateChanged && !order.isDirty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        boolean failed = true;
+        try {
+            this.recoveryService.update(order);
+            order.clearDirty();
+            if (orderStateChanged) {
+                this.auditableOrderStateChangeService.registerStateChange(order);
+            }
+            failed = false;
+        } finally {
+            recordWrite(UPDATE_OPERATION, startTime, failed);
         }
     }
 
     @Override
-    public SynchronizedDoublyLinkedList<Order> readActiveOrders(OrderState orderState) throws InternalServerErrorException {
+    public ConcurrentOrderList<Order> readActiveOrders(OrderState orderState) throws InternalServerErrorException {
 
-        SynchronizedDoublyLinkedList<Order> synchronizedDoublyLinkedList = new SynchronizedDoublyLinkedList<>();
+        ConcurrentOrderList<Order> activeOrdersList = new ConcurrentOrderList<>();
 
         for (Order order : this.recoveryService.readActiveOrders(orderState)) {
-            synchronizedDoublyLinkedList.addItem(order);
+            // the time the order entered its state is not kept with the order, but with its state changes
+            Long stateChangeTime = this.auditableOrderStateChangeService.getLatestStateChangeTime(order);
+            if (stateChangeTime != null) {
+                order.setStateChangeTime(stateChangeTime);
+            }
+            activeOrdersList.addItem(order);
         }
-        return synchronizedDoublyLinkedList;
+        return activeOrdersList;
     }
 
     public void update(Order order) throws InternalServerErrorException {
@@ -59,7 +88,19 @@ public class DatabaseManager implements StableStorage {
     }
 
     public void auditRequest(AuditableRequest request) throws InternalServerErrorException {
-        this.auditableRequestService.registerSyncRequest(request);
+        long startTime = System.currentTimeMillis();
+        boolean failed = true;
+        try {
+            this.auditableRequestService.registerSyncRequest(request);
+            failed = false;
+        } finally {
+            recordWrite(AUDIT_REQUEST_OPERATION, startTime, failed);
+        }
+    }
+
+    private void recordWrite(String operation, long startTime, boolean failed) {
+        MetricsRegistry.getInstance().timer(MetricsRegistry.DATABASE_WRITE, MetricsRegistry.OPERATION_TAG, operation)
+                .record(System.currentTimeMillis() - startTime, failed);
     }
 
     public void setRecoveryService(RecoveryService recoveryService) {
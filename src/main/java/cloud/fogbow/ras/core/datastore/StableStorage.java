@@ -1,7 +1,7 @@
 package cloud.fogbow.ras.core.datastore;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 
@@ -14,7 +14,8 @@ public interface StableStorage {
     void add(Order order) throws InternalServerErrorException;
 
     /**
-     * Update the order in the stable storage
+     * Update the order in the stable storage. Nothing is written if the state has not changed and no other
+     * persisted field of the order is dirty.
      *
      * @param order {@link Order}
      * @param stateChange this should be true if the order state was changed.
@@ -25,7 +26,7 @@ public interface StableStorage {
      * Retrive orders from the stable storage based on its state.
      *
      * @param orderState {@link OrderState}
-     * @return {@link SynchronizedDoublyLinkedList}
+     * @return {@link ConcurrentOrderList}
      */
-    SynchronizedDoublyLinkedList<Order> readActiveOrders(OrderState orderState) throws InternalServerErrorException;
+    ConcurrentOrderList<Order> readActiveOrders(OrderState orderState) throws InternalServerErrorException;
 }
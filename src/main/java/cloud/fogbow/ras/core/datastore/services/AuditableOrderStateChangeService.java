@@ -21,4 +21,13 @@ public class AuditableOrderStateChangeService extends FogbowDatabaseService<Audi
         this.orderTimestampRepository.save(auditableOrderStateChange);
         safeSave(auditableOrderStateChange, this.orderTimestampRepository);
     }
+
+    /**
+     * @return the time of the latest state change registered for the order, or null if none was registered.
+     */
+    public Long getLatestStateChangeTime(Order order) {
+        AuditableOrderStateChange stateChange =
+                this.orderTimestampRepository.findFirstByOrderIdOrderByTimestampDesc(order.getId());
+        return stateChange == null ? null : stateChange.getTimestamp().getTime();
+    }
 }
@@ -0,0 +1,27 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import org.jamppa.component.handler.AbstractQueryHandler;
+import org.xmpp.packet.IQ;
+
+/**
+ * Registers a handler under the namespace of its remote method, but hands the requests over to the
+ * RemoteRequestHandlerDispatcher instead of running the handler on the thread of the XMPP component. The response
+ * of an admitted request is sent later by the dispatcher, so null is returned for it here and the component sends
+ * nothing in its place.
+ */
+public class DispatchedQueryHandler extends AbstractQueryHandler {
+
+    private final String method;
+    private final AbstractQueryHandler handler;
+
+    public DispatchedQueryHandler(RemoteMethod method, AbstractQueryHandler handler) {
+        super(method.toString());
+        this.method = method.toString();
+        this.handler = handler;
+    }
+
+    @Override
+    public IQ handle(IQ iq) {
+        return RemoteRequestHandlerDispatcher.getInstance().handle(iq, this.method, this.handler);
+    }
+}
@@ -0,0 +1,242 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.api.http.response.AttachmentInstance;
+import cloud.fogbow.ras.api.http.response.ComputeInstance;
+import cloud.fogbow.ras.api.http.response.ImageInstance;
+import cloud.fogbow.ras.api.http.response.ImageSummary;
+import cloud.fogbow.ras.api.http.response.NetworkInstance;
+import cloud.fogbow.ras.api.http.response.OrderInstance;
+import cloud.fogbow.ras.api.http.response.PublicIpInstance;
+import cloud.fogbow.ras.api.http.response.SecurityRuleInstance;
+import cloud.fogbow.ras.api.http.response.VolumeInstance;
+import cloud.fogbow.ras.api.http.response.quotas.ComputeQuota;
+import cloud.fogbow.ras.api.http.response.quotas.ResourceQuota;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.metrics.TraceContext;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.AttachmentOrder;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.NetworkOrder;
+import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
+import cloud.fogbow.ras.core.models.orders.VolumeOrder;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.dom4j.Element;
+import org.xmpp.packet.IQ;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes and decodes the payloads carried by the IQs exchanged with other providers. A single Gson instance,
+ * which is thread-safe and keeps the type adapters it builds, is shared by all requesters and handlers, and the
+ * classes named in the messages are resolved once and kept, instead of on every message.
+ *
+ * Providers that use this codec tag the query elements they send with the codec version. A large payload is
+ * sent gzipped and base64 encoded, tagged with an encoding attribute, only to a provider known to understand it:
+ * responses are compressed when the request carried the codec version, and requests are compressed once a
+ * response from the destination provider has carried it. Messages to and from older providers remain plain JSON.
+ */
+public class IqPayloadCodec {
+    public static final int CODEC_VERSION = 1;
+    public static final String CODEC_VERSION_ATTRIBUTE = "codecVersion";
+    public static final String ENCODING_ATTRIBUTE = "encoding";
+    public static final String GZIP_ENCODING = "gzip";
+    public static final String TRACE_ID_ATTRIBUTE = "traceId";
+
+    private static final Class<?>[] REGISTERED_CLASSES = {
+            AttachmentOrder.class, ComputeOrder.class, NetworkOrder.class, PublicIpOrder.class, VolumeOrder.class,
+            AttachmentInstance.class, ComputeInstance.class, NetworkInstance.class, PublicIpInstance.class,
+            VolumeInstance.class, OrderInstance.class, ImageInstance.class, ImageSummary.class,
+            SecurityRuleInstance.class, ComputeQuota.class, ResourceQuota.class, SystemUser.class,
+            ResourceType.class, ArrayList.class, String.class
+    };
+
+    private static IqPayloadCodec instance;
+
+    private final Gson gson;
+    private final Map<String, Class<?>> classes;
+    private final Set<String> compressionCapableProviders;
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+
+    @VisibleForTesting
+    IqPayloadCodec(boolean compressionEnabled, int compressionThreshold) {
+        this.gson = new Gson();
+        this.classes = new ConcurrentHashMap<>();
+        this.compressionCapableProviders = ConcurrentHashMap.newKeySet();
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+        for (Class<?> registeredClass : REGISTERED_CLASSES) {
+            this.classes.put(registeredClass.getName(), registeredClass);
+            this.gson.getAdapter(registeredClass);
+        }
+    }
+
+    public static synchronized IqPayloadCodec getInstance() {
+        if (instance == null) {
+            PropertiesHolder properties = PropertiesHolder.getInstance();
+            boolean compressionEnabled = Boolean.parseBoolean(properties.getProperty(
+                    ConfigurationPropertyKeys.XMPP_PAYLOAD_COMPRESSION_ENABLED_KEY,
+                    ConfigurationPropertyDefaults.XMPP_PAYLOAD_COMPRESSION_ENABLED));
+            int compressionThreshold = Integer.parseInt(properties.getProperty(
+                    ConfigurationPropertyKeys.XMPP_PAYLOAD_COMPRESSION_THRESHOLD_KEY,
+                    ConfigurationPropertyDefaults.XMPP_PAYLOAD_COMPRESSION_THRESHOLD));
+            instance = new IqPayloadCodec(compressionEnabled, compressionThreshold);
+        }
+        return instance;
+    }
+
+    public String toJson(Object object) {
+        return this.gson.toJson(object);
+    }
+
+    public <T> T fromJson(String json, Class<T> type) {
+        return this.gson.fromJson(json, type);
+    }
+
+    /**
+     * Adds the query element of a message, tagged with the version of this codec and with the trace ID of the
+     * current request, if any.
+     *
+     * @param iq the message.
+     * @param method the remote method, used as the namespace of the query.
+     * @return the query element.
+     */
+    public Element addQueryElement(IQ iq, String method) {
+        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(), method);
+        queryElement.addAttribute(CODEC_VERSION_ATTRIBUTE, Integer.toString(CODEC_VERSION));
+        String traceId = TraceContext.getTraceId();
+        if (traceId != null) {
+            queryElement.addAttribute(TRACE_ID_ATTRIBUTE, traceId);
+        }
+        return queryElement;
+    }
+
+    /**
+     * @return the trace ID the sender tagged the message with, or null if it is not traced.
+     */
+    public String readTraceId(IQ iq) {
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
+        return queryElement == null ? null : queryElement.attributeValue(TRACE_ID_ATTRIBUTE);
+    }
+
+    /**
+     * Checks whether the sender of the message tagged it with a codec version that supports compressed payloads.
+     */
+    public boolean acceptsCompression(IQ iq) {
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
+        if (queryElement == null) {
+            return false;
+        }
+        String codecVersion = queryElement.attributeValue(CODEC_VERSION_ATTRIBUTE);
+        try {
+            return codecVersion != null && Integer.parseInt(codecVersion) >= CODEC_VERSION;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records whether the provider that sent the response accepts compressed payloads in requests.
+     */
+    public void updateProviderCapabilities(String provider, IQ response) {
+        if (response != null && acceptsCompression(response)) {
+            this.compressionCapableProviders.add(provider);
+        }
+    }
+
+    public boolean acceptsCompression(String provider) {
+        return this.compressionCapableProviders.contains(provider);
+    }
+
+    /**
+     * Sets the payload as the content of the element, compressing it if allowed and if it is large enough.
+     *
+     * @param element the element that carries the payload.
+     * @param payload the object to be encoded.
+     * @param compressionAccepted whether the destination of the message accepts compressed payloads.
+     */
+    public void writePayload(Element element, Object payload, boolean compressionAccepted) {
+        String json = toJson(payload);
+        if (this.compressionEnabled && compressionAccepted && json.length() >= this.compressionThreshold) {
+            element.addAttribute(ENCODING_ATTRIBUTE, GZIP_ENCODING);
+            element.setText(compress(json));
+        } else {
+            element.setText(json);
+        }
+    }
+
+    public <T> T readPayload(Element element, Class<T> type) throws InternalServerErrorException {
+        String json = GZIP_ENCODING.equals(element.attributeValue(ENCODING_ATTRIBUTE)) ?
+                decompress(element.getText()) : element.getText();
+        try {
+            return fromJson(json, type);
+        } catch (JsonParseException e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    public Object readPayload(Element element, String className) throws InternalServerErrorException {
+        return readPayload(element, resolveClass(className));
+    }
+
+    /**
+     * Resolves the class with the given name, which is looked up only the first time it is seen.
+     */
+    public Class<?> resolveClass(String className) throws InternalServerErrorException {
+        Class<?> payloadClass = this.classes.get(className);
+        if (payloadClass == null) {
+            try {
+                payloadClass = Class.forName(className);
+            } catch (ClassNotFoundException e) {
+                throw new InternalServerErrorException(String.format(Messages.Exception.UNABLE_TO_FIND_CLASS_S,
+                        className));
+            }
+            this.classes.put(className, payloadClass);
+        }
+        return payloadClass;
+    }
+
+    private String compress(String json) {
+        ByteArrayOutputStream compressedBytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedBytes)) {
+            gzipOutputStream.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // writing to memory does not fail
+            throw new IllegalStateException(e);
+        }
+        return Base64.getEncoder().encodeToString(compressedBytes.toByteArray());
+    }
+
+    private String decompress(String encodedPayload) throws InternalServerErrorException {
+        ByteArrayOutputStream decompressedBytes = new ByteArrayOutputStream();
+        try (InputStream inputStream = new GZIPInputStream(
+                new ByteArrayInputStream(Base64.getDecoder().decode(encodedPayload.trim())))) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) > 0) {
+                decompressedBytes.write(buffer, 0, read);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+        return new String(decompressedBytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,6 @@
 package cloud.fogbow.ras.core.intercomponent.xmpp;
 
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
@@ -8,11 +9,12 @@ import cloud.fogbow.ras.core.PropertiesHolder;
 import org.apache.log4j.Logger;
 import org.jamppa.component.PacketSender;
 import org.xmpp.component.ComponentException;
+import org.xmpp.packet.Packet;
 
 public class PacketSenderHolder {
     private final static Logger LOGGER = Logger.getLogger(PacketSenderHolder.class);
 
-    private static PacketSender packetSender = null;
+    private static volatile PacketSender packetSender = null;
 
     public static void init() {
         if (packetSender == null) {
@@ -44,9 +46,31 @@ public class PacketSenderHolder {
         }
     }
 
-    public static synchronized PacketSender getPacketSender() {
-        init();
-        return packetSender;
+    public static PacketSender getPacketSender() {
+        // once the packet sender is set up, it is returned without taking the lock, since it is used by every
+        // remote request
+        PacketSender sender = packetSender;
+        if (sender == null) {
+            synchronized (PacketSenderHolder.class) {
+                init();
+                sender = packetSender;
+            }
+        }
+        return sender;
+    }
+
+    /**
+     * Sends the packet without waiting for its response, which is delivered to the RemoteRequestDispatcher.
+     *
+     * @param packet the packet to be sent.
+     * @throws UnavailableProviderException if no XMPP component is connected.
+     */
+    public static void sendAsyncPacket(Packet packet) throws UnavailableProviderException {
+        PacketSender sender = getPacketSender();
+        if (!(sender instanceof XmppComponentManager)) {
+            throw new UnavailableProviderException(Messages.Exception.NO_ASYNC_PACKET_SENDER);
+        }
+        ((XmppComponentManager) sender).sendAsyncPacket(packet);
     }
 
     // Used in tests only
@@ -0,0 +1,155 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+import org.xmpp.packet.IQ;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends requests to remote providers without blocking the caller. Each request is registered under the ID of its
+ * IQ, and completed either when the response with that ID is delivered or when the request times out, whichever
+ * happens first; a response that arrives after the timeout is discarded.
+ *
+ * The IQ is handed to the XMPP component, which writes it to the connection and returns without waiting for the
+ * response; the component delivers each response to the dispatcher as it arrives. Thus, no thread is held while a
+ * request is in flight, and the callers (REST and processor threads) only wait for the returned futures if and when
+ * they choose to.
+ */
+public class RemoteRequestDispatcher {
+    private static final Logger LOGGER = Logger.getLogger(RemoteRequestDispatcher.class);
+
+    private static RemoteRequestDispatcher instance;
+
+    private final Map<String, PendingRequest<?>> pendingRequests;
+    private final IqSender iqSender;
+    private final ScheduledThreadPoolExecutor timeoutScheduler;
+    private final long timeout;
+
+    @VisibleForTesting
+    RemoteRequestDispatcher(long timeout, IqSender iqSender) {
+        this.pendingRequests = new ConcurrentHashMap<>();
+        this.iqSender = iqSender;
+        this.timeoutScheduler = new ScheduledThreadPoolExecutor(1);
+        this.timeoutScheduler.setRemoveOnCancelPolicy(true);
+        this.timeout = timeout;
+    }
+
+    public static synchronized RemoteRequestDispatcher getInstance() {
+        if (instance == null) {
+            long timeout = Long.parseLong(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.XMPP_TIMEOUT_KEY, ConfigurationPropertyDefaults.XMPP_TIMEOUT));
+            instance = new RemoteRequestDispatcher(timeout, PacketSenderHolder::sendAsyncPacket);
+        }
+        return instance;
+    }
+
+    /**
+     * Sends the IQ to its destination and returns a future that is completed with the result of applying the
+     * handler to the response. On timeout, the handler is applied to a null response, just as when the blocking
+     * send times out, so that each request reports the unavailability of the provider in its own terms.
+     *
+     * @param iq the request to be sent.
+     * @param responseHandler the handler that checks the response and extracts the result from it.
+     * @return the future result of the request.
+     */
+    public <T> CompletableFuture<T> dispatch(IQ iq, ResponseHandler<T> responseHandler) {
+        String id = iq.getID();
+        PendingRequest<T> pendingRequest = new PendingRequest<>(iq, responseHandler);
+        this.pendingRequests.put(id, pendingRequest);
+        pendingRequest.timeoutTask = this.timeoutScheduler.schedule(() -> expire(id), this.timeout,
+                TimeUnit.MILLISECONDS);
+        try {
+            this.iqSender.send(iq);
+        } catch (Throwable e) {
+            fail(id, e);
+        }
+        return pendingRequest.future;
+    }
+
+    /**
+     * Completes the pending request whose IQ has the ID of the given response.
+     *
+     * @param response the response to the request.
+     * @return true if the response was awaited by a pending request, false if it answers a request that has already
+     * timed out or that was not sent through the dispatcher.
+     */
+    public boolean deliverResponse(IQ response) {
+        PendingRequest<?> pendingRequest = this.pendingRequests.remove(response.getID());
+        if (pendingRequest == null) {
+            return false;
+        }
+        pendingRequest.cancelTimeout();
+        pendingRequest.complete(response);
+        return true;
+    }
+
+    public int getPendingRequests() {
+        return this.pendingRequests.size();
+    }
+
+    private void expire(String id) {
+        PendingRequest<?> pendingRequest = this.pendingRequests.remove(id);
+        if (pendingRequest != null) {
+            LOGGER.debug(String.format(Messages.Log.REMOTE_REQUEST_S_TIMED_OUT, id));
+            pendingRequest.complete(null);
+        }
+    }
+
+    private void fail(String id, Throwable e) {
+        PendingRequest<?> pendingRequest = this.pendingRequests.remove(id);
+        if (pendingRequest != null) {
+            pendingRequest.cancelTimeout();
+            pendingRequest.future.completeExceptionally(e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface IqSender {
+        void send(IQ iq) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface ResponseHandler<T> {
+        T handle(IQ response) throws Exception;
+    }
+
+    private static class PendingRequest<T> {
+        private final IQ iq;
+        private final ResponseHandler<T> responseHandler;
+        private final CompletableFuture<T> future;
+        private final long startTime;
+        private volatile ScheduledFuture<?> timeoutTask;
+
+        private PendingRequest(IQ iq, ResponseHandler<T> responseHandler) {
+            this.iq = iq;
+            this.responseHandler = responseHandler;
+            this.future = new CompletableFuture<>();
+            this.startTime = System.currentTimeMillis();
+        }
+
+        private void cancelTimeout() {
+            if (this.timeoutTask != null) {
+                this.timeoutTask.cancel(false);
+            }
+        }
+
+        private void complete(IQ response) {
+            TimedPacketSender.recordRoundTrip(this.iq, this.startTime, response);
+            try {
+                this.future.complete(this.responseHandler.handle(response));
+            } catch (Throwable e) {
+                this.future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.ras.api.http.response.XmppHandlerStatus;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.metrics.TraceContext;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+import org.jamppa.component.handler.AbstractQueryHandler;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.PacketError;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the handlers of the requests received from other providers on a bounded pool of workers, so that a slow
+ * request does not hold up the others. The pending requests are kept in one queue per (method, sender) pair, and
+ * the workers take them from the queues in turns, so that a burst of requests from one provider, or for one
+ * method, does not starve the others.
+ *
+ * Requests are rejected with a resource-constraint error, instead of being queued, when the queue of their method
+ * is full or when their sender already has too many requests queued or running. Admitted requests are answered by
+ * the worker that handles them, so the thread of the XMPP component is never held waiting for a handler.
+ */
+public class RemoteRequestHandlerDispatcher {
+    private static final Logger LOGGER = Logger.getLogger(RemoteRequestHandlerDispatcher.class);
+
+    private static final String QUEUE_KEY_FORMAT = "%s|%s";
+
+    private static RemoteRequestHandlerDispatcher instance;
+
+    private final ExecutorService workers;
+    private final RemoteRequestDispatcher.IqSender responseSender;
+    private final int methodQueueCapacity;
+    private final int senderCapacity;
+    // the fields below are guarded by this
+    private final Map<String, Deque<Task>> queues;
+    private final Deque<String> queuesInTurn;
+    private final Map<String, Integer> senderLoads;
+    private final Map<String, MethodMetrics> methodMetrics;
+
+    @VisibleForTesting
+    RemoteRequestHandlerDispatcher(int poolSize, int methodQueueCapacity, int senderCapacity,
+                                   RemoteRequestDispatcher.IqSender responseSender) {
+        this.workers = Executors.newFixedThreadPool(poolSize);
+        this.responseSender = responseSender;
+        this.methodQueueCapacity = methodQueueCapacity;
+        this.senderCapacity = senderCapacity;
+        this.queues = new HashMap<>();
+        this.queuesInTurn = new ArrayDeque<>();
+        this.senderLoads = new HashMap<>();
+        this.methodMetrics = new LinkedHashMap<>();
+    }
+
+    public static synchronized RemoteRequestHandlerDispatcher getInstance() {
+        if (instance == null) {
+            PropertiesHolder properties = PropertiesHolder.getInstance();
+            int poolSize = Integer.parseInt(properties.getProperty(
+                    ConfigurationPropertyKeys.XMPP_HANDLER_POOL_SIZE_KEY,
+                    ConfigurationPropertyDefaults.XMPP_HANDLER_POOL_SIZE));
+            int methodQueueCapacity = Integer.parseInt(properties.getProperty(
+                    ConfigurationPropertyKeys.XMPP_HANDLER_METHOD_QUEUE_CAPACITY_KEY,
+                    ConfigurationPropertyDefaults.XMPP_HANDLER_METHOD_QUEUE_CAPACITY));
+            int senderCapacity = Integer.parseInt(properties.getProperty(
+                    ConfigurationPropertyKeys.XMPP_HANDLER_SENDER_CAPACITY_KEY,
+                    ConfigurationPropertyDefaults.XMPP_HANDLER_SENDER_CAPACITY));
+            instance = new RemoteRequestHandlerDispatcher(poolSize, methodQueueCapacity, senderCapacity,
+                    PacketSenderHolder::sendAsyncPacket);
+        }
+        return instance;
+    }
+
+    /**
+     * Queues the request to be handled on a worker, which sends the response once the handler is done. If the
+     * request cannot be admitted, a resource-constraint error is returned at once instead.
+     *
+     * @param iq the request.
+     * @param method the remote method requested.
+     * @param handler the handler of the method.
+     * @return the error response of a rejected request, or null if the request was admitted, in which case no
+     * response must be sent by the caller.
+     */
+    public IQ handle(IQ iq, String method, AbstractQueryHandler handler) {
+        String sender = iq.getFrom() == null ? "" : iq.getFrom().toBareJID();
+        Task task = new Task(iq, handler, method, sender, getCurrentTime());
+        if (!admit(task)) {
+            LOGGER.warn(String.format(Messages.Log.REJECTING_REMOTE_REQUEST_S_FROM_S_OVERLOAD, iq.getID(), sender));
+            return createOverloadResponse(iq);
+        }
+        this.workers.execute(this::handleNextTask);
+        return null;
+    }
+
+    public synchronized List<XmppHandlerStatus> getHandlersStatus() {
+        List<XmppHandlerStatus> statusList = new ArrayList<>();
+        for (Map.Entry<String, MethodMetrics> entry : this.methodMetrics.entrySet()) {
+            MethodMetrics metrics = entry.getValue();
+            statusList.add(new XmppHandlerStatus(entry.getKey(), metrics.queuedRequests, metrics.runningRequests,
+                    metrics.handledRequests, metrics.rejectedRequests, metrics.getAverageQueueingTime(),
+                    metrics.maxQueueingTime, metrics.getAverageHandlingTime(), metrics.maxHandlingTime));
+        }
+        return statusList;
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private synchronized boolean admit(Task task) {
+        MethodMetrics metrics = this.methodMetrics.computeIfAbsent(task.method, key -> new MethodMetrics());
+        int senderLoad = this.senderLoads.getOrDefault(task.sender, 0);
+        if (metrics.queuedRequests >= this.methodQueueCapacity || senderLoad >= this.senderCapacity) {
+            metrics.rejectedRequests++;
+            return false;
+        }
+        String key = task.getQueueKey();
+        Deque<Task> queue = this.queues.get(key);
+        if (queue == null) {
+            queue = new ArrayDeque<>();
+            this.queues.put(key, queue);
+            this.queuesInTurn.addLast(key);
+        }
+        queue.addLast(task);
+        metrics.queuedRequests++;
+        this.senderLoads.put(task.sender, senderLoad + 1);
+        return true;
+    }
+
+    /**
+     * Takes the first task of the queue in turn, and moves the queue to the end of the line.
+     */
+    private synchronized Task takeNextTask() {
+        String key = this.queuesInTurn.pollFirst();
+        if (key == null) {
+            return null;
+        }
+        Deque<Task> queue = this.queues.get(key);
+        Task task = queue.pollFirst();
+        if (queue.isEmpty()) {
+            this.queues.remove(key);
+        } else {
+            this.queuesInTurn.addLast(key);
+        }
+        MethodMetrics metrics = this.methodMetrics.get(task.method);
+        metrics.queuedRequests--;
+        metrics.runningRequests++;
+        return task;
+    }
+
+    private synchronized void release(Task task, long startTime, long endTime) {
+        MethodMetrics metrics = this.methodMetrics.get(task.method);
+        metrics.runningRequests--;
+        metrics.record(startTime - task.arrivalTime, endTime - startTime);
+        releaseSenderLoad(task.sender);
+    }
+
+    private void releaseSenderLoad(String sender) {
+        int senderLoad = this.senderLoads.get(sender) - 1;
+        if (senderLoad == 0) {
+            this.senderLoads.remove(sender);
+        } else {
+            this.senderLoads.put(sender, senderLoad);
+        }
+    }
+
+    private void handleNextTask() {
+        // each admitted task schedules one run of this method, so there is always a task to be taken
+        Task task = takeNextTask();
+        long startTime = getCurrentTime();
+        IQ response;
+        try {
+            TraceContext.setTraceId(IqPayloadCodec.getInstance().readTraceId(task.iq));
+            response = task.handler.handle(task.iq);
+        } catch (Throwable e) {
+            response = IQ.createResultIQ(task.iq);
+            XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
+        } finally {
+            TraceContext.clear();
+            release(task, startTime, getCurrentTime());
+        }
+        sendResponse(response);
+    }
+
+    private void sendResponse(IQ response) {
+        try {
+            this.responseSender.send(response);
+        } catch (Exception e) {
+            LOGGER.warn(String.format(Messages.Log.UNABLE_TO_SEND_RESPONSE_S_TO_S, response.getID(),
+                    response.getTo()), e);
+        }
+    }
+
+    private IQ createOverloadResponse(IQ iq) {
+        IQ response = IQ.createResultIQ(iq);
+        PacketError error = new PacketError(PacketError.Condition.resource_constraint);
+        error.setText(Messages.Exception.PROVIDER_OVERLOADED);
+        response.setError(error);
+        return response;
+    }
+
+    private static class Task {
+        private final IQ iq;
+        private final AbstractQueryHandler handler;
+        private final String method;
+        private final String sender;
+        private final long arrivalTime;
+
+        private Task(IQ iq, AbstractQueryHandler handler, String method, String sender, long arrivalTime) {
+            this.iq = iq;
+            this.handler = handler;
+            this.method = method;
+            this.sender = sender;
+            this.arrivalTime = arrivalTime;
+        }
+
+        private String getQueueKey() {
+            return String.format(QUEUE_KEY_FORMAT, this.method, this.sender);
+        }
+    }
+
+    private static class MethodMetrics {
+        private int queuedRequests;
+        private int runningRequests;
+        private long handledRequests;
+        private long rejectedRequests;
+        private long totalQueueingTime;
+        private long maxQueueingTime;
+        private long totalHandlingTime;
+        private long maxHandlingTime;
+
+        private void record(long queueingTime, long handlingTime) {
+            this.handledRequests++;
+            this.totalQueueingTime += queueingTime;
+            this.maxQueueingTime = Math.max(this.maxQueueingTime, queueingTime);
+            this.totalHandlingTime += handlingTime;
+            this.maxHandlingTime = Math.max(this.maxHandlingTime, handlingTime);
+        }
+
+        private double getAverageQueueingTime() {
+            return this.handledRequests == 0 ? 0 : (double) this.totalQueueingTime / this.handledRequests;
+        }
+
+        private double getAverageHandlingTime() {
+            return this.handledRequests == 0 ? 0 : (double) this.totalHandlingTime / this.handledRequests;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.ras.core.metrics.MetricsRegistry;
+import org.dom4j.Element;
+import org.xmpp.packet.IQ;
+
+/**
+ * Sends requests to remote providers through the packet sender, recording the round-trip time of each remote
+ * method; a request that times out, fails or is answered with an error counts as an error.
+ */
+public class TimedPacketSender {
+    private static final String UNKNOWN_METHOD = "unknown";
+
+    public static IQ syncSendPacket(IQ iq) {
+        long startTime = System.currentTimeMillis();
+        IQ response = null;
+        try {
+            response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+            return response;
+        } finally {
+            recordRoundTrip(iq, startTime, response);
+        }
+    }
+
+    /**
+     * Records the round-trip time of a request sent at the given time; a null response means it timed out.
+     */
+    public static void recordRoundTrip(IQ iq, long startTime, IQ response) {
+        boolean failed = response == null || response.getError() != null;
+        MetricsRegistry.getInstance().timer(MetricsRegistry.XMPP_REQUEST, MetricsRegistry.METHOD_TAG,
+                getMethod(iq)).record(System.currentTimeMillis() - startTime, failed);
+    }
+
+    private static String getMethod(IQ iq) {
+        Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
+        return queryElement == null ? UNKNOWN_METHOD : queryElement.getNamespaceURI();
+    }
+}
@@ -4,26 +4,61 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.intercomponent.xmpp.handlers.*;
 import org.apache.log4j.Logger;
 import org.jamppa.component.XMPPComponent;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.Packet;
 
 public class XmppComponentManager extends XMPPComponent {
     private static Logger LOGGER = Logger.getLogger(XmppComponentManager.class);
 
     public XmppComponentManager(String jid, String password, String xmppServerIp, int xmppServerPort, long timeout) {
         super(jid, password, xmppServerIp, xmppServerPort, timeout);
-        // instantiate set handlers here
-        addSetHandler(new RemoteCreateOrderRequestHandler());
-        addSetHandler(new RemoteDeleteOrderRequestHandler());
+        // instantiate set handlers here; the handlers of the requests that do work on behalf of other providers
+        // are run by the handler dispatcher, while the cheap notifications are handled directly
+        addSetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_CREATE_ORDER,
+                new RemoteCreateOrderRequestHandler()));
+        addSetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_DELETE_ORDER,
+                new RemoteDeleteOrderRequestHandler()));
         addSetHandler(new CloseOrderAtRemoteRequesterHandler());
-        addSetHandler(new RemoteCreateSecurityRuleRequestHandler());
-        addSetHandler(new RemoteDeleteSecurityRuleRequestHandler());
+        addSetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_CREATE_SECURITY_RULE,
+                new RemoteCreateSecurityRuleRequestHandler()));
+        addSetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_DELETE_SECURITY_RULE,
+                new RemoteDeleteSecurityRuleRequestHandler()));
         // instantiate get handlers here
-        addGetHandler(new RemoteGetAllImagesRequestHandler());
-        addGetHandler(new RemoteGetImageRequestHandler());
-        addGetHandler(new RemoteGetCloudNamesRequestHandler());
-        addGetHandler(new RemoteGetInstanceRequestHandler());
-        addGetHandler(new RemoteGetOrderRequestHandler());
-        addGetHandler(new RemoteGetUserQuotaRequestHandler());
-        addGetHandler(new RemoteGetAllSecurityRuleHandler());
+        addGetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_GET_ALL_IMAGES,
+                new RemoteGetAllImagesRequestHandler()));
+        addGetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_GET_IMAGE,
+                new RemoteGetImageRequestHandler()));
+        addGetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_GET_CLOUD_NAMES,
+                new RemoteGetCloudNamesRequestHandler()));
+        addGetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_GET_INSTANCE,
+                new RemoteGetInstanceRequestHandler()));
+        addGetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_GET_ORDER,
+                new RemoteGetOrderRequestHandler()));
+        addGetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_GET_USER_QUOTA,
+                new RemoteGetUserQuotaRequestHandler()));
+        addGetHandler(new DispatchedQueryHandler(RemoteMethod.REMOTE_GET_ALL_SECURITY_RULES,
+                new RemoteGetAllSecurityRuleHandler()));
         LOGGER.info(Messages.Log.XMPP_HANDLERS_SET);
     }
+
+    /**
+     * Sends the packet without waiting for its response.
+     */
+    public void sendAsyncPacket(Packet packet) {
+        send(packet);
+    }
+
+    // the responses to the requests sent through the RemoteRequestDispatcher are delivered to it; the other ones
+    // are left to the synchronous senders waiting for them
+    @Override
+    protected void handleIQResult(IQ iq) {
+        super.handleIQResult(iq);
+        RemoteRequestDispatcher.getInstance().deliverResponse(iq);
+    }
+
+    @Override
+    protected void handleIQError(IQ iq) {
+        super.handleIQError(iq);
+        RemoteRequestDispatcher.getInstance().deliverResponse(iq);
+    }
 }
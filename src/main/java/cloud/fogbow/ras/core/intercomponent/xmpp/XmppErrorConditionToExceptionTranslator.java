@@ -30,6 +30,7 @@ public class XmppErrorConditionToExceptionTranslator {
             case not_acceptable:
                 throw new UnacceptableOperationException(message);
             case remote_server_not_found:
+            case resource_constraint:
                 throw new UnavailableProviderException(message);
             case conflict:
                 throw new ConfigurationErrorException(message);
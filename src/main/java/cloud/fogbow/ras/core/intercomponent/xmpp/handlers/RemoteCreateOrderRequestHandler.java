@@ -5,10 +5,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -26,14 +26,13 @@ public class RemoteCreateOrderRequestHandler extends AbstractQueryHandler {
     @Override
     public IQ handle(IQ iq) {
         LOGGER.debug(String.format(Messages.Log.RECEIVING_REMOTE_REQUEST_S, iq.getID()));
-        String orderJsonStr = unmarshalOrder(iq);
+        Element orderElement = unmarshalOrder(iq);
         String className = unmarshalClassName(iq);
 
         IQ response = IQ.createResultIQ(iq);
-        Gson gson = new Gson();
         Order order = null;
         try {
-            order = (Order) gson.fromJson(orderJsonStr, Class.forName(className));
+            order = (Order) IqPayloadCodec.getInstance().readPayload(orderElement, className);
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             RemoteFacade.getInstance().activateOrder(senderId, order);
         } catch (Throwable e) {
@@ -42,11 +41,10 @@ public class RemoteCreateOrderRequestHandler extends AbstractQueryHandler {
         return response;
     }
 
-    private String unmarshalOrder(IQ iq) {
+    private Element unmarshalOrder(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element orderElement = queryElement.element(IqElement.ORDER.toString());
-        String orderJsonStr = orderElement.getText();
-        return orderJsonStr;
+        return orderElement;
     }
 
     private String unmarshalClassName(IQ iq) {
@@ -7,9 +7,9 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -38,7 +38,7 @@ public class RemoteGetAllImagesRequestHandler extends AbstractQueryHandler {
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             List<ImageSummary> imageSummaryList = RemoteFacade.getInstance().getAllImages(senderId,
                     cloudName, systemUser);
-            updateResponse(response, imageSummaryList);
+            updateResponse(response, imageSummaryList, IqPayloadCodec.getInstance().acceptsCompression(iq));
         } catch (Exception e) {
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
         }
@@ -49,24 +49,24 @@ public class RemoteGetAllImagesRequestHandler extends AbstractQueryHandler {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         Element cloudNameElement = queryElement.element(IqElement.CLOUD_NAME.toString());
-        String cloudName = new Gson().fromJson(cloudNameElement.getText(), String.class);
+        String cloudName = IqPayloadCodec.getInstance().fromJson(cloudNameElement.getText(), String.class);
         return cloudName;
     }
 
     private SystemUser unmarshalFederationUser(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.getInstance().fromJson(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
-    private void updateResponse(IQ response, List<ImageSummary> imageSummaryList) {
-        Element queryEl = response.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_ALL_IMAGES);
+    private void updateResponse(IQ response, List<ImageSummary> imageSummaryList, boolean compressionAccepted) {
+        Element queryEl = IqPayloadCodec.getInstance().addQueryElement(response, REMOTE_GET_ALL_IMAGES);
         Element imagesMapElement = queryEl.addElement(IqElement.IMAGE_SUMMARY_LIST.toString());
 
         Element imagesMapClassNameElement = queryEl.addElement(IqElement.IMAGE_SUMMARY_LIST_CLASS_NAME.toString());
         imagesMapClassNameElement.setText(imageSummaryList.getClass().getName());
 
-        imagesMapElement.setText(new Gson().toJson(imageSummaryList));
+        IqPayloadCodec.getInstance().writePayload(imagesMapElement, imageSummaryList, compressionAccepted);
     }
 }
@@ -6,10 +6,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.api.http.response.SecurityRuleInstance;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -37,7 +37,7 @@ public class RemoteGetAllSecurityRuleHandler extends AbstractQueryHandler {
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             List<SecurityRuleInstance> securityRuleInstanceList =  RemoteFacade.getInstance().
                     getAllSecurityRules(senderId, orderId, systemUser);
-            updateResponse(response, securityRuleInstanceList);
+            updateResponse(response, securityRuleInstanceList, IqPayloadCodec.getInstance().acceptsCompression(iq));
         } catch (Throwable e) {
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
         }
@@ -51,20 +51,22 @@ public class RemoteGetAllSecurityRuleHandler extends AbstractQueryHandler {
         return orderIdElement.getText();
     }
 
-    private void updateResponse(IQ response, List<SecurityRuleInstance> securityRuleInstanceList) {
-        Element queryEl = response.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_ALL_SECURITY_RULES);
+    private void updateResponse(IQ response, List<SecurityRuleInstance> securityRuleInstanceList,
+                                boolean compressionAccepted) {
+        Element queryEl = IqPayloadCodec.getInstance().addQueryElement(response, REMOTE_GET_ALL_SECURITY_RULES);
         Element securityRuleListElement = queryEl.addElement(IqElement.SECURITY_RULE_LIST.toString());
 
         Element imagesMapClassNameElement = queryEl.addElement(IqElement.SECURITY_RULE_LIST_CLASS_NAME.toString());
         imagesMapClassNameElement.setText(securityRuleInstanceList.getClass().getName());
 
-        securityRuleListElement.setText(new Gson().toJson(securityRuleInstanceList));
+        IqPayloadCodec.getInstance().writePayload(securityRuleListElement, securityRuleInstanceList,
+                compressionAccepted);
     }
 
     private SystemUser unmarshalFederationUserToken(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.getInstance().fromJson(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 }
@@ -6,9 +6,9 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -34,7 +34,7 @@ public class RemoteGetCloudNamesRequestHandler extends AbstractQueryHandler {
         try {
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             List<String> cloudNames = RemoteFacade.getInstance().getCloudNames(senderId, systemUser);
-            updateResponse(response, cloudNames);
+            updateResponse(response, cloudNames, IqPayloadCodec.getInstance().acceptsCompression(iq));
         } catch (Exception e) {
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
         }
@@ -44,17 +44,17 @@ public class RemoteGetCloudNamesRequestHandler extends AbstractQueryHandler {
     private SystemUser unmarshalFederationUser(IQ iq) {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.getInstance().fromJson(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
-    private void updateResponse(IQ response, List<String> cloudNames) {
-        Element queryEl = response.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_CLOUD_NAMES);
+    private void updateResponse(IQ response, List<String> cloudNames, boolean compressionAccepted) {
+        Element queryEl = IqPayloadCodec.getInstance().addQueryElement(response, REMOTE_GET_CLOUD_NAMES);
         Element cloudNamesListElement = queryEl.addElement(IqElement.CLOUD_NAMES_LIST.toString());
 
         Element cloudNamesListClassNameElement = queryEl.addElement(IqElement.CLOUD_NAMES_LIST_CLASS_NAME.toString());
         cloudNamesListClassNameElement.setText(cloudNames.getClass().getName());
 
-        cloudNamesListElement.setText(new Gson().toJson(cloudNames));
+        IqPayloadCodec.getInstance().writePayload(cloudNamesListElement, cloudNames, compressionAccepted);
     }
 }
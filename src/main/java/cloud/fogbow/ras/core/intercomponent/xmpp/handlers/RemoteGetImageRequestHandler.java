@@ -7,9 +7,9 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -36,7 +36,7 @@ public class RemoteGetImageRequestHandler extends AbstractQueryHandler {
         try {
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             ImageInstance imageInstance = RemoteFacade.getInstance().getImage(senderId, cloudName, imageId, systemUser);
-            updateResponse(response, imageInstance);
+            updateResponse(response, imageInstance, IqPayloadCodec.getInstance().acceptsCompression(iq));
         } catch (Exception e) {
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
         }
@@ -44,7 +44,7 @@ public class RemoteGetImageRequestHandler extends AbstractQueryHandler {
         return response;
     }
 
-    private void updateResponse(IQ response, ImageInstance imageInstance) {
+    private void updateResponse(IQ response, ImageInstance imageInstance, boolean compressionAccepted) {
         Element queryEl = response.getElement()
                 .addElement(IqElement.QUERY.toString(), REMOTE_GET_IMAGE);
         Element imageElement = queryEl.addElement(IqElement.IMAGE.toString());
@@ -53,7 +53,7 @@ public class RemoteGetImageRequestHandler extends AbstractQueryHandler {
                 .addElement(IqElement.IMAGE_CLASS_NAME.toString());
         imageClassNameElement.setText(imageInstance.getClass().getName());
 
-        imageElement.setText(new Gson().toJson(imageInstance));
+        IqPayloadCodec.getInstance().writePayload(imageElement, imageInstance, compressionAccepted);
     }
 
     private String unmarshalImageId(IQ iq) {
@@ -67,7 +67,7 @@ public class RemoteGetImageRequestHandler extends AbstractQueryHandler {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         Element cloudNameElement = queryElement.element(IqElement.CLOUD_NAME.toString());
-        String cloudName = new Gson().fromJson(cloudNameElement.getText(), String.class);
+        String cloudName = IqPayloadCodec.getInstance().fromJson(cloudNameElement.getText(), String.class);
         return cloudName;
     }
 
@@ -75,6 +75,6 @@ public class RemoteGetImageRequestHandler extends AbstractQueryHandler {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        return new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        return IqPayloadCodec.getInstance().fromJson(systemUserElement.getText(), SystemUser.class);
     }
 }
\ No newline at end of file
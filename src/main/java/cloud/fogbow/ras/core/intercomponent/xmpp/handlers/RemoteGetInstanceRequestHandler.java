@@ -6,11 +6,11 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.api.http.response.Instance;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -37,7 +37,7 @@ public class RemoteGetInstanceRequestHandler extends AbstractQueryHandler {
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             Instance instance = RemoteFacade.getInstance().getResourceInstance(senderId, orderId, systemUser, resourceType);
             //on success, update response with instance data
-            updateResponse(response, instance);
+            updateResponse(response, instance, IqPayloadCodec.getInstance().acceptsCompression(iq));
         } catch (Exception e) {
             //on error, update response with exception data
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
@@ -45,9 +45,9 @@ public class RemoteGetInstanceRequestHandler extends AbstractQueryHandler {
         return response;
     }
 
-    private void updateResponse(IQ response, Instance instance) {
+    private void updateResponse(IQ response, Instance instance, boolean compressionAccepted) {
         Element queryElement =
-                response.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_INSTANCE);
+                IqPayloadCodec.getInstance().addQueryElement(response, REMOTE_GET_INSTANCE);
 
         Element instanceElement = queryElement.addElement(IqElement.INSTANCE.toString());
 
@@ -56,12 +56,12 @@ public class RemoteGetInstanceRequestHandler extends AbstractQueryHandler {
 
         instanceClassNameElement.setText(instance.getClass().getName());
 
-        instanceElement.setText(new Gson().toJson(instance));
+        IqPayloadCodec.getInstance().writePayload(instanceElement, instance, compressionAccepted);
     }
 
     private SystemUser unmarshalFederationUser(IQ iq) {
         Element systemUserElement = iq.getElement().element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.getInstance().fromJson(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
@@ -70,7 +70,7 @@ public class RemoteGetInstanceRequestHandler extends AbstractQueryHandler {
         Element orderTypeElementRequest = queryElement.element(IqElement.INSTANCE_TYPE.toString());
 
         ResourceType resourceType =
-                new Gson().fromJson(orderTypeElementRequest.getText(), ResourceType.class);
+                IqPayloadCodec.getInstance().fromJson(orderTypeElementRequest.getText(), ResourceType.class);
 
         return resourceType;
     }
@@ -5,10 +5,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -33,7 +33,7 @@ public class RemoteGetOrderRequestHandler extends AbstractQueryHandler {
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             Order order = RemoteFacade.getInstance().getOrder(senderId, orderId);
             //on success, update response with order data
-            updateResponse(response, order);
+            updateResponse(response, order, IqPayloadCodec.getInstance().acceptsCompression(iq));
         } catch (Exception e) {
             //on error, update response with exception data
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
@@ -41,9 +41,9 @@ public class RemoteGetOrderRequestHandler extends AbstractQueryHandler {
         return response;
     }
 
-    private void updateResponse(IQ response, Order order) {
+    private void updateResponse(IQ response, Order order, boolean compressionAccepted) {
         Element queryElement =
-                response.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_ORDER);
+                IqPayloadCodec.getInstance().addQueryElement(response, REMOTE_GET_ORDER);
 
         Element orderElement = queryElement.addElement(IqElement.ORDER.toString());
 
@@ -51,7 +51,7 @@ public class RemoteGetOrderRequestHandler extends AbstractQueryHandler {
 
         orderClassNameElement.setText(order.getClass().getName());
 
-        orderElement.setText(new Gson().toJson(order));
+        IqPayloadCodec.getInstance().writePayload(orderElement, order, compressionAccepted);
     }
 
     private String unmarshalOrderId(IQ iq) {
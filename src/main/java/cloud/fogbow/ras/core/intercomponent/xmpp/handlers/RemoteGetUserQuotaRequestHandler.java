@@ -6,10 +6,10 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.RemoteFacade;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppExceptionToErrorConditionTranslator;
 import cloud.fogbow.ras.api.http.response.quotas.Quota;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.jamppa.component.handler.AbstractQueryHandler;
@@ -35,7 +35,7 @@ public class RemoteGetUserQuotaRequestHandler extends AbstractQueryHandler {
         try {
             String senderId = IntercomponentUtil.getSender(iq.getFrom().toBareJID(), SystemConstants.XMPP_SERVER_NAME_PREFIX);
             Quota userQuota = RemoteFacade.getInstance().getUserQuota(senderId, cloudName, systemUser);
-            updateResponse(response, userQuota);
+            updateResponse(response, userQuota, IqPayloadCodec.getInstance().acceptsCompression(iq));
         } catch (Exception e) {
             XmppExceptionToErrorConditionTranslator.updateErrorCondition(response, e);
         }
@@ -46,7 +46,7 @@ public class RemoteGetUserQuotaRequestHandler extends AbstractQueryHandler {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         Element cloudNameElement = queryElement.element(IqElement.CLOUD_NAME.toString());
-        String cloudName = new Gson().fromJson(cloudNameElement.getText(), String.class);
+        String cloudName = IqPayloadCodec.getInstance().fromJson(cloudNameElement.getText(), String.class);
         return cloudName;
     }
 
@@ -54,17 +54,17 @@ public class RemoteGetUserQuotaRequestHandler extends AbstractQueryHandler {
         Element queryElement = iq.getElement().element(IqElement.QUERY.toString());
 
         Element systemUserElement = queryElement.element(IqElement.SYSTEM_USER.toString());
-        SystemUser systemUser = new Gson().fromJson(systemUserElement.getText(), SystemUser.class);
+        SystemUser systemUser = IqPayloadCodec.getInstance().fromJson(systemUserElement.getText(), SystemUser.class);
         return systemUser;
     }
 
-    private void updateResponse(IQ iq, Quota quota) {
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(), REMOTE_GET_USER_QUOTA);
+    private void updateResponse(IQ iq, Quota quota, boolean compressionAccepted) {
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq, REMOTE_GET_USER_QUOTA);
         Element instanceElement = queryElement.addElement(IqElement.USER_QUOTA.toString());
 
         Element instanceClassNameElement = queryElement.addElement(IqElement.USER_QUOTA_CLASS_NAME.toString());
         instanceClassNameElement.setText(quota.getClass().getName());
 
-        instanceElement.setText(new Gson().toJson(quota));
+        IqPayloadCodec.getInstance().writePayload(instanceElement, quota, compressionAccepted);
     }
 }
\ No newline at end of file
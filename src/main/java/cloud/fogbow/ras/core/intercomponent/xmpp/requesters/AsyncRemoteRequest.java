@@ -0,0 +1,8 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncRemoteRequest<T> extends RemoteRequest<T> {
+
+    CompletableFuture<T> sendAsync();
+}
@@ -21,7 +21,7 @@ public class CloseOrderAtRemoteProviderRequest implements RemoteRequest<Void> {
     public Void send() throws Exception {
         IQ iq = CloseOrderAtRemoteProviderRequest.marshall(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getRequester());
         LOGGER.debug(Messages.Log.SUCCESS);
@@ -34,7 +34,7 @@ public class CloseOrderAtRemoteProviderRequest implements RemoteRequest<Void> {
         iq.setID(order.getId());
 
         //marshall order parcel
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_NOTIFY_EVENT.toString());
 
         Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
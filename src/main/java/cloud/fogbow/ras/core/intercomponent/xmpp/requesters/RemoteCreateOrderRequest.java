@@ -3,11 +3,11 @@ package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -25,7 +25,7 @@ public class RemoteCreateOrderRequest implements RemoteRequest<Void> {
     public Void send() throws Exception {
         IQ iq = RemoteCreateOrderRequest.marshal(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getProvider());
         LOGGER.debug(Messages.Log.SUCCESS);
@@ -38,7 +38,7 @@ public class RemoteCreateOrderRequest implements RemoteRequest<Void> {
         iq.setID(order.getId());
 
         //marshalling the order parcel of the IQ. It seems ok to not have another method to do so
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_CREATE_ORDER.toString());
 
         Element orderElement = queryElement.addElement(IqElement.ORDER.toString());
@@ -47,8 +47,8 @@ public class RemoteCreateOrderRequest implements RemoteRequest<Void> {
                 queryElement.addElement(IqElement.ORDER_CLASS_NAME.toString());
         orderClassNameElement.setText(order.getClass().getName());
 
-        String orderJson = new Gson().toJson(order);
-        orderElement.setText(orderJson);
+        IqPayloadCodec codec = IqPayloadCodec.getInstance();
+        codec.writePayload(orderElement, order, codec.acceptsCompression(order.getProvider()));
 
         return iq;
     }
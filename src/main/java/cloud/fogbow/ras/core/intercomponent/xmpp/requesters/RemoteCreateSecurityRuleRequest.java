@@ -6,11 +6,11 @@ import cloud.fogbow.ras.api.parameters.SecurityRule;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -36,7 +36,7 @@ public class RemoteCreateSecurityRuleRequest implements RemoteRequest<Void> {
         IQ iq = marshal();
 
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
         XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
         LOGGER.debug(Messages.Log.SUCCESS);
         return null;
@@ -46,14 +46,14 @@ public class RemoteCreateSecurityRuleRequest implements RemoteRequest<Void> {
         IQ iq = new IQ(IQ.Type.set);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
 
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_CREATE_SECURITY_RULE.toString());
 
         Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
         orderIdElement.setText(majorOrder.getId());
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.getInstance().toJson(systemUser));
 
         Element securityRuleElement = queryElement.addElement(IqElement.SECURITY_RULE.toString());
         securityRuleElement.setText(GsonHolder.getInstance().toJson(securityRule));
@@ -3,11 +3,11 @@ package cloud.fogbow.ras.core.intercomponent.xmpp.requesters;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -25,7 +25,7 @@ public class RemoteDeleteOrderRequest implements RemoteRequest<Void> {
     public Void send() throws Exception {
         IQ iq = RemoteDeleteOrderRequest.marshal(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getProvider());
         LOGGER.debug(Messages.Log.SUCCESS);
@@ -38,7 +38,7 @@ public class RemoteDeleteOrderRequest implements RemoteRequest<Void> {
         iq.setID(order.getId());
 
         // marshalling the order parcel of the IQ. It seems ok to not have another method to do so
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_DELETE_ORDER.toString());
         Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
         orderIdElement.setText(order.getId());
@@ -47,7 +47,7 @@ public class RemoteDeleteOrderRequest implements RemoteRequest<Void> {
         orderTypeElement.setText(order.getType().toString());
 
         Element userElement = iq.getElement().addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(order.getSystemUser()));
+        userElement.setText(IqPayloadCodec.getInstance().toJson(order.getSystemUser()));
 
         return iq;
     }
@@ -4,10 +4,10 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -33,7 +33,7 @@ public class RemoteDeleteSecurityRuleRequest implements RemoteRequest<Void> {
         IQ iq = marshal();
 
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
         XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
         LOGGER.debug(Messages.Log.SUCCESS);
         return null;
@@ -43,14 +43,14 @@ public class RemoteDeleteSecurityRuleRequest implements RemoteRequest<Void> {
         IQ iq = new IQ(IQ.Type.set);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
 
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_DELETE_SECURITY_RULE.toString());
 
         Element cloudNameElement = queryElement.addElement(IqElement.CLOUD_NAME.toString());
         cloudNameElement.setText(cloudName);
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.getInstance().toJson(systemUser));
 
         Element ruleIdElement = queryElement.addElement(IqElement.RULE_ID.toString());
         ruleIdElement.setText(ruleId);
@@ -6,10 +6,10 @@ import cloud.fogbow.ras.api.http.response.ImageSummary;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -33,9 +33,10 @@ public class RemoteGetAllImagesRequest implements RemoteRequest<List<ImageSummar
     public List<ImageSummary> send() throws Exception {
         IQ iq = RemoteGetAllImagesRequest.marshal(this.provider, this.cloudName, this.systemUser);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
+        IqPayloadCodec.getInstance().updateProviderCapabilities(this.provider, response);
         LOGGER.debug(Messages.Log.SUCCESS);
         return unmarshalImages(response);
     }
@@ -44,28 +45,29 @@ public class RemoteGetAllImagesRequest implements RemoteRequest<List<ImageSummar
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
 
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_GET_ALL_IMAGES.toString());
 
         Element cloudNameElement = queryElement.addElement(IqElement.CLOUD_NAME.toString());
         cloudNameElement.setText(cloudName);
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.getInstance().toJson(systemUser));
 
         return iq;
     }
 
     private List<ImageSummary> unmarshalImages(IQ response) throws InternalServerErrorException {
         Element queryElement = response.getElement().element(IqElement.QUERY.toString());
-        String hashMapStr = queryElement.element(IqElement.IMAGE_SUMMARY_LIST.toString()).getText();
+        Element imageSummaryListElement = queryElement.element(IqElement.IMAGE_SUMMARY_LIST.toString());
 
         String instanceClassName = queryElement.element(IqElement.IMAGE_SUMMARY_LIST_CLASS_NAME.toString()).getText();
 
         List<ImageSummary> imageSummaryList;
 
         try {
-            imageSummaryList = (List<ImageSummary>) new Gson().fromJson(hashMapStr, Class.forName(instanceClassName));
+            imageSummaryList = (List<ImageSummary>) IqPayloadCodec.getInstance().readPayload(
+                    imageSummaryListElement, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
@@ -5,11 +5,11 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.api.http.response.SecurityRuleInstance;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -33,9 +33,10 @@ public class RemoteGetAllSecurityRuleRequest implements RemoteRequest<List<Secur
     public List<SecurityRuleInstance> send() throws Exception {
         IQ iq = marshal();
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, provider);
+        IqPayloadCodec.getInstance().updateProviderCapabilities(provider, response);
 
         LOGGER.debug(Messages.Log.SUCCESS);
         return unmarshalSecurityRules(response);
@@ -45,11 +46,11 @@ public class RemoteGetAllSecurityRuleRequest implements RemoteRequest<List<Secur
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
 
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_GET_ALL_SECURITY_RULES.toString());
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.getInstance().toJson(systemUser));
 
         Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
         orderIdElement.setText(orderId);
@@ -59,13 +60,14 @@ public class RemoteGetAllSecurityRuleRequest implements RemoteRequest<List<Secur
 
     private List<SecurityRuleInstance> unmarshalSecurityRules(IQ response) throws InternalServerErrorException {
         Element queryElement = response.getElement().element(IqElement.QUERY.toString());
-        String listStr = queryElement.element(IqElement.SECURITY_RULE_LIST.toString()).getText();
+        Element listElement = queryElement.element(IqElement.SECURITY_RULE_LIST.toString());
 
         String instanceClassName = queryElement.element(IqElement.SECURITY_RULE_LIST_CLASS_NAME.toString()).getText();
 
         List<SecurityRuleInstance> rulesList;
         try {
-            rulesList = (List<SecurityRuleInstance>) new Gson().fromJson(listStr, Class.forName(instanceClassName));
+            rulesList = (List<SecurityRuleInstance>) IqPayloadCodec.getInstance().readPayload(listElement,
+                    instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
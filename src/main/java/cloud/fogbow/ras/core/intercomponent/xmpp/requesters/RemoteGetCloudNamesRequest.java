@@ -5,10 +5,10 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -30,9 +30,10 @@ public class RemoteGetCloudNamesRequest implements RemoteRequest<List<String>> {
     public List<String> send() throws Exception {
         IQ iq = RemoteGetCloudNamesRequest.marshal(this.provider, this.systemUser);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
+        IqPayloadCodec.getInstance().updateProviderCapabilities(this.provider, response);
 
         LOGGER.debug(Messages.Log.SUCCESS);
         return unmarshalImages(response);
@@ -42,25 +43,25 @@ public class RemoteGetCloudNamesRequest implements RemoteRequest<List<String>> {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
 
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_GET_CLOUD_NAMES.toString());
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.getInstance().toJson(systemUser));
 
         return iq;
     }
 
     private List<String> unmarshalImages(IQ response) throws InternalServerErrorException {
         Element queryElement = response.getElement().element(IqElement.QUERY.toString());
-        String listStr = queryElement.element(IqElement.CLOUD_NAMES_LIST.toString()).getText();
+        Element listElement = queryElement.element(IqElement.CLOUD_NAMES_LIST.toString());
 
         String instanceClassName = queryElement.element(IqElement.CLOUD_NAMES_LIST_CLASS_NAME.toString()).getText();
 
         List<String> cloudNamesList;
 
         try {
-            cloudNamesList = (List<String>) new Gson().fromJson(listStr, Class.forName(instanceClassName));
+            cloudNamesList = (List<String>) IqPayloadCodec.getInstance().readPayload(listElement, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
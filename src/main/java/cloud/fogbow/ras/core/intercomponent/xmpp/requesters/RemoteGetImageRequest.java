@@ -6,10 +6,10 @@ import cloud.fogbow.ras.api.http.response.ImageInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -33,8 +33,9 @@ public class RemoteGetImageRequest implements RemoteRequest<ImageInstance> {
     public ImageInstance send() throws Exception {
         IQ iq = marshal(this.provider, this.cloudName, this.imageId, this.systemUser);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
         XmppErrorConditionToExceptionTranslator.handleError(response, this.provider);
+        IqPayloadCodec.getInstance().updateProviderCapabilities(this.provider, response);
         LOGGER.debug(Messages.Log.SUCCESS);
         return unmarshalImage(response);
     }
@@ -43,7 +44,7 @@ public class RemoteGetImageRequest implements RemoteRequest<ImageInstance> {
         IQ iq = new IQ(IQ.Type.get);
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + provider);
 
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_GET_IMAGE.toString());
 
         Element cloudNameElement = queryElement.addElement(IqElement.CLOUD_NAME.toString());
@@ -53,19 +54,19 @@ public class RemoteGetImageRequest implements RemoteRequest<ImageInstance> {
         imageIdElement.setText(imageId);
 
         Element userElement = queryElement.addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(systemUser));
+        userElement.setText(IqPayloadCodec.getInstance().toJson(systemUser));
 
         return iq;
     }
 
     private ImageInstance unmarshalImage(IQ response) throws InternalServerErrorException {
         Element queryElement = response.getElement().element(IqElement.QUERY.toString());
-        String imageStr = queryElement.element(IqElement.IMAGE.toString()).getText();
+        Element imageElement = queryElement.element(IqElement.IMAGE.toString());
 
         String instanceClassName = queryElement.element(IqElement.IMAGE_CLASS_NAME.toString()).getText();
 
         try {
-            return (ImageInstance) new Gson().fromJson(imageStr, Class.forName(instanceClassName));
+            return (ImageInstance) IqPayloadCodec.getInstance().readPayload(imageElement, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
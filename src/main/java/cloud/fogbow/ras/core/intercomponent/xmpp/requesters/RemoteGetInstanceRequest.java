@@ -5,12 +5,12 @@ import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.api.http.response.Instance;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
@@ -29,9 +29,10 @@ public class RemoteGetInstanceRequest implements RemoteRequest<Instance> {
 
         IQ iq = marshal(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
 
         XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getProvider());
+        IqPayloadCodec.getInstance().updateProviderCapabilities(this.order.getProvider(), response);
         OrderInstance instance = unmarshalInstance(response);
         LOGGER.debug(Messages.Log.SUCCESS);
         return instance;
@@ -43,10 +44,10 @@ public class RemoteGetInstanceRequest implements RemoteRequest<Instance> {
 
         //user
         Element userElement = iq.getElement().addElement(IqElement.SYSTEM_USER.toString());
-        userElement.setText(new Gson().toJson(order.getSystemUser()));
+        userElement.setText(IqPayloadCodec.getInstance().toJson(order.getSystemUser()));
 
         //order
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_GET_INSTANCE.toString());
 
         Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
@@ -61,13 +62,13 @@ public class RemoteGetInstanceRequest implements RemoteRequest<Instance> {
     private OrderInstance unmarshalInstance(IQ response) throws InternalServerErrorException {
 
         Element queryElement = response.getElement().element(IqElement.QUERY.toString());
-        String instanceStr = queryElement.element(IqElement.INSTANCE.toString()).getText();
+        Element instanceElement = queryElement.element(IqElement.INSTANCE.toString());
 
         String instanceClassName = queryElement.element(IqElement.INSTANCE_CLASS_NAME.toString()).getText();
 
         OrderInstance instance = null;
         try {
-            instance = (OrderInstance) new Gson().fromJson(instanceStr, Class.forName(instanceClassName));
+            instance = (OrderInstance) IqPayloadCodec.getInstance().readPayload(instanceElement, instanceClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
@@ -4,16 +4,19 @@ import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.intercomponent.xmpp.IqElement;
-import cloud.fogbow.ras.core.intercomponent.xmpp.PacketSenderHolder;
+import cloud.fogbow.ras.core.intercomponent.xmpp.IqPayloadCodec;
 import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteMethod;
+import cloud.fogbow.ras.core.intercomponent.xmpp.RemoteRequestDispatcher;
+import cloud.fogbow.ras.core.intercomponent.xmpp.TimedPacketSender;
 import cloud.fogbow.ras.core.intercomponent.xmpp.XmppErrorConditionToExceptionTranslator;
 import cloud.fogbow.ras.core.models.orders.Order;
-import com.google.gson.Gson;
 import org.apache.log4j.Logger;
 import org.dom4j.Element;
 import org.xmpp.packet.IQ;
 
-public class RemoteGetOrderRequest implements RemoteRequest<Order> {
+import java.util.concurrent.CompletableFuture;
+
+public class RemoteGetOrderRequest implements AsyncRemoteRequest<Order> {
     private static final Logger LOGGER = Logger.getLogger(RemoteGetOrderRequest.class);
 
     private Order order;
@@ -27,12 +30,15 @@ public class RemoteGetOrderRequest implements RemoteRequest<Order> {
 
         IQ iq = marshal(this.order);
         LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
-        IQ response = (IQ) PacketSenderHolder.getPacketSender().syncSendPacket(iq);
+        IQ response = TimedPacketSender.syncSendPacket(iq);
+        return handleResponse(response);
+    }
 
-        XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getProvider());
-        Order order = unmarshalOrder(response);
-        LOGGER.debug(Messages.Log.SUCCESS);
-        return order;
+    @Override
+    public CompletableFuture<Order> sendAsync() {
+        IQ iq = marshal(this.order);
+        LOGGER.debug(String.format(Messages.Log.SENDING_MSG_S, iq.getID()));
+        return RemoteRequestDispatcher.getInstance().dispatch(iq, this::handleResponse);
     }
 
     public static IQ marshal(Order order) {
@@ -40,7 +46,7 @@ public class RemoteGetOrderRequest implements RemoteRequest<Order> {
         iq.setTo(SystemConstants.JID_SERVICE_NAME + SystemConstants.JID_CONNECTOR + SystemConstants.XMPP_SERVER_NAME_PREFIX + order.getProvider());
 
         //order
-        Element queryElement = iq.getElement().addElement(IqElement.QUERY.toString(),
+        Element queryElement = IqPayloadCodec.getInstance().addQueryElement(iq,
                 RemoteMethod.REMOTE_GET_ORDER.toString());
 
         Element orderIdElement = queryElement.addElement(IqElement.ORDER_ID.toString());
@@ -49,16 +55,24 @@ public class RemoteGetOrderRequest implements RemoteRequest<Order> {
         return iq;
     }
 
+    private Order handleResponse(IQ response) throws Exception {
+        XmppErrorConditionToExceptionTranslator.handleError(response, this.order.getProvider());
+        IqPayloadCodec.getInstance().updateProviderCapabilities(this.order.getProvider(), response);
+        Order order = unmarshalOrder(response);
+        LOGGER.debug(Messages.Log.SUCCESS);
+        return order;
+    }
+
     private Order unmarshalOrder(IQ response) throws InternalServerErrorException {
 
         Element queryElement = response.getElement().element(IqElement.QUERY.toString());
-        String orderStr = queryElement.element(IqElement.ORDER.toString()).getText();
+        Element orderElement = queryElement.element(IqElement.ORDER.toString());
 
         String orderClassName = queryElement.element(IqElement.ORDER_CLASS_NAME.toString()).getText();
 
         Order order = null;
         try {
-            order = (Order) new Gson().fromJson(orderStr, Class.forName(orderClassName));
+            order = (Order) IqPayloadCodec.getInstance().readPayload(orderElement, orderClassName);
         } catch (Exception e) {
             throw new InternalServerErrorException(e.getMessage());
         }
@@ -0,0 +1,33 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.api.http.response.MetricStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * A value that is read from its source when the gauge is read, such as the size of a list.
+ */
+public class Gauge extends Metric implements GaugeMXBean {
+    public static final String TYPE = "gauge";
+
+    private final LongSupplier supplier;
+
+    public Gauge(String name, Map<String, String> tags, LongSupplier supplier) {
+        super(name, tags);
+        this.supplier = supplier;
+    }
+
+    @Override
+    public long getValue() {
+        return this.supplier.getAsLong();
+    }
+
+    @Override
+    public MetricStatus getStatus() {
+        Map<String, Number> values = new LinkedHashMap<>();
+        values.put(MetricStatus.VALUE, getValue());
+        return new MetricStatus(getName(), TYPE, getTags(), values);
+    }
+}
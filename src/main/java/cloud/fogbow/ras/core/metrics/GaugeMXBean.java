@@ -0,0 +1,5 @@
+package cloud.fogbow.ras.core.metrics;
+
+public interface GaugeMXBean {
+    long getValue();
+}
@@ -0,0 +1,95 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.api.http.response.MetricStatus;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts events and estimates their rate, in events per second, as an exponentially weighted moving average over
+ * the last minute. The average is updated in ticks of five seconds, lazily, by whichever thread marks or reads
+ * the meter after a tick has elapsed, so no timer thread is needed.
+ */
+public class Meter extends Metric implements MeterMXBean {
+    public static final String TYPE = "meter";
+
+    private static final long TICK_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+    private static final double TICK_SECONDS = 5.0;
+    private static final double ALPHA = 1 - Math.exp(-TICK_SECONDS / TimeUnit.MINUTES.toSeconds(1));
+
+    private final LongAdder count;
+    private final LongAdder uncounted;
+    private final AtomicLong lastTick;
+    // the fields below are only written by the thread that wins the tick
+    private volatile double rate;
+    private volatile boolean initialized;
+
+    public Meter(String name, Map<String, String> tags) {
+        super(name, tags);
+        this.count = new LongAdder();
+        this.uncounted = new LongAdder();
+        this.lastTick = new AtomicLong(getNanoTime());
+    }
+
+    public void mark() {
+        mark(1);
+    }
+
+    public void mark(long events) {
+        tickIfNecessary();
+        this.count.add(events);
+        this.uncounted.add(events);
+    }
+
+    @Override
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    @Override
+    public double getRate() {
+        tickIfNecessary();
+        return this.rate;
+    }
+
+    @Override
+    public MetricStatus getStatus() {
+        Map<String, Number> values = new LinkedHashMap<>();
+        values.put(MetricStatus.COUNT, getCount());
+        values.put(MetricStatus.RATE, getRate());
+        return new MetricStatus(getName(), TYPE, getTags(), values);
+    }
+
+    @VisibleForTesting
+    long getNanoTime() {
+        return System.nanoTime();
+    }
+
+    private void tickIfNecessary() {
+        long oldTick = this.lastTick.get();
+        long age = getNanoTime() - oldTick;
+        if (age < TICK_INTERVAL) {
+            return;
+        }
+        long newTick = oldTick + age - age % TICK_INTERVAL;
+        if (this.lastTick.compareAndSet(oldTick, newTick)) {
+            for (long ticks = age / TICK_INTERVAL; ticks > 0; ticks--) {
+                tick();
+            }
+        }
+    }
+
+    private void tick() {
+        double instantRate = this.uncounted.sumThenReset() / TICK_SECONDS;
+        if (this.initialized) {
+            this.rate += ALPHA * (instantRate - this.rate);
+        } else {
+            this.rate = instantRate;
+            this.initialized = true;
+        }
+    }
+}
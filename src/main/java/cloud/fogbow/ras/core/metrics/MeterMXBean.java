@@ -0,0 +1,7 @@
+package cloud.fogbow.ras.core.metrics;
+
+public interface MeterMXBean {
+    long getCount();
+
+    double getRate();
+}
@@ -0,0 +1,26 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.api.http.response.MetricStatus;
+
+import java.util.Collections;
+import java.util.Map;
+
+public abstract class Metric {
+    private final String name;
+    private final Map<String, String> tags;
+
+    protected Metric(String name, Map<String, String> tags) {
+        this.name = name;
+        this.tags = Collections.unmodifiableMap(tags);
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Map<String, String> getTags() {
+        return this.tags;
+    }
+
+    public abstract MetricStatus getStatus();
+}
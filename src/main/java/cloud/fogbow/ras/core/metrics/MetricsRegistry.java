@@ -0,0 +1,171 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.api.http.response.MetricStatus;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Holds the metrics of the RAS. A metric is identified by its name and tags, given as alternating keys and
+ * values, and is created the first time it is asked for; later requests return the same metric, so callers may
+ * either keep it or look it up on every use. The metrics are listed by the monitoring endpoint and, unless
+ * disabled, also registered as MXBeans under the cloud.fogbow.ras JMX domain.
+ */
+public class MetricsRegistry {
+    private static final Logger LOGGER = Logger.getLogger(MetricsRegistry.class);
+
+    public static final String ORDERS_LIST_SIZE = "orders.list.size";
+    public static final String ORDER_TIME_IN_STATE = "order.time.in.state";
+    public static final String ORDER_TRANSITION_TIME = "order.transition.time";
+    public static final String ORDERS_SLOW = "orders.slow";
+    public static final String PROCESSOR_SWEEP = "processor.sweep";
+    public static final String PROCESSOR_ORDERS = "processor.orders";
+    public static final String CLOUD_REQUEST = "cloud.request";
+    public static final String DATABASE_WRITE = "database.write";
+    public static final String HTTP_POOL_AVAILABLE = "http.pool.available";
+    public static final String HTTP_POOL_LEASED = "http.pool.leased";
+    public static final String HTTP_POOL_PENDING = "http.pool.pending";
+    public static final String XMPP_REQUEST = "xmpp.request";
+
+    public static final String CLOUD_TAG = "cloud";
+    public static final String LIST_TAG = "list";
+    public static final String METHOD_TAG = "method";
+    public static final String OPERATION_TAG = "operation";
+    public static final String PROCESSOR_TAG = "processor";
+    public static final String RESOURCE_TYPE_TAG = "resourceType";
+    public static final String STATE_TAG = "state";
+    public static final String TRANSITION_TAG = "transition";
+
+    private static final String JMX_DOMAIN = "cloud.fogbow.ras";
+    private static final String JMX_TYPE_KEY = "type";
+    private static final String JMX_NAME_KEY = "name";
+
+    private static MetricsRegistry instance;
+
+    private final ConcurrentMap<String, Metric> metrics;
+    private final boolean jmxEnabled;
+
+    @VisibleForTesting
+    MetricsRegistry(boolean jmxEnabled) {
+        this.metrics = new ConcurrentHashMap<>();
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            boolean jmxEnabled = Boolean.parseBoolean(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.METRICS_JMX_ENABLED_KEY,
+                    ConfigurationPropertyDefaults.METRICS_JMX_ENABLED));
+            instance = new MetricsRegistry(jmxEnabled);
+        }
+        return instance;
+    }
+
+    public Timer timer(String name, String... tags) {
+        return getOrCreate(Timer.class, name, tags, tagMap -> new Timer(name, tagMap));
+    }
+
+    public Meter meter(String name, String... tags) {
+        return getOrCreate(Meter.class, name, tags, tagMap -> new Meter(name, tagMap));
+    }
+
+    /**
+     * Registers a gauge that reads its value from the supplier. Registering a gauge again has no effect, so the
+     * supplier of the first registration is kept.
+     */
+    public Gauge registerGauge(String name, LongSupplier supplier, String... tags) {
+        return getOrCreate(Gauge.class, name, tags, tagMap -> new Gauge(name, tagMap, supplier));
+    }
+
+    public List<MetricStatus> getMetricsStatus() {
+        List<String> keys = new ArrayList<>(this.metrics.keySet());
+        Collections.sort(keys);
+        List<MetricStatus> statusList = new ArrayList<>();
+        for (String key : keys) {
+            statusList.add(this.metrics.get(key).getStatus());
+        }
+        return statusList;
+    }
+
+    private <T extends Metric> T getOrCreate(Class<T> type, String name, String[] tags,
+                                             Function<Map<String, String>, T> factory) {
+        String key = buildKey(name, tags);
+        Metric metric = this.metrics.get(key);
+        if (metric == null) {
+            T newMetric = factory.apply(toTagMap(tags));
+            metric = this.metrics.putIfAbsent(key, newMetric);
+            if (metric == null) {
+                metric = newMetric;
+                registerInJmx(newMetric);
+            }
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException(key);
+        }
+        return type.cast(metric);
+    }
+
+    private void registerInJmx(Metric metric) {
+        if (!this.jmxEnabled) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = buildObjectName(metric);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(metric, objectName);
+            }
+        } catch (JMException e) {
+            LOGGER.warn(String.format(Messages.Log.UNABLE_TO_REGISTER_METRIC_S_IN_JMX, metric.getName()), e);
+        }
+    }
+
+    private ObjectName buildObjectName(Metric metric) throws JMException {
+        StringBuilder objectName = new StringBuilder(JMX_DOMAIN).append(':')
+                .append(JMX_TYPE_KEY).append('=').append(metric.getClass().getSimpleName()).append(',')
+                .append(JMX_NAME_KEY).append('=').append(ObjectName.quote(metric.getName()));
+        for (Map.Entry<String, String> tag : metric.getTags().entrySet()) {
+            objectName.append(',').append(tag.getKey()).append('=').append(ObjectName.quote(tag.getValue()));
+        }
+        return new ObjectName(objectName.toString());
+    }
+
+    private static String buildKey(String name, String[] tags) {
+        if (tags.length == 0) {
+            return name;
+        }
+        StringBuilder key = new StringBuilder(name).append('{');
+        for (int i = 0; i + 1 < tags.length; i += 2) {
+            key.append(i == 0 ? "" : ",").append(tags[i]).append('=').append(tags[i + 1]);
+        }
+        return key.append('}').toString();
+    }
+
+    private static Map<String, String> toTagMap(String[] tags) {
+        if (tags.length % 2 != 0) {
+            throw new IllegalArgumentException(String.join(",", tags));
+        }
+        Map<String, String> tagMap = new LinkedHashMap<>();
+        for (int i = 0; i < tags.length; i += 2) {
+            tagMap.put(tags[i], String.valueOf(tags[i + 1]));
+        }
+        return tagMap;
+    }
+}
@@ -0,0 +1,194 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.api.http.response.SlowOrderStatus;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.SharedOrderHolders;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Follows the state changes of the orders to time, for each cloud and resource type, how long the orders take to
+ * be fulfilled since they were opened and to be closed since they were assigned for deletion, and to flag the
+ * orders that stay longer than a threshold in the states they are not expected to linger in, such as SELECTED,
+ * SPAWNING and CHECKING_DELETION.
+ *
+ * Only the start of the transitions in progress is kept apart; the time in the current state is read from the
+ * active orders themselves, so finding the slowest orders needs no bookkeeping beyond the orders.
+ */
+public class OrderLatencyTracker {
+    private static final Logger LOGGER = Logger.getLogger(OrderLatencyTracker.class);
+
+    private static final String THRESHOLDS_SEPARATOR = ",";
+    private static final String THRESHOLD_STATE_SEPARATOR = ":";
+    private static final String TRANSITION_SEPARATOR = "->";
+
+    // the state each timed transition starts from, and the state it ends at
+    private static final Map<OrderState, OrderState> TIMED_TRANSITIONS = new EnumMap<>(OrderState.class);
+
+    static {
+        TIMED_TRANSITIONS.put(OrderState.OPEN, OrderState.FULFILLED);
+        TIMED_TRANSITIONS.put(OrderState.ASSIGNED_FOR_DELETION, OrderState.CLOSED);
+    }
+
+    private static OrderLatencyTracker instance;
+
+    private final Map<OrderState, Long> thresholds;
+    // order id -> the start of the timed transition the order is going through
+    private final Map<String, TransitionStart> transitionStarts;
+
+    @VisibleForTesting
+    OrderLatencyTracker(Map<OrderState, Long> thresholds) {
+        this.thresholds = thresholds;
+        this.transitionStarts = new ConcurrentHashMap<>();
+    }
+
+    public static synchronized OrderLatencyTracker getInstance() {
+        if (instance == null) {
+            String thresholds = PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.SLOW_ORDER_THRESHOLDS_KEY,
+                    ConfigurationPropertyDefaults.SLOW_ORDER_THRESHOLDS);
+            instance = new OrderLatencyTracker(loadThresholds(thresholds));
+            MetricsRegistry.getInstance().registerGauge(MetricsRegistry.ORDERS_SLOW, instance::countSlowOrders);
+        }
+        return instance;
+    }
+
+    /**
+     * Must be called, holding the lock of the order, before the state of the order is changed.
+     *
+     * @param order the order, still in its previous state.
+     * @param newState the state the order is moving to.
+     * @param now the time of the change, in milliseconds.
+     */
+    public void recordStateChange(Order order, OrderState newState, long now) {
+        OrderState oldState = order.getOrderState();
+        if (oldState == null) {
+            return;
+        }
+        String orderId = order.getId();
+        long timeInState = now - order.getStateChangeTime();
+        Long threshold = this.thresholds.get(oldState);
+        if (threshold != null && timeInState > threshold) {
+            LOGGER.warn(String.format(Messages.Log.ORDER_S_SPENT_S_MS_IN_STATE_S_OVER_THRESHOLD_S_MS, orderId,
+                    timeInState, oldState, threshold));
+        }
+
+        if (TIMED_TRANSITIONS.containsKey(oldState)) {
+            this.transitionStarts.put(orderId, new TransitionStart(oldState, order.getStateChangeTime()));
+        }
+        TransitionStart start = this.transitionStarts.get(orderId);
+        if (start != null && TIMED_TRANSITIONS.get(start.state) == newState) {
+            this.transitionStarts.remove(orderId);
+            MetricsRegistry.getInstance().timer(MetricsRegistry.ORDER_TRANSITION_TIME,
+                    MetricsRegistry.CLOUD_TAG, String.valueOf(order.getCloudName()),
+                    MetricsRegistry.RESOURCE_TYPE_TAG, String.valueOf(order.getType()),
+                    MetricsRegistry.TRANSITION_TAG, start.state + TRANSITION_SEPARATOR + newState)
+                    .record(now - start.time);
+        } else if (newState == OrderState.CLOSED) {
+            this.transitionStarts.remove(orderId);
+        }
+    }
+
+    /**
+     * @return the active orders that have been the longest in the states with a threshold, the slowest first.
+     */
+    public List<SlowOrderStatus> getSlowestOrders(int limit) {
+        return getSlowestOrders(SharedOrderHolders.getInstance().getActiveOrdersMap().values(), limit,
+                System.currentTimeMillis());
+    }
+
+    @VisibleForTesting
+    List<SlowOrderStatus> getSlowestOrders(Collection<Order> orders, int limit, long now) {
+        Comparator<SlowOrderStatus> byTimeInState = Comparator.comparingLong(SlowOrderStatus::getTimeInState);
+        // keeps the slowest orders seen so far, the fastest of them at the head
+        PriorityQueue<SlowOrderStatus> slowestOrders = new PriorityQueue<>(byTimeInState);
+        for (Order order : orders) {
+            OrderState state = order.getOrderState();
+            Long threshold = state == null ? null : this.thresholds.get(state);
+            if (threshold == null) {
+                continue;
+            }
+            slowestOrders.add(new SlowOrderStatus(order.getId(), order.getProvider(), order.getCloudName(),
+                    String.valueOf(order.getType()), state.name(), now - order.getStateChangeTime(), threshold));
+            if (slowestOrders.size() > limit) {
+                slowestOrders.poll();
+            }
+        }
+        List<SlowOrderStatus> statusList = new ArrayList<>(slowestOrders);
+        statusList.sort(Collections.reverseOrder(byTimeInState));
+        return statusList;
+    }
+
+    @VisibleForTesting
+    long countSlowOrders(Collection<Order> orders, long now) {
+        long slowOrders = 0;
+        for (Order order : orders) {
+            OrderState state = order.getOrderState();
+            Long threshold = state == null ? null : this.thresholds.get(state);
+            if (threshold != null && now - order.getStateChangeTime() > threshold) {
+                slowOrders++;
+            }
+        }
+        return slowOrders;
+    }
+
+    private long countSlowOrders() {
+        return countSlowOrders(SharedOrderHolders.getInstance().getActiveOrdersMap().values(),
+                System.currentTimeMillis());
+    }
+
+    /**
+     * The tracker is created on the first state change of an order, so malformed thresholds are logged and
+     * replaced with the defaults rather than failing every state change.
+     */
+    @VisibleForTesting
+    static Map<OrderState, Long> loadThresholds(String thresholds) {
+        try {
+            return parseThresholds(thresholds);
+        } catch (IllegalArgumentException e) {
+            LOGGER.error(String.format(Messages.Log.INVALID_SLOW_ORDER_THRESHOLDS_S, thresholds), e);
+            return parseThresholds(ConfigurationPropertyDefaults.SLOW_ORDER_THRESHOLDS);
+        }
+    }
+
+    @VisibleForTesting
+    static Map<OrderState, Long> parseThresholds(String thresholds) {
+        Map<OrderState, Long> parsedThresholds = new EnumMap<>(OrderState.class);
+        for (String threshold : thresholds.split(THRESHOLDS_SEPARATOR)) {
+            if (threshold.trim().isEmpty()) {
+                continue;
+            }
+            String[] stateAndTime = threshold.split(THRESHOLD_STATE_SEPARATOR);
+            if (stateAndTime.length != 2) {
+                throw new IllegalArgumentException(threshold);
+            }
+            parsedThresholds.put(OrderState.valueOf(stateAndTime[0].trim()), Long.parseLong(stateAndTime[1].trim()));
+        }
+        return parsedThresholds;
+    }
+
+    private static class TransitionStart {
+        private final OrderState state;
+        private final long time;
+
+        private TransitionStart(OrderState state, long time) {
+            this.state = state;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package cloud.fogbow.ras.core.metrics;
+
+/**
+ * Records the sweeps of a processor over its order list: the duration of each sweep that found orders to
+ * process, and the rate at which orders are processed. A recorder is used by the processor thread only.
+ */
+public class ProcessorSweepRecorder {
+    private final Timer sweepTimer;
+    private final Meter ordersMeter;
+    private long sweepStartTime;
+    private int sweepOrders;
+
+    public ProcessorSweepRecorder(String processor) {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        this.sweepTimer = registry.timer(MetricsRegistry.PROCESSOR_SWEEP, MetricsRegistry.PROCESSOR_TAG, processor);
+        this.ordersMeter = registry.meter(MetricsRegistry.PROCESSOR_ORDERS, MetricsRegistry.PROCESSOR_TAG, processor);
+        startSweep();
+    }
+
+    public void startSweep() {
+        this.sweepStartTime = System.currentTimeMillis();
+        this.sweepOrders = 0;
+    }
+
+    public void recordOrder() {
+        this.sweepOrders++;
+        this.ordersMeter.mark();
+    }
+
+    public void endSweep() {
+        if (this.sweepOrders > 0) {
+            this.sweepTimer.record(System.currentTimeMillis() - this.sweepStartTime);
+        }
+    }
+}
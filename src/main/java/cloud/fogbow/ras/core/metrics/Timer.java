@@ -0,0 +1,143 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.api.http.response.MetricStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records durations, in milliseconds, and how many of the timed operations failed. The distribution is kept in
+ * fixed buckets whose bounds grow in a 1-2-5 sequence, so recording is a few uncontended additions and the
+ * percentiles are reported as the upper bound of the bucket they fall in; the exact maximum is kept apart.
+ */
+public class Timer extends Metric implements TimerMXBean {
+    public static final String TYPE = "timer";
+
+    private static final long[] BUCKET_BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000,
+            20000, 50000, 100000, 200000, 500000};
+
+    // the last bucket counts the durations longer than the last bound
+    private final LongAdder[] buckets;
+    private final LongAdder count;
+    private final LongAdder errors;
+    private final LongAdder sum;
+    private final LongAccumulator max;
+
+    public Timer(String name, Map<String, String> tags) {
+        super(name, tags);
+        this.buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+        for (int i = 0; i < this.buckets.length; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+        this.count = new LongAdder();
+        this.errors = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0);
+    }
+
+    public void record(long duration) {
+        record(duration, false);
+    }
+
+    /**
+     * @param duration the duration of the operation, in milliseconds.
+     * @param error whether the operation failed.
+     */
+    public void record(long duration, boolean error) {
+        duration = Math.max(0, duration);
+        this.buckets[findBucket(duration)].increment();
+        this.count.increment();
+        this.sum.add(duration);
+        this.max.accumulate(duration);
+        if (error) {
+            this.errors.increment();
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    @Override
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) this.sum.sum() / count;
+    }
+
+    @Override
+    public long getMax() {
+        return this.max.get();
+    }
+
+    @Override
+    public long getP50() {
+        return getPercentile(0.50);
+    }
+
+    @Override
+    public long getP95() {
+        return getPercentile(0.95);
+    }
+
+    @Override
+    public long getP99() {
+        return getPercentile(0.99);
+    }
+
+    /**
+     * @param quantile a number between 0 and 1.
+     * @return the upper bound of the bucket that holds the quantile, or the maximum if it is lower; 0 if nothing
+     * has been recorded.
+     */
+    public long getPercentile(double quantile) {
+        long[] counts = new long[this.buckets.length];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long max = getMax();
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.min(BUCKET_BOUNDS[i], max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public MetricStatus getStatus() {
+        Map<String, Number> values = new LinkedHashMap<>();
+        values.put(MetricStatus.COUNT, getCount());
+        values.put(MetricStatus.ERRORS, getErrors());
+        values.put(MetricStatus.MEAN, getMean());
+        values.put(MetricStatus.MAX, getMax());
+        values.put(MetricStatus.P50, getP50());
+        values.put(MetricStatus.P95, getP95());
+        values.put(MetricStatus.P99, getP99());
+        return new MetricStatus(getName(), TYPE, getTags(), values);
+    }
+
+    private int findBucket(long duration) {
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            if (duration <= BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS.length;
+    }
+}
@@ -0,0 +1,17 @@
+package cloud.fogbow.ras.core.metrics;
+
+public interface TimerMXBean {
+    long getCount();
+
+    long getErrors();
+
+    double getMean();
+
+    long getMax();
+
+    long getP50();
+
+    long getP95();
+
+    long getP99();
+}
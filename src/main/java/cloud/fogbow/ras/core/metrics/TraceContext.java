@@ -0,0 +1,55 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import org.apache.log4j.MDC;
+
+import java.util.UUID;
+
+/**
+ * Holds the trace ID of the request being handled by the current thread, which is also put in the log4j MDC so
+ * that it can be logged with %X{traceId}. The ID is received in the header of a REST request, or generated for it
+ * when tracing is enabled; it is then kept in the orders the request creates and sent along with the requests to
+ * remote providers, so that the log lines of both providers can be correlated.
+ */
+public class TraceContext {
+    public static final String TRACE_ID_MDC_KEY = "traceId";
+
+    private static final ThreadLocal<String> TRACE_ID = new ThreadLocal<>();
+
+    private static Boolean enabled;
+
+    public static synchronized boolean isEnabled() {
+        if (enabled == null) {
+            enabled = Boolean.parseBoolean(PropertiesHolder.getInstance().getProperty(
+                    ConfigurationPropertyKeys.TRACING_ENABLED_KEY, ConfigurationPropertyDefaults.TRACING_ENABLED));
+        }
+        return enabled;
+    }
+
+    public static String generateTraceId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public static String getTraceId() {
+        return TRACE_ID.get();
+    }
+
+    /**
+     * @param traceId the trace ID of the current request; null or empty clears it.
+     */
+    public static void setTraceId(String traceId) {
+        if (traceId == null || traceId.isEmpty()) {
+            clear();
+            return;
+        }
+        TRACE_ID.set(traceId);
+        MDC.put(TRACE_ID_MDC_KEY, traceId);
+    }
+
+    public static void clear() {
+        TRACE_ID.remove();
+        MDC.remove(TRACE_ID_MDC_KEY);
+    }
+}
@@ -10,6 +10,7 @@ public enum ResourceType {
     SECURITY_RULE("securityRule"),
     CLOUD_NAME("cloudName"),
     QUOTA("quota"),
+    MONITORING("monitoring"),
     INVALID_RESOURCE("invalidResource");
 
     private String value;
@@ -0,0 +1,188 @@
+package cloud.fogbow.ras.core.models.linkedlists;
+
+import cloud.fogbow.ras.core.models.orders.Order;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Order list that can be concurrently walked by several consumers, each one with its own {@link Cursor},
+ * while other threads add and remove orders.
+ *
+ * Orders are kept in a singly linked chain of nodes. Insertion appends a node by swapping the tail reference
+ * (wait-free), and removal looks up the node through an index keyed by the order id (O(1)) and marks it as
+ * removed. Removed nodes are skipped by the cursors and are physically unlinked later, by a compaction pass
+ * that runs when the number of removed nodes still linked grows larger than the number of live ones. Neither
+ * insertions nor removals hold a lock that would block the consumers walking the list.
+ *
+ * The getNext() and resetPointer() methods operate on a default cursor, and keep the semantics of the
+ * lists previously used by the processors: getNext() returns null when the end of the list is reached, and
+ * resetPointer() moves the cursor back to the beginning of the list.
+ */
+public class ConcurrentOrderList<T extends Order> {
+
+    private static final int COMPACTION_THRESHOLD = 64;
+
+    private final Node<T> head;
+    private final AtomicReference<Node<T>> tail;
+    private final Map<String, Node<T>> index;
+    private final AtomicInteger unlinkedRemovals;
+    private final AtomicBoolean compacting;
+    private final Cursor<T> defaultCursor;
+
+    public ConcurrentOrderList() {
+        this.head = new Node<>(null);
+        this.tail = new AtomicReference<>(this.head);
+        this.index = new ConcurrentHashMap<>();
+        this.unlinkedRemovals = new AtomicInteger();
+        this.compacting = new AtomicBoolean();
+        this.defaultCursor = newCursor();
+    }
+
+    public void addItem(T item) {
+        Node<T> node = new Node<>(item);
+        Node<T> previous = this.index.put(item.getId(), node);
+        if (previous != null) {
+            // Only the most recent node of an order is kept active.
+            markRemoved(previous);
+        }
+        Node<T> predecessor = this.tail.getAndSet(node);
+        predecessor.next = node;
+    }
+
+    public boolean removeItem(T item) {
+        return removeItemById(item.getId());
+    }
+
+    public boolean removeItemById(String orderId) {
+        Node<T> node = this.index.remove(orderId);
+        if (node == null) {
+            return false;
+        }
+        return markRemoved(node);
+    }
+
+    public T findItemById(String orderId) {
+        Node<T> node = this.index.get(orderId);
+        return node == null ? null : node.item;
+    }
+
+    public boolean contains(T item) {
+        return this.index.containsKey(item.getId());
+    }
+
+    public int size() {
+        return this.index.size();
+    }
+
+    public boolean isEmpty() {
+        return this.index.isEmpty();
+    }
+
+    public T getNext() {
+        return this.defaultCursor.getNext();
+    }
+
+    public void resetPointer() {
+        this.defaultCursor.resetPointer();
+    }
+
+    /**
+     * Creates a new cursor positioned at the beginning of the list. Each cursor must be used by a single
+     * consumer at a time, but different cursors can walk the list concurrently.
+     *
+     * @return a new {@link Cursor}
+     */
+    public Cursor<T> newCursor() {
+        return new Cursor<>(this.head);
+    }
+
+    private boolean markRemoved(Node<T> node) {
+        if (!node.removed.compareAndSet(false, true)) {
+            return false;
+        }
+        int pending = this.unlinkedRemovals.incrementAndGet();
+        if (pending >= COMPACTION_THRESHOLD && pending > this.index.size()) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Unlinks the removed nodes from the chain. Only one thread compacts the list at a time; the other threads
+     * simply move on. A removed node is only unlinked when its successor is already known, so that a node
+     * being appended concurrently is never lost. Cursors positioned on unlinked nodes can still move forward,
+     * since the next reference of a node always points to a node that was appended later.
+     */
+    private void compact() {
+        if (!this.compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Node<T> predecessor = this.head;
+            Node<T> current = predecessor.next;
+            while (current != null) {
+                Node<T> successor = current.next;
+                if (current.removed.get() && successor != null) {
+                    if (predecessor.casNext(current, successor)) {
+                        this.unlinkedRemovals.decrementAndGet();
+                    }
+                } else {
+                    predecessor = current;
+                }
+                current = successor;
+            }
+        } finally {
+            this.compacting.set(false);
+        }
+    }
+
+    public static class Cursor<T extends Order> {
+        private final Node<T> head;
+        private Node<T> current;
+
+        private Cursor(Node<T> head) {
+            this.head = head;
+            this.current = head;
+        }
+
+        public synchronized T getNext() {
+            Node<T> node = this.current.next;
+            while (node != null && node.removed.get()) {
+                node = node.next;
+            }
+            if (node == null) {
+                return null;
+            }
+            this.current = node;
+            return node.item;
+        }
+
+        public synchronized void resetPointer() {
+            this.current = this.head;
+        }
+    }
+
+    private static class Node<T extends Order> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+        private final T item;
+        private final AtomicBoolean removed;
+        private volatile Node<T> next;
+
+        private Node(T item) {
+            this.item = item;
+            this.removed = new AtomicBoolean();
+        }
+
+        private boolean casNext(Node<T> expected, Node<T> update) {
+            return NEXT_UPDATER.compareAndSet(this, expected, update);
+        }
+    }
+}
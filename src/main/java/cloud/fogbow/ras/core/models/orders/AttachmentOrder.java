@@ -4,6 +4,7 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.models.ResourceType;
 import org.apache.log4j.Logger;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -13,6 +14,7 @@ import javax.validation.constraints.Size;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "attachment_order_table")
 public class AttachmentOrder extends Order<AttachmentOrder> {
     private static final long serialVersionUID = 1L;
@@ -37,6 +39,13 @@ public class AttachmentOrder extends Order<AttachmentOrder> {
     @Column
     private String volumeOrderId;
 
+    // the embedded orders are looked up once, and their instance ids and states are then read from them
+    @Transient
+    private transient volatile ComputeOrder computeOrder;
+
+    @Transient
+    private transient volatile VolumeOrder volumeOrder;
+
     public AttachmentOrder() {
         this(UUID.randomUUID().toString());
         this.type = ResourceType.ATTACHMENT;
@@ -65,7 +74,7 @@ public class AttachmentOrder extends Order<AttachmentOrder> {
     }
 
     public String getComputeId() {
-        ComputeOrder computeOrder = (ComputeOrder) SharedOrderHolders.getInstance().getActiveOrdersMap().get(this.computeOrderId);
+        ComputeOrder computeOrder = getComputeOrder();
         if (computeOrder == null) {
             return null;
         } else {
@@ -74,7 +83,7 @@ public class AttachmentOrder extends Order<AttachmentOrder> {
     }
 
     public String getVolumeId() {
-        VolumeOrder volumeOrder = (VolumeOrder) SharedOrderHolders.getInstance().getActiveOrdersMap().get(this.volumeOrderId);
+        VolumeOrder volumeOrder = getVolumeOrder();
         if (volumeOrder == null) {
             return null;
         } else {
@@ -82,6 +91,30 @@ public class AttachmentOrder extends Order<AttachmentOrder> {
         }
     }
 
+    /**
+     * @return the active compute order of the attachment, or null if it is not active.
+     */
+    public ComputeOrder getComputeOrder() {
+        ComputeOrder computeOrder = this.computeOrder;
+        if (computeOrder == null || computeOrder.getOrderState() == OrderState.CLOSED) {
+            computeOrder = (ComputeOrder) findActiveOrder(this.computeOrderId);
+            this.computeOrder = computeOrder;
+        }
+        return computeOrder;
+    }
+
+    /**
+     * @return the active volume order of the attachment, or null if it is not active.
+     */
+    public VolumeOrder getVolumeOrder() {
+        VolumeOrder volumeOrder = this.volumeOrder;
+        if (volumeOrder == null || volumeOrder.getOrderState() == OrderState.CLOSED) {
+            volumeOrder = (VolumeOrder) findActiveOrder(this.volumeOrderId);
+            this.volumeOrder = volumeOrder;
+        }
+        return volumeOrder;
+    }
+
     public String getDevice() {
         return this.device;
     }
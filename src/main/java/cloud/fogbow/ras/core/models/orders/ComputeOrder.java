@@ -1,17 +1,19 @@
 package cloud.fogbow.ras.core.models.orders;
 
 import cloud.fogbow.common.models.SystemUser;
-import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.UserData;
+import cloud.fogbow.ras.api.http.response.NetworkSummary;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
 import org.apache.log4j.Logger;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import javax.validation.constraints.Size;
 import java.util.*;
 
 @Entity
+@DynamicUpdate
 @Table(name = "compute_order_table")
 public class ComputeOrder extends Order<ComputeOrder> {
     private static final long serialVersionUID = 1L;
@@ -58,6 +60,10 @@ public class ComputeOrder extends Order<ComputeOrder> {
     @ElementCollection(fetch = FetchType.EAGER)
     private List<String> networkOrderIds;
 
+    // the network orders are looked up once, and their instance ids and states are then read from them
+    @Transient
+    private transient volatile EmbeddedNetworks embeddedNetworks;
+
     public ComputeOrder() {
         this(UUID.randomUUID().toString());
         this.type = ResourceType.COMPUTE;
@@ -104,6 +110,7 @@ public class ComputeOrder extends Order<ComputeOrder> {
     }
 
     public void setActualAllocation(ComputeAllocation actualAllocation) {
+        markDirtyIfChanged(this.actualAllocation, actualAllocation);
         this.actualAllocation = actualAllocation;
     }
 
@@ -136,6 +143,7 @@ public class ComputeOrder extends Order<ComputeOrder> {
     }
 
     public void setUserData(ArrayList<UserData> userData) {
+        markDirtyIfChanged(this.userData, userData);
         this.userData = userData;
     }
 
@@ -160,15 +168,18 @@ public class ComputeOrder extends Order<ComputeOrder> {
         return Collections.unmodifiableList(networkIds);
     }
 
+    /**
+     * @return the network orders of the compute, with null in the place of those that are not active.
+     */
     public List<NetworkOrder> getNetworkOrders() {
-        if (this.networkOrderIds == null) return Collections.unmodifiableList(new LinkedList<>());
+        return getEmbeddedNetworks().orders;
+    }
 
-        List<NetworkOrder> networkOrders = new LinkedList<>();
-        for (String orderId : this.networkOrderIds) {
-            Order networkOrder = SharedOrderHolders.getInstance().getActiveOrdersMap().get(orderId);
-            networkOrders.add((NetworkOrder) networkOrder);
-        }
-        return Collections.unmodifiableList(networkOrders);
+    /**
+     * @return the ids and names of the active network orders of the compute, as shown in its instance.
+     */
+    public List<NetworkSummary> getNetworkSummaries() {
+        return getEmbeddedNetworks().summaries;
     }
 
     public List<String> getNetworkOrderIds() {
@@ -183,4 +194,54 @@ public class ComputeOrder extends Order<ComputeOrder> {
         this.setActualAllocation(remoteOrder.getActualAllocation());
         this.setOnceFaultMessage(remoteOrder.getFaultMessage());
     }
+
+    private EmbeddedNetworks getEmbeddedNetworks() {
+        EmbeddedNetworks embeddedNetworks = this.embeddedNetworks;
+        if (embeddedNetworks == null || embeddedNetworks.isOutdated()) {
+            embeddedNetworks = new EmbeddedNetworks(getNetworkOrderIds());
+            this.embeddedNetworks = embeddedNetworks;
+        }
+        return embeddedNetworks;
+    }
+
+    private static class EmbeddedNetworks {
+        private final List<NetworkOrder> orders;
+        private final List<NetworkSummary> summaries;
+        // the networks that were not active when the others were found: they may be closed, or, while the orders
+        // are recovered at startup, not loaded yet
+        private final List<String> missingOrderIds;
+
+        private EmbeddedNetworks(List<String> networkOrderIds) {
+            List<NetworkOrder> orders = new ArrayList<>(networkOrderIds.size());
+            List<NetworkSummary> summaries = new ArrayList<>(networkOrderIds.size());
+            List<String> missingOrderIds = new ArrayList<>();
+            for (String orderId : networkOrderIds) {
+                NetworkOrder networkOrder = (NetworkOrder) findActiveOrder(orderId);
+                orders.add(networkOrder);
+                if (networkOrder == null) {
+                    missingOrderIds.add(orderId);
+                } else {
+                    summaries.add(new NetworkSummary(networkOrder.getId(), networkOrder.getName()));
+                }
+            }
+            this.orders = Collections.unmodifiableList(orders);
+            this.summaries = Collections.unmodifiableList(summaries);
+            this.missingOrderIds = missingOrderIds;
+        }
+
+        // only the missing networks are looked up again, not the ones already found
+        private boolean isOutdated() {
+            for (NetworkOrder networkOrder : this.orders) {
+                if (networkOrder != null && networkOrder.getOrderState() == OrderState.CLOSED) {
+                    return true;
+                }
+            }
+            for (String orderId : this.missingOrderIds) {
+                if (findActiveOrder(orderId) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
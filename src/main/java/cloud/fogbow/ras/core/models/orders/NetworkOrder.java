@@ -4,12 +4,14 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.core.models.NetworkAllocationMode;
 import cloud.fogbow.ras.core.models.ResourceType;
 import org.apache.log4j.Logger;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import javax.validation.constraints.Size;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "network_order_table")
 public class NetworkOrder extends Order<NetworkOrder> {
     private static final long serialVersionUID = 1L;
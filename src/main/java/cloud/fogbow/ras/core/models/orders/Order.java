@@ -5,16 +5,23 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.common.util.GsonHolder;
 import cloud.fogbow.common.util.SerializedEntityHolder;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.metrics.MetricsRegistry;
+import cloud.fogbow.ras.core.metrics.OrderLatencyTracker;
 import cloud.fogbow.ras.core.models.ResourceType;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import javax.persistence.*;
 import javax.validation.constraints.Size;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 @Entity
+@DynamicUpdate
 @Inheritance(strategy = InheritanceType.JOINED)
 @Table(name = "order_table")
 public abstract class Order<T extends Order> implements Serializable {
@@ -24,6 +31,7 @@ public abstract class Order<T extends Order> implements Serializable {
     protected static final String PROVIDER_COLUMN_NAME = "provider";
     protected static final String CLOUD_NAME_COLUMN_NAME = "cloud_name";
     protected static final String INSTANCE_ID_COLUMN_NAME = "instance_id";
+    protected static final String SECURITY_GROUP_ID_COLUMN_NAME = "security_group_id";
 
     public static final int FIELDS_MAX_SIZE = 255;
     public static final int ID_FIXED_SIZE = 36; // UUID size
@@ -56,6 +64,12 @@ public abstract class Order<T extends Order> implements Serializable {
     @Size(max = FIELDS_MAX_SIZE)
     private String instanceId;
 
+    // the ID, in the cloud, of the group the security rules of a network or public IP order are added to, kept
+    // so that it is not looked up by name on every request; null until the plugin of the cloud learns it
+    @Column(name = SECURITY_GROUP_ID_COLUMN_NAME)
+    @Size(max = FIELDS_MAX_SIZE)
+    private String securityGroupId;
+
     @Transient
     private Map<String, String> requirements = new HashMap<>();
 
@@ -82,6 +96,23 @@ public abstract class Order<T extends Order> implements Serializable {
     @Size(max = FIELDS_MAX_SIZE)
     private String faultMessage;
 
+    // whether a persisted field has changed since the order was last written to the stable storage
+    @Transient
+    private transient boolean dirty;
+
+    // incremented on every state change, so that a result obtained for an older state can be told apart
+    @Transient
+    private transient long version;
+
+    // when the order entered its current state; for an order recovered from the stable storage, it is seeded from
+    // its latest registered state change
+    @Transient
+    private transient long stateChangeTime = System.currentTimeMillis();
+
+    // the trace ID of the request that created the order, sent along with the requests to a remote provider
+    @Transient
+    private transient String traceId;
+
     public Order() {
     }
 
@@ -118,16 +149,75 @@ public abstract class Order<T extends Order> implements Serializable {
     }
 
     public void setOrderState(OrderState state) throws InternalServerErrorException {
-        LOGGER.debug(String.format(Messages.Log.ORDER_S_CHANGED_STATE_TO_S, this.getId(), state));
+        boolean orderStateChanged = !state.equals(this.orderState);
+        if (orderStateChanged) {
+            LOGGER.debug(String.format(Messages.Log.ORDER_S_CHANGED_STATE_TO_S, this.getId(), state));
+            recordTimeInState(state);
+            this.version++;
+        }
         this.orderState = state;
         DatabaseManager databaseManager = DatabaseManager.getInstance();
         if (state.equals(OrderState.OPEN)) {
             // Adding in stable storage newly created order
             databaseManager.add(this);
         } else {
-            // Updating in stable storage already existing order
-            databaseManager.update(this);
+            // Updating in stable storage already existing order; nothing is written if neither the state nor
+            // any other persisted field has changed
+            databaseManager.update(this, orderStateChanged);
+        }
+    }
+
+    /**
+     * @return the number of state changes of the order since it was activated or loaded; it must be read while
+     * holding the lock of the order.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    private void recordTimeInState(OrderState newState) {
+        long now = System.currentTimeMillis();
+        if (this.orderState != null) {
+            MetricsRegistry.getInstance().timer(MetricsRegistry.ORDER_TIME_IN_STATE,
+                    MetricsRegistry.STATE_TAG, this.orderState.name()).record(now - this.stateChangeTime);
+            OrderLatencyTracker.getInstance().recordStateChange(this, newState, now);
         }
+        this.stateChangeTime = now;
+    }
+
+    public long getStateChangeTime() {
+        return this.stateChangeTime;
+    }
+
+    public void setStateChangeTime(long stateChangeTime) {
+        this.stateChangeTime = stateChangeTime;
+    }
+
+    public String getTraceId() {
+        return this.traceId;
+    }
+
+    public void setTraceId(String traceId) {
+        this.traceId = traceId;
+    }
+
+    public boolean isDirty() {
+        return this.dirty;
+    }
+
+    public void clearDirty() {
+        this.dirty = false;
+    }
+
+    protected void markDirtyIfChanged(Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            this.dirty = true;
+        }
+    }
+
+    // the orders embedded in other orders (ex. the compute of an attachment) are resolved among the active orders
+    protected static Order findActiveOrder(String orderId) {
+        return orderId == null ? null : SharedOrderHolders.getInstance().getActiveOrdersMap().get(orderId);
     }
 
     public SystemUser getSystemUser() {
@@ -143,6 +233,7 @@ public abstract class Order<T extends Order> implements Serializable {
     }
 
     public void setRequester(String requester) {
+        markDirtyIfChanged(this.requester, requester);
         this.requester = requester;
     }
 
@@ -151,6 +242,7 @@ public abstract class Order<T extends Order> implements Serializable {
     }
 
     public void setProvider(String provider) {
+        markDirtyIfChanged(this.provider, provider);
         this.provider = provider;
     }
 
@@ -159,6 +251,7 @@ public abstract class Order<T extends Order> implements Serializable {
     }
 
     public void setCloudName(String cloudName) {
+        markDirtyIfChanged(this.cloudName, cloudName);
         this.cloudName = cloudName;
     }
 
@@ -167,9 +260,19 @@ public abstract class Order<T extends Order> implements Serializable {
     }
 
     public void setInstanceId(String instanceId) {
+        markDirtyIfChanged(this.instanceId, instanceId);
         this.instanceId = instanceId;
     }
 
+    public String getSecurityGroupId() {
+        return this.securityGroupId;
+    }
+
+    public void setSecurityGroupId(String securityGroupId) {
+        markDirtyIfChanged(this.securityGroupId, securityGroupId);
+        this.securityGroupId = securityGroupId;
+    }
+
     public Map<String, String> getRequirements() {
         return requirements;
     }
@@ -191,7 +294,10 @@ public abstract class Order<T extends Order> implements Serializable {
     }
 
     public void setOnceFaultMessage(String faultMessage) {
-        if (this.faultMessage == null) this.faultMessage = faultMessage;
+        if (this.faultMessage == null) {
+            markDirtyIfChanged(null, faultMessage);
+            this.faultMessage = faultMessage;
+        }
     }
 
     private void setSerializedSystemUser(String serializedSystemUser) {
@@ -4,12 +4,14 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.models.ResourceType;
 import org.apache.log4j.Logger;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import javax.validation.constraints.Size;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "public_ip_order_table")
 public class PublicIpOrder extends Order<PublicIpOrder> {
     private static final long serialVersionUID = 1L;
@@ -21,6 +23,10 @@ public class PublicIpOrder extends Order<PublicIpOrder> {
     @Column
     private String computeOrderId;
 
+    // the compute order is looked up once, and its instance id and state are then read from it
+    @Transient
+    private transient volatile ComputeOrder computeOrder;
+
     public PublicIpOrder() {
         this(UUID.randomUUID().toString());
         this.type = ResourceType.PUBLIC_IP;
@@ -43,7 +49,7 @@ public class PublicIpOrder extends Order<PublicIpOrder> {
     }
 
     public String getComputeId() {
-        ComputeOrder computeOrder = (ComputeOrder) SharedOrderHolders.getInstance().getActiveOrdersMap().get(this.computeOrderId);
+        ComputeOrder computeOrder = getComputeOrder();
         if (computeOrder == null) {
             return null;
         } else {
@@ -51,8 +57,21 @@ public class PublicIpOrder extends Order<PublicIpOrder> {
         }
     }
 
+    /**
+     * @return the active compute order of the public IP, or null if it is not active.
+     */
+    public ComputeOrder getComputeOrder() {
+        ComputeOrder computeOrder = this.computeOrder;
+        if (computeOrder == null || computeOrder.getOrderState() == OrderState.CLOSED) {
+            computeOrder = (ComputeOrder) findActiveOrder(this.computeOrderId);
+            this.computeOrder = computeOrder;
+        }
+        return computeOrder;
+    }
+
     public void setComputeOrderId(String computeOrderId) {
         this.computeOrderId = computeOrderId;
+        this.computeOrder = null;
     }
 
     public String getComputeOrderId() {
@@ -4,12 +4,14 @@ import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.VolumeAllocation;
 import cloud.fogbow.ras.core.models.ResourceType;
 import org.apache.log4j.Logger;
+import org.hibernate.annotations.DynamicUpdate;
 
 import javax.persistence.*;
 import javax.validation.constraints.Size;
 import java.util.UUID;
 
 @Entity
+@DynamicUpdate
 @Table(name = "volume_order_table")
 public class VolumeOrder extends Order<VolumeOrder> {
     private static final long serialVersionUID = 1L;
@@ -69,6 +71,7 @@ public class VolumeOrder extends Order<VolumeOrder> {
     }
     
     public void setActualAllocation(VolumeAllocation actualAllocation) {
+        markDirtyIfChanged(this.actualAllocation, actualAllocation);
         this.actualAllocation = actualAllocation;
     }
     
@@ -159,13 +159,11 @@ public class AwsV2CloudUtil {
 
     public static List<Volume> getInstanceVolumes(Instance instance, Ec2Client client) throws FogbowException {
         List<Volume> volumes = new ArrayList<>();
-        DescribeVolumesRequest request;
-        DescribeVolumesResponse response;
-
         List<String> volumeIds = AwsV2CloudUtil.getVolumeIds(instance);
-        for (String volumeId : volumeIds) {
-            request = DescribeVolumesRequest.builder().volumeIds(volumeId).build();
-            response = AwsV2CloudUtil.doDescribeVolumesRequest(request, client);
+        if (!volumeIds.isEmpty()) {
+            // all the volumes of the instance are described by a single request
+            DescribeVolumesRequest request = DescribeVolumesRequest.builder().volumeIds(volumeIds).build();
+            DescribeVolumesResponse response = AwsV2CloudUtil.doDescribeVolumesRequest(request, client);
             volumes.addAll(response.volumes());
         }
         return volumes;
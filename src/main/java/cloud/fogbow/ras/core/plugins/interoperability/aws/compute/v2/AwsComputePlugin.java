@@ -89,6 +89,7 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     private String flavorsFilePath;
     private String region;
     private TreeSet<AwsHardwareRequirements> flavors;
+    private Map<String, Integer> instanceTypesMemory;
     private LaunchCommandGenerator launchCommandGenerator;
 
     public AwsComputePlugin(String confFilePath) {
@@ -114,7 +115,6 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     public ComputeInstance getInstance(ComputeOrder computeOrder, AwsV2User cloudUser) throws FogbowException {
         LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, computeOrder.getInstanceId()));
         Ec2Client client = AwsV2ClientUtil.createEc2Client(cloudUser.getToken(), this.region);
-        updateHardwareRequirements(cloudUser);
         String instanceId = computeOrder.getInstanceId();
         return doGetInstance(instanceId, client);
     }
@@ -160,7 +160,7 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     }
 	
     @VisibleForTesting
-    ComputeInstance buildComputeInstance(Instance instance, List<Volume> volumes) {
+    ComputeInstance buildComputeInstance(Instance instance, List<Volume> volumes) throws FogbowException {
         String id = instance.instanceId();
         String cloudState = instance.state().nameAsString();
         String name = instance.tags().listIterator().next().value();
@@ -234,13 +234,32 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
     }
 
     @VisibleForTesting
-    int getMemoryValueFrom(InstanceType instanceType) {
-        for (AwsHardwareRequirements flavor : getFlavors()) {
-            if (flavor.getName().equals(instanceType.toString())) {
-                return flavor.getRam();
+    int getMemoryValueFrom(InstanceType instanceType) throws ConfigurationErrorException {
+        Integer memory = getInstanceTypesMemory().get(instanceType.toString());
+        return memory != null ? memory : 0;
+    }
+
+    /**
+     * The memory of each instance type does not depend on the images of the
+     * user, thus it is read from the flavor file only once, instead of
+     * rebuilding the set of flavors every time an instance is retrieved.
+     *
+     * @return a map from the name of each instance type to its memory, in MB.
+     * @throws ConfigurationErrorException: if the flavor file cannot be read.
+     */
+    @VisibleForTesting
+    synchronized Map<String, Integer> getInstanceTypesMemory() throws ConfigurationErrorException {
+        if (this.instanceTypesMemory == null) {
+            Map<String, Integer> instanceTypesMemory = new HashMap<String, Integer>();
+            for (String line : loadLinesFromFlavorFile()) {
+                if (!line.startsWith(COMMENTED_LINE_PREFIX)) {
+                    String[] requirements = line.split(CSV_COLUMN_SEPARATOR);
+                    instanceTypesMemory.put(requirements[INSTANCE_TYPE_COLUMN], getMemoryFrom(requirements));
+                }
             }
+            this.instanceTypesMemory = instanceTypesMemory;
         }
-        return 0;
+        return this.instanceTypesMemory;
     }
 
     @VisibleForTesting
@@ -471,17 +490,19 @@ public class AwsComputePlugin implements ComputePlugin<AwsV2User> {
         String name = requirements[INSTANCE_TYPE_COLUMN];
         String flavorId = generateFlavorId();
         int cpu = Integer.parseInt(requirements[VCPU_COLUMN]);
-
-        double memoryInGB = Double.parseDouble(requirements[MEMORY_COLUMN]);
-        double memoryInMB = BinaryUnit.gigabytes(memoryInGB).asMegabytes();
-        int memory = Double.valueOf(memoryInMB).intValue();
-
+        int memory = getMemoryFrom(requirements);
         int disk = imageEntry.getValue();
         String imageId = imageEntry.getKey();
         Map<String, String> requirementsMap = loadRequirementsMap(requirements);
         return new AwsHardwareRequirements(name, flavorId, cpu, memory, disk, imageId, requirementsMap);
     }
 
+    private int getMemoryFrom(String[] requirements) {
+        double memoryInGB = Double.parseDouble(requirements[MEMORY_COLUMN]);
+        double memoryInMB = BinaryUnit.gigabytes(memoryInGB).asMegabytes();
+        return Double.valueOf(memoryInMB).intValue();
+    }
+
     @VisibleForTesting
     Map<String, String> loadRequirementsMap(String[] requirements) {
         Map<String, String> requirementsMap = new HashMap<String, String>();
@@ -0,0 +1,235 @@
+package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
+
+import cloud.fogbow.common.exceptions.UnacceptableOperationException;
+import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import com.microsoft.azure.management.Azure;
+import com.microsoft.azure.management.resources.ResourceGroup;
+import org.apache.log4j.Logger;
+import rx.Completable;
+import rx.subjects.AsyncSubject;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handles the resource groups of an Azure subscription for all the plugins that use it. The existence of the
+ * groups is cached for a while, and updated by the creations and deletions done through the manager. Concurrent
+ * creations of the same group share a single call to the cloud. Deletions are queued and sent in batches by a
+ * single scheduler thread, shared by all the subscriptions, instead of one subscription per order; each deletion
+ * still reports its own outcome.
+ */
+public class AzureResourceGroupManager {
+
+    private static final Logger LOGGER = Logger.getLogger(AzureResourceGroupManager.class);
+
+    @VisibleForTesting
+    static final long TIME_TO_LIVE = 300000;
+    @VisibleForTesting
+    static final long DELETION_INTERVAL = 1000;
+
+    private static final Map<String, AzureResourceGroupManager> managers = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService deletionScheduler;
+
+    private final Map<String, Existence> existences;
+    private final Map<String, CompletableFuture<String>> creations;
+    // the groups waiting to be deleted
+    private Map<String, PendingDeletion> pendingDeletions;
+
+    @VisibleForTesting
+    AzureResourceGroupManager() {
+        this.existences = new ConcurrentHashMap<>();
+        this.creations = new ConcurrentHashMap<>();
+        this.pendingDeletions = new HashMap<>();
+    }
+
+    /**
+     * @return the manager of the subscription of the client, or null if the client has no subscription id to
+     * match it with the other clients of its subscription.
+     */
+    public static AzureResourceGroupManager getInstance(Azure azure) {
+        String subscriptionId = azure.subscriptionId();
+        if (subscriptionId == null) {
+            return null;
+        }
+        return managers.computeIfAbsent(subscriptionId, key -> {
+            startDeletionScheduler();
+            return new AzureResourceGroupManager();
+        });
+    }
+
+    public boolean exists(Azure azure, String resourceGroupName) {
+        long currentTime = getCurrentTime();
+        Existence existence = this.existences.get(resourceGroupName);
+        if (existence == null || currentTime - existence.updateTime >= TIME_TO_LIVE) {
+            existence = new Existence(checkExistence(azure, resourceGroupName), currentTime);
+            // a creation or deletion that finished during the check is more recent than its result
+            existence = this.existences.merge(resourceGroupName, existence,
+                    (cached, checked) -> cached.updateTime > checked.updateTime ? cached : checked);
+        }
+        return existence.exists;
+    }
+
+    /**
+     * Creates the group, or waits for a creation of the same group that is already in progress.
+     *
+     * @return the name of the created group.
+     */
+    public String create(Azure azure, String regionName, String resourceGroupName)
+            throws UnacceptableOperationException {
+
+        CompletableFuture<String> creation = new CompletableFuture<>();
+        CompletableFuture<String> ongoingCreation = this.creations.putIfAbsent(resourceGroupName, creation);
+        if (ongoingCreation != null) {
+            return await(ongoingCreation);
+        }
+        try {
+            String name = createResourceGroup(azure, regionName, resourceGroupName);
+            this.existences.put(resourceGroupName, new Existence(true, getCurrentTime()));
+            creation.complete(name);
+            return name;
+        } catch (UnacceptableOperationException | RuntimeException e) {
+            creation.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.creations.remove(resourceGroupName, creation);
+        }
+    }
+
+    /**
+     * The group is queued for deletion when the returned completable is subscribed, and the completable ends
+     * along with the deletion of the group, which is sent in the next batch. Repeated requests to delete a group
+     * still queued share its deletion.
+     */
+    public Completable deleteAsync(Azure azure, String resourceGroupName) {
+        return Completable.defer(() -> {
+            synchronized (this) {
+                PendingDeletion deletion = this.pendingDeletions.computeIfAbsent(resourceGroupName,
+                        key -> new PendingDeletion(azure));
+                return deletion.completion.toCompletable();
+            }
+        });
+    }
+
+    public static boolean checkExistence(Azure azure, String resourceGroupName) {
+        return azure.resourceGroups().checkExistence(resourceGroupName);
+    }
+
+    public static String createResourceGroup(Azure azure, String regionName, String resourceGroupName)
+            throws UnacceptableOperationException {
+        try {
+            ResourceGroup resourceGroup = azure.resourceGroups()
+                    .define(resourceGroupName)
+                    .withRegion(regionName)
+                    .create();
+
+            return resourceGroup.name();
+        } catch (RuntimeException e) {
+            LOGGER.debug(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e));
+            throw new UnacceptableOperationException(Messages.Exception.RESOURCE_GROUP_LIMIT_EXCEEDED);
+        }
+    }
+
+    public static Completable deleteResourceGroup(Azure azure, String resourceGroupName) {
+        return azure.resourceGroups().deleteByNameAsync(resourceGroupName);
+    }
+
+    @VisibleForTesting
+    void deletePendingGroups() {
+        Map<String, PendingDeletion> deletions;
+        synchronized (this) {
+            if (this.pendingDeletions.isEmpty()) {
+                return;
+            }
+            deletions = this.pendingDeletions;
+            this.pendingDeletions = new HashMap<>();
+        }
+        LOGGER.info(String.format(Messages.Log.DELETING_RESOURCE_GROUPS_S, deletions.keySet()));
+
+        for (Map.Entry<String, PendingDeletion> entry : deletions.entrySet()) {
+            String resourceGroupName = entry.getKey();
+            AsyncSubject<Void> completion = entry.getValue().completion;
+            try {
+                deleteResourceGroup(entry.getValue().azure, resourceGroupName)
+                        .doOnCompleted(() -> this.existences.put(resourceGroupName,
+                                new Existence(false, getCurrentTime())))
+                        .doOnError(error -> this.existences.remove(resourceGroupName))
+                        .subscribe(completion::onCompleted, completion::onError);
+            } catch (RuntimeException e) {
+                // the other deletions of the batch must still be sent
+                this.existences.remove(resourceGroupName);
+                completion.onError(e);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    private static synchronized void startDeletionScheduler() {
+        if (deletionScheduler == null) {
+            deletionScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, AzureResourceGroupManager.class.getSimpleName());
+                thread.setDaemon(true);
+                return thread;
+            });
+            deletionScheduler.scheduleWithFixedDelay(AzureResourceGroupManager::deletePendingGroupsOfAllManagers,
+                    DELETION_INTERVAL, DELETION_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void deletePendingGroupsOfAllManagers() {
+        for (AzureResourceGroupManager manager : managers.values()) {
+            try {
+                manager.deletePendingGroups();
+            } catch (RuntimeException e) {
+                // an exception would stop the scheduler from running again
+                LOGGER.error(String.format(Messages.Log.UNEXPECTED_ERROR_WITH_MESSAGE_S, e.getMessage()), e);
+            }
+        }
+    }
+
+    private String await(CompletableFuture<String> creation) throws UnacceptableOperationException {
+        try {
+            return creation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnacceptableOperationException(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e));
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UnacceptableOperationException) {
+                throw (UnacceptableOperationException) cause;
+            }
+            throw (RuntimeException) cause;
+        }
+    }
+
+    private static class PendingDeletion {
+        // the client to delete the group with
+        private final Azure azure;
+        private final AsyncSubject<Void> completion;
+
+        private PendingDeletion(Azure azure) {
+            this.azure = azure;
+            this.completion = AsyncSubject.create();
+        }
+    }
+
+    private static class Existence {
+        private final boolean exists;
+        private final long updateTime;
+
+        private Existence(boolean exists, long updateTime) {
+            this.exists = exists;
+            this.updateTime = updateTime;
+        }
+    }
+}
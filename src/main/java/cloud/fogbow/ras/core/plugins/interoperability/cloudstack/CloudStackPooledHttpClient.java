@@ -0,0 +1,25 @@
+package cloud.fogbow.ras.core.plugins.interoperability.cloudstack;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.CloudStackUser;
+import cloud.fogbow.common.util.connectivity.cloud.cloudstack.CloudStackHttpClient;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransport;
+import org.apache.http.client.methods.HttpGet;
+
+/**
+ * A CloudStack client that sends its requests through the pooled transport of the cloud, instead of opening a
+ * connection for each request. The requests are authenticated by the signature in their URLs.
+ */
+public class CloudStackPooledHttpClient extends CloudStackHttpClient {
+
+    private final CloudHttpTransport transport;
+
+    public CloudStackPooledHttpClient(CloudHttpTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public String doGetRequest(String url, CloudStackUser cloudUser) throws FogbowException {
+        return this.transport.execute(new HttpGet(url));
+    }
+}
@@ -19,6 +19,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackState
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.attachment.model.*;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.GetVolumeRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.GetVolumeResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -37,7 +38,7 @@ public class CloudStackAttachmentPlugin implements AttachmentPlugin<CloudStackUs
     private String cloudStackUrl;
 
     public CloudStackAttachmentPlugin(String confFilePath) {
-        this.client = new CloudStackHttpClient();
+        this.client = CloudHttpTransportRegistry.getInstance().getCloudStackHttpClient(confFilePath);
         Properties properties = PropertiesUtil.readProperties(confFilePath);
         this.cloudStackUrl = properties.getProperty(CloudStackCloudUtils.CLOUDSTACK_URL_CONFIG);
     }
@@ -22,6 +22,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.GetAllDiskOfferingsResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.GetVolumeRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.GetVolumeResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import cloud.fogbow.ras.core.plugins.interoperability.util.DefaultLaunchCommandGenerator;
 import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandGenerator;
 import com.google.common.annotations.VisibleForTesting;
@@ -69,7 +70,7 @@ public class CloudStackComputePlugin implements ComputePlugin<CloudStackUser> {
         this.expungeOnDestroy = properties.getProperty(
                 EXPUNGE_ON_DESTROY_KEY_CONF, DEFAULT_EXPUNGE_ON_DEPLOY_VALUE);
         this.defaultNetworkId = properties.getProperty(CloudStackCloudUtils.DEFAULT_NETWORK_ID_KEY);
-        this.client = new CloudStackHttpClient();
+        this.client = CloudHttpTransportRegistry.getInstance().getCloudStackHttpClient(confFilePath);
         this.launchCommandGenerator = new DefaultLaunchCommandGenerator();
     }
 
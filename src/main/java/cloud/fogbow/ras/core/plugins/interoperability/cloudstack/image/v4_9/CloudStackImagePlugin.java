@@ -13,6 +13,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.ImagePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackCloudUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.image.model.GetAllImagesRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.image.model.GetAllImagesResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.log4j.Logger;
@@ -37,7 +38,7 @@ public class CloudStackImagePlugin implements ImagePlugin<CloudStackUser> {
     public CloudStackImagePlugin(String confFilePath) {
         Properties properties = PropertiesUtil.readProperties(confFilePath);
         this.cloudStackUrl = properties.getProperty(CloudStackCloudUtils.CLOUDSTACK_URL_CONFIG);
-        this.client = new CloudStackHttpClient();
+        this.client = CloudHttpTransportRegistry.getInstance().getCloudStackHttpClient(confFilePath);
     }
 
     @Override
@@ -17,6 +17,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.NetworkPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackCloudUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.network.model.*;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.net.util.SubnetUtils;
 import org.apache.http.client.utils.URIBuilder;
@@ -39,7 +40,7 @@ public class CloudStackNetworkPlugin implements NetworkPlugin<CloudStackUser> {
         this.cloudStackUrl = this.properties.getProperty(CloudStackCloudUtils.CLOUDSTACK_URL_CONFIG);
         this.networkOfferingId = properties.getProperty(CloudStackCloudUtils.NETWORK_OFFERING_ID_CONFIG);
         this.zoneId = properties.getProperty(CloudStackCloudUtils.ZONE_ID_CONFIG);
-        this.client = new CloudStackHttpClient();
+        this.client = CloudHttpTransportRegistry.getInstance().getCloudStackHttpClient(confFilePath);
     }
 
     @Override
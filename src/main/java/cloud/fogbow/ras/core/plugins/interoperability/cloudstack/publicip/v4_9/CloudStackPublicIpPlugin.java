@@ -17,6 +17,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackState
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.publicip.model.*;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.quota.model.ListPublicIpAddressRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.quota.model.ListPublicIpAddressResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -46,7 +47,7 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
         Properties properties = PropertiesUtil.readProperties(confFilePath);
         this.cloudStackUrl = properties.getProperty(CloudStackCloudUtils.CLOUDSTACK_URL_CONFIG);
         this.defaultNetworkId = properties.getProperty(CloudStackCloudUtils.DEFAULT_NETWORK_ID_KEY);
-        this.client = new CloudStackHttpClient();
+        this.client = CloudHttpTransportRegistry.getInstance().getCloudStackHttpClient(confFilePath);
     }
 
     @Override
@@ -148,6 +149,8 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
         }
 
         if (asyncRequestInstanceState.isReady()) {
+            // the firewall rules of the order are added to the IP address, whose ID is kept in the order
+            publicIpOrder.setSecurityGroupId(asyncRequestInstanceState.getIpInstanceId());
             return createReadyPublicIpInstance(asyncRequestInstanceState, cloudStackUser);
         } else {
             return createCurrentPublicIpInstance(asyncRequestInstanceState, publicIpOrder, cloudStackUser);
@@ -436,6 +439,7 @@ public class CloudStackPublicIpPlugin implements PublicIpPlugin<CloudStackUser>
 
     // TODO(chico) - This method will be removed after the Cloudstack Security Rule PR is accepted.
     public static String getPublicIpId(String orderId) {
-        return asyncRequestInstanceStateMap.get(orderId).getIpInstanceId();
+        AsyncRequestInstanceState asyncRequestInstanceState = asyncRequestInstanceStateMap.get(orderId);
+        return asyncRequestInstanceState == null ? null : asyncRequestInstanceState.getIpInstanceId();
     }
 }
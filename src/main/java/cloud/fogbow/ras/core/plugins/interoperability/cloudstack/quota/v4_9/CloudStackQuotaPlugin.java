@@ -29,6 +29,7 @@ import cloud.fogbow.common.models.CloudStackUser;
 import cloud.fogbow.ras.api.http.response.quotas.ResourceQuota;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.plugins.interoperability.QuotaPlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 
 import java.util.List;
 import java.util.Properties;
@@ -54,7 +55,7 @@ public class CloudStackQuotaPlugin implements QuotaPlugin<CloudStackUser> {
     public CloudStackQuotaPlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
         this.cloudStackUrl = this.properties.getProperty(CLOUDSTACK_URL);
-        this.client = new CloudStackHttpClient();
+        this.client = CloudHttpTransportRegistry.getInstance().getCloudStackHttpClient(confFilePath);
     }
 
     @Override
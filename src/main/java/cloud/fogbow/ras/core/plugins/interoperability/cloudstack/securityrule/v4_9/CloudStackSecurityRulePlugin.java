@@ -2,6 +2,7 @@ package cloud.fogbow.ras.core.plugins.interoperability.cloudstack.securityrule.v
 
 import cloud.fogbow.common.constants.CloudStackConstants;
 import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InvalidParameterException;
 import cloud.fogbow.common.exceptions.UnavailableProviderException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
@@ -25,6 +26,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.securi
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.securityrule.model.DeleteFirewallRuleResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.securityrule.model.ListFirewallRulesRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.securityrule.model.ListFirewallRulesResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.log4j.Logger;
@@ -42,7 +44,7 @@ public class CloudStackSecurityRulePlugin implements SecurityRulePlugin<CloudSta
     public CloudStackSecurityRulePlugin(String confFilePath) {
         Properties properties = PropertiesUtil.readProperties(confFilePath);
         this.cloudStackUrl = properties.getProperty(CloudStackCloudUtils.CLOUDSTACK_URL_CONFIG);
-        this.client = new CloudStackHttpClient();
+        this.client = CloudHttpTransportRegistry.getInstance().getCloudStackHttpClient(confFilePath);
     }
 
     @Override
@@ -58,7 +60,7 @@ public class CloudStackSecurityRulePlugin implements SecurityRulePlugin<CloudSta
         String portFrom = Integer.toString(securityRule.getPortFrom());
         String portTo = Integer.toString(securityRule.getPortTo());
         String protocol = securityRule.getProtocol().toString();
-        String publicIpId = CloudStackPublicIpPlugin.getPublicIpId(majorOrder.getId());
+        String publicIpId = getPublicIpId(majorOrder);
         CreateFirewallRuleRequest request = new CreateFirewallRuleRequest.Builder()
                 .protocol(protocol)
                 .startPort(portFrom)
@@ -98,7 +100,7 @@ public class CloudStackSecurityRulePlugin implements SecurityRulePlugin<CloudSta
 
         switch (majorOrder.getType()) {
             case PUBLIC_IP:
-                String publicIpId = CloudStackPublicIpPlugin.getPublicIpId(majorOrder.getId());
+                String publicIpId = getPublicIpId(majorOrder);
                 return getFirewallRules(publicIpId, cloudStackUser);
             case NETWORK:
                 return new ArrayList<>();
@@ -108,6 +110,23 @@ public class CloudStackSecurityRulePlugin implements SecurityRulePlugin<CloudSta
         }
     }
 
+    /**
+     * Returns the ID of the IP address the firewall rules of the order are added to. The ID is kept in the order,
+     * and is only taken from the state of the public IP plugin when the order does not have it yet.
+     */
+    @VisibleForTesting
+    String getPublicIpId(Order majorOrder) throws InstanceNotFoundException {
+        String publicIpId = majorOrder.getSecurityGroupId();
+        if (publicIpId == null) {
+            publicIpId = CloudStackPublicIpPlugin.getPublicIpId(majorOrder.getId());
+            if (publicIpId == null) {
+                throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
+            }
+            majorOrder.setSecurityGroupId(publicIpId);
+        }
+        return publicIpId;
+    }
+
     @VisibleForTesting
     void doDeleteInstance(DeleteFirewallRuleRequest request,
                           CloudStackUser cloudStackUser)
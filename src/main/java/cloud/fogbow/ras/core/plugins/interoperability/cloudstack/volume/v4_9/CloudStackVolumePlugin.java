@@ -19,6 +19,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackCloud
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackStateMapper;
 
 import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.sdk.v4_9.volume.model.*;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import com.google.common.annotations.VisibleForTesting;
 
 import org.apache.http.client.utils.URIBuilder;
@@ -43,7 +44,7 @@ public class CloudStackVolumePlugin implements VolumePlugin<CloudStackUser> {
         Properties properties = PropertiesUtil.readProperties(confFilePath);
         this.cloudStackUrl = properties.getProperty(CloudStackCloudUtils.CLOUDSTACK_URL_CONFIG);
         this.zoneId = properties.getProperty(CloudStackCloudUtils.ZONE_ID_CONFIG);
-        this.client = new CloudStackHttpClient();
+        this.client = CloudHttpTransportRegistry.getInstance().getCloudStackHttpClient(confFilePath);
     }
 
     @Override
@@ -17,6 +17,26 @@ public class EmulatedCloudConstants {
 
         public static final String QUOTA_NETWORKS_KEY = "quota_networks";
         public static final String QUOTA_PUBLIC_IP_KEY = "quota_public_ips";
+
+        public static final String LATENCY_DISTRIBUTION_KEY = "latency_distribution";
+        public static final String LATENCY_CREATE_KEY = "latency_create";
+        public static final String LATENCY_GET_KEY = "latency_get";
+        public static final String LATENCY_DELETE_KEY = "latency_delete";
+
+        public static final String ERROR_RATE_CREATE_KEY = "error_rate_create";
+        public static final String ERROR_RATE_GET_KEY = "error_rate_get";
+        public static final String ERROR_RATE_DELETE_KEY = "error_rate_delete";
+
+        public static final String PROVISIONING_DELAY_KEY = "provisioning_delay";
+
+        public static final String RATE_LIMIT_KEY = "rate_limit";
+        public static final String RATE_LIMIT_BURST_SIZE_KEY = "rate_limit_burst_size";
+    }
+
+    public static class LatencyDistribution {
+        public static final String FIXED = "fixed";
+        public static final String NORMAL = "normal";
+        public static final String EXPONENTIAL = "exponential";
     }
 
     public static class Plugins {
@@ -40,6 +60,10 @@ public class EmulatedCloudConstants {
         public static final String NO_IMAGE_NAMES_SPECIFIED = "No image names specified in the cloud.conf file";
         public static final String THE_REQUIRED_PROPERTY_S_WAS_NOT_SPECIFIED = "The required property %s was not specified.";
         public static final String THE_PROPERTY_S_MUST_BE_AN_INTEGER = "The property %s must be an integer.";
+        public static final String THE_PROPERTY_S_MUST_BE_A_NUMBER = "The property %s must be a number.";
+        public static final String UNKNOWN_LATENCY_DISTRIBUTION_S = "Unknown latency distribution %s.";
+        public static final String INJECTED_FAILURE_OF_S_OPERATION = "Injected failure of a %s operation.";
+        public static final String REQUEST_RATE_LIMIT_EXCEEDED = "Request rate limit of the emulated cloud exceeded.";
     }
 }
 
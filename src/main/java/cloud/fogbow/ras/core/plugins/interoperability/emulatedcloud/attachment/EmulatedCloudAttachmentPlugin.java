@@ -11,6 +11,7 @@ import cloud.fogbow.ras.core.models.orders.AttachmentOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.AttachmentPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedCloudBehavior;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.attachment.models.EmulatedAttachment;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.attachment.EmulatedCloudAttachmentManager;
 
@@ -20,13 +21,16 @@ import java.util.Properties;
 public class EmulatedCloudAttachmentPlugin implements AttachmentPlugin<CloudUser> {
 
     private Properties properties;
+    private EmulatedCloudBehavior behavior;
 
     public EmulatedCloudAttachmentPlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
+        this.behavior = EmulatedCloudBehavior.getInstance(confFilePath, this.properties);
     }
 
     @Override
     public String requestInstance(AttachmentOrder attachmentOrder, CloudUser cloudUser) throws FogbowException {
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.CREATE);
         EmulatedCloudAttachmentManager attachmentManager = EmulatedCloudAttachmentManager.getInstance();
         EmulatedAttachment attachment = createEmulatedAttachment(attachmentOrder);
         String instanceId = attachmentManager.create(attachment);
@@ -36,6 +40,7 @@ public class EmulatedCloudAttachmentPlugin implements AttachmentPlugin<CloudUser
     @Override
     public void deleteInstance(AttachmentOrder attachmentOrder, CloudUser cloudUser) throws FogbowException {
         String attachmentId = attachmentOrder.getInstanceId();
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.DELETE);
         EmulatedCloudAttachmentManager attachmentManager = EmulatedCloudAttachmentManager.getInstance();
         attachmentManager.delete(attachmentId);
     }
@@ -43,6 +48,7 @@ public class EmulatedCloudAttachmentPlugin implements AttachmentPlugin<CloudUser
     @Override
     public AttachmentInstance getInstance(AttachmentOrder attachmentOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = attachmentOrder.getInstanceId();
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
         EmulatedCloudAttachmentManager attachmentManager = EmulatedCloudAttachmentManager.getInstance();
         Optional<EmulatedAttachment> emulatedAttachment = attachmentManager.find(instanceId);
 
@@ -14,6 +14,7 @@ import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.ComputePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedCloudBehavior;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.compute.EmulatedCloudComputeManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.compute.models.EmulatedCompute;
 import org.apache.log4j.Logger;
@@ -28,14 +29,17 @@ public class EmulatedCloudComputePlugin implements ComputePlugin<CloudUser> {
     private static final Logger LOGGER = Logger.getLogger(EmulatedCloudComputePlugin.class);
 
     private Properties properties;
+    private EmulatedCloudBehavior behavior;
 
     public EmulatedCloudComputePlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
+        this.behavior = EmulatedCloudBehavior.getInstance(confFilePath, this.properties);
     }
 
     @Override
     public String requestInstance(ComputeOrder computeOrder, CloudUser cloudUser) throws FogbowException {
         LOGGER.info(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER);
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.CREATE);
         EmulatedCloudComputeManager computeManager = EmulatedCloudComputeManager.getInstance();
         EmulatedCompute compute = createCompute(computeOrder);
         String computeId = computeManager.create(compute);
@@ -58,6 +62,7 @@ public class EmulatedCloudComputePlugin implements ComputePlugin<CloudUser> {
     public ComputeInstance getInstance(ComputeOrder computeOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = computeOrder.getInstanceId();
         LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, instanceId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
 
         EmulatedCloudComputeManager computeManager = EmulatedCloudComputeManager.getInstance();
         Optional<EmulatedCompute> optionalEmulatedCompute = computeManager.find(instanceId);
@@ -81,7 +86,9 @@ public class EmulatedCloudComputePlugin implements ComputePlugin<CloudUser> {
         String publicKey = compute.getPublicKey();
         List<NetworkSummary> networks = compute.getNetworks();
 
-        ComputeInstance computeInstance = new ComputeInstance(id, EmulatedCloudStateMapper.ACTIVE_STATUS, name,
+        String cloudState = this.behavior.getCloudState(compute, EmulatedCloudStateMapper.ACTIVE_STATUS);
+
+        ComputeInstance computeInstance = new ComputeInstance(id, cloudState, name,
                 vCPU, memory, disk, new ArrayList<>(), imageId, publicKey, new ArrayList());
 
         computeInstance.setNetworks(networks);
@@ -105,6 +112,7 @@ public class EmulatedCloudComputePlugin implements ComputePlugin<CloudUser> {
     public void deleteInstance(ComputeOrder computeOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = computeOrder.getInstanceId();
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, instanceId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.DELETE);
         EmulatedCloudComputeManager computeManager = EmulatedCloudComputeManager.getInstance();
         computeManager.delete(instanceId);
     }
@@ -10,6 +10,7 @@ import cloud.fogbow.ras.api.http.response.ImageSummary;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.plugins.interoperability.ImagePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedCloudBehavior;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.image.EmulatedCloudImageManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.image.models.EmulatedImage;
 
@@ -18,6 +19,7 @@ import java.util.*;
 public class EmulatedCloudImagePlugin implements ImagePlugin<CloudUser> {
 
     private Properties properties;
+    private EmulatedCloudBehavior behavior;
 
     private static final String DEFAULT_IMAGE_STATUS = "active";
     private static final long DEFAULT_IMAGE_SIZE = 2164195328L;
@@ -26,6 +28,7 @@ public class EmulatedCloudImagePlugin implements ImagePlugin<CloudUser> {
 
     public EmulatedCloudImagePlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
+        this.behavior = EmulatedCloudBehavior.getInstance(confFilePath, this.properties);
 
         String imageNames = properties.getProperty(EmulatedCloudConstants.Conf.IMAGE_NAMES_KEY);
         if (imageNames == null || imageNames.isEmpty()) {
@@ -35,6 +38,7 @@ public class EmulatedCloudImagePlugin implements ImagePlugin<CloudUser> {
 
     @Override
     public List<ImageSummary> getAllImages(CloudUser cloudUser) throws FogbowException {
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
         List<ImageSummary> imageSummaries = new ArrayList<>();
         List<EmulatedImage> allImages = EmulatedCloudImageManager.getInstance(properties).list();
 
@@ -50,6 +54,7 @@ public class EmulatedCloudImagePlugin implements ImagePlugin<CloudUser> {
 
     @Override
     public ImageInstance getImage(String imageId, CloudUser cloudUser) throws FogbowException {
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
         Optional<EmulatedImage> emulatedImage = EmulatedCloudImageManager.getInstance(properties).find(imageId);
 
         if (emulatedImage.isPresent()) {
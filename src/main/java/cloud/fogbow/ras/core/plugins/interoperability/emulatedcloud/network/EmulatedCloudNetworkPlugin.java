@@ -14,6 +14,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.NetworkPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedCloudBehavior;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.network.models.EmulatedNetwork;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.network.EmulatedCloudNetworkManager;
 import org.apache.log4j.Logger;
@@ -25,14 +26,17 @@ public class EmulatedCloudNetworkPlugin implements NetworkPlugin<CloudUser> {
     private static final Logger LOGGER = Logger.getLogger(EmulatedCloudNetworkPlugin.class);
 
     private Properties properties;
+    private EmulatedCloudBehavior behavior;
 
     public EmulatedCloudNetworkPlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
+        this.behavior = EmulatedCloudBehavior.getInstance(confFilePath, this.properties);
     }
 
     @Override
     public String requestInstance(NetworkOrder networkOrder, CloudUser cloudUser) throws FogbowException {
         LOGGER.info(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER);
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.CREATE);
         EmulatedCloudNetworkManager networkManager = EmulatedCloudNetworkManager.getInstance();
         EmulatedNetwork network = createNetwork(networkOrder);
         String instanceId = networkManager.create(network);
@@ -43,6 +47,7 @@ public class EmulatedCloudNetworkPlugin implements NetworkPlugin<CloudUser> {
     public NetworkInstance getInstance(NetworkOrder networkOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = networkOrder.getInstanceId();
         LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, instanceId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
 
         EmulatedCloudNetworkManager networkManager = EmulatedCloudNetworkManager.getInstance();
         Optional<EmulatedNetwork> emulatedNetwork = networkManager.find(instanceId);
@@ -57,7 +62,7 @@ public class EmulatedCloudNetworkPlugin implements NetworkPlugin<CloudUser> {
     private NetworkInstance buildNetworkInstance(EmulatedNetwork network) {
         String instanceId = network.getInstanceId();
         String cidr = network.getCidr();
-        String cloudState = network.getCloudState();
+        String cloudState = this.behavior.getCloudState(network, network.getCloudState());
         String gateway = network.getGateway();
         String interfaceState = network.getInterfaceState();
         String macInterface = network.getMacInterface();
@@ -94,6 +99,7 @@ public class EmulatedCloudNetworkPlugin implements NetworkPlugin<CloudUser> {
     public void deleteInstance(NetworkOrder networkOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = networkOrder.getInstanceId();
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, instanceId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.DELETE);
         EmulatedCloudNetworkManager networkManager = EmulatedCloudNetworkManager.getInstance();
         networkManager.delete(instanceId);
     }
@@ -12,6 +12,7 @@ import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.PublicIpPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedCloudBehavior;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.publicip.models.EmulatedPublicIp;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.publicip.EmulatedCloudPublicIpManager;
 import org.apache.log4j.Logger;
@@ -23,14 +24,17 @@ public class EmulatedCloudPublicIpPlugin implements PublicIpPlugin<CloudUser> {
     private static final Logger LOGGER = Logger.getLogger(EmulatedCloudPublicIpPlugin.class);
 
     private Properties properties;
+    private EmulatedCloudBehavior behavior;
 
     public EmulatedCloudPublicIpPlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
+        this.behavior = EmulatedCloudBehavior.getInstance(confFilePath, this.properties);
     }
 
     @Override
     public String requestInstance(PublicIpOrder publicIpOrder, CloudUser cloudUser) throws FogbowException {
         LOGGER.info(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER);
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.CREATE);
         EmulatedPublicIp publicIp = createEmulatedPublicIp(publicIpOrder);
         EmulatedCloudPublicIpManager publicIpManager = EmulatedCloudPublicIpManager.getInstance();
         String instanceId = publicIpManager.create(publicIp);
@@ -41,6 +45,7 @@ public class EmulatedCloudPublicIpPlugin implements PublicIpPlugin<CloudUser> {
     public void deleteInstance(PublicIpOrder publicIpOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = publicIpOrder.getInstanceId();
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, instanceId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.DELETE);
         EmulatedCloudPublicIpManager publicIpManager = EmulatedCloudPublicIpManager.getInstance();
         publicIpManager.delete(instanceId);
     }
@@ -49,6 +54,7 @@ public class EmulatedCloudPublicIpPlugin implements PublicIpPlugin<CloudUser> {
     public PublicIpInstance getInstance(PublicIpOrder publicIpOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = publicIpOrder.getInstanceId();
         LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, instanceId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
         EmulatedCloudPublicIpManager publicIpManager = EmulatedCloudPublicIpManager.getInstance();
 
         Optional<EmulatedPublicIp> emulatedPublicIp = publicIpManager.find(instanceId);
@@ -7,6 +7,7 @@ import cloud.fogbow.ras.api.http.response.quotas.ResourceQuota;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.ResourceAllocation;
 import cloud.fogbow.ras.core.plugins.interoperability.QuotaPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedCloudBehavior;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.quota.EmulatedCloudQuotaManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.quota.models.EmulatedQuota;
 
@@ -15,14 +16,17 @@ import java.util.Properties;
 public class EmulatedCloudQuotaPlugin implements QuotaPlugin<CloudUser> {
 
     private Properties properties;
+    private EmulatedCloudBehavior behavior;
 
     public EmulatedCloudQuotaPlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
+        this.behavior = EmulatedCloudBehavior.getInstance(confFilePath, this.properties);
         EmulatedCloudUtils.checkQuotaProperties(this.properties);
     }
 
     @Override
     public ResourceQuota getUserQuota(CloudUser cloudUser) throws FogbowException {
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
         EmulatedCloudQuotaManager quotaManager = EmulatedCloudQuotaManager.getInstance(properties);
         ResourceAllocation totalQuota = parseResourceAllocation(quotaManager.totalQuota());
         ResourceAllocation usedQuota = parseResourceAllocation(quotaManager.usedQuota());
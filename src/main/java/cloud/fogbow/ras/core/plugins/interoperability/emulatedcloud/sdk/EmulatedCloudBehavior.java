@@ -0,0 +1,214 @@
+package cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk;
+
+import cloud.fogbow.common.exceptions.FatalErrorException;
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.cloudconnector.RateLimiter;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudStateMapper;
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Makes the emulated cloud behave like a real one under load. Every operation takes a latency drawn from the
+ * distribution configured for its type, and may fail with the configured error rate; requests beyond the
+ * configured rate are rejected, as a throttling cloud would do; and resources stay in the build state for the
+ * configured provisioning delay after they are created.
+ *
+ * All of these are read from the cloud.conf file of the emulated cloud and are disabled when absent. A latency
+ * is given in milliseconds as "mean" or "mean,standardDeviation", and is drawn from the fixed, normal or
+ * exponential distribution set by latency_distribution (normal by default). Each emulated cloud has its own
+ * behavior, shared by all of its plugins, so that the rate limit applies to the cloud as a whole.
+ */
+public class EmulatedCloudBehavior {
+
+    public enum OperationType {
+        CREATE(EmulatedCloudConstants.Conf.LATENCY_CREATE_KEY, EmulatedCloudConstants.Conf.ERROR_RATE_CREATE_KEY),
+        GET(EmulatedCloudConstants.Conf.LATENCY_GET_KEY, EmulatedCloudConstants.Conf.ERROR_RATE_GET_KEY),
+        DELETE(EmulatedCloudConstants.Conf.LATENCY_DELETE_KEY, EmulatedCloudConstants.Conf.ERROR_RATE_DELETE_KEY);
+
+        private final String latencyKey;
+        private final String errorRateKey;
+
+        OperationType(String latencyKey, String errorRateKey) {
+            this.latencyKey = latencyKey;
+            this.errorRateKey = errorRateKey;
+        }
+    }
+
+    private static final String RATE_LIMITER_NAME = "emulated-cloud";
+
+    // cloud.conf path -> the behavior of the emulated cloud configured by it
+    private static final Map<String, EmulatedCloudBehavior> instances = new ConcurrentHashMap<>();
+
+    private final String latencyDistribution;
+    private final double[] latencyMeans;
+    private final double[] latencyDeviations;
+    private final double[] errorRates;
+    private final long provisioningDelay;
+    // null when the requests to the cloud are not rate limited
+    private final RateLimiter rateLimiter;
+
+    @VisibleForTesting
+    EmulatedCloudBehavior(Properties properties) {
+        int operations = OperationType.values().length;
+        this.latencyMeans = new double[operations];
+        this.latencyDeviations = new double[operations];
+        this.errorRates = new double[operations];
+        for (OperationType operation : OperationType.values()) {
+            double[] latency = parseLatency(properties, operation.latencyKey);
+            this.latencyMeans[operation.ordinal()] = latency[0];
+            this.latencyDeviations[operation.ordinal()] = latency[1];
+            this.errorRates[operation.ordinal()] = parseNumber(properties, operation.errorRateKey, 0);
+        }
+        this.latencyDistribution = parseLatencyDistribution(properties);
+        this.provisioningDelay = TimeUnit.SECONDS.toMillis((long) parseNumber(properties,
+                EmulatedCloudConstants.Conf.PROVISIONING_DELAY_KEY, 0));
+        double requestsPerSecond = parseNumber(properties, EmulatedCloudConstants.Conf.RATE_LIMIT_KEY, 0);
+        int burstSize = (int) Math.max(1, parseNumber(properties,
+                EmulatedCloudConstants.Conf.RATE_LIMIT_BURST_SIZE_KEY, Math.ceil(requestsPerSecond)));
+        this.rateLimiter = requestsPerSecond > 0 ? createRateLimiter(requestsPerSecond, burstSize) : null;
+    }
+
+    public static EmulatedCloudBehavior getInstance(String confFilePath, Properties properties) {
+        return instances.computeIfAbsent(confFilePath, path -> new EmulatedCloudBehavior(properties));
+    }
+
+    /**
+     * Emulates the cost of an operation: rejects it if the request rate is exceeded, waits for its latency and
+     * fails it with its error rate.
+     *
+     * @param operation the type of the operation.
+     * @throws FogbowException if the operation is rejected or fails.
+     */
+    public void perform(OperationType operation) throws FogbowException {
+        if (!tryTakePermit()) {
+            throw new UnavailableProviderException(EmulatedCloudConstants.Exception.REQUEST_RATE_LIMIT_EXCEEDED);
+        }
+        long latency = sampleLatency(operation);
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalServerErrorException(Messages.Exception.UNEXPECTED_ERROR);
+            }
+        }
+        double errorRate = this.errorRates[operation.ordinal()];
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw new UnavailableProviderException(String.format(
+                    EmulatedCloudConstants.Exception.INJECTED_FAILURE_OF_S_OPERATION, operation));
+        }
+    }
+
+    /**
+     * Returns the build state while the resource is within its provisioning delay, and its own state afterwards.
+     * The state is derived from the creation time of the resource when it is read, so no task is needed to move
+     * each resource to its final state.
+     */
+    public String getCloudState(EmulatedResource resource, String provisionedState) {
+        if (getCurrentTime() - resource.getCreationTime() < this.provisioningDelay) {
+            return EmulatedCloudStateMapper.BUILD_STATUS;
+        }
+        return provisionedState;
+    }
+
+    @VisibleForTesting
+    long sampleLatency(OperationType operation) {
+        double mean = this.latencyMeans[operation.ordinal()];
+        double deviation = this.latencyDeviations[operation.ordinal()];
+        if (mean <= 0) {
+            return 0;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double latency;
+        switch (this.latencyDistribution) {
+            case EmulatedCloudConstants.LatencyDistribution.EXPONENTIAL:
+                latency = -mean * Math.log(1 - random.nextDouble());
+                break;
+            case EmulatedCloudConstants.LatencyDistribution.NORMAL:
+                latency = mean + deviation * random.nextGaussian();
+                break;
+            default:
+                latency = mean;
+        }
+        return Math.max(0, Math.round(latency));
+    }
+
+    @VisibleForTesting
+    long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Creates the token bucket of the cloud; the requests to it never wait for a permit, as a throttling cloud
+     * rejects them at once.
+     */
+    @VisibleForTesting
+    RateLimiter createRateLimiter(double requestsPerSecond, int burstSize) {
+        return new RateLimiter(RATE_LIMITER_NAME, requestsPerSecond, burstSize, 0);
+    }
+
+    private boolean tryTakePermit() throws InternalServerErrorException {
+        if (this.rateLimiter == null) {
+            return true;
+        }
+        try {
+            return this.rateLimiter.tryAcquire(RateLimiter.Priority.HIGH, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(Messages.Exception.UNEXPECTED_ERROR);
+        }
+    }
+
+    private double[] parseLatency(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return new double[] {0, 0};
+        }
+        String[] parameters = value.split(",");
+        try {
+            double mean = Double.parseDouble(parameters[0].trim());
+            double deviation = parameters.length > 1 ? Double.parseDouble(parameters[1].trim()) : 0;
+            return new double[] {mean, deviation};
+        } catch (NumberFormatException e) {
+            throw new FatalErrorException(String.format(EmulatedCloudConstants.Exception.THE_PROPERTY_S_MUST_BE_A_NUMBER, key));
+        }
+    }
+
+    private double parseNumber(Properties properties, String key, double defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new FatalErrorException(String.format(EmulatedCloudConstants.Exception.THE_PROPERTY_S_MUST_BE_A_NUMBER, key));
+        }
+    }
+
+    private String parseLatencyDistribution(Properties properties) {
+        String distribution = properties.getProperty(EmulatedCloudConstants.Conf.LATENCY_DISTRIBUTION_KEY);
+        if (distribution == null || distribution.trim().isEmpty()) {
+            return EmulatedCloudConstants.LatencyDistribution.NORMAL;
+        }
+        distribution = distribution.trim();
+        switch (distribution) {
+            case EmulatedCloudConstants.LatencyDistribution.FIXED:
+            case EmulatedCloudConstants.LatencyDistribution.NORMAL:
+            case EmulatedCloudConstants.LatencyDistribution.EXPONENTIAL:
+                return distribution;
+            default:
+                throw new FatalErrorException(String.format(
+                        EmulatedCloudConstants.Exception.UNKNOWN_LATENCY_DISTRIBUTION_S, distribution));
+        }
+    }
+}
@@ -4,15 +4,21 @@ import java.util.Objects;
 
 public abstract class EmulatedResource {
     private String instanceId;
+    private long creationTime;
 
     public EmulatedResource(String instanceId) {
         this.instanceId = instanceId;
+        this.creationTime = System.currentTimeMillis();
     }
 
     public String getInstanceId() {
         return instanceId;
     }
 
+    public long getCreationTime() {
+        return creationTime;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,68 @@
+package cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk;
+
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the resources of one type of the emulated cloud in a concurrent map, so that they can be created, found
+ * and deleted by the processors at the same time. Subclasses that keep aggregates of their resources, such as
+ * totals or indexes, update them in the onAdded and onRemoved hooks instead of scanning the whole map.
+ */
+public abstract class EmulatedResourceManager<T extends EmulatedResource> implements ResourceManager<T> {
+    private final Map<String, T> resources;
+
+    protected EmulatedResourceManager() {
+        this.resources = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Optional<T> find(String instanceId) {
+        return Optional.ofNullable(this.resources.get(instanceId));
+    }
+
+    @Override
+    public List<T> list() {
+        return new ArrayList<>(this.resources.values());
+    }
+
+    public int count() {
+        return this.resources.size();
+    }
+
+    @Override
+    public String create(T resource) {
+        validate(resource);
+        T replaced = this.resources.put(resource.getInstanceId(), resource);
+        if (replaced != null) {
+            onRemoved(replaced);
+        }
+        onAdded(resource);
+        return resource.getInstanceId();
+    }
+
+    @Override
+    public void delete(String instanceId) {
+        T resource = instanceId == null ? null : this.resources.remove(instanceId);
+        if (resource == null) {
+            throw new InvalidParameterException(EmulatedCloudConstants.Exception.RESOURCE_NOT_FOUND);
+        }
+        onRemoved(resource);
+    }
+
+    protected void validate(T resource) {
+        EmulatedCloudUtils.validateEmulatedResource(resource);
+    }
+
+    protected void onAdded(T resource) {
+    }
+
+    protected void onRemoved(T resource) {
+    }
+}
@@ -2,7 +2,7 @@ package cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.attachm
 
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.ResourceManager;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedResourceManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.attachment.models.EmulatedAttachment;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.compute.EmulatedCloudComputeManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.compute.models.EmulatedCompute;
@@ -10,17 +10,15 @@ import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.volume.E
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.volume.models.EmulatedVolume;
 
 import java.security.InvalidParameterException;
-import java.util.*;
+import java.util.Optional;
 
-public class EmulatedCloudAttachmentManager implements ResourceManager<EmulatedAttachment> {
-    private Map<String, EmulatedAttachment> attachments;
+public class EmulatedCloudAttachmentManager extends EmulatedResourceManager<EmulatedAttachment> {
     private static EmulatedCloudAttachmentManager instance;
 
     private EmulatedCloudAttachmentManager() {
-        this.attachments = new HashMap<>();
     }
 
-    public static EmulatedCloudAttachmentManager getInstance() {
+    public static synchronized EmulatedCloudAttachmentManager getInstance() {
         if (instance == null) {
             instance = new EmulatedCloudAttachmentManager();
         }
@@ -28,32 +26,10 @@ public class EmulatedCloudAttachmentManager implements ResourceManager<EmulatedA
     }
 
     @Override
-    public Optional<EmulatedAttachment> find(String instanceId) {
-        return Optional.ofNullable(this.attachments.get(instanceId));
-    }
-
-    @Override
-    public List<EmulatedAttachment> list() {
-        return new ArrayList<>(this.attachments.values());
-    }
-
-    @Override
-    public String create(EmulatedAttachment attachment) {
+    protected void validate(EmulatedAttachment attachment) {
         EmulatedCloudUtils.validateEmulatedResource(attachment);
         validateCompute(attachment.getComputeId());
         validateVolume(attachment.getVolumeId());
-
-        this.attachments.put(attachment.getInstanceId(), attachment);
-        return attachment.getInstanceId();
-    }
-
-    @Override
-    public void delete(String instanceId) {
-        if (this.attachments.containsKey(instanceId)) {
-            this.attachments.remove(instanceId);
-        } else {
-            throw new InvalidParameterException(EmulatedCloudConstants.Exception.RESOURCE_NOT_FOUND);
-        }
     }
 
     private void validateCompute(String instanceId) {
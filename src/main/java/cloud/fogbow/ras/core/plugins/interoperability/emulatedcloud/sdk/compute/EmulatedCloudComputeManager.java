@@ -2,55 +2,56 @@ package cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.compute
 
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.ResourceManager;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedResourceManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.compute.models.EmulatedCompute;
 
 import java.security.InvalidParameterException;
-import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class EmulatedCloudComputeManager implements ResourceManager<EmulatedCompute> {
+public class EmulatedCloudComputeManager extends EmulatedResourceManager<EmulatedCompute> {
     private static EmulatedCloudComputeManager instance;
-    private Map<String, EmulatedCompute> computes;
+
+    private final AtomicLong totalVCPU;
+    private final AtomicLong totalMemory;
 
     private EmulatedCloudComputeManager() {
-        this.computes = new HashMap<>();
+        this.totalVCPU = new AtomicLong();
+        this.totalMemory = new AtomicLong();
     }
 
-    public static EmulatedCloudComputeManager getInstance() {
+    public static synchronized EmulatedCloudComputeManager getInstance() {
         if (instance == null) {
             instance = new EmulatedCloudComputeManager();
         }
         return instance;
     }
 
-    @Override
-    public Optional<EmulatedCompute> find(String instanceId) {
-        return Optional.ofNullable(this.computes.get(instanceId));
+    public long getTotalVCPU() {
+        return this.totalVCPU.get();
     }
 
-    @Override
-    public List<EmulatedCompute> list() {
-        return new ArrayList<>(this.computes.values());
+    public long getTotalMemory() {
+        return this.totalMemory.get();
     }
 
     @Override
-    public String create(EmulatedCompute compute) {
+    protected void validate(EmulatedCompute compute) {
         if (compute == null || !EmulatedCloudUtils.validateInstanceId(compute.getInstanceId())) {
-            String message = String.format(
-                    EmulatedCloudConstants.Exception.UNABLE_TO_CREATE_RESOURCE_INVALID_INSTANCE_ID_S, compute.getInstanceId());
+            String message = String.format(EmulatedCloudConstants.Exception.UNABLE_TO_CREATE_RESOURCE_INVALID_INSTANCE_ID_S,
+                    compute == null ? null : compute.getInstanceId());
             throw new InvalidParameterException(message);
         }
+    }
 
-        this.computes.put(compute.getInstanceId(), compute);
-        return compute.getInstanceId();
+    @Override
+    protected void onAdded(EmulatedCompute compute) {
+        this.totalVCPU.addAndGet(compute.getvCPU());
+        this.totalMemory.addAndGet(compute.getMemory());
     }
 
     @Override
-    public void delete(String instanceId) {
-        if (this.computes.containsKey(instanceId)) {
-            this.computes.remove(instanceId);
-        } else {
-            throw new InvalidParameterException(EmulatedCloudConstants.Exception.RESOURCE_NOT_FOUND);
-        }
+    protected void onRemoved(EmulatedCompute compute) {
+        this.totalVCPU.addAndGet(-compute.getvCPU());
+        this.totalMemory.addAndGet(-compute.getMemory());
     }
 }
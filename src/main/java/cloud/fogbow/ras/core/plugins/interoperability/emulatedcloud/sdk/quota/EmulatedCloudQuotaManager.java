@@ -3,16 +3,11 @@ package cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.quota;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.compute.EmulatedCloudComputeManager;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.compute.models.EmulatedCompute;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.network.EmulatedCloudNetworkManager;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.network.models.EmulatedNetwork;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.publicip.EmulatedCloudPublicIpManager;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.publicip.models.EmulatedPublicIp;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.quota.models.EmulatedQuota;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.volume.EmulatedCloudVolumeManager;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.volume.models.EmulatedVolume;
 
-import java.util.List;
 import java.util.Properties;
 
 public class EmulatedCloudQuotaManager {
@@ -38,7 +33,7 @@ public class EmulatedCloudQuotaManager {
         TOTAL_PUBLIC_IPS = Integer.parseInt(properties.getProperty(EmulatedCloudConstants.Conf.QUOTA_PUBLIC_IP_KEY));
     }
 
-    public static EmulatedCloudQuotaManager getInstance(Properties properties) {
+    public static synchronized EmulatedCloudQuotaManager getInstance(Properties properties) {
         if (instance == null) {
             instance = new EmulatedCloudQuotaManager(properties);
         }
@@ -46,20 +41,19 @@ public class EmulatedCloudQuotaManager {
     }
 
     public EmulatedQuota usedQuota() {
-        List<EmulatedCompute> computes = EmulatedCloudComputeManager.getInstance().list();
-        List<EmulatedVolume> volumes = EmulatedCloudVolumeManager.getInstance().list();
-        List<EmulatedNetwork> networks = EmulatedCloudNetworkManager.getInstance().list();
-        List<EmulatedPublicIp> publicIps = EmulatedCloudPublicIpManager.getInstance().list();
+        EmulatedCloudComputeManager computeManager = EmulatedCloudComputeManager.getInstance();
+        EmulatedCloudVolumeManager volumeManager = EmulatedCloudVolumeManager.getInstance();
 
-        int instances = computes.size();
-        int ram = getTotalRam(computes);
-        int vCPU = getTotalVCPU(computes);
+        // the managers keep these totals up to date, so that the quota does not depend on the number of resources
+        int instances = computeManager.count();
+        int ram = (int) computeManager.getTotalMemory();
+        int vCPU = (int) computeManager.getTotalVCPU();
 
-        int volumeInstances = volumes.size();
-        int storage = getTotalDisk(volumes);
+        int volumeInstances = volumeManager.count();
+        int storage = (int) volumeManager.getTotalStorage();
 
-        int networksInstances = networks.size();
-        int publicIpsInstances = publicIps.size();
+        int networksInstances = EmulatedCloudNetworkManager.getInstance().count();
+        int publicIpsInstances = EmulatedCloudPublicIpManager.getInstance().count();
 
         return new EmulatedQuota.Builder()
                 .instances(instances)
@@ -83,22 +77,4 @@ public class EmulatedCloudQuotaManager {
                 .publicIps(TOTAL_PUBLIC_IPS)
                 .build();
     }
-
-    private int getTotalDisk(List<EmulatedVolume> volumes) {
-        return volumes.stream()
-                .map(volume -> Integer.parseInt(volume.getSize()))
-                .reduce(0, Integer::sum);
-    }
-
-    private int getTotalVCPU(List<EmulatedCompute> computes) {
-        return computes.stream()
-                .map(compute -> compute.getvCPU())
-                .reduce(0, Integer::sum);
-    }
-
-    private int getTotalRam(List<EmulatedCompute> computes) {
-        return computes.stream()
-                .map(compute -> compute.getMemory())
-                .reduce(0, Integer::sum);
-    }
 }
@@ -1,65 +1,71 @@
 package cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.securityrule;
 
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.ResourceManager;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedResourceManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.securityrule.models.EmulatedSecurityRule;
 
 import java.security.InvalidParameterException;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class EmulatedCloudSecurityRuleManager implements ResourceManager<EmulatedSecurityRule> {
+public class EmulatedCloudSecurityRuleManager extends EmulatedResourceManager<EmulatedSecurityRule> {
     private static EmulatedCloudSecurityRuleManager instance;
-    private Map<String, EmulatedSecurityRule> securityRules;
+
+    // ids of the rules of each security group, so that a group is listed or cleared without scanning all rules
+    private final Map<String, Set<String>> securityGroups;
 
     private EmulatedCloudSecurityRuleManager() {
-        this.securityRules = new HashMap<>();
+        this.securityGroups = new ConcurrentHashMap<>();
     }
 
-    public static EmulatedCloudSecurityRuleManager getInstance() {
+    public static synchronized EmulatedCloudSecurityRuleManager getInstance() {
         if (instance == null) {
             instance = new EmulatedCloudSecurityRuleManager();
         }
         return instance;
     }
 
-    @Override
-    public Optional<EmulatedSecurityRule> find(String instanceId) {
-        return Optional.ofNullable(this.securityRules.get(instanceId));
-    }
-
-    @Override
-    public List<EmulatedSecurityRule> list() {
-        return new ArrayList<>(this.securityRules.values());
-    }
-
     public List<EmulatedSecurityRule> listBySecurityGroup(String securityGroupId) {
-        return this.securityRules.values().stream()
-                .filter(securityRule -> securityRule.getSecurityGroupId().equals(securityGroupId))
-                .collect(Collectors.toList());
+        List<EmulatedSecurityRule> securityRules = new ArrayList<>();
+        for (String instanceId : this.securityGroups.getOrDefault(securityGroupId, Collections.emptySet())) {
+            Optional<EmulatedSecurityRule> securityRule = find(instanceId);
+            securityRule.ifPresent(securityRules::add);
+        }
+        return securityRules;
     }
 
     public void deleteBySecurityGroup(String securityGroupId) {
-        securityRules.entrySet().removeIf(entry -> {
-            EmulatedSecurityRule securityRule = entry.getValue();
-            return securityRule.getSecurityGroupId().equals(securityGroupId);
-        });
+        Set<String> instanceIds = this.securityGroups.remove(securityGroupId);
+        if (instanceIds == null) {
+            return;
+        }
+        for (String instanceId : instanceIds) {
+            try {
+                delete(instanceId);
+            } catch (InvalidParameterException e) {
+                // the rule was deleted concurrently
+            }
+        }
     }
 
     @Override
-    public String create(EmulatedSecurityRule securityRules) {
-        EmulatedCloudUtils.validateEmulatedResource(securityRules);
-        this.securityRules.put(securityRules.getInstanceId(), securityRules);
-        return securityRules.getInstanceId();
+    protected void onAdded(EmulatedSecurityRule securityRule) {
+        this.securityGroups.compute(securityRule.getSecurityGroupId(), (key, instanceIds) -> {
+            Set<String> updatedInstanceIds = instanceIds == null ? ConcurrentHashMap.newKeySet() : instanceIds;
+            updatedInstanceIds.add(securityRule.getInstanceId());
+            return updatedInstanceIds;
+        });
     }
 
     @Override
-    public void delete(String instanceId) {
-        if (this.securityRules.containsKey(instanceId)) {
-            this.securityRules.remove(instanceId);
-        } else {
-            throw new InvalidParameterException(EmulatedCloudConstants.Exception.RESOURCE_NOT_FOUND);
-        }
+    protected void onRemoved(EmulatedSecurityRule securityRule) {
+        this.securityGroups.computeIfPresent(securityRule.getSecurityGroupId(), (key, instanceIds) -> {
+            instanceIds.remove(securityRule.getInstanceId());
+            return instanceIds.isEmpty() ? null : instanceIds;
+        });
     }
 }
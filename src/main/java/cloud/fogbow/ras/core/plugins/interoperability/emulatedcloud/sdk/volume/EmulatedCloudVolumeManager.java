@@ -2,55 +2,48 @@ package cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.volume;
 
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
-import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.ResourceManager;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedResourceManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.volume.models.EmulatedVolume;
 
 import java.security.InvalidParameterException;
-import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class EmulatedCloudVolumeManager implements ResourceManager<EmulatedVolume> {
-    private Map<String, EmulatedVolume> volumes;
+public class EmulatedCloudVolumeManager extends EmulatedResourceManager<EmulatedVolume> {
     private static EmulatedCloudVolumeManager instance;
 
+    private final AtomicLong totalStorage;
+
     private EmulatedCloudVolumeManager() {
-        this.volumes = new HashMap<>();
+        this.totalStorage = new AtomicLong();
     }
 
-    public static EmulatedCloudVolumeManager getInstance() {
+    public static synchronized EmulatedCloudVolumeManager getInstance() {
         if (instance == null) {
             instance = new EmulatedCloudVolumeManager();
         }
         return instance;
     }
 
-    @Override
-    public Optional<EmulatedVolume> find(String instanceId) {
-        return Optional.ofNullable(this.volumes.get(instanceId));
-    }
-
-    @Override
-    public List<EmulatedVolume> list() {
-        return new ArrayList<>(volumes.values());
+    public long getTotalStorage() {
+        return this.totalStorage.get();
     }
 
     @Override
-    public String create(EmulatedVolume volume) {
+    protected void validate(EmulatedVolume volume) {
         if (volume == null || !EmulatedCloudUtils.validateInstanceId(volume.getInstanceId())) {
-            String message = String.format(
-                    EmulatedCloudConstants.Exception.UNABLE_TO_CREATE_RESOURCE_INVALID_INSTANCE_ID_S, volume.getInstanceId());
+            String message = String.format(EmulatedCloudConstants.Exception.UNABLE_TO_CREATE_RESOURCE_INVALID_INSTANCE_ID_S,
+                    volume == null ? null : volume.getInstanceId());
             throw new InvalidParameterException(message);
         }
+    }
 
-        this.volumes.put(volume.getInstanceId(), volume);
-        return volume.getInstanceId();
+    @Override
+    protected void onAdded(EmulatedVolume volume) {
+        this.totalStorage.addAndGet(Integer.parseInt(volume.getSize()));
     }
 
     @Override
-    public void delete(String instanceId) {
-        if (this.volumes.containsKey(instanceId)) {
-            this.volumes.remove(instanceId);
-        } else {
-            throw new InvalidParameterException(EmulatedCloudConstants.Exception.RESOURCE_NOT_FOUND);
-        }
+    protected void onRemoved(EmulatedVolume volume) {
+        this.totalStorage.addAndGet(-Integer.parseInt(volume.getSize()));
     }
 }
@@ -10,6 +10,7 @@ import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.plugins.interoperability.SecurityRulePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedCloudBehavior;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.securityrule.models.EmulatedSecurityRule;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.securityrule.EmulatedCloudSecurityRuleManager;
 import org.apache.log4j.Logger;
@@ -22,14 +23,17 @@ public class EmulatedCloudSecurityRulePlugin implements SecurityRulePlugin<Cloud
 
     private static final Logger LOGGER = Logger.getLogger(EmulatedCloudSecurityRulePlugin.class);
     private Properties properties;
+    private EmulatedCloudBehavior behavior;
 
     public EmulatedCloudSecurityRulePlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
+        this.behavior = EmulatedCloudBehavior.getInstance(confFilePath, this.properties);
     }
 
     @Override
     public String requestSecurityRule(SecurityRule securityRule, Order majorOrder, CloudUser cloudUser) throws FogbowException {
         LOGGER.info(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER);
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.CREATE);
         EmulatedCloudSecurityRuleManager securityRuleManager = EmulatedCloudSecurityRuleManager.getInstance();
 
         String securityGroupId = this.getSecurityGroupId(majorOrder);
@@ -40,6 +44,7 @@ public class EmulatedCloudSecurityRulePlugin implements SecurityRulePlugin<Cloud
 
     @Override
     public List<SecurityRuleInstance> getSecurityRules(Order majorOrder, CloudUser cloudUser) throws FogbowException {
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
         EmulatedCloudSecurityRuleManager securityRuleManager = EmulatedCloudSecurityRuleManager.getInstance();
         String securityGroupId = this.getSecurityGroupId(majorOrder);
         List<EmulatedSecurityRule> securityRules = securityRuleManager.listBySecurityGroup(securityGroupId);
@@ -50,6 +55,7 @@ public class EmulatedCloudSecurityRulePlugin implements SecurityRulePlugin<Cloud
     @Override
     public void deleteSecurityRule(String securityRuleId, CloudUser cloudUser) throws FogbowException {
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, securityRuleId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.DELETE);
         EmulatedCloudSecurityRuleManager securityRuleManager = EmulatedCloudSecurityRuleManager.getInstance();
         securityRuleManager.delete(securityRuleId);
     }
@@ -13,6 +13,7 @@ import cloud.fogbow.ras.core.models.orders.VolumeOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.VolumePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.EmulatedCloudBehavior;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.volume.EmulatedCloudVolumeManager;
 import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk.volume.models.EmulatedVolume;
 import org.apache.log4j.Logger;
@@ -25,14 +26,17 @@ public class EmulatedCloudVolumePlugin implements VolumePlugin<CloudUser> {
     private static final Logger LOGGER = Logger.getLogger(EmulatedCloudVolumePlugin.class);
 
     private Properties properties;
+    private EmulatedCloudBehavior behavior;
 
     public EmulatedCloudVolumePlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
+        this.behavior = EmulatedCloudBehavior.getInstance(confFilePath, this.properties);
     }
 
     @Override
     public String requestInstance(VolumeOrder volumeOrder, CloudUser cloudUser) throws FogbowException {
         LOGGER.info(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER);
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.CREATE);
         EmulatedCloudVolumeManager volumeManager = EmulatedCloudVolumeManager.getInstance();
         EmulatedVolume volume = createEmulatedVolume(volumeOrder);
         String instanceId = volumeManager.create(volume);
@@ -67,6 +71,7 @@ public class EmulatedCloudVolumePlugin implements VolumePlugin<CloudUser> {
     public VolumeInstance getInstance(VolumeOrder volumeOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = volumeOrder.getInstanceId();
         LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, instanceId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.GET);
 
         EmulatedCloudVolumeManager volumeManager = EmulatedCloudVolumeManager.getInstance();
         Optional<EmulatedVolume> volumeOptional = volumeManager.find(instanceId);
@@ -82,7 +87,7 @@ public class EmulatedCloudVolumePlugin implements VolumePlugin<CloudUser> {
         String instanceId = volume.getInstanceId();
         String name = volume.getName();
         String size = volume.getSize();
-        String status = volume.getStatus();
+        String status = this.behavior.getCloudState(volume, volume.getStatus());
 
         return new VolumeInstance(instanceId, status, name, Integer.parseInt(size));
     }
@@ -101,6 +106,7 @@ public class EmulatedCloudVolumePlugin implements VolumePlugin<CloudUser> {
     public void deleteInstance(VolumeOrder volumeOrder, CloudUser cloudUser) throws FogbowException {
         String instanceId = volumeOrder.getInstanceId();
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, instanceId));
+        this.behavior.perform(EmulatedCloudBehavior.OperationType.DELETE);
 
         EmulatedCloudVolumeManager volumeManager = EmulatedCloudVolumeManager.getInstance();
         volumeManager.delete(instanceId);
@@ -13,15 +13,19 @@ import org.opennebula.client.group.GroupPool;
 import org.opennebula.client.image.Image;
 import org.opennebula.client.image.ImagePool;
 import org.opennebula.client.secgroup.SecurityGroup;
+import org.opennebula.client.secgroup.SecurityGroupPool;
 import org.opennebula.client.template.TemplatePool;
 import org.opennebula.client.user.User;
 import org.opennebula.client.user.UserPool;
 import org.opennebula.client.vm.VirtualMachine;
+import org.opennebula.client.vm.VirtualMachinePool;
 import org.opennebula.client.vnet.VirtualNetwork;
 import org.opennebula.client.vnet.VirtualNetworkPool;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.GetVirtualMachineResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkResponse;
 
 public class OpenNebulaClientUtil {
 
@@ -34,6 +38,8 @@ public class OpenNebulaClientUtil {
 	protected static final String RESPONSE_NOT_ENOUGH_FREE_MEMORY = "Not enough free memory";
 	protected static final String RESPONSE_NO_SPACE_LEFT_ON_DEVICE = "No space left on device";
 	private static final int RESOURCE_BELONGS_TO_USER_FILTER = -3;
+	private static final int ALL_RESOURCES_FILTER = -2;
+	private static final int ANY_STATE_EXCEPT_DONE = -1;
 
 	public static Client instance;
 	
@@ -121,42 +127,57 @@ public class OpenNebulaClientUtil {
 	public static VirtualMachine getVirtualMachine(Client client, String virtualMachineId)
 			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
 
+		VirtualMachine virtualMachine = (VirtualMachine) generateOnePoolElement(client, virtualMachineId, VirtualMachine.class);
+		checkVirtualMachineInfo(virtualMachine, virtualMachine.info());
+		return virtualMachine;
+	}
+
+	/**
+	 * Reads a virtual machine with the same request as getVirtualMachine, returning its fields unmarshalled in one
+	 * pass, for the callers that only read the virtual machine.
+	 */
+	public static GetVirtualMachineResponse getVirtualMachineResponse(Client client, String virtualMachineId)
+			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
+
 		VirtualMachine virtualMachine = (VirtualMachine) generateOnePoolElement(client, virtualMachineId, VirtualMachine.class);
 		OneResponse response = virtualMachine.info();
+		checkVirtualMachineInfo(virtualMachine, response);
+		return GetVirtualMachineResponse.unmarshaller().response(response.getMessage()).unmarshal();
+	}
+	
+	public static VirtualMachinePool getVirtualMachinePool(Client client, int startId, int endId)
+			throws InternalServerErrorException {
+
+		VirtualMachinePool virtualMachinePool = new VirtualMachinePool(client);
+		OneResponse response = virtualMachinePool.info(ALL_RESOURCES_FILTER, startId, endId, ANY_STATE_EXCEPT_DONE);
 		if (response.isError()) {
-			String message = response.getErrorMessage();
-			LOGGER.error(message);
-			// Not authorized to perform
-			if (message.contains(RESPONSE_NOT_AUTHORIZED)) {
-				throw new UnauthorizedRequestException();
-			}
-			// Error getting virtual machine
-			throw new InstanceNotFoundException(message);
-		} else if (RESPONSE_DONE.equals(virtualMachine.stateStr())) {
-			// The instance is not active anymore
-			throw new InstanceNotFoundException();
+			LOGGER.error(String.format(Messages.Log.ERROR_WHILE_GETTING_VIRTUAL_MACHINES_S, response.getErrorMessage()));
+			throw new InternalServerErrorException(response.getErrorMessage());
 		}
-		return virtualMachine;
+		return virtualMachinePool;
 	}
-	
+
 	public static VirtualNetwork getVirtualNetwork(Client client, String virtualNetworkId)
 			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
 
 		VirtualNetwork virtualNetwork = (VirtualNetwork) generateOnePoolElement(client, virtualNetworkId, VirtualNetwork.class);
-		OneResponse response = virtualNetwork.info();
-		if (response.isError()) {
-			String message = response.getErrorMessage();
-			LOGGER.error(message);
-			// Not authorized to perform
-			if (message.contains(RESPONSE_NOT_AUTHORIZED)) {
-				throw new UnauthorizedRequestException();
-			}
-			// Error getting virtual network
-			throw new InstanceNotFoundException(message);
-		}
+		checkVirtualNetworkInfo(virtualNetwork.info());
 		return virtualNetwork;
 	}
 
+	/**
+	 * Reads a virtual network with the same request as getVirtualNetwork, returning its fields unmarshalled in one
+	 * pass, for the callers that only read the virtual network.
+	 */
+	public static GetVirtualNetworkResponse getVirtualNetworkResponse(Client client, String virtualNetworkId)
+			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
+
+		VirtualNetwork virtualNetwork = (VirtualNetwork) generateOnePoolElement(client, virtualNetworkId, VirtualNetwork.class);
+		OneResponse response = virtualNetwork.info();
+		checkVirtualNetworkInfo(response);
+		return GetVirtualNetworkResponse.unmarshaller().response(response.getMessage()).unmarshal();
+	}
+
 	public static TemplatePool getTemplatePool(Client client) throws InternalServerErrorException {
 		TemplatePool templatePool = (TemplatePool) generateOnePool(client, TemplatePool.class);
 		OneResponse response = templatePool.infoAll();
@@ -190,6 +211,16 @@ public class OpenNebulaClientUtil {
 		return user;
 	}
     
+	public static SecurityGroupPool getSecurityGroupPool(Client client) throws InternalServerErrorException {
+		SecurityGroupPool securityGroupPool = new SecurityGroupPool(client);
+		OneResponse response = securityGroupPool.info();
+		if (response.isError()) {
+			LOGGER.error(String.format(Messages.Log.ERROR_WHILE_GETTING_SECURITY_GROUPS_S, response.getErrorMessage()));
+			throw new InternalServerErrorException(response.getErrorMessage());
+		}
+		return securityGroupPool;
+	}
+
     public static SecurityGroup getSecurityGroup(Client client, String securityGroupId)
     			throws UnauthorizedRequestException, InvalidParameterException, InstanceNotFoundException {
 
@@ -287,6 +318,39 @@ public class OpenNebulaClientUtil {
 		return response.getMessage();
 	}
 
+	private static void checkVirtualMachineInfo(VirtualMachine virtualMachine, OneResponse response)
+			throws UnauthorizedRequestException, InstanceNotFoundException {
+
+		if (response.isError()) {
+			String message = response.getErrorMessage();
+			LOGGER.error(message);
+			// Not authorized to perform
+			if (message.contains(RESPONSE_NOT_AUTHORIZED)) {
+				throw new UnauthorizedRequestException();
+			}
+			// Error getting virtual machine
+			throw new InstanceNotFoundException(message);
+		} else if (RESPONSE_DONE.equals(virtualMachine.stateStr())) {
+			// The instance is not active anymore
+			throw new InstanceNotFoundException();
+		}
+	}
+
+	private static void checkVirtualNetworkInfo(OneResponse response)
+			throws UnauthorizedRequestException, InstanceNotFoundException {
+
+		if (response.isError()) {
+			String message = response.getErrorMessage();
+			LOGGER.error(message);
+			// Not authorized to perform
+			if (message.contains(RESPONSE_NOT_AUTHORIZED)) {
+				throw new UnauthorizedRequestException();
+			}
+			// Error getting virtual network
+			throw new InstanceNotFoundException(message);
+		}
+	}
+
 	private static User findUserByName(UserPool userPool, String userName) throws UnauthorizedRequestException {
 		for (User user : userPool) {
 			if (userName.equals(user.getName())){
@@ -1,42 +1,34 @@
 package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
 
-import cloud.fogbow.common.exceptions.FatalErrorException;
 import cloud.fogbow.common.util.CloudInitUserDataBuilder;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.models.UserData;
 import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandGenerator;
+import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandTemplateEngine;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.log4j.Logger;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
 
 public class OpenNebulaLaunchCommandGenerator implements LaunchCommandGenerator {
     private static final Logger LOGGER = Logger.getLogger(OpenNebulaLaunchCommandGenerator.class);
 
     private final String ONE_STARTUP_SCRIPT_FILE_PATH = "bin/one-startup-script.sh";
-    private final String SCRIPT_FILE_DELIMETER = "\\A";
 
-    public OpenNebulaLaunchCommandGenerator() { }
+    private final LaunchCommandTemplateEngine templateEngine;
+
+    public OpenNebulaLaunchCommandGenerator() {
+        this.templateEngine = LaunchCommandTemplateEngine.getInstance();
+    }
 
     @Override
     public String createLaunchCommand(ComputeOrder order) {
         List<UserData> userDataScripts = order.getUserData();
         StringBuilder userDataBuilder = new StringBuilder();
-        Scanner scanner = null;
-
-        try {
-            scanner = new Scanner(new File(ONE_STARTUP_SCRIPT_FILE_PATH));
-            userDataBuilder.append(scanner.useDelimiter(SCRIPT_FILE_DELIMETER).next());
-        } catch (IOException e) {
-            throw new FatalErrorException(e.getMessage());
-        } finally {
-            scanner.close();
-        }
+        // the startup script has no tokens to be replaced
+        this.templateEngine.getTemplate(ONE_STARTUP_SCRIPT_FILE_PATH).render(Collections.emptyMap(), userDataBuilder);
 
         if (userDataScripts != null) {
             for (UserData userDataScript : userDataScripts) {
@@ -57,9 +49,7 @@ public class OpenNebulaLaunchCommandGenerator implements LaunchCommandGenerator
             }
         }
 
-        String base64String = new String(Base64.encodeBase64(userDataBuilder.toString().getBytes(StandardCharsets.UTF_8),
-                false, false), StandardCharsets.UTF_8);
-
-        return base64String;
+        // the startup script is run by the OpenNebula contextualization, which does not accept compressed scripts
+        return this.templateEngine.encode(userDataBuilder.toString());
     }
 }
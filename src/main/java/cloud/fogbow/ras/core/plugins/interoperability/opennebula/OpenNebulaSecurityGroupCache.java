@@ -0,0 +1,144 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import org.opennebula.client.Client;
+import org.opennebula.client.secgroup.SecurityGroup;
+import org.opennebula.client.secgroup.SecurityGroupPool;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds OpenNebula security groups by name or ID with a single request for the security group pool, instead of
+ * reading the groups one by one. The pool read for each user is indexed and kept for a short time; a lookup that
+ * misses reads the pool again once, so groups created meanwhile are found, and the groups deleted by the plugins
+ * are dropped from the indexes of all users.
+ *
+ * Only the IDs and names are kept, and a new element is returned for each lookup, so the callers may read and
+ * update the groups they get concurrently.
+ */
+public class OpenNebulaSecurityGroupCache {
+
+	@VisibleForTesting
+	static final long TIME_TO_LIVE = 10000;
+
+	private static OpenNebulaSecurityGroupCache instance;
+
+	private final Map<String, SecurityGroupIndex> indexes;
+
+	@VisibleForTesting
+	OpenNebulaSecurityGroupCache() {
+		this.indexes = new ConcurrentHashMap<>();
+	}
+
+	public static synchronized OpenNebulaSecurityGroupCache getInstance() {
+		if (instance == null) {
+			instance = new OpenNebulaSecurityGroupCache();
+		}
+		return instance;
+	}
+
+	/**
+	 * @param securityGroupIds the IDs of the groups the name is looked for in, such as the groups of a network.
+	 * @return the group with the given name among the given ones, or null if there is none.
+	 */
+	public SecurityGroup findByName(Client client, String userId, String[] securityGroupIds, String name)
+			throws InternalServerErrorException {
+
+		SecurityGroupIndex index = getCachedIndex(userId);
+		String securityGroupId = index == null ? null : index.findId(securityGroupIds, name);
+		if (securityGroupId == null) {
+			securityGroupId = loadIndex(client, userId).findId(securityGroupIds, name);
+		}
+		return securityGroupId == null ? null : new SecurityGroup(Integer.parseInt(securityGroupId), client);
+	}
+
+	public SecurityGroup findById(Client client, String userId, String securityGroupId)
+			throws InternalServerErrorException, InstanceNotFoundException {
+
+		SecurityGroupIndex index = getCachedIndex(userId);
+		if (index == null || !index.contains(securityGroupId)) {
+			index = loadIndex(client, userId);
+		}
+		if (!index.contains(securityGroupId)) {
+			throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
+		}
+		return new SecurityGroup(Integer.parseInt(securityGroupId), client);
+	}
+
+	/**
+	 * Drops a group that has been deleted from the indexes of all users.
+	 */
+	public void remove(String securityGroupId) {
+		for (Map.Entry<String, SecurityGroupIndex> entry : this.indexes.entrySet()) {
+			if (entry.getValue().contains(securityGroupId)) {
+				this.indexes.remove(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	public void invalidate(String userId) {
+		this.indexes.remove(userId);
+	}
+
+	@VisibleForTesting
+	long getCurrentTime() {
+		return System.currentTimeMillis();
+	}
+
+	private SecurityGroupIndex getCachedIndex(String userId) {
+		SecurityGroupIndex index = this.indexes.get(userId);
+		if (index != null && getCurrentTime() - index.loadTime >= TIME_TO_LIVE) {
+			this.indexes.remove(userId, index);
+			return null;
+		}
+		return index;
+	}
+
+	private SecurityGroupIndex loadIndex(Client client, String userId) throws InternalServerErrorException {
+		SecurityGroupPool securityGroupPool = OpenNebulaClientUtil.getSecurityGroupPool(client);
+		SecurityGroupIndex index = new SecurityGroupIndex(securityGroupPool, getCurrentTime());
+		this.indexes.put(userId, index);
+		return index;
+	}
+
+	private static class SecurityGroupIndex {
+		private final Map<String, String> namesById;
+		private final Map<String, List<String>> idsByName;
+		private final long loadTime;
+
+		private SecurityGroupIndex(SecurityGroupPool securityGroupPool, long loadTime) {
+			this.namesById = new HashMap<>();
+			this.idsByName = new HashMap<>();
+			for (SecurityGroup securityGroup : securityGroupPool) {
+				String id = securityGroup.getId();
+				String name = securityGroup.getName();
+				this.namesById.put(id, name);
+				this.idsByName.computeIfAbsent(name, key -> new ArrayList<>()).add(id);
+			}
+			this.loadTime = loadTime;
+		}
+
+		private boolean contains(String securityGroupId) {
+			return this.namesById.containsKey(securityGroupId);
+		}
+
+		private String findId(String[] securityGroupIds, String name) {
+			List<String> ids = this.idsByName.get(name);
+			if (ids != null) {
+				for (String securityGroupId : securityGroupIds) {
+					if (ids.contains(securityGroupId)) {
+						return securityGroupId;
+					}
+				}
+			}
+			return null;
+		}
+	}
+}
@@ -1,7 +1,8 @@
 package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -15,17 +16,28 @@ public class OpenNebulaUnmarshaller {
 
     private final static Logger LOGGER = Logger.getLogger(OpenNebulaUnmarshaller.class);
 
+    // Creating a context is much more expensive than unmarshalling a response, and contexts are thread-safe,
+    // so there is one for each class. Unmarshallers are not thread-safe and are created for each response.
+    private static final Map<Class, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
     public static Object unmarshal(String xml, Class classType) {
         Object object = null;
         try {
-            InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
-            JAXBContext jaxbContext = JAXBContext.newInstance(classType);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            object = unmarshaller.unmarshal(inputStream);
+            Unmarshaller unmarshaller = getContext(classType).createUnmarshaller();
+            object = unmarshaller.unmarshal(new StringReader(xml));
         } catch (JAXBException e) {
             LOGGER.error(String.format(Messages.Log.UNABLE_TO_UNMARSHALL_XML_S, xml), e);
         }
         return object;
     }
 
+    private static JAXBContext getContext(Class classType) throws JAXBException {
+        JAXBContext context = CONTEXTS.get(classType);
+        if (context == null) {
+            context = JAXBContext.newInstance(classType);
+            CONTEXTS.putIfAbsent(classType, context);
+        }
+        return context;
+    }
+
 }
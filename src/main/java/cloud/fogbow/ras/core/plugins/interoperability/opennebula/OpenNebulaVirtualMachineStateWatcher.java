@@ -0,0 +1,206 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.constants.Messages;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.log4j.Logger;
+import org.opennebula.client.Client;
+import org.opennebula.client.vm.VirtualMachine;
+import org.opennebula.client.vm.VirtualMachinePool;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for OpenNebula virtual machines to reach a given state without holding a thread for each of them. On every
+ * poll, the machines being watched are read with a single request for the virtual machine pool of each client, and
+ * the future of each machine that reached its target state is completed. A machine that has not reached it yet is
+ * checked less and less often, and its future fails once the timeout expires.
+ *
+ * The futures are completed on a separate pool, so the actions chained to them do not delay the polling.
+ */
+public class OpenNebulaVirtualMachineStateWatcher {
+	private static final Logger LOGGER = Logger.getLogger(OpenNebulaVirtualMachineStateWatcher.class);
+
+	@VisibleForTesting
+	static final long POLL_INTERVAL = 1000;
+	@VisibleForTesting
+	static final long MAXIMUM_CHECK_INTERVAL = 10000;
+	@VisibleForTesting
+	static final long TIMEOUT = 120000;
+	private static final int BACKOFF_MULTIPLIER = 2;
+	private static final int CONTINUATION_POOL_SIZE = 4;
+
+	private static OpenNebulaVirtualMachineStateWatcher instance;
+
+	private final List<Watch> watches;
+	private final ExecutorService continuationExecutor;
+	private ScheduledExecutorService pollExecutor;
+
+	@VisibleForTesting
+	OpenNebulaVirtualMachineStateWatcher() {
+		this.watches = new ArrayList<>();
+		this.continuationExecutor = Executors.newFixedThreadPool(CONTINUATION_POOL_SIZE, runnable -> {
+			Thread thread = new Thread(runnable, OpenNebulaVirtualMachineStateWatcher.class.getSimpleName());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public static synchronized OpenNebulaVirtualMachineStateWatcher getInstance() {
+		if (instance == null) {
+			instance = new OpenNebulaVirtualMachineStateWatcher();
+		}
+		return instance;
+	}
+
+	/**
+	 * @param client the client used to read the virtual machine.
+	 * @param virtualMachine the virtual machine to be watched.
+	 * @param targetState the name of the state, as returned by {@link VirtualMachine#stateStr()}.
+	 * @return a future completed when the virtual machine reaches the state, or failed with
+	 * InstanceNotFoundException if the machine no longer exists, or with InternalServerErrorException if it does
+	 * not reach the state before the timeout.
+	 */
+	public CompletableFuture<Void> watch(Client client, VirtualMachine virtualMachine, String targetState) {
+		long now = getCurrentTime();
+		Watch watch = new Watch(client, virtualMachine.id(), targetState, now);
+		synchronized (this.watches) {
+			this.watches.add(watch);
+			startPolling();
+		}
+		return watch.future;
+	}
+
+	@VisibleForTesting
+	void poll() {
+		long now = getCurrentTime();
+		Map<Client, List<Watch>> dueWatches = new HashMap<>();
+		synchronized (this.watches) {
+			for (Watch watch : this.watches) {
+				if (watch.nextCheckTime <= now) {
+					dueWatches.computeIfAbsent(watch.client, client -> new ArrayList<>()).add(watch);
+				}
+			}
+		}
+		for (Map.Entry<Client, List<Watch>> entry : dueWatches.entrySet()) {
+			check(entry.getKey(), entry.getValue(), now);
+		}
+	}
+
+	@VisibleForTesting
+	int getWatchCount() {
+		synchronized (this.watches) {
+			return this.watches.size();
+		}
+	}
+
+	@VisibleForTesting
+	long getCurrentTime() {
+		return System.currentTimeMillis();
+	}
+
+	private void check(Client client, List<Watch> watches, long now) {
+		int startId = Integer.MAX_VALUE;
+		int endId = Integer.MIN_VALUE;
+		for (Watch watch : watches) {
+			startId = Math.min(startId, watch.virtualMachineId);
+			endId = Math.max(endId, watch.virtualMachineId);
+		}
+		VirtualMachinePool virtualMachinePool;
+		try {
+			virtualMachinePool = OpenNebulaClientUtil.getVirtualMachinePool(client, startId, endId);
+		} catch (InternalServerErrorException e) {
+			// the machines are checked again after backing off, as if they had not reached their state
+			for (Watch watch : watches) {
+				backOffOrExpire(watch, now);
+			}
+			return;
+		}
+		for (Watch watch : watches) {
+			VirtualMachine virtualMachine = virtualMachinePool.getById(watch.virtualMachineId);
+			if (virtualMachine == null) {
+				fail(watch, new InstanceNotFoundException());
+			} else if (watch.targetState.equalsIgnoreCase(virtualMachine.stateStr())) {
+				complete(watch);
+			} else {
+				backOffOrExpire(watch, now);
+			}
+		}
+	}
+
+	private void backOffOrExpire(Watch watch, long now) {
+		if (now >= watch.deadline) {
+			LOGGER.warn(String.format(Messages.Log.VIRTUAL_MACHINE_S_DID_NOT_REACH_STATE_S,
+					watch.virtualMachineId, watch.targetState));
+			fail(watch, new InternalServerErrorException(String.format(
+					Messages.Exception.VIRTUAL_MACHINE_S_DID_NOT_REACH_STATE_S, watch.virtualMachineId,
+					watch.targetState)));
+		} else {
+			watch.nextCheckTime = now + watch.checkInterval;
+			watch.checkInterval = Math.min(watch.checkInterval * BACKOFF_MULTIPLIER, MAXIMUM_CHECK_INTERVAL);
+		}
+	}
+
+	private void complete(Watch watch) {
+		stopWatching(watch);
+		this.continuationExecutor.execute(() -> watch.future.complete(null));
+	}
+
+	private void fail(Watch watch, Exception cause) {
+		stopWatching(watch);
+		this.continuationExecutor.execute(() -> watch.future.completeExceptionally(cause));
+	}
+
+	private void stopWatching(Watch watch) {
+		synchronized (this.watches) {
+			this.watches.remove(watch);
+		}
+	}
+
+	@VisibleForTesting
+	void startPolling() {
+		if (this.pollExecutor == null) {
+			this.pollExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, OpenNebulaVirtualMachineStateWatcher.class.getSimpleName());
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.pollExecutor.scheduleWithFixedDelay(() -> {
+				try {
+					poll();
+				} catch (Throwable e) {
+					LOGGER.error(Messages.Log.UNEXPECTED_ERROR, e);
+				}
+			}, POLL_INTERVAL, POLL_INTERVAL, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private static class Watch {
+		private final Client client;
+		private final int virtualMachineId;
+		private final String targetState;
+		private final long deadline;
+		private final CompletableFuture<Void> future;
+		private long checkInterval;
+		private long nextCheckTime;
+
+		private Watch(Client client, int virtualMachineId, String targetState, long now) {
+			this.client = client;
+			this.virtualMachineId = virtualMachineId;
+			this.targetState = targetState;
+			this.deadline = now + TIMEOUT;
+			this.future = new CompletableFuture<>();
+			this.checkInterval = POLL_INTERVAL;
+			this.nextCheckTime = now;
+		}
+	}
+}
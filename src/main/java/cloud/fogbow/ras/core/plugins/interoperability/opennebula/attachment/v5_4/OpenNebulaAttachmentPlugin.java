@@ -4,6 +4,8 @@ import java.util.Properties;
 
 import cloud.fogbow.common.exceptions.*;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.attachment.model.CreateAttachmentRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.GetVirtualMachineResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.VirtualMachineDisk;
 import org.apache.log4j.Logger;
 import org.opennebula.client.Client;
 import org.opennebula.client.OneResponse;
@@ -34,10 +36,6 @@ public class OpenNebulaAttachmentPlugin implements AttachmentPlugin<CloudUser> {
     static final String DEFAULT_TARGET = "hdb";
     @VisibleForTesting
     static final String DEVICE_PATH_SEPARATOR = "/";
-    @VisibleForTesting
-    static final String DISK_ID_PATH_FORMAT = "TEMPLATE/DISK[IMAGE_ID=%s]/DISK_ID";
-    @VisibleForTesting
-    static final String TARGET_PATH_FORMAT = "TEMPLATE/DISK[IMAGE_ID=%s]/TARGET";
 
     @VisibleForTesting
     static final int DEVICE_PATH_LENGTH = 3;
@@ -115,9 +113,9 @@ public class OpenNebulaAttachmentPlugin implements AttachmentPlugin<CloudUser> {
             String virtualMachineId, 
             String imageId) throws FogbowException {
 
-        VirtualMachine virtualMachine = OpenNebulaClientUtil.getVirtualMachine(client, virtualMachineId);
-        String imageIdPath = String.format(DISK_ID_PATH_FORMAT, imageId);
-        String diskId = virtualMachine.xpath(imageIdPath);
+        GetVirtualMachineResponse virtualMachine = OpenNebulaClientUtil.getVirtualMachineResponse(client, virtualMachineId);
+        VirtualMachineDisk disk = virtualMachine.getTemplate().getDiskByImageId(imageId);
+        String diskId = disk != null ? disk.getId() : null;
         return diskId;
     }
 
@@ -171,9 +169,9 @@ public class OpenNebulaAttachmentPlugin implements AttachmentPlugin<CloudUser> {
             String computeId,
             String volumeId) throws FogbowException {
 
-        VirtualMachine virtualMachine = OpenNebulaClientUtil.getVirtualMachine(client, computeId);
-        String deviceTargetPath = String.format(TARGET_PATH_FORMAT, volumeId);
-        String device = virtualMachine.xpath(deviceTargetPath);
+        GetVirtualMachineResponse virtualMachine = OpenNebulaClientUtil.getVirtualMachineResponse(client, computeId);
+        VirtualMachineDisk disk = virtualMachine.getTemplate().getDiskByImageId(volumeId);
+        String device = disk != null ? disk.getTarget() : null;
         String state = getImageState(client, volumeId);
 
         return new AttachmentInstance(instanceId, state, computeId, volumeId, device);
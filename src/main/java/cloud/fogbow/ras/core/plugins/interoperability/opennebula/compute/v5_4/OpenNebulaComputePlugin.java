@@ -19,6 +19,9 @@ import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.ComputePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.*;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.CreateComputeRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.GetVirtualMachineResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.GetVirtualMachineTemplate;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.VirtualMachineNic;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.VirtualMachineTemplate;
 import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandGenerator;
 import com.google.common.annotations.VisibleForTesting;
@@ -48,8 +51,6 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
     static final String DEFAULT_GRAPHIC_TYPE = "vnc";
 	@VisibleForTesting
     static final String NETWORK_CONFIRMATION_CONTEXT = "YES";
-	@VisibleForTesting
-    static final String NIC_IP_EXPRESSION = "//NIC/IP";
 
 	@VisibleForTesting
     static final boolean SHUTS_DOWN_HARD = true;
@@ -62,12 +63,6 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 
 	@VisibleForTesting
     static final String IMAGE_SIZE_PATH = "SIZE";
-	@VisibleForTesting
-    static final String TEMPLATE_CPU_PATH = "TEMPLATE/CPU";
-	@VisibleForTesting
-    static final String TEMPLATE_DISK_SIZE_PATH = "TEMPLATE/DISK/SIZE";
-	@VisibleForTesting
-    static final String TEMPLATE_MEMORY_PATH = "TEMPLATE/MEMORY";
 
 	private String endpoint;
 	private TreeSet<HardwareRequirements> flavors;
@@ -144,13 +139,19 @@ public class OpenNebulaComputePlugin implements ComputePlugin<CloudUser> {
 		String name = virtualMachine.getName();
 		String state = virtualMachine.lcmStateStr();
 
-		int cpu = Integer.parseInt(virtualMachine.xpath(TEMPLATE_CPU_PATH));
-		int memoryRam = Integer.parseInt(virtualMachine.xpath(TEMPLATE_MEMORY_PATH));
-		int disk = Integer.parseInt(virtualMachine.xpath(TEMPLATE_DISK_SIZE_PATH)) / ONE_GIGABYTE_IN_MEGABYTES;
+		GetVirtualMachineResponse virtualMachineResponse = GetVirtualMachineResponse.unmarshaller()
+				.response(response.getMessage())
+				.unmarshal();
+		GetVirtualMachineTemplate template = virtualMachineResponse.getTemplate();
+
+		int cpu = Integer.parseInt(template.getCpu());
+		int memoryRam = Integer.parseInt(template.getMemory());
+		int disk = Integer.parseInt(template.getDisks().get(0).getSize()) / ONE_GIGABYTE_IN_MEGABYTES;
 
-		String xml = response.getMessage();
-		XmlUnmarshaller xmlUnmarshaller = new XmlUnmarshaller(xml);
-		List<String> ipAddresses = xmlUnmarshaller.getContextListOf(NIC_IP_EXPRESSION);
+		List<String> ipAddresses = new ArrayList<>();
+		for (VirtualMachineNic nic : template.getNics()) {
+			ipAddresses.add(nic.getIp());
+		}
 
 		ComputeInstance computeInstance = new ComputeInstance(id, state, name, cpu, memoryRam, disk, ipAddresses);
 		this.setComputeInstanceNetworks(computeInstance);
@@ -8,8 +8,10 @@ import cloud.fogbow.common.exceptions.*;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaStateMapper;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.AddressRange;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.CreateNetworkReserveRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.CreateNetworkUpdateRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkResponse;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.lang.math.NumberUtils;
 import org.apache.commons.net.util.SubnetUtils;
@@ -29,6 +31,7 @@ import cloud.fogbow.ras.core.models.orders.NetworkOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.NetworkPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaSecurityGroupCache;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.CreateSecurityGroupRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.Rule;
 
@@ -49,33 +52,20 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 	@VisibleForTesting
     static final String SECURITY_GROUPS_SEPARATOR = ",";
 	@VisibleForTesting
-    static final String VNET_ADDRESS_RANGE_IP_PATH = "/VNET/AR_POOL/AR/IP";
-	@VisibleForTesting
-    static final String VNET_ADDRESS_RANGE_SIZE_PATH = "/VNET/AR_POOL/AR/SIZE";
-	@VisibleForTesting
     static final String VNET_TEMPLATE_SECURITY_GROUPS_PATH = "/VNET/TEMPLATE/SECURITY_GROUPS";
-	@VisibleForTesting
-    static final String VNET_TEMPLATE_VLAN_ID_PATH = "/VNET/TEMPLATE/VLAN_ID";
-
-	@VisibleForTesting
-    static final String ADDRESS_RANGE_ID_PATH_FORMAT = "/VNET/AR_POOL/AR[%s]/AR_ID";
-	@VisibleForTesting
-    static final String ADDRESS_RANGE_IP_PATH_FORMAT = "/VNET/AR_POOL/AR[%s]/IP";
-	@VisibleForTesting
-    static final String ADDRESS_RANGE_SIZE_PATH_FORMAT = "/VNET/AR_POOL/AR[%s]/SIZE";
-	@VisibleForTesting
-    static final String ADDRESS_RANGE_USED_LEASES_PATH_FORMAT = "/VNET/AR_POOL/AR[%s]/USED_LEASES";
 
 	@VisibleForTesting
     static final int IPV4_AMOUNT_BITS = 32;
 
 	private String endpoint;
 	private String defaultNetwork;
+	private OpenNebulaSecurityGroupCache securityGroupCache;
 
 	public OpenNebulaNetworkPlugin(String confFilePath) throws FatalErrorException {
 		Properties properties = PropertiesUtil.readProperties(confFilePath);
 		this.endpoint = properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
 		this.defaultNetwork = properties.getProperty(OpenNebulaConfigurationPropertyKeys.DEFAULT_RESERVATIONS_NETWORK_ID_KEY);
+		this.securityGroupCache = OpenNebulaSecurityGroupCache.getInstance();
 	}
 
 	@Override
@@ -92,7 +82,7 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 	public String requestInstance(NetworkOrder networkOrder, CloudUser cloudUser) throws FogbowException {
 		LOGGER.info(String.format(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER));
 		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
-		VirtualNetwork virtualNetwork = OpenNebulaClientUtil.getVirtualNetwork(client, this.defaultNetwork);
+		GetVirtualNetworkResponse virtualNetwork = OpenNebulaClientUtil.getVirtualNetworkResponse(client, this.defaultNetwork);
 		CreateNetworkReserveRequest request = this.getCreateNetworkReserveRequest(networkOrder, virtualNetwork);
 
 		String instanceId = this.doRequestInstance(client, request);
@@ -104,7 +94,7 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 		String instanceId = networkOrder.getInstanceId();
 		LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, instanceId));
 		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
-		VirtualNetwork virtualNetwork = OpenNebulaClientUtil.getVirtualNetwork(client, instanceId);
+		GetVirtualNetworkResponse virtualNetwork = OpenNebulaClientUtil.getVirtualNetworkResponse(client, instanceId);
 		return this.doGetInstance(virtualNetwork);
 	}
 
@@ -115,7 +105,8 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
 		VirtualNetwork virtualNetwork = OpenNebulaClientUtil.getVirtualNetwork(client, instanceId);
 
-		SecurityGroup securityGroup = this.getSecurityGroupForVirtualNetwork(client, virtualNetwork, instanceId);
+		SecurityGroup securityGroup = this.getSecurityGroupForVirtualNetwork(client, cloudUser.getId(), virtualNetwork,
+				instanceId);
 		if (securityGroup != null) {
 			this.deleteSecurityGroup(securityGroup);
 		}
@@ -136,12 +127,12 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-    NetworkInstance doGetInstance(VirtualNetwork virtualNetwork) throws InvalidParameterException {
+    NetworkInstance doGetInstance(GetVirtualNetworkResponse virtualNetwork) throws InvalidParameterException {
 		String id = virtualNetwork.getId();
 		String name = virtualNetwork.getName();
-		String vLan = virtualNetwork.xpath(VNET_TEMPLATE_VLAN_ID_PATH);
-		String firstIP = virtualNetwork.xpath(VNET_ADDRESS_RANGE_IP_PATH);
-		String rangeSize = virtualNetwork.xpath(VNET_ADDRESS_RANGE_SIZE_PATH);
+		String vLan = virtualNetwork.getVlanId();
+		String firstIP = virtualNetwork.getFirstAddressRange().getIp();
+		String rangeSize = virtualNetwork.getFirstAddressRange().getSize();
 		String address = this.generateAddressCidr(firstIP, rangeSize);
 
 		String networkInterface = null;
@@ -174,27 +165,25 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-    Integer getAddressRangeIndex(VirtualNetwork virtualNetwork, String lowAddress, int addressRangeSize)
+    AddressRange getAddressRange(GetVirtualNetworkResponse virtualNetwork, String lowAddress, int addressRangeSize)
 			throws InvalidParameterException {
 
-		for (int i = 1; i < Integer.MAX_VALUE; i++) {
-			String addressRangeFirstIp = virtualNetwork.xpath(String.format(ADDRESS_RANGE_IP_PATH_FORMAT, i));
-			String currentAddressRangeSize = virtualNetwork.xpath(String.format(ADDRESS_RANGE_SIZE_PATH_FORMAT, i));
-			String addressRangeLeases = virtualNetwork.xpath(String.format(ADDRESS_RANGE_USED_LEASES_PATH_FORMAT, i));
-			int usedLeases = NumberUtils.toInt(addressRangeLeases);
+		for (AddressRange addressRange : virtualNetwork.getAddressRanges()) {
+			String addressRangeFirstIp = addressRange.getIp();
+			String currentAddressRangeSize = addressRange.getSize();
+			int usedLeases = NumberUtils.toInt(addressRange.getUsedLeases());
 
-			// NOTE(pauloewerton): no more address ranges
-			if (addressRangeFirstIp.isEmpty() || currentAddressRangeSize.isEmpty()) {
-				break;
+			// address ranges without IPv4 addresses, such as Ethernet ones, cannot hold the reserve
+			if (addressRangeFirstIp == null || addressRangeFirstIp.isEmpty()
+					|| currentAddressRangeSize == null || currentAddressRangeSize.isEmpty()) {
+				continue;
 			}
 
-			String addressRangeCidr = String.format(CIDR_FORMAT, addressRangeFirstIp,
-					this.calculateCidr(this.convertToInteger(currentAddressRangeSize)));
-
+			String addressRangeCidr = this.generateAddressCidr(addressRangeFirstIp, currentAddressRangeSize);
 			SubnetUtils.SubnetInfo subnetInfo = new SubnetUtils(addressRangeCidr).getInfo();
 			int availableAddresses = subnetInfo.getAddressCount() - usedLeases;
 			if (subnetInfo.isInRange(lowAddress) && availableAddresses >= addressRangeSize) {
-				return i;
+				return addressRange;
 			}
 		}
 
@@ -202,11 +191,9 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-    String getAddressRangeId(VirtualNetwork virtualNetwork, Integer addressRangeIndex, String cidr)
-			throws UnacceptableOperationException {
-
-		if (addressRangeIndex != null) {
-			return virtualNetwork.xpath(String.format(ADDRESS_RANGE_ID_PATH_FORMAT, addressRangeIndex));
+    String getAddressRangeId(AddressRange addressRange, String cidr) throws UnacceptableOperationException {
+		if (addressRange != null) {
+			return addressRange.getId();
 		} else {
 			throw new UnacceptableOperationException(String.format(Messages.Exception.UNABLE_TO_CREATE_NETWORK_RESERVE_S,
 					cidr));
@@ -214,17 +201,12 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-    String getNextAvailableAddress(VirtualNetwork virtualNetwork, Integer addressRangeIndex)
-			throws InvalidParameterException {
-
-		String addressRangeFirstIp = virtualNetwork.xpath(String.format(ADDRESS_RANGE_IP_PATH_FORMAT, addressRangeIndex));
-		String currentAddressRangeSize = virtualNetwork.xpath(String.format(ADDRESS_RANGE_SIZE_PATH_FORMAT, addressRangeIndex));
-		String addressRangeLeases = virtualNetwork.xpath(String.format(ADDRESS_RANGE_USED_LEASES_PATH_FORMAT, addressRangeIndex));
-		int usedLeases = NumberUtils.toInt(addressRangeLeases);
+    String getNextAvailableAddress(AddressRange addressRange) throws InvalidParameterException {
+		String addressRangeFirstIp = addressRange.getIp();
+		int usedLeases = NumberUtils.toInt(addressRange.getUsedLeases());
 
 		if (usedLeases > 0) {
-			String addressRangeCidr = String.format(CIDR_FORMAT, addressRangeFirstIp,
-					this.calculateCidr(this.convertToInteger(currentAddressRangeSize)));
+			String addressRangeCidr = this.generateAddressCidr(addressRangeFirstIp, addressRange.getSize());
 			SubnetUtils.SubnetInfo subnetInfo = new SubnetUtils(addressRangeCidr).getInfo();
 
 			return subnetInfo.getAllAddresses()[usedLeases];
@@ -234,7 +216,8 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 	}
 
 	@VisibleForTesting
-    CreateNetworkReserveRequest getCreateNetworkReserveRequest(NetworkOrder networkOrder, VirtualNetwork virtualNetwork)
+    CreateNetworkReserveRequest getCreateNetworkReserveRequest(NetworkOrder networkOrder,
+			GetVirtualNetworkResponse virtualNetwork)
 			throws InvalidParameterException, UnacceptableOperationException {
 		String cidr = networkOrder.getCidr();
 		SubnetUtils.SubnetInfo subnetInfo = new SubnetUtils(cidr).getInfo();
@@ -242,9 +225,9 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 		String name = networkOrder.getName();
 		int size = subnetInfo.getAddressCount();
 
-		Integer addressRangeIndex = this.getAddressRangeIndex(virtualNetwork, subnetInfo.getLowAddress(), size);
-		String addressRangeId = this.getAddressRangeId(virtualNetwork, addressRangeIndex, cidr);
-		String ip = this.getNextAvailableAddress(virtualNetwork, addressRangeIndex);
+		AddressRange addressRange = this.getAddressRange(virtualNetwork, subnetInfo.getLowAddress(), size);
+		String addressRangeId = this.getAddressRangeId(addressRange, cidr);
+		String ip = this.getNextAvailableAddress(addressRange);
 
 		return new CreateNetworkReserveRequest.Builder()
 				.name(name)
@@ -271,9 +254,9 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
     String createSecurityGroup(Client client, String virtualNetworkId)
 			throws InvalidParameterException, UnauthorizedRequestException, InstanceNotFoundException {
 
-		VirtualNetwork virtualNetwork = OpenNebulaClientUtil.getVirtualNetwork(client, virtualNetworkId);
-		String ip = virtualNetwork.xpath(VNET_ADDRESS_RANGE_IP_PATH);
-		String size = virtualNetwork.xpath(VNET_ADDRESS_RANGE_SIZE_PATH);
+		GetVirtualNetworkResponse virtualNetwork = OpenNebulaClientUtil.getVirtualNetworkResponse(client, virtualNetworkId);
+		String ip = virtualNetwork.getFirstAddressRange().getIp();
+		String size = virtualNetwork.getFirstAddressRange().getSize();
 		String name = this.generateSecurityGroupName(virtualNetworkId);
 
 		// "ALL" setting applies to all protocols if a port range is not defined
@@ -328,30 +311,25 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 		OneResponse response = securityGroup.delete();
 		if (response.isError()) {
 			LOGGER.error(String.format(Messages.Log.ERROR_WHILE_REMOVING_RESOURCE_S_S, SECURITY_GROUP_RESOURCE, response.getMessage()));
+		} else {
+			this.securityGroupCache.remove(securityGroup.getId());
 		}
 	}
 
 	@VisibleForTesting
-    SecurityGroup getSecurityGroupForVirtualNetwork(Client client, VirtualNetwork virtualNetwork, String instanceId)
-			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
-		SecurityGroup securityGroup = null;
+    SecurityGroup getSecurityGroupForVirtualNetwork(Client client, String userId, VirtualNetwork virtualNetwork,
+			String instanceId) throws InternalServerErrorException {
+
 		String securityGroupIdsStr = virtualNetwork.xpath(VNET_TEMPLATE_SECURITY_GROUPS_PATH);
 
 		if (securityGroupIdsStr == null || securityGroupIdsStr.isEmpty()) {
 			LOGGER.warn(Messages.Log.CONTENT_SECURITY_GROUP_NOT_DEFINED);
-			return securityGroup;
+			return null;
 		}
 
 		String[] securityGroupIds =  securityGroupIdsStr.split(SECURITY_GROUPS_SEPARATOR);
 		String securityGroupName = this.generateSecurityGroupName(instanceId);
-		for (String securityGroupId : securityGroupIds) {
-			securityGroup = OpenNebulaClientUtil.getSecurityGroup(client, securityGroupId);
-			if (securityGroup.getName().equals(securityGroupName)) {
-				return securityGroup;
-			}
-		}
-
-		return securityGroup;
+		return this.securityGroupCache.findByName(client, userId, securityGroupIds, securityGroupName);
 	}
 
 	@VisibleForTesting
@@ -389,4 +367,9 @@ public class OpenNebulaNetworkPlugin implements NetworkPlugin<CloudUser> {
 			throw new InvalidParameterException();
 		}
 	}
+
+	@VisibleForTesting
+	void setSecurityGroupCache(OpenNebulaSecurityGroupCache securityGroupCache) {
+		this.securityGroupCache = securityGroupCache;
+	}
 }
@@ -2,8 +2,12 @@ package cloud.fogbow.ras.core.plugins.interoperability.opennebula.publicip.v5_4;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import cloud.fogbow.common.exceptions.*;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.publicip.model.CreateNicRequest;
@@ -23,13 +27,19 @@ import cloud.fogbow.ras.api.http.response.PublicIpInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.OrderState;
 import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.PublicIpPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaSecurityGroupCache;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaStateMapper;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaVirtualMachineStateWatcher;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.GetVirtualMachineResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.VirtualMachineNic;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.CreateNetworkReserveRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.CreateNetworkUpdateRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.CreateSecurityGroupRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.Rule;
 
@@ -43,33 +53,32 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 	private static final String INPUT_RULE_TYPE = "inbound";
 	private static final String OUTPUT_RULE_TYPE = "outbound";
 	private static final String SECURITY_GROUP_SEPARATOR = ",";
-	@VisibleForTesting
-    static final String PUBLIC_IP_RESOURCE = "Public IP";
+	private static final String REMOVAL_KEY_SEPARATOR = "/";
 
 	private static final int SIZE_ADDRESS_PUBLIC_IP = 1;
-	private static final int ATTEMPTS_LIMIT_NUMBER = 5;
 
-	@VisibleForTesting
-    static final String EXPRESSION_IP_FROM_NETWORK_ID_S_FORMAT = "TEMPLATE/NIC[NETWORK_ID=%s]/IP";
 	@VisibleForTesting
     static final String EXPRESSION_NIC_ID_FROM_NETWORK_ID_S_FORMAT = "TEMPLATE/NIC[NETWORK_ID=%s]/NIC_ID";
 	@VisibleForTesting
-    static final String SECURITY_GROUPS_PATH = "TEMPLATE/SECURITY_GROUPS";
-	@VisibleForTesting
     static final String POWEROFF_STATE = "POWEROFF";
-	
-	@VisibleForTesting
-    static final long ONE_POINT_TWO_SECONDS = 1200;
 	@VisibleForTesting
     static final boolean SHUT_OFF = true;
 
 	private String endpoint;
 	private String defaultPublicNetwork;
+	private OpenNebulaVirtualMachineStateWatcher stateWatcher;
+
+	// The removals in progress, by public IP and by the compute the public IP is detached from. A new plugin is
+	// created for each request to the cloud, so the removals are kept for the whole process, keyed by the
+	// endpoint of the cloud and the instance ID.
+	private static final Map<String, CompletableFuture<Void>> removals = new ConcurrentHashMap<>();
+	private static final Map<String, CompletableFuture<Void>> removalsByCompute = new ConcurrentHashMap<>();
 
 	public OpenNebulaPublicIpPlugin(String confFilePath) throws FatalErrorException {
 		Properties properties = PropertiesUtil.readProperties(confFilePath);
 		this.endpoint = properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
 		this.defaultPublicNetwork = properties.getProperty(OpenNebulaConfigurationPropertyKeys.DEFAULT_PUBLIC_NETWORK_ID_KEY);
+		this.stateWatcher = OpenNebulaVirtualMachineStateWatcher.getInstance();
 	}
 
 	@Override
@@ -114,7 +123,8 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 		LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, instanceId));
 		Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
 
-		return this.doGetInstance(client, instanceId, publicIpOrder.getComputeId());
+		boolean deletionRequested = publicIpOrder.getOrderState() == OrderState.CHECKING_DELETION;
+		return this.doGetInstance(client, instanceId, publicIpOrder.getComputeId(), deletionRequested);
 	}
 
 	@VisibleForTesting
@@ -133,23 +143,64 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 		return instanceId;
 	}
 
+	/**
+	 * Starts the removal of the public IP and returns without waiting for it; getInstance() raises
+	 * InstanceNotFoundException once the removal has finished, and, while the order is checking its deletion,
+	 * starts the removal again if the public IP is still there and no removal is in progress (ex. the removal
+	 * has failed or the RAS has restarted).
+	 */
 	@VisibleForTesting
     void doDeleteInstance(Client client, PublicIpOrder order)
-			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException, InternalServerErrorException {
+			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
+
+		this.startRemoval(client, order.getInstanceId(), order.getComputeId());
+	}
+
+	@VisibleForTesting
+	void startRemoval(Client client, String publicIpInstanceId, String computeId)
+			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
+
+		String removalKey = this.getRemovalKey(publicIpInstanceId);
+		String computeKey = this.getRemovalKey(computeId);
+		VirtualMachine virtualMachine = OpenNebulaClientUtil.getVirtualMachine(client, computeId);
+		synchronized (removalsByCompute) {
+			CompletableFuture<Void> ongoingRemoval = removals.get(removalKey);
+			if (ongoingRemoval != null && !ongoingRemoval.isDone()) {
+				return;
+			}
+			// Each removal powers the VM off and resumes it, so the removals of the public IPs of a VM are chained.
+			CompletableFuture<Void> previousRemoval = removalsByCompute.get(computeKey);
+			CompletableFuture<Void> removal = previousRemoval == null
+					? this.removePublicIp(client, virtualMachine, publicIpInstanceId)
+					: previousRemoval.handle((result, error) -> null)
+							.thenCompose(ignored -> this.removePublicIp(client, virtualMachine, publicIpInstanceId));
+			removals.put(removalKey, removal);
+			removalsByCompute.put(computeKey, removal);
+			removal.whenComplete((result, error) -> {
+				removalsByCompute.remove(computeKey, removal);
+				if (error != null) {
+					LOGGER.warn(String.format(Messages.Log.UNABLE_TO_REMOVE_PUBLIC_IP_S, publicIpInstanceId), error);
+				}
+			});
+		}
+	}
+
+	@VisibleForTesting
+	CompletableFuture<Void> removePublicIp(Client client, VirtualMachine virtualMachine, String publicIpInstanceId) {
 		// NOTE(pauloewerton): ONe does not allow deleting a resource associated to a VM, so we're using a workaround
 		// by shutting down the VM, releasing network and secgroup resources, and then resuming it afterwards.
-		VirtualMachine virtualMachine = OpenNebulaClientUtil.getVirtualMachine(client, order.getComputeId());
 		virtualMachine.poweroff(SHUT_OFF);
-		String publicIpInstanceId = order.getInstanceId();
-
-		if (this.isPowerOff(virtualMachine)) {
-			this.detachPublicIpFromCompute(virtualMachine, publicIpInstanceId);
-			this.deleteSecurityGroup(client, publicIpInstanceId);
-			this.deletePublicIp(client, publicIpInstanceId);
-			virtualMachine.resume();
-		} else {
-			throw new InternalServerErrorException(String.format(Messages.Exception.ERROR_WHILE_REMOVING_RESOURCE_S_S, PUBLIC_IP_RESOURCE, publicIpInstanceId));
-		}
+		return this.stateWatcher.watch(client, virtualMachine, POWEROFF_STATE).thenRun(() -> {
+			try {
+				this.detachPublicIpFromCompute(virtualMachine, publicIpInstanceId);
+				this.deleteSecurityGroup(client, publicIpInstanceId);
+				this.deletePublicIp(client, publicIpInstanceId);
+			} catch (FogbowException e) {
+				throw new CompletionException(e);
+			} finally {
+				virtualMachine.resume();
+			}
+		});
 	}
 
 	@VisibleForTesting
@@ -164,16 +215,58 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 		}
 	}
 
+	/**
+	 * @param deletionRequested whether the order is checking the deletion of the public IP, in which case a
+	 * public IP that is still there without a removal in progress is removed again.
+	 */
 	@VisibleForTesting
-    PublicIpInstance doGetInstance(Client client, String publicIpInstanceId, String computeId)
-			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
+    PublicIpInstance doGetInstance(Client client, String publicIpInstanceId, String computeId, boolean deletionRequested)
+			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException,
+			InternalServerErrorException {
+
+		String removalKey = this.getRemovalKey(publicIpInstanceId);
+		CompletableFuture<Void> removal = removals.get(removalKey);
+		if (removal != null && removal.isDone()) {
+			removals.remove(removalKey, removal);
+			if (!removal.isCompletedExceptionally()) {
+				throw new InstanceNotFoundException();
+			}
+			removal = null;
+		}
 
-		VirtualMachine virtualMachine = OpenNebulaClientUtil.getVirtualMachine(client, computeId);
-		String publicIp =  virtualMachine.xpath(String.format(EXPRESSION_IP_FROM_NETWORK_ID_S_FORMAT, publicIpInstanceId));
+		GetVirtualMachineResponse virtualMachine = OpenNebulaClientUtil.getVirtualMachineResponse(client, computeId);
+		VirtualMachineNic nic = virtualMachine.getTemplate().getNicByNetworkId(publicIpInstanceId);
+		String publicIp = nic != null ? nic.getIp() : null;
+		boolean removalNeeded = deletionRequested && removal == null;
+		if (publicIp == null || publicIp.isEmpty()) {
+			// The public IP may have been removed before the RAS restarted; the lookup fails if so.
+			OpenNebulaClientUtil.getVirtualNetwork(client, publicIpInstanceId);
+			if (removalNeeded) {
+				// the NIC has been detached, but the removal stopped before releasing the rest
+				LOGGER.info(String.format(Messages.Log.RESTARTING_PUBLIC_IP_REMOVAL_S, publicIpInstanceId));
+				this.releaseDetachedPublicIp(client, publicIpInstanceId);
+				throw new InstanceNotFoundException();
+			}
+		} else if (removalNeeded) {
+			LOGGER.info(String.format(Messages.Log.RESTARTING_PUBLIC_IP_REMOVAL_S, publicIpInstanceId));
+			this.startRemoval(client, publicIpInstanceId, computeId);
+		}
 
 		return new PublicIpInstance(publicIpInstanceId, OpenNebulaStateMapper.DEFAULT_READY_STATE, publicIp);
 	}
 
+	@VisibleForTesting
+	void releaseDetachedPublicIp(Client client, String publicIpInstanceId)
+			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException,
+			InternalServerErrorException {
+
+		// the security group is already gone if the removal failed while deleting the network reserve
+		if (this.getSecurityGroupForPublicIpNetwork(client, publicIpInstanceId) != null) {
+			this.deleteSecurityGroup(client, publicIpInstanceId);
+		}
+		this.deletePublicIp(client, publicIpInstanceId);
+	}
+
 	@VisibleForTesting
     String createSecurityGroup(Client client, String instanceId) throws InvalidParameterException {
 		String name = generateSecurityGroupName(instanceId);
@@ -262,31 +355,6 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 		return request.getNic().marshalTemplate();
 	}
 
-	@VisibleForTesting
-    boolean isPowerOff(VirtualMachine virtualMachine) {
-		String state;
-		int count = 0;
-		while (count < ATTEMPTS_LIMIT_NUMBER) {
-			count++;
-			this.waitMoment();
-			virtualMachine.info();
-			state = virtualMachine.stateStr();
-			if (state.equalsIgnoreCase(POWEROFF_STATE)) {
-				return true;
-			}
-		}
-		return false;
-	}
-
-	@VisibleForTesting
-    void waitMoment() {
-		try {
-			Thread.sleep(ONE_POINT_TWO_SECONDS);
-		} catch (InterruptedException e) {
-			LOGGER.error(e.getMessage(), e);
-		}
-	}
-
 	@VisibleForTesting
     void detachPublicIpFromCompute(VirtualMachine virtualMachine, String publicIpInstanceId)
 			throws InvalidParameterException, InternalServerErrorException {
@@ -313,6 +381,7 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 		if (response.isError()) {
 			throw new InternalServerErrorException(response.getErrorMessage());
 		}
+		OpenNebulaSecurityGroupCache.getInstance().remove(securityGroup.getId());
 	}
 
 	@Nullable
@@ -320,8 +389,8 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
     SecurityGroup getSecurityGroupForPublicIpNetwork(Client client, String publicIpInstanceId)
 			throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
 
-		VirtualNetwork virtualNetwork = OpenNebulaClientUtil.getVirtualNetwork(client, publicIpInstanceId);
-		String securityGroupIdsStr = virtualNetwork.xpath(SECURITY_GROUPS_PATH);
+		GetVirtualNetworkResponse virtualNetwork = OpenNebulaClientUtil.getVirtualNetworkResponse(client, publicIpInstanceId);
+		String securityGroupIdsStr = virtualNetwork.getSecurityGroups();
 
 		if (securityGroupIdsStr == null || securityGroupIdsStr.isEmpty()) {
 			LOGGER.warn(Messages.Log.CONTENT_SECURITY_GROUP_NOT_DEFINED);
@@ -340,10 +409,25 @@ public class OpenNebulaPublicIpPlugin implements PublicIpPlugin<CloudUser> {
 		return null;
 	}
 
+	private String getRemovalKey(String instanceId) {
+		return this.endpoint + REMOVAL_KEY_SEPARATOR + instanceId;
+	}
+
+	@VisibleForTesting
+	static void clearRemovals() {
+		removals.clear();
+		removalsByCompute.clear();
+	}
+
 	private static String generateSecurityGroupName(String instanceId) {
 		return SystemConstants.PIP_SECURITY_GROUP_PREFIX + instanceId;
 	}
 
+	@VisibleForTesting
+	void setStateWatcher(OpenNebulaVirtualMachineStateWatcher stateWatcher) {
+		this.stateWatcher = stateWatcher;
+	}
+
 	@VisibleForTesting
     String getRandomUUID() {
 		return UUID.randomUUID().toString();
@@ -0,0 +1,73 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model;
+
+import static cloud.fogbow.common.constants.OpenNebulaConstants.ID;
+import static cloud.fogbow.common.constants.OpenNebulaConstants.NAME;
+import static cloud.fogbow.common.constants.OpenNebulaConstants.TEMPLATE;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaUnmarshaller;
+
+/**
+ * The fields of a virtual machine that the plugins read, unmarshalled in one pass from the response to its info
+ * request; its disks and NICs are looked up by image and network without walking the document again.
+ */
+@XmlRootElement(name = GetVirtualMachineResponse.VM)
+public class GetVirtualMachineResponse {
+
+	static final String VM = "VM";
+
+	private String id;
+	private String name;
+	private GetVirtualMachineTemplate template;
+
+	@XmlElement(name = ID)
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@XmlElement(name = NAME)
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	@XmlElement(name = TEMPLATE)
+	public GetVirtualMachineTemplate getTemplate() {
+		if (template == null) {
+			template = new GetVirtualMachineTemplate();
+		}
+		return template;
+	}
+
+	public void setTemplate(GetVirtualMachineTemplate template) {
+		this.template = template;
+	}
+
+	public static Unmarshaller unmarshaller() {
+		return new GetVirtualMachineResponse.Unmarshaller();
+	}
+
+	public static class Unmarshaller {
+
+		private String response;
+
+		public Unmarshaller response(String response) {
+			this.response = response;
+			return this;
+		}
+
+		public GetVirtualMachineResponse unmarshal() {
+			return (GetVirtualMachineResponse) OpenNebulaUnmarshaller
+					.unmarshal(this.response, GetVirtualMachineResponse.class);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model;
+
+import static cloud.fogbow.common.constants.OpenNebulaConstants.TEMPLATE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+@XmlRootElement(name = TEMPLATE)
+public class GetVirtualMachineTemplate {
+
+	private static final String CPU = "CPU";
+	private static final String MEMORY = "MEMORY";
+
+	private String cpu;
+	private String memory;
+	private List<VirtualMachineDisk> disks;
+	private List<VirtualMachineNic> nics;
+	// indexes built on the first lookup
+	private Map<String, VirtualMachineDisk> disksByImageId;
+	private Map<String, VirtualMachineNic> nicsByNetworkId;
+
+	@XmlElement(name = CPU)
+	public String getCpu() {
+		return cpu;
+	}
+
+	public void setCpu(String cpu) {
+		this.cpu = cpu;
+	}
+
+	@XmlElement(name = MEMORY)
+	public String getMemory() {
+		return memory;
+	}
+
+	public void setMemory(String memory) {
+		this.memory = memory;
+	}
+
+	@XmlElement(name = VirtualMachineDisk.DISK)
+	public List<VirtualMachineDisk> getDisks() {
+		if (disks == null) {
+			disks = new ArrayList<>();
+		}
+		return disks;
+	}
+
+	public void setDisks(List<VirtualMachineDisk> disks) {
+		this.disks = disks;
+		this.disksByImageId = null;
+	}
+
+	@XmlElement(name = VirtualMachineNic.NIC)
+	public List<VirtualMachineNic> getNics() {
+		if (nics == null) {
+			nics = new ArrayList<>();
+		}
+		return nics;
+	}
+
+	public void setNics(List<VirtualMachineNic> nics) {
+		this.nics = nics;
+		this.nicsByNetworkId = null;
+	}
+
+	/**
+	 * @return the disk created from the image, or null if there is none.
+	 */
+	public VirtualMachineDisk getDiskByImageId(String imageId) {
+		if (disksByImageId == null) {
+			disksByImageId = new HashMap<>();
+			for (VirtualMachineDisk disk : getDisks()) {
+				disksByImageId.putIfAbsent(disk.getImageId(), disk);
+			}
+		}
+		return disksByImageId.get(imageId);
+	}
+
+	/**
+	 * @return the NIC attached to the network, or null if there is none.
+	 */
+	public VirtualMachineNic getNicByNetworkId(String networkId) {
+		if (nicsByNetworkId == null) {
+			nicsByNetworkId = new HashMap<>();
+			for (VirtualMachineNic nic : getNics()) {
+				nicsByNetworkId.putIfAbsent(nic.getNetworkId(), nic);
+			}
+		}
+		return nicsByNetworkId.get(networkId);
+	}
+}
@@ -0,0 +1,56 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model;
+
+import static cloud.fogbow.common.constants.OpenNebulaConstants.SIZE;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+@XmlRootElement(name = VirtualMachineDisk.DISK)
+public class VirtualMachineDisk {
+
+	static final String DISK = "DISK";
+	private static final String DISK_ID = "DISK_ID";
+	private static final String IMAGE_ID = "IMAGE_ID";
+	private static final String TARGET = "TARGET";
+
+	private String id;
+	private String imageId;
+	private String size;
+	private String target;
+
+	@XmlElement(name = DISK_ID)
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@XmlElement(name = IMAGE_ID)
+	public String getImageId() {
+		return imageId;
+	}
+
+	public void setImageId(String imageId) {
+		this.imageId = imageId;
+	}
+
+	@XmlElement(name = SIZE)
+	public String getSize() {
+		return size;
+	}
+
+	public void setSize(String size) {
+		this.size = size;
+	}
+
+	@XmlElement(name = TARGET)
+	public String getTarget() {
+		return target;
+	}
+
+	public void setTarget(String target) {
+		this.target = target;
+	}
+}
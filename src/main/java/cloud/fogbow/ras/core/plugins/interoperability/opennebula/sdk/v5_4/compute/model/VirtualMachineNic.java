@@ -0,0 +1,45 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model;
+
+import static cloud.fogbow.common.constants.OpenNebulaConstants.IP;
+import static cloud.fogbow.common.constants.OpenNebulaConstants.NETWORK_ID;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+@XmlRootElement(name = VirtualMachineNic.NIC)
+public class VirtualMachineNic {
+
+	static final String NIC = "NIC";
+	private static final String NIC_ID = "NIC_ID";
+
+	private String id;
+	private String networkId;
+	private String ip;
+
+	@XmlElement(name = NIC_ID)
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@XmlElement(name = NETWORK_ID)
+	public String getNetworkId() {
+		return networkId;
+	}
+
+	public void setNetworkId(String networkId) {
+		this.networkId = networkId;
+	}
+
+	@XmlElement(name = IP)
+	public String getIp() {
+		return ip;
+	}
+
+	public void setIp(String ip) {
+		this.ip = ip;
+	}
+}
@@ -0,0 +1,56 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model;
+
+import static cloud.fogbow.common.constants.OpenNebulaConstants.IP;
+import static cloud.fogbow.common.constants.OpenNebulaConstants.SIZE;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+@XmlRootElement(name = AddressRange.AR)
+public class AddressRange {
+
+	static final String AR = "AR";
+	private static final String AR_ID = "AR_ID";
+	private static final String USED_LEASES = "USED_LEASES";
+
+	private String id;
+	private String ip;
+	private String size;
+	private String usedLeases;
+
+	@XmlElement(name = AR_ID)
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@XmlElement(name = IP)
+	public String getIp() {
+		return ip;
+	}
+
+	public void setIp(String ip) {
+		this.ip = ip;
+	}
+
+	@XmlElement(name = SIZE)
+	public String getSize() {
+		return size;
+	}
+
+	public void setSize(String size) {
+		this.size = size;
+	}
+
+	@XmlElement(name = USED_LEASES)
+	public String getUsedLeases() {
+		return usedLeases;
+	}
+
+	public void setUsedLeases(String usedLeases) {
+		this.usedLeases = usedLeases;
+	}
+}
@@ -0,0 +1,106 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model;
+
+import static cloud.fogbow.common.constants.OpenNebulaConstants.ID;
+import static cloud.fogbow.common.constants.OpenNebulaConstants.NAME;
+import static cloud.fogbow.common.constants.OpenNebulaConstants.TEMPLATE;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaUnmarshaller;
+
+/**
+ * The fields of a virtual network that the plugins read, unmarshalled in one pass from the response to its info
+ * request, instead of evaluating an XPath expression over the whole document for each of them.
+ */
+@XmlRootElement(name = GetVirtualNetworkResponse.VNET)
+public class GetVirtualNetworkResponse {
+
+	static final String VNET = "VNET";
+	private static final String AR_POOL = "AR_POOL";
+
+	private String id;
+	private String name;
+	private GetVirtualNetworkTemplate template;
+	private List<AddressRange> addressRanges;
+
+	@XmlElement(name = ID)
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@XmlElement(name = NAME)
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	@XmlElement(name = TEMPLATE)
+	public GetVirtualNetworkTemplate getTemplate() {
+		return template;
+	}
+
+	public void setTemplate(GetVirtualNetworkTemplate template) {
+		this.template = template;
+	}
+
+	@XmlElementWrapper(name = AR_POOL)
+	@XmlElement(name = AddressRange.AR)
+	public List<AddressRange> getAddressRanges() {
+		if (addressRanges == null) {
+			addressRanges = new ArrayList<>();
+		}
+		return addressRanges;
+	}
+
+	public void setAddressRanges(List<AddressRange> addressRanges) {
+		this.addressRanges = addressRanges;
+	}
+
+	@XmlTransient
+	public AddressRange getFirstAddressRange() {
+		List<AddressRange> addressRanges = this.getAddressRanges();
+		return addressRanges.isEmpty() ? new AddressRange() : addressRanges.get(0);
+	}
+
+	@XmlTransient
+	public String getSecurityGroups() {
+		return template != null ? template.getSecurityGroups() : null;
+	}
+
+	@XmlTransient
+	public String getVlanId() {
+		return template != null ? template.getVlanId() : null;
+	}
+
+	public static Unmarshaller unmarshaller() {
+		return new GetVirtualNetworkResponse.Unmarshaller();
+	}
+
+	public static class Unmarshaller {
+
+		private String response;
+
+		public Unmarshaller response(String response) {
+			this.response = response;
+			return this;
+		}
+
+		public GetVirtualNetworkResponse unmarshal() {
+			return (GetVirtualNetworkResponse) OpenNebulaUnmarshaller
+					.unmarshal(this.response, GetVirtualNetworkResponse.class);
+		}
+	}
+}
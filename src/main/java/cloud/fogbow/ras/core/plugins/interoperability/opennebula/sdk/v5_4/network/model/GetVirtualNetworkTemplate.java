@@ -0,0 +1,34 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model;
+
+import static cloud.fogbow.common.constants.OpenNebulaConstants.SECURITY_GROUPS;
+import static cloud.fogbow.common.constants.OpenNebulaConstants.TEMPLATE;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+@XmlRootElement(name = TEMPLATE)
+public class GetVirtualNetworkTemplate {
+
+	private static final String VLAN_ID = "VLAN_ID";
+
+	private String securityGroups;
+	private String vlanId;
+
+	@XmlElement(name = SECURITY_GROUPS)
+	public String getSecurityGroups() {
+		return securityGroups;
+	}
+
+	public void setSecurityGroups(String securityGroups) {
+		this.securityGroups = securityGroups;
+	}
+
+	@XmlElement(name = VLAN_ID)
+	public String getVlanId() {
+		return vlanId;
+	}
+
+	public void setVlanId(String vlanId) {
+		this.vlanId = vlanId;
+	}
+}
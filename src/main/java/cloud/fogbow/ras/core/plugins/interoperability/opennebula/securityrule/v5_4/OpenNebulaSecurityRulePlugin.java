@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Properties;
 
 import cloud.fogbow.common.exceptions.*;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.SecurityRuleUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.CreateSecurityGroupRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.GetSecurityGroupResponse;
@@ -17,7 +18,6 @@ import org.apache.log4j.Logger;
 import org.opennebula.client.Client;
 import org.opennebula.client.OneResponse;
 import org.opennebula.client.secgroup.SecurityGroup;
-import org.opennebula.client.vnet.VirtualNetwork;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.models.CloudUser;
@@ -33,6 +33,7 @@ import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.plugins.interoperability.SecurityRulePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaSecurityGroupCache;
 
 public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUser> {
 
@@ -46,8 +47,6 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
     @VisibleForTesting
     static final String ALL_ADDRESSES_REMOTE_PREFIX = "0.0.0.0/0";
     @VisibleForTesting
-    static final String SECURITY_GROUPS_PATH = "/VNET/TEMPLATE/SECURITY_GROUPS";
-    @VisibleForTesting
     static final int MINIMUM_RANGE_PORT = 1;
     @VisibleForTesting
     static final int MAXIMUM_RANGE_PORT = 65536;
@@ -71,10 +70,12 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
     private static final int SIZE_POSITION = 1;
     
     private String endpoint;
+    private OpenNebulaSecurityGroupCache securityGroupCache;
 
     public OpenNebulaSecurityRulePlugin(String confFilePath) throws FatalErrorException {
         Properties properties = PropertiesUtil.readProperties(confFilePath);
         this.endpoint = properties.getProperty(OpenNebulaConfigurationPropertyKeys.OPENNEBULA_RPC_ENDPOINT_KEY);
+        this.securityGroupCache = OpenNebulaSecurityGroupCache.getInstance();
     }
 
     @Override
@@ -82,7 +83,7 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
             throws FogbowException {
         LOGGER.info(String.format(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER));
         Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
-        SecurityGroup securityGroup = getSecurityGroup(client, majorOrder);
+        SecurityGroup securityGroup = getSecurityGroup(client, cloudUser.getId(), majorOrder);
         Rule rule = createSecurityRuleRequest(securityRule, securityGroup);
         return doRequestSecurityRule(securityGroup, rule);
     }
@@ -91,7 +92,7 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
     public List<SecurityRuleInstance> getSecurityRules(Order majorOrder, CloudUser cloudUser) throws FogbowException {
         LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, majorOrder.getInstanceId()));
         Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
-        SecurityGroup securityGroup = getSecurityGroup(client, majorOrder);
+        SecurityGroup securityGroup = getSecurityGroup(client, cloudUser.getId(), majorOrder);
         return doGetSecurityRules(securityGroup);
     }
 
@@ -101,14 +102,14 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
         Client client = OpenNebulaClientUtil.createClient(this.endpoint, cloudUser.getToken());
         Rule rule = doUnpackingSecurityRuleId(securityRuleId);
         String securityGroupId = rule.getGroupId();
-        doDeleteSecurityRule(client, rule, securityGroupId);
+        doDeleteSecurityRule(client, cloudUser.getId(), rule, securityGroupId);
     }
 
     @VisibleForTesting
-    void doDeleteSecurityRule(Client client, Rule rule, String securityGroupId)
+    void doDeleteSecurityRule(Client client, String userId, Rule rule, String securityGroupId)
             throws FogbowException {
 
-        SecurityGroup securityGroup = OpenNebulaClientUtil.getSecurityGroup(client, securityGroupId);
+        SecurityGroup securityGroup = this.securityGroupCache.findById(client, userId, securityGroupId);
         GetSecurityGroupResponse group = doGetSecurityGroupResponse(securityGroup);
 
         List<Rule> rules = getRulesFrom(group);
@@ -344,31 +345,29 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
     }
 
     @VisibleForTesting
-    SecurityGroup getSecurityGroup(Client client, Order majorOrder) throws FogbowException {
+    SecurityGroup getSecurityGroup(Client client, String userId, Order majorOrder) throws FogbowException {
         String securityGroupName = retrieveSecurityGroupName(majorOrder);
         String virtualNetworkId = majorOrder.getInstanceId();
-        VirtualNetwork virtualNetwork = OpenNebulaClientUtil.getVirtualNetwork(client, virtualNetworkId);
+        GetVirtualNetworkResponse virtualNetwork = OpenNebulaClientUtil.getVirtualNetworkResponse(client, virtualNetworkId);
         String content = getSecurityGroupContentFrom(virtualNetwork);
-        SecurityGroup securityGroup = findSecurityGroupByName(client, content, securityGroupName);
+        SecurityGroup securityGroup = findSecurityGroupByName(client, userId, content, securityGroupName);
         return securityGroup;
     }
 
     @VisibleForTesting
-    SecurityGroup findSecurityGroupByName(Client client, String content, String name) throws FogbowException {
+    SecurityGroup findSecurityGroupByName(Client client, String userId, String content, String name)
+            throws FogbowException {
         String[] securityGroupIds = content.split(CONTENT_SEPARATOR);
-        SecurityGroup securityGroup = null;
-        for (String securityGroupId : securityGroupIds) {
-            securityGroup = OpenNebulaClientUtil.getSecurityGroup(client, securityGroupId);
-            if (securityGroup.getName().equals(name)) {
-                return securityGroup;
-            }
+        SecurityGroup securityGroup = this.securityGroupCache.findByName(client, userId, securityGroupIds, name);
+        if (securityGroup == null) {
+            throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
         }
-        throw new InstanceNotFoundException(Messages.Exception.INSTANCE_NOT_FOUND);
+        return securityGroup;
     }
 
     @VisibleForTesting
-    String getSecurityGroupContentFrom(VirtualNetwork virtualNetwork) throws FogbowException {
-        String content = virtualNetwork.xpath(SECURITY_GROUPS_PATH);
+    String getSecurityGroupContentFrom(GetVirtualNetworkResponse virtualNetwork) throws FogbowException {
+        String content = virtualNetwork.getSecurityGroups();
         if (content == null || content.isEmpty()) {
             String message = Messages.Log.CONTENT_SECURITY_GROUP_NOT_DEFINED;
             throw new InternalServerErrorException(message);
@@ -388,4 +387,8 @@ public class OpenNebulaSecurityRulePlugin implements SecurityRulePlugin<CloudUse
         }
     }
 
+    @VisibleForTesting
+    void setSecurityGroupCache(OpenNebulaSecurityGroupCache securityGroupCache) {
+        this.securityGroupCache = securityGroupCache;
+    }
 }
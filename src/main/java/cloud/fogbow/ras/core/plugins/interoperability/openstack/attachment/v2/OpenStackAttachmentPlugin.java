@@ -25,6 +25,7 @@ import cloud.fogbow.ras.core.models.orders.AttachmentOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.AttachmentPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPluginUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackStateMapper;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 
 public class OpenStackAttachmentPlugin implements AttachmentPlugin<OpenStackV3User> {
     
@@ -38,7 +39,7 @@ public class OpenStackAttachmentPlugin implements AttachmentPlugin<OpenStackV3Us
 
     public OpenStackAttachmentPlugin(String confFilePath) throws FatalErrorException {
         this.properties = PropertiesUtil.readProperties(confFilePath);
-        initClient();
+        initClient(confFilePath);
     }
 
     @Override
@@ -181,8 +182,8 @@ public class OpenStackAttachmentPlugin implements AttachmentPlugin<OpenStackV3Us
                 OpenStackConstants.NOVA_V2_API_ENDPOINT + OpenStackConstants.ENDPOINT_SEPARATOR + projectId;
     }
 
-    private void initClient() {
-        this.client = new OpenStackHttpClient();
+    private void initClient(String confFilePath) {
+        this.client = CloudHttpTransportRegistry.getInstance().getOpenStackHttpClient(confFilePath);
     }
 
     @VisibleForTesting
@@ -18,6 +18,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.ComputePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.compute.models.*;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPluginUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackStateMapper;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import cloud.fogbow.ras.core.plugins.interoperability.util.DefaultLaunchCommandGenerator;
 import cloud.fogbow.ras.core.plugins.interoperability.util.LaunchCommandGenerator;
 import com.google.common.annotations.VisibleForTesting;
@@ -36,7 +37,7 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
     public OpenStackComputePlugin(String confFilePath) throws FatalErrorException {
         this.properties = PropertiesUtil.readProperties(confFilePath);
         this.launchCommandGenerator = new DefaultLaunchCommandGenerator();
-        instantiateOtherAttributes();
+        instantiateOtherAttributes(confFilePath);
     }
 
     @Override
@@ -168,13 +169,13 @@ public class OpenStackComputePlugin implements ComputePlugin<OpenStackV3User> {
         }
     }
 
-    private void instantiateOtherAttributes() {
+    private void instantiateOtherAttributes(String confFilePath) {
         this.hardwareRequirementsList = new TreeSet<HardwareRequirements>();
-        this.initClient();
+        this.initClient(confFilePath);
     }
 
-    private void initClient() {
-        this.client = new OpenStackHttpClient();
+    private void initClient(String confFilePath) {
+        this.client = CloudHttpTransportRegistry.getInstance().getOpenStackHttpClient(confFilePath);
     }
 
     @VisibleForTesting
@@ -13,6 +13,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.ImagePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPluginUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.image.models.GetAllImagesResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.image.models.GetImageResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
@@ -27,7 +28,7 @@ public class OpenStackImagePlugin implements ImagePlugin<OpenStackV3User> {
 
     public OpenStackImagePlugin(String confFilePath) throws FatalErrorException {
         this.properties = PropertiesUtil.readProperties(confFilePath);
-        this.initClient();
+        this.initClient(confFilePath);
     }
 
     @Override
@@ -159,7 +160,7 @@ public class OpenStackImagePlugin implements ImagePlugin<OpenStackV3User> {
         this.properties = properties;
     }
 
-    private void initClient() {
-        this.client = new OpenStackHttpClient();
+    private void initClient(String confFilePath) {
+        this.client = CloudHttpTransportRegistry.getInstance().getOpenStackHttpClient(confFilePath);
     }
 }
@@ -15,6 +15,7 @@ import cloud.fogbow.ras.core.models.NetworkAllocationMode;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.NetworkOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.NetworkPlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackParallelSteps;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPluginUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.OpenStackCloudUtils;
@@ -26,16 +27,19 @@ import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.network.m
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.network.models.CreateSecurityGroupResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.network.models.GetNetworkResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.network.models.GetSubnetResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.gson.JsonSyntaxException;
 import org.apache.log4j.Logger;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.Future;
 
 public class OpenStackNetworkPlugin implements NetworkPlugin<OpenStackV3User> {
     private static final Logger LOGGER = Logger.getLogger(OpenStackNetworkPlugin.class);
@@ -60,7 +64,7 @@ public class OpenStackNetworkPlugin implements NetworkPlugin<OpenStackV3User> {
         this.networkV2APIEndpoint = properties.getProperty(OpenStackPluginUtils.NETWORK_NEUTRON_URL_KEY) +
                 OpenStackConstants.NEUTRON_V2_API_ENDPOINT;
         setDNSList(properties);
-        initClient();
+        initClient(confFilePath);
     }
 
     @Override
@@ -80,11 +84,30 @@ public class OpenStackNetworkPlugin implements NetworkPlugin<OpenStackV3User> {
 
         CreateNetworkResponse createNetworkResponse = createNetwork(order.getName(), cloudUser, tenantId);
         String createdNetworkId = createNetworkResponse.getId();
-        createSubNet(cloudUser, order, createdNetworkId, tenantId);
         String securityGroupName = OpenStackPluginUtils.getNetworkSecurityGroupName(createdNetworkId);
-        CreateSecurityGroupResponse securityGroupResponse = createSecurityGroup(cloudUser, securityGroupName,
-                tenantId, createdNetworkId);
-        createSecurityGroupRules(order, cloudUser, createdNetworkId, securityGroupResponse.getId());
+
+        // the subnet and the security group only depend on the network, so they are created concurrently
+        Future<CreateSecurityGroupResponse> securityGroupCreation = OpenStackParallelSteps.submit(() ->
+                createSecurityGroup(cloudUser, securityGroupName, tenantId, createdNetworkId));
+        FogbowException failure = null;
+        try {
+            createSubNet(cloudUser, order, createdNetworkId, tenantId);
+        } catch (FogbowException e) {
+            failure = e;
+        }
+        String securityGroupId = null;
+        try {
+            securityGroupId = OpenStackParallelSteps.await(securityGroupCreation).getId();
+        } catch (FogbowException e) {
+            failure = failure == null ? e : failure;
+        }
+        if (failure != null) {
+            undoRequest(cloudUser, createdNetworkId, securityGroupId);
+            throw failure;
+        }
+
+        createSecurityGroupRules(order, cloudUser, createdNetworkId, securityGroupId);
+        order.setSecurityGroupId(securityGroupId);
         return createdNetworkId;
     }
 
@@ -104,8 +127,11 @@ public class OpenStackNetworkPlugin implements NetworkPlugin<OpenStackV3User> {
     public void deleteInstance(NetworkOrder order, OpenStackV3User cloudUser) throws FogbowException {
         String instanceId = order.getInstanceId();
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, instanceId));
-        String securityGroupName = OpenStackPluginUtils.getNetworkSecurityGroupName(instanceId);
-        String securityGroupId = retrieveSecurityGroupId(securityGroupName, cloudUser);
+        String securityGroupId = order.getSecurityGroupId();
+        if (securityGroupId == null) {
+            String securityGroupName = OpenStackPluginUtils.getNetworkSecurityGroupName(instanceId);
+            securityGroupId = retrieveSecurityGroupId(securityGroupName, cloudUser);
+        }
         doDeleteInstance(instanceId, securityGroupId, cloudUser);
     }
 
@@ -179,35 +205,23 @@ public class OpenStackNetworkPlugin implements NetworkPlugin<OpenStackV3User> {
     @VisibleForTesting
     void createSubNet(OpenStackV3User cloudUser, NetworkOrder order, String networkId, String tenantId)
             throws FogbowException {
-        try {
-            String jsonRequest = generateJsonEntityToCreateSubnet(networkId, tenantId, order);
-            String endpoint = this.networkV2APIEndpoint + OpenStackConstants.SUBNET_ENDPOINT;
-            this.client.doPostRequest(endpoint, jsonRequest, cloudUser);
-        } catch (FogbowException e) {
-            removeNetwork(cloudUser, networkId);
-            throw e;
-        }
+        String jsonRequest = generateJsonEntityToCreateSubnet(networkId, tenantId, order);
+        String endpoint = this.networkV2APIEndpoint + OpenStackConstants.SUBNET_ENDPOINT;
+        this.client.doPostRequest(endpoint, jsonRequest, cloudUser);
     }
 
     @VisibleForTesting
     CreateSecurityGroupResponse createSecurityGroup(OpenStackV3User cloudUser, String name,
                                                             String tenantId, String networkId) throws FogbowException {
-        CreateSecurityGroupResponse creationResponse = null;
-        try {
-            CreateSecurityGroupRequest createSecurityGroupRequest = new CreateSecurityGroupRequest.Builder()
-                    .name(name)
-                    .projectId(tenantId)
-                    .build();
-
-            String endpoint = this.networkV2APIEndpoint + OpenStackConstants.SECURITY_GROUPS_ENDPOINT;
-            String jsonRequest = createSecurityGroupRequest.toJson();
-            String response = this.client.doPostRequest(endpoint, jsonRequest, cloudUser);
-            creationResponse = CreateSecurityGroupResponse.fromJson(response);
-        } catch (FogbowException e) {
-            removeNetwork(cloudUser, networkId);
-            throw e;
-        }
-        return creationResponse;
+        CreateSecurityGroupRequest createSecurityGroupRequest = new CreateSecurityGroupRequest.Builder()
+                .name(name)
+                .projectId(tenantId)
+                .build();
+
+        String endpoint = this.networkV2APIEndpoint + OpenStackConstants.SECURITY_GROUPS_ENDPOINT;
+        String jsonRequest = createSecurityGroupRequest.toJson();
+        String response = this.client.doPostRequest(endpoint, jsonRequest, cloudUser);
+        return CreateSecurityGroupResponse.fromJson(response);
     }
 
     @VisibleForTesting
@@ -240,16 +254,30 @@ public class OpenStackNetworkPlugin implements NetworkPlugin<OpenStackV3User> {
             CreateSecurityGroupRuleRequest icmpRuleRequest = createIcmpRuleRequest(order.getCidr(), securityGroupId);
 
             String endpoint = this.networkV2APIEndpoint + OpenStackConstants.SECURITY_GROUP_RULES_ENDPOINT;
-            this.client.doPostRequest(endpoint, allTcp.toJson(), cloudUser);
-            this.client.doPostRequest(endpoint, allUdp.toJson(), cloudUser);
-            this.client.doPostRequest(endpoint, icmpRuleRequest.toJson(), cloudUser);
+            OpenStackParallelSteps.runAll(Arrays.asList(
+                    () -> this.client.doPostRequest(endpoint, allTcp.toJson(), cloudUser),
+                    () -> this.client.doPostRequest(endpoint, allUdp.toJson(), cloudUser),
+                    () -> this.client.doPostRequest(endpoint, icmpRuleRequest.toJson(), cloudUser)));
         } catch (FogbowException e) {
-            removeNetwork(cloudUser, networkId);
-            removeSecurityGroup(cloudUser, securityGroupId);
+            undoRequest(cloudUser, networkId, securityGroupId);
             throw e;
         }
     }
 
+    /**
+     * Removes, concurrently, the network and the security group created by a request that failed. The subnet and
+     * the security group rules are removed along with them.
+     */
+    @VisibleForTesting
+    void undoRequest(OpenStackV3User cloudUser, String networkId, String securityGroupId) {
+        List<OpenStackParallelSteps.Undo> undos = new ArrayList<>();
+        undos.add(() -> removeNetwork(cloudUser, networkId));
+        if (securityGroupId != null) {
+            undos.add(() -> removeSecurityGroup(cloudUser, securityGroupId));
+        }
+        OpenStackParallelSteps.undoAll(undos);
+    }
+
     @VisibleForTesting
     String getRandomUUID() {
         return UUID.randomUUID().toString();
@@ -371,8 +399,8 @@ public class OpenStackNetworkPlugin implements NetworkPlugin<OpenStackV3User> {
         this.client.doDeleteRequest(endpoint, cloudUser);
     }
 
-    private void initClient() {
-        this.client = new OpenStackHttpClient();
+    private void initClient(String confFilePath) {
+        this.client = CloudHttpTransportRegistry.getInstance().getOpenStackHttpClient(confFilePath);
     }
 
     @VisibleForTesting
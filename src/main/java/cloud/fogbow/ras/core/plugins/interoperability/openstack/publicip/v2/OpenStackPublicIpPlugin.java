@@ -1,8 +1,10 @@
 package cloud.fogbow.ras.core.plugins.interoperability.openstack.publicip.v2;
 
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Future;
 
 import cloud.fogbow.common.constants.OpenStackConstants;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
@@ -27,11 +29,13 @@ import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.PublicIpPlugin;
+import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackParallelSteps;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPluginUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.publicip.models.GetFloatingIpResponse.FloatingIp;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.publicip.models.GetNetworkPortsResponse.Port;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.publicip.models.GetSecurityGroupsResponse.SecurityGroup;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 
 public class OpenStackPublicIpPlugin implements PublicIpPlugin<OpenStackV3User> {
 
@@ -44,7 +48,7 @@ public class OpenStackPublicIpPlugin implements PublicIpPlugin<OpenStackV3User>
     public OpenStackPublicIpPlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
         checkProperties();
-        initClient();
+        initClient(confFilePath);
     }
 
     @Override
@@ -72,12 +76,61 @@ public class OpenStackPublicIpPlugin implements PublicIpPlugin<OpenStackV3User>
                 .build();
 
         String instanceId = doRequestInstance(request, cloudUser);
-        String securityGroupId = doCreateSecurityGroup(instanceId, cloudUser);
-        allowAllIngressSecurityRules(securityGroupId, cloudUser);
-        associateSecurityGroup(securityGroupId, instanceId, order, cloudUser);
+        String securityGroupId = null;
+        boolean associated = false;
+        try {
+            securityGroupId = doCreateSecurityGroup(instanceId, cloudUser);
+            String createdSecurityGroupId = securityGroupId;
+            // the security group can be associated with the server while its rules are being created
+            Future<Void> association = OpenStackParallelSteps.submit(() -> {
+                associateSecurityGroup(createdSecurityGroupId, instanceId, order, cloudUser);
+                return null;
+            });
+            FogbowException failure = null;
+            try {
+                allowAllIngressSecurityRules(securityGroupId, cloudUser);
+            } catch (FogbowException e) {
+                failure = e;
+            }
+            try {
+                OpenStackParallelSteps.await(association);
+                associated = true;
+            } catch (FogbowException e) {
+                failure = failure == null ? e : failure;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (FogbowException e) {
+            undoRequest(instanceId, securityGroupId, associated, order, cloudUser);
+            throw e;
+        }
+        order.setSecurityGroupId(securityGroupId);
         return instanceId;
     }
 
+    /**
+     * Removes, concurrently, the floating IP and the security group created by a request that failed. The
+     * security group rules are removed along with their group, which has to be disassociated from the server
+     * before it can be deleted.
+     */
+    @VisibleForTesting
+    void undoRequest(String instanceId, String securityGroupId, boolean associated, PublicIpOrder order,
+            OpenStackV3User cloudUser) {
+
+        List<OpenStackParallelSteps.Undo> undos = new ArrayList<>();
+        undos.add(() -> doDeleteInstance(instanceId, cloudUser));
+        if (securityGroupId != null) {
+            undos.add(() -> {
+                if (associated) {
+                    disassociateSecurityGroup(getSecurityGroupName(instanceId), order, cloudUser);
+                }
+                deleteSecurityGroup(securityGroupId, cloudUser);
+            });
+        }
+        OpenStackParallelSteps.undoAll(undos);
+    }
+
     @Override
     public PublicIpInstance getInstance(PublicIpOrder order, OpenStackV3User cloudUser) throws FogbowException {
         String instanceId = order.getInstanceId();
@@ -94,7 +147,10 @@ public class OpenStackPublicIpPlugin implements PublicIpPlugin<OpenStackV3User>
         String instanceId = order.getInstanceId();
         LOGGER.info(String.format(Messages.Log.DELETING_INSTANCE_S, instanceId));
         String securityGroupName = getSecurityGroupName(instanceId);
-        String securityGroupId = retrieveSecurityGroupId(securityGroupName, cloudUser);
+        String securityGroupId = order.getSecurityGroupId();
+        if (securityGroupId == null) {
+            securityGroupId = retrieveSecurityGroupId(securityGroupName, cloudUser);
+        }
         disassociateSecurityGroup(securityGroupName, order, cloudUser);
         deleteSecurityGroup(securityGroupId, cloudUser);
         doDeleteInstance(instanceId, cloudUser);
@@ -193,12 +249,7 @@ public class OpenStackPublicIpPlugin implements PublicIpPlugin<OpenStackV3User>
         AddSecurityGroupToServerRequest request = new AddSecurityGroupToServerRequest.Builder()
                 .name(securityGroupName)
                 .build();
-        try {
-            this.client.doPostRequest(endpoint, request.toJson(), cloudUser);
-        } catch (FogbowException e) {
-            deleteSecurityGroup(securityGroupId, cloudUser);
-            throw e;
-        }
+        this.client.doPostRequest(endpoint, request.toJson(), cloudUser);
     }
 
     @VisibleForTesting
@@ -233,6 +284,7 @@ public class OpenStackPublicIpPlugin implements PublicIpPlugin<OpenStackV3User>
 
         String[] etherTypes = { OpenStackConstants.IPV4_ETHER_TYPE, OpenStackConstants.IPV6_ETHER_TYPE };
 
+        List<OpenStackParallelSteps.Step<?>> steps = new ArrayList<>();
         for (String etherType : etherTypes) {
             CreateSecurityGroupRuleRequest request = new CreateSecurityGroupRuleRequest.Builder()
                     .securityGroupId(securityGroupId)
@@ -243,8 +295,12 @@ public class OpenStackPublicIpPlugin implements PublicIpPlugin<OpenStackV3User>
                     .protocol(OpenStackConstants.TCP_PROTOCOL)
                     .build();
 
-            doPostRequestFromCloud(request, cloudUser);
+            steps.add(() -> {
+                doPostRequestFromCloud(request, cloudUser);
+                return null;
+            });
         }
+        OpenStackParallelSteps.runAll(steps);
     }
 
     @VisibleForTesting
@@ -412,8 +468,8 @@ public class OpenStackPublicIpPlugin implements PublicIpPlugin<OpenStackV3User>
         this.client = client;
     }
     
-    private void initClient() {
-        this.client = new OpenStackHttpClient();
+    private void initClient(String confFilePath) {
+        this.client = CloudHttpTransportRegistry.getInstance().getOpenStackHttpClient(confFilePath);
     }
     
 }
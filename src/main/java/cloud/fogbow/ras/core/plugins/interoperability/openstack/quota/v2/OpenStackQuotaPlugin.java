@@ -19,6 +19,7 @@ import cloud.fogbow.ras.api.http.response.quotas.allocation.ResourceAllocation;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.plugins.interoperability.QuotaPlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPluginUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 
 public class OpenStackQuotaPlugin implements QuotaPlugin<OpenStackV3User> {
 
@@ -29,7 +30,7 @@ public class OpenStackQuotaPlugin implements QuotaPlugin<OpenStackV3User> {
     
     public OpenStackQuotaPlugin(String confFilePath) {
         this.properties = PropertiesUtil.readProperties(confFilePath);
-        this.initClient();
+        this.initClient(confFilePath);
     }
     
     @Override
@@ -178,7 +179,7 @@ public class OpenStackQuotaPlugin implements QuotaPlugin<OpenStackV3User> {
         this.client = client;
     }
 
-    private void initClient() {
-        this.client = new OpenStackHttpClient();
+    private void initClient(String confFilePath) {
+        this.client = CloudHttpTransportRegistry.getInstance().getOpenStackHttpClient(confFilePath);
     }
 }
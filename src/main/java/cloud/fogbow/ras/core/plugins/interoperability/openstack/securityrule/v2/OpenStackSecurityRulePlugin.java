@@ -22,6 +22,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.securityr
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.securityrule.models.GetSecurityRulesResponse.SecurityGroupRule;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.publicip.models.GetSecurityGroupsResponse;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.publicip.models.GetSecurityGroupsResponse.SecurityGroup;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
@@ -47,7 +48,7 @@ public class OpenStackSecurityRulePlugin implements SecurityRulePlugin<OpenStack
         this.prefixEndpoint = properties.getProperty(OpenStackPluginUtils.NETWORK_NEUTRON_URL_KEY)
                 + OpenStackConstants.NEUTRON_V2_API_ENDPOINT;
 
-        initClient();
+        initClient(confFilePath);
     }
 
     @Override
@@ -55,8 +56,7 @@ public class OpenStackSecurityRulePlugin implements SecurityRulePlugin<OpenStack
             throws FogbowException {
 
         LOGGER.info(String.format(Messages.Log.REQUESTING_INSTANCE_FROM_PROVIDER));
-        String securityGroupName = retrieveSecurityGroupName(majorOrder);
-        String securityGroupId = retrieveSecurityGroupId(securityGroupName, cloudUser);
+        String securityGroupId = getSecurityGroupId(majorOrder, cloudUser);
         CreateSecurityRuleRequest request = buildCreateSecurityRuleRequest(securityGroupId, securityRule);
         return doRequestSecurityRule(request, cloudUser);
     }
@@ -66,8 +66,7 @@ public class OpenStackSecurityRulePlugin implements SecurityRulePlugin<OpenStack
             throws FogbowException {
 
         LOGGER.info(String.format(Messages.Log.GETTING_INSTANCE_S, majorOrder.getInstanceId()));
-        String securityGroupName = retrieveSecurityGroupName(majorOrder);
-        String securityGroupId = retrieveSecurityGroupId(securityGroupName, cloudUser);
+        String securityGroupId = getSecurityGroupId(majorOrder, cloudUser);
         GetSecurityRulesResponse response = doGetSecurityRules(securityGroupId, cloudUser);
         return getSecurityRuleInstances(response);
     }
@@ -186,6 +185,21 @@ public class OpenStackSecurityRulePlugin implements SecurityRulePlugin<OpenStack
         return securityGroupName;
     }
 
+    /**
+     * Returns the ID of the security group of the order, which does not change while the order exists; the group
+     * is looked up by name only when the ID is not stored in the order yet, and the ID found is stored in it.
+     */
+    @VisibleForTesting
+    String getSecurityGroupId(Order majorOrder, OpenStackV3User cloudUser) throws FogbowException {
+        String securityGroupId = majorOrder.getSecurityGroupId();
+        if (securityGroupId == null) {
+            String securityGroupName = retrieveSecurityGroupName(majorOrder);
+            securityGroupId = retrieveSecurityGroupId(securityGroupName, cloudUser);
+            majorOrder.setSecurityGroupId(securityGroupId);
+        }
+        return securityGroupId;
+    }
+
     @VisibleForTesting
     String retrieveSecurityGroupId(String securityGroupName, OpenStackV3User cloudUser) throws FogbowException {
         String endpoint = buildQueryEndpointBySecurityGroupName(securityGroupName);
@@ -305,8 +319,8 @@ public class OpenStackSecurityRulePlugin implements SecurityRulePlugin<OpenStack
         this.client = client;
     }
 
-    private void initClient() {
-        this.client = new OpenStackHttpClient();
+    private void initClient(String confFilePath) {
+        this.client = CloudHttpTransportRegistry.getInstance().getOpenStackHttpClient(confFilePath);
     }
 
 }
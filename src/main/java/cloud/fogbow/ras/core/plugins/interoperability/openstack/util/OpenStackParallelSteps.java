@@ -0,0 +1,119 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.util;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.constants.Messages;
+import org.apache.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the independent requests of an OpenStack provisioning flow concurrently, on a pool shared by the OpenStack
+ * plugins, and undoes the completed requests of a flow that fails.
+ *
+ * The steps submitted to the pool must not submit steps themselves, so that a step never waits for a pool thread
+ * while holding one; a flow that nests steps runs the outer one on the calling thread.
+ */
+public class OpenStackParallelSteps {
+    private static final Logger LOGGER = Logger.getLogger(OpenStackParallelSteps.class);
+
+    private static final int POOL_SIZE = 10;
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+        Thread thread = new Thread(runnable, OpenStackParallelSteps.class.getSimpleName());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @FunctionalInterface
+    public interface Step<T> {
+        T execute() throws FogbowException;
+    }
+
+    @FunctionalInterface
+    public interface Undo {
+        void execute() throws FogbowException;
+    }
+
+    public static <T> Future<T> submit(Step<T> step) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return step.execute();
+            } catch (FogbowException e) {
+                throw new CompletionException(e);
+            }
+        }, EXECUTOR);
+    }
+
+    /**
+     * Waits for a submitted step, rethrowing the exception it failed with.
+     */
+    public static <T> T await(Future<T> future) throws FogbowException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException(Messages.Exception.UNEXPECTED_ERROR);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof FogbowException) {
+                throw (FogbowException) cause;
+            }
+            LOGGER.error(Messages.Log.UNEXPECTED_ERROR, cause);
+            throw new InternalServerErrorException(Messages.Exception.UNEXPECTED_ERROR);
+        }
+    }
+
+    /**
+     * Runs the steps concurrently and waits for all of them, even if some fail, so that the caller knows that no
+     * step is still running when it starts undoing the flow.
+     *
+     * @param steps the independent steps.
+     * @throws FogbowException the exception the first failed step, in the given order, failed with.
+     */
+    public static void runAll(List<Step<?>> steps) throws FogbowException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (Step<?> step : steps) {
+            futures.add(submit(step));
+        }
+        FogbowException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                await(future);
+            } catch (FogbowException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Undoes completed steps concurrently and waits for all of them. A failure to undo a step is logged and does
+     * not prevent the others from being undone, nor hide the failure that caused the rollback.
+     */
+    public static void undoAll(List<Undo> undos) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (Undo undo : undos) {
+            futures.add(submit(() -> {
+                undo.execute();
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                await(future);
+            } catch (FogbowException e) {
+                LOGGER.error(Messages.Log.UNABLE_TO_UNDO_PROVISIONING_STEP, e);
+            }
+        }
+    }
+}
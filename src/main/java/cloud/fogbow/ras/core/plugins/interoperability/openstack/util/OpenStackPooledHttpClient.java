@@ -0,0 +1,50 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.util;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.models.OpenStackV3User;
+import cloud.fogbow.common.util.connectivity.cloud.openstack.OpenStackHttpClient;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransport;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+
+/**
+ * An OpenStack client that sends its requests through the pooled transport of the cloud, instead of opening a
+ * connection for each request.
+ */
+public class OpenStackPooledHttpClient extends OpenStackHttpClient {
+    private static final String X_AUTH_TOKEN_HEADER = "X-Auth-Token";
+
+    private final CloudHttpTransport transport;
+
+    public OpenStackPooledHttpClient(CloudHttpTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public String doGetRequest(String url, OpenStackV3User cloudUser) throws FogbowException {
+        return execute(new HttpGet(url), cloudUser);
+    }
+
+    @Override
+    public String doPostRequest(String url, String bodyContent, OpenStackV3User cloudUser) throws FogbowException {
+        HttpPost request = new HttpPost(url);
+        request.setEntity(new StringEntity(bodyContent, ContentType.APPLICATION_JSON));
+        return execute(request, cloudUser);
+    }
+
+    @Override
+    public void doDeleteRequest(String url, OpenStackV3User cloudUser) throws FogbowException {
+        execute(new HttpDelete(url), cloudUser);
+    }
+
+    private String execute(HttpRequestBase request, OpenStackV3User cloudUser) throws FogbowException {
+        request.setHeader(X_AUTH_TOKEN_HEADER, cloudUser.getToken());
+        request.setHeader(HttpHeaders.ACCEPT, ContentType.APPLICATION_JSON.getMimeType());
+        return this.transport.execute(request);
+    }
+}
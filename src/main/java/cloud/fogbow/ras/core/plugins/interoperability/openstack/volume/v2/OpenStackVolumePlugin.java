@@ -31,6 +31,7 @@ import cloud.fogbow.ras.core.plugins.interoperability.VolumePlugin;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPluginUtils;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackStateMapper;
 import cloud.fogbow.ras.core.plugins.interoperability.openstack.sdk.v2.volume.models.GetAllTypesResponse.Type;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransportRegistry;
 
 public class OpenStackVolumePlugin implements VolumePlugin<OpenStackV3User> {
     
@@ -41,7 +42,7 @@ public class OpenStackVolumePlugin implements VolumePlugin<OpenStackV3User> {
 
     public OpenStackVolumePlugin(String confFilePath) throws FatalErrorException {
         this.properties = PropertiesUtil.readProperties(confFilePath);
-        initClient();
+        initClient(confFilePath);
     }
 
     @Override
@@ -208,8 +209,8 @@ public class OpenStackVolumePlugin implements VolumePlugin<OpenStackV3User> {
         return jsonResponse;
     }
 
-    private void initClient() {
-        this.client = new OpenStackHttpClient();
+    private void initClient(String confFilePath) {
+        this.client = CloudHttpTransportRegistry.getInstance().getOpenStackHttpClient(confFilePath);
     }
 
     @VisibleForTesting
@@ -0,0 +1,106 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.util.connectivity.HttpErrorConditionToFogbowExceptionMapper;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.metrics.MetricsRegistry;
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The HTTP connections to a cloud, shared by all the plugins of that cloud. Connections are kept alive in a pool
+ * after each request, so consecutive requests to the same endpoint do not pay for a new TCP connection and TLS
+ * handshake; idle connections are closed once the keep-alive time expires. The number of connections to each
+ * endpoint and in total is bounded, and a request waits for a free connection when the bound is reached.
+ */
+public class CloudHttpTransport {
+    private static final Logger LOGGER = Logger.getLogger(CloudHttpTransport.class);
+
+    private final String cloudName;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+
+    public CloudHttpTransport(String cloudName, int maxConnections, int maxConnectionsPerRoute, int connectTimeout,
+                              int readTimeout, long keepAliveTime) {
+        this.cloudName = cloudName;
+        this.connectionManager = new PoolingHttpClientConnectionManager();
+        this.connectionManager.setMaxTotal(maxConnections);
+        this.connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(this.connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> keepAliveTime)
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveTime, TimeUnit.MILLISECONDS)
+                .build();
+
+        registerMetrics();
+    }
+
+    /**
+     * Sends the request and reads the whole response, which releases its connection back to the pool.
+     *
+     * @return the body of the response, or null if it has none.
+     * @throws FogbowException mapped from the status of the response, if it is not successful, or
+     * UnavailableProviderException if the cloud could not be reached.
+     */
+    public String execute(HttpRequestBase request) throws FogbowException {
+        try (CloseableHttpResponse response = this.httpClient.execute(request)) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            HttpEntity entity = response.getEntity();
+            String content = entity == null ? null : EntityUtils.toString(entity, StandardCharsets.UTF_8);
+            if (statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
+                throw HttpErrorConditionToFogbowExceptionMapper.map(statusCode, content);
+            }
+            return content;
+        } catch (IOException e) {
+            LOGGER.debug(String.format(Messages.Exception.UNABLE_TO_COMMUNICATE_WITH_CLOUD_S, this.cloudName), e);
+            throw new UnavailableProviderException(String.format(Messages.Exception.UNABLE_TO_COMMUNICATE_WITH_CLOUD_S,
+                    e.getMessage()));
+        }
+    }
+
+    public String getCloudName() {
+        return this.cloudName;
+    }
+
+    @VisibleForTesting
+    int getMaxConnections() {
+        return this.connectionManager.getMaxTotal();
+    }
+
+    @VisibleForTesting
+    int getMaxConnectionsPerRoute() {
+        return this.connectionManager.getDefaultMaxPerRoute();
+    }
+
+    private void registerMetrics() {
+        MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+        metricsRegistry.registerGauge(MetricsRegistry.HTTP_POOL_LEASED,
+                () -> this.connectionManager.getTotalStats().getLeased(), MetricsRegistry.CLOUD_TAG, this.cloudName);
+        metricsRegistry.registerGauge(MetricsRegistry.HTTP_POOL_AVAILABLE,
+                () -> this.connectionManager.getTotalStats().getAvailable(), MetricsRegistry.CLOUD_TAG, this.cloudName);
+        metricsRegistry.registerGauge(MetricsRegistry.HTTP_POOL_PENDING,
+                () -> this.connectionManager.getTotalStats().getPending(), MetricsRegistry.CLOUD_TAG, this.cloudName);
+    }
+}
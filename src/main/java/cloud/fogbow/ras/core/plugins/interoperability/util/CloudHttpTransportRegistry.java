@@ -0,0 +1,84 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import cloud.fogbow.common.util.PropertiesUtil;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import cloud.fogbow.ras.core.plugins.interoperability.cloudstack.CloudStackPooledHttpClient;
+import cloud.fogbow.ras.core.plugins.interoperability.openstack.util.OpenStackPooledHttpClient;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the HTTP transport of each local cloud, and the HTTP clients built on it, so that all the plugins of a
+ * cloud share the same connections. Clouds are identified by the path of their cloud.conf file, which every
+ * plugin receives; the transport settings are read from that file and, when absent there, from ras.conf.
+ */
+public class CloudHttpTransportRegistry {
+    private static CloudHttpTransportRegistry instance;
+
+    private final Map<String, CloudHttpTransport> transports;
+    private final Map<String, OpenStackPooledHttpClient> openStackClients;
+    private final Map<String, CloudStackPooledHttpClient> cloudStackClients;
+
+    private CloudHttpTransportRegistry() {
+        this.transports = new ConcurrentHashMap<>();
+        this.openStackClients = new ConcurrentHashMap<>();
+        this.cloudStackClients = new ConcurrentHashMap<>();
+    }
+
+    public static synchronized CloudHttpTransportRegistry getInstance() {
+        if (instance == null) {
+            instance = new CloudHttpTransportRegistry();
+        }
+        return instance;
+    }
+
+    public OpenStackPooledHttpClient getOpenStackHttpClient(String confFilePath) {
+        return this.openStackClients.computeIfAbsent(confFilePath,
+                key -> new OpenStackPooledHttpClient(getTransport(key)));
+    }
+
+    public CloudStackPooledHttpClient getCloudStackHttpClient(String confFilePath) {
+        return this.cloudStackClients.computeIfAbsent(confFilePath,
+                key -> new CloudStackPooledHttpClient(getTransport(key)));
+    }
+
+    public CloudHttpTransport getTransport(String confFilePath) {
+        return this.transports.computeIfAbsent(confFilePath, this::createTransport);
+    }
+
+    private CloudHttpTransport createTransport(String confFilePath) {
+        Properties properties = PropertiesUtil.readProperties(confFilePath);
+        int maxConnections = Integer.parseInt(getProperty(properties,
+                ConfigurationPropertyKeys.HTTP_MAX_CONNECTIONS_KEY, ConfigurationPropertyDefaults.HTTP_MAX_CONNECTIONS));
+        int maxConnectionsPerRoute = Integer.parseInt(getProperty(properties,
+                ConfigurationPropertyKeys.HTTP_MAX_CONNECTIONS_PER_ROUTE_KEY,
+                ConfigurationPropertyDefaults.HTTP_MAX_CONNECTIONS_PER_ROUTE));
+        int connectTimeout = Integer.parseInt(getProperty(properties,
+                ConfigurationPropertyKeys.HTTP_CONNECT_TIMEOUT_KEY, ConfigurationPropertyDefaults.HTTP_CONNECT_TIMEOUT));
+        int readTimeout = Integer.parseInt(getProperty(properties,
+                ConfigurationPropertyKeys.HTTP_READ_TIMEOUT_KEY, ConfigurationPropertyDefaults.HTTP_READ_TIMEOUT));
+        long keepAliveTime = Long.parseLong(getProperty(properties,
+                ConfigurationPropertyKeys.HTTP_KEEP_ALIVE_TIME_KEY, ConfigurationPropertyDefaults.HTTP_KEEP_ALIVE_TIME));
+        return new CloudHttpTransport(getCloudName(confFilePath), maxConnections, maxConnectionsPerRoute,
+                connectTimeout, readTimeout, keepAliveTime);
+    }
+
+    private String getProperty(Properties properties, String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            value = PropertiesHolder.getInstance().getProperty(key, defaultValue);
+        }
+        return value.trim();
+    }
+
+    // the configuration of each cloud is stored under the directory clouds/<name>
+    private String getCloudName(String confFilePath) {
+        File cloudDirectory = new File(confFilePath).getAbsoluteFile().getParentFile();
+        return cloudDirectory == null ? confFilePath : cloudDirectory.getName();
+    }
+}
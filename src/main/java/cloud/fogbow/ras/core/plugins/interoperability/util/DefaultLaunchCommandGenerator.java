@@ -1,6 +1,5 @@
 package cloud.fogbow.ras.core.plugins.interoperability.util;
 
-import cloud.fogbow.common.exceptions.FatalErrorException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.util.CloudInitUserDataBuilder;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
@@ -12,10 +11,7 @@ import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.log4j.Logger;
 
-import java.io.FileReader;
-import java.io.IOException;
 import java.io.StringReader;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,24 +26,33 @@ public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
     private final String BRING_UP_NETWORK_INTERFACE_SCRIPT_PATH = "bin/bring-up-network-interface";
     private final String CLOUD_CONFIG_FILE_PATH = "bin/cloud-config.cfg";
     private final String sshCommonUser;
+    private final boolean gzipEnabled;
+    private final LaunchCommandTemplateEngine templateEngine;
 
     public DefaultLaunchCommandGenerator() {
         this.sshCommonUser = PropertiesHolder.getInstance().getProperty(ConfigurationPropertyKeys.SSH_COMMON_USER_KEY,
                 ConfigurationPropertyDefaults.SSH_COMMON_USER);
+        this.gzipEnabled = Boolean.parseBoolean(PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.LAUNCH_COMMAND_GZIP_ENABLED_KEY,
+                ConfigurationPropertyDefaults.LAUNCH_COMMAND_GZIP_ENABLED));
+        this.templateEngine = LaunchCommandTemplateEngine.getInstance();
     }
 
     @Override
     public String createLaunchCommand(ComputeOrder order) throws InternalServerErrorException {
+        Map<String, String> replacements = getTokensReplacements(order);
+        // the same buffer is used to render each part of the launch command
+        StringBuilder buffer = new StringBuilder();
         CloudInitUserDataBuilder cloudInitUserDataBuilder = CloudInitUserDataBuilder.start();
-        try {
-            // Here, we need to instantiate the FileReader, because, once we read this file, the stream goes to the end
-            // of the file, preventing to read the file again.
-            cloudInitUserDataBuilder.addCloudConfig(new FileReader(this.CLOUD_CONFIG_FILE_PATH));
-            if (order.getNetworkIds().size() > 0) {
-                cloudInitUserDataBuilder.addShellScript(new FileReader(this.BRING_UP_NETWORK_INTERFACE_SCRIPT_PATH));
-            }
-        } catch (IOException e) {
-            throw new FatalErrorException(e.getMessage());
+
+        this.templateEngine.getTemplate(this.CLOUD_CONFIG_FILE_PATH).render(replacements, buffer);
+        cloudInitUserDataBuilder.addFile(CloudInitUserDataBuilder.FileType.CLOUD_CONFIG,
+                new StringReader(buffer.toString()));
+        if (order.getNetworkIds().size() > 0) {
+            buffer.setLength(0);
+            this.templateEngine.getTemplate(this.BRING_UP_NETWORK_INTERFACE_SCRIPT_PATH).render(replacements, buffer);
+            cloudInitUserDataBuilder.addFile(CloudInitUserDataBuilder.FileType.SHELL_SCRIPT,
+                    new StringReader(buffer.toString()));
         }
 
         List<UserData> userDataScripts = order.getUserData();
@@ -58,7 +63,10 @@ public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
                     String normalizedExtraUserData = null;
                     String extraUserDataFileContent = userDataScript.getExtraUserDataFileContent();
                     if (extraUserDataFileContent != null) {
-                        normalizedExtraUserData = new String(Base64.decodeBase64(extraUserDataFileContent));
+                        buffer.setLength(0);
+                        LaunchCommandTemplate.replaceTokens(new String(Base64.decodeBase64(extraUserDataFileContent)),
+                                replacements, buffer);
+                        normalizedExtraUserData = buffer.toString();
                     }
 
                     CloudInitUserDataBuilder.FileType extraUserDataFileType = userDataScript.getExtraUserDataFileType();
@@ -67,12 +75,11 @@ public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
             }
         }
 
-
         String mimeString = cloudInitUserDataBuilder.buildUserData();
-        mimeString = applyTokensReplacements(order, mimeString);
-        String base64String = new String(Base64.encodeBase64(mimeString.getBytes(StandardCharsets.UTF_8),
-                false, false), StandardCharsets.UTF_8);
-        return base64String;
+        if (this.gzipEnabled) {
+            return this.templateEngine.encodeCompressed(mimeString);
+        }
+        return this.templateEngine.encode(mimeString);
     }
 
     protected void addExtraUserData(CloudInitUserDataBuilder cloudInitUserDataBuilder, String extraUserDataFileContent,
@@ -91,7 +98,7 @@ public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
         }
     }
 
-    protected String applyTokensReplacements(ComputeOrder order, String mimeString) {
+    protected Map<String, String> getTokensReplacements(ComputeOrder order) {
         String orderId = order.getId();
 
         Map<String, String> replacements = new HashMap<String, String>();
@@ -104,11 +111,6 @@ public class DefaultLaunchCommandGenerator implements LaunchCommandGenerator {
 
         replacements.put(TOKEN_USER_SSH_PUBLIC_KEY, userPublicKey);
         replacements.put(TOKEN_SSH_USER, this.sshCommonUser);
-
-        for (String key : replacements.keySet()) {
-            String value = replacements.get(key);
-            mimeString = mimeString.replace(key, value);
-        }
-        return mimeString;
+        return replacements;
     }
 }
@@ -0,0 +1,112 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A launch command template (e.g. the cloud-config file) parsed into the sequence of literal text and
+ * #TOKEN_*# placeholders it is made of, so that rendering it for an order is a single pass over the segments.
+ */
+public class LaunchCommandTemplate {
+    private static final String TOKEN_PREFIX = "#TOKEN_";
+    private static final char TOKEN_DELIMITER = '#';
+
+    private final List<String> literals;
+    private final List<String> tokens;
+    private final int length;
+    private final long lastModified;
+    private final long fileLength;
+
+    private LaunchCommandTemplate(List<String> literals, List<String> tokens, int length, long lastModified,
+                                  long fileLength) {
+        this.literals = literals;
+        this.tokens = tokens;
+        this.length = length;
+        this.lastModified = lastModified;
+        this.fileLength = fileLength;
+    }
+
+    public static LaunchCommandTemplate parse(String content, long lastModified, long fileLength) {
+        List<String> literals = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        int literalStart = 0;
+        int tokenStart = content.indexOf(TOKEN_PREFIX);
+        while (tokenStart >= 0) {
+            int tokenEnd = findTokenEnd(content, tokenStart);
+            if (tokenEnd < 0) {
+                tokenStart = content.indexOf(TOKEN_PREFIX, tokenStart + 1);
+                continue;
+            }
+            literals.add(content.substring(literalStart, tokenStart));
+            tokens.add(content.substring(tokenStart, tokenEnd));
+            literalStart = tokenEnd;
+            tokenStart = content.indexOf(TOKEN_PREFIX, tokenEnd);
+        }
+        literals.add(content.substring(literalStart));
+        return new LaunchCommandTemplate(literals, tokens, content.length(), lastModified, fileLength);
+    }
+
+    /**
+     * Replaces, in a single pass, the tokens found in the text by their values. Tokens that have no value are
+     * kept as they are.
+     *
+     * @param text the text containing the tokens.
+     * @param values the values of the tokens, keyed by the whole token (e.g. #TOKEN_ID#).
+     * @param output the buffer where the resulting text is appended.
+     */
+    public static void replaceTokens(String text, Map<String, String> values, StringBuilder output) {
+        int literalStart = 0;
+        int tokenStart = text.indexOf(TOKEN_PREFIX);
+        while (tokenStart >= 0) {
+            int tokenEnd = findTokenEnd(text, tokenStart);
+            if (tokenEnd < 0) {
+                tokenStart = text.indexOf(TOKEN_PREFIX, tokenStart + 1);
+                continue;
+            }
+            String value = values.get(text.substring(tokenStart, tokenEnd));
+            if (value != null) {
+                output.append(text, literalStart, tokenStart).append(value);
+                literalStart = tokenEnd;
+            }
+            tokenStart = text.indexOf(TOKEN_PREFIX, tokenEnd);
+        }
+        output.append(text, literalStart, text.length());
+    }
+
+    /**
+     * Appends the template to the output, replacing its tokens by their values. Tokens that have no value are
+     * kept as they are.
+     */
+    public void render(Map<String, String> values, StringBuilder output) {
+        output.ensureCapacity(output.length() + this.length);
+        for (int i = 0; i < this.tokens.size(); i++) {
+            output.append(this.literals.get(i));
+            String token = this.tokens.get(i);
+            String value = values.get(token);
+            output.append(value == null ? token : value);
+        }
+        output.append(this.literals.get(this.tokens.size()));
+    }
+
+    public boolean isOutdated(long lastModified, long fileLength) {
+        return this.lastModified != lastModified || this.fileLength != fileLength;
+    }
+
+    /**
+     * @return the index right after the closing delimiter of the token starting at tokenStart, or -1 if the
+     * text at tokenStart is not a well-formed token.
+     */
+    private static int findTokenEnd(String text, int tokenStart) {
+        for (int i = tokenStart + TOKEN_PREFIX.length(); i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == TOKEN_DELIMITER) {
+                return i + 1;
+            }
+            if (!(Character.isUpperCase(c) || Character.isDigit(c) || c == '_')) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,79 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import cloud.fogbow.common.exceptions.FatalErrorException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the launch command templates parsed in memory, so that the template files are read only once, and
+ * again whenever they are changed on disk, instead of for every compute order. It also encodes the launch
+ * commands, optionally compressing them with gzip, which cloud-init recognizes and decompresses by itself.
+ */
+public class LaunchCommandTemplateEngine {
+
+    private static LaunchCommandTemplateEngine instance;
+
+    private final Map<String, LaunchCommandTemplate> templates;
+
+    private LaunchCommandTemplateEngine() {
+        this.templates = new ConcurrentHashMap<>();
+    }
+
+    public static synchronized LaunchCommandTemplateEngine getInstance() {
+        if (instance == null) {
+            instance = new LaunchCommandTemplateEngine();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the parsed template stored in the given file, parsing it again if the file has changed since it
+     * was last read.
+     *
+     * @param path the path of the template file.
+     * @return the parsed template.
+     * @throws FatalErrorException if the file cannot be read.
+     */
+    public LaunchCommandTemplate getTemplate(String path) {
+        File file = new File(path);
+        // the attributes are read before the contents, so that a change made while the file is being read is
+        // noticed on the next call
+        long lastModified = file.lastModified();
+        long fileLength = file.length();
+        LaunchCommandTemplate template = this.templates.get(path);
+        if (template == null || template.isOutdated(lastModified, fileLength)) {
+            try {
+                String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+                template = LaunchCommandTemplate.parse(content, lastModified, fileLength);
+            } catch (IOException e) {
+                throw new FatalErrorException(e.getMessage());
+            }
+            this.templates.put(path, template);
+        }
+        return template;
+    }
+
+    public String encode(String launchCommand) {
+        return Base64.getEncoder().encodeToString(launchCommand.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String encodeCompressed(String launchCommand) throws InternalServerErrorException {
+        byte[] bytes = launchCommand.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressedBytes = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedBytes)) {
+            gzipOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+        return Base64.getEncoder().encodeToString(compressedBytes.toByteArray());
+    }
+}
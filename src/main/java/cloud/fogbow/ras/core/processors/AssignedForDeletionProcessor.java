@@ -2,12 +2,14 @@ package cloud.fogbow.ras.core.processors;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.metrics.ProcessorSweepRecorder;
+import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import com.google.common.annotations.VisibleForTesting;
@@ -17,17 +19,19 @@ public class AssignedForDeletionProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(AssignedForDeletionProcessor.class);
 
     private String localProviderId;
-    private ChainedList<Order> assignedForDeletionOrdersList;
+    private ConcurrentOrderList<Order> assignedForDeletionOrdersList;
     /**
      * Attribute that represents the thread sleep time when there are no orders to be processed.
      */
     private Long sleepTime;
+    private ProcessorSweepRecorder sweepRecorder;
 
     public AssignedForDeletionProcessor(String localProviderId, String sleepTimeStr) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.assignedForDeletionOrdersList = sharedOrderHolders.getAssignedForDeletionOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.sweepRecorder = new ProcessorSweepRecorder(AssignedForDeletionProcessor.class.getSimpleName());
     }
 
     /**
@@ -52,10 +56,13 @@ public class AssignedForDeletionProcessor implements Runnable {
             Order order = this.assignedForDeletionOrdersList.getNext();
 
             if (order != null) {
+                this.sweepRecorder.recordOrder();
                 processAssignedForDeletionOrder(order);
             } else {
+                this.sweepRecorder.endSweep();
                 this.assignedForDeletionOrdersList.resetPointer();
                 Thread.sleep(this.sleepTime);
+                this.sweepRecorder.startSweep();
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
@@ -77,7 +84,10 @@ public class AssignedForDeletionProcessor implements Runnable {
      */
     @VisibleForTesting
     void processAssignedForDeletionOrder(Order order) throws FogbowException {
-        // The order object synchronization is needed to prevent a race condition on order access.
+        // The order object synchronization is needed to prevent a race condition on order access. It is not held
+        // during the deletion in the cloud, which may take long; the order is advanced afterwards only if its
+        // state has not been changed by another thread meanwhile.
+        long version;
         synchronized (order) {
             // Check if the order is still in the ASSIGNED_FOR_DELETION state (for this particular state, this should
             // always happen, since once the order gets to this state, only this thread can operate on it. However,
@@ -95,20 +105,26 @@ public class AssignedForDeletionProcessor implements Runnable {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
                 return;
             }
-            try {
-                // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
-                LocalCloudConnector localCloudConnector = (LocalCloudConnector)
-                            CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
-                localCloudConnector.deleteInstance(order);
-                OrderStateTransitioner.transition(order, OrderState.CHECKING_DELETION);
-            } catch (InstanceNotFoundException e) {
-                // If the provider crashes after calling deleteInstance() and before setting the order's state to
-                // CHECKING_DELETION, then the deleteInstance() method will be called again, after recovery.
-                // This is not an issue, because calling deleteInstance() multiple times has no undesired collateral
-                // effect. The order needs simply to be advanced to the CHECKING_DELETION state, to later be closed
-                // by the CheckingDeletion processor.
-                OrderStateTransitioner.transition(order, OrderState.CHECKING_DELETION);
+            version = order.getVersion();
+        }
+        try {
+            // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
+            LocalCloudConnector localCloudConnector = (LocalCloudConnector)
+                        CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
+            if (localCloudConnector.isCircuitOpen(order, Operation.DELETE)) {
+                // The deletion is retried once the circuit of the cloud closes.
+                LOGGER.debug(String.format(Messages.Log.CIRCUIT_OPEN_SKIPPING_ORDER_S, order.getId()));
+                return;
             }
+            localCloudConnector.deleteInstance(order);
+            OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.CHECKING_DELETION);
+        } catch (InstanceNotFoundException e) {
+            // If the provider crashes after calling deleteInstance() and before setting the order's state to
+            // CHECKING_DELETION, then the deleteInstance() method will be called again, after recovery.
+            // This is not an issue, because calling deleteInstance() multiple times has no undesired collateral
+            // effect. The order needs simply to be advanced to the CHECKING_DELETION state, to later be closed
+            // by the CheckingDeletion processor.
+            OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.CHECKING_DELETION);
         }
     }
 }
@@ -3,14 +3,15 @@ package cloud.fogbow.ras.core.processors;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderController;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.metrics.ProcessorSweepRecorder;
 import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import com.google.common.annotations.VisibleForTesting;
@@ -19,11 +20,12 @@ import org.apache.log4j.Logger;
 public class CheckingDeletionProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(CheckingDeletionProcessor.class);
 
-    private ChainedList<Order> checkingDeletionOrders;
+    private ConcurrentOrderList<Order> checkingDeletionOrders;
     /**
      * Attribute that represents the thread sleep time when there are no orders to be processed.
      */
     private Long sleepTime;
+    private ProcessorSweepRecorder sweepRecorder;
     private OrderController orderController;
     private String localProviderId;
 
@@ -31,6 +33,7 @@ public class CheckingDeletionProcessor implements Runnable {
         SharedOrderHolders sharedOrdersHolder = SharedOrderHolders.getInstance();
         this.checkingDeletionOrders = sharedOrdersHolder.getCheckingDeletionOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.sweepRecorder = new ProcessorSweepRecorder(CheckingDeletionProcessor.class.getSimpleName());
         this.orderController = orderController;
         this.localProviderId = localProviderId;
     }
@@ -56,10 +59,13 @@ public class CheckingDeletionProcessor implements Runnable {
         try {
             Order order = this.checkingDeletionOrders.getNext();
             if (order != null) {
+                this.sweepRecorder.recordOrder();
                 processCheckingDeletionOrder(order);
             } else {
+                this.sweepRecorder.endSweep();
                 this.checkingDeletionOrders.resetPointer();
                 Thread.sleep(this.sleepTime);
+                this.sweepRecorder.startSweep();
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
@@ -82,6 +88,7 @@ public class CheckingDeletionProcessor implements Runnable {
      */
     @VisibleForTesting
     void processCheckingDeletionOrder(Order order) throws InternalServerErrorException {
+        long version;
         synchronized (order) {
             // Check if the order is still in the CHECKING_DELETION state (for this particular state, this should
             // always happen, since once the order gets in this state, only this thread can operate on it. However,
@@ -99,16 +106,30 @@ public class CheckingDeletionProcessor implements Runnable {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
                 return;
             }
-            try {
-                // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
-                LocalCloudConnector localCloudConnector = (LocalCloudConnector)
-                        CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
-                // We don't audit requests we make
-                localCloudConnector.switchOffAuditing();
+            version = order.getVersion();
+        }
+        try {
+            // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
+            LocalCloudConnector localCloudConnector = (LocalCloudConnector)
+                    CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
+            // We don't audit requests we make
+            localCloudConnector.switchOffAuditing();
+            localCloudConnector.switchToLowPriority();
+            if (localCloudConnector.isCircuitOpen(order, Operation.GET)) {
+                // The deletion cannot be confirmed while the cloud is unreachable.
+                LOGGER.debug(String.format(Messages.Log.CIRCUIT_OPEN_SKIPPING_ORDER_S, order.getId()));
+                return;
+            }
 
-                localCloudConnector.getInstance(order);
-            } catch (InstanceNotFoundException e) {
-                LOGGER.info(String.format(Messages.Log.INSTANCE_NOT_FOUND_S, order.getId()));
+            // the lock of the order is not held while the cloud is queried
+            localCloudConnector.getInstance(order);
+        } catch (InstanceNotFoundException e) {
+            LOGGER.info(String.format(Messages.Log.INSTANCE_NOT_FOUND_S, order.getId()));
+            synchronized (order) {
+                if (order.getVersion() != version) {
+                    LOGGER.debug(String.format(Messages.Log.DISCARDING_STALE_RESULT_FOR_ORDER_S, order.getId()));
+                    return;
+                }
                 // Remove any references that related dependencies of other orders with the order that has
                 // just been deleted. Only the provider that has receiving the delete request through its
                 // REST API needs to update order dependencies.
@@ -116,9 +137,9 @@ public class CheckingDeletionProcessor implements Runnable {
                     this.orderController.updateOrderDependencies(order, Operation.DELETE);
                 }
                 this.orderController.closeOrder(order);
-            } catch (FogbowException e) {
-                LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()));
             }
+        } catch (FogbowException e) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()));
         }
     }
 }
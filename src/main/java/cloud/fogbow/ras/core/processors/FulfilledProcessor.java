@@ -3,13 +3,15 @@ package cloud.fogbow.ras.core.processors;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.exceptions.UnavailableProviderException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.metrics.ProcessorSweepRecorder;
+import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
@@ -18,17 +20,19 @@ public class FulfilledProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(FulfilledProcessor.class);
 
     private String localProviderId;
-    private ChainedList<Order> fulfilledOrdersList;
+    private ConcurrentOrderList<Order> fulfilledOrdersList;
     /**
      * Attribute that represents the thread sleep time when there are no orders to be processed.
      */
     private Long sleepTime;
+    private ProcessorSweepRecorder sweepRecorder;
 
     public FulfilledProcessor(String localProviderId, String sleepTimeStr) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.fulfilledOrdersList = sharedOrderHolders.getFulfilledOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.sweepRecorder = new ProcessorSweepRecorder(FulfilledProcessor.class.getSimpleName());
     }
 
     /**
@@ -44,10 +48,13 @@ public class FulfilledProcessor implements Runnable {
                 Order order = this.fulfilledOrdersList.getNext();
 
                 if (order != null) {
+                    this.sweepRecorder.recordOrder();
                     processFulfilledOrder(order);
                 } else {
+                    this.sweepRecorder.endSweep();
                     this.fulfilledOrdersList.resetPointer();
                     Thread.sleep(this.sleepTime);
+                    this.sweepRecorder.startSweep();
                 }
             } catch (InterruptedException e) {
                 isActive = false;
@@ -70,10 +77,9 @@ public class FulfilledProcessor implements Runnable {
     protected void processFulfilledOrder(Order order) throws FogbowException {
         OrderInstance instance = null;
 
-        // The order object synchronization is needed to prevent a race
-        // condition on order access. For example: a user can delete a fulfilled
-        // order while this method is trying to check the status of an instance
-        // that was allocated to an order.
+        // The order lock is held only to check the order: a user may delete a fulfilled order while its instance
+        // is being checked, in which case the outcome of the check is discarded.
+        long version;
         synchronized (order) {
             // Check if the order is still in the FULFILLED state (it could have been changed by another thread)
             OrderState orderState = order.getOrderState();
@@ -89,26 +95,33 @@ public class FulfilledProcessor implements Runnable {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
                 return;
             }
-            try {
-                // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
-                LocalCloudConnector localCloudConnector = (LocalCloudConnector)
-                        CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
-                // We don't audit requests we make
-                localCloudConnector.switchOffAuditing();
+            version = order.getVersion();
+        }
+        try {
+            // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
+            LocalCloudConnector localCloudConnector = (LocalCloudConnector)
+                    CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
+            // We don't audit requests we make
+            localCloudConnector.switchOffAuditing();
+            localCloudConnector.switchToLowPriority();
+            if (localCloudConnector.isCircuitOpen(order, Operation.GET)) {
+                // Checking the instance now would only wait for a timeout; the order is kept FULFILLED.
+                LOGGER.debug(String.format(Messages.Log.CIRCUIT_OPEN_SKIPPING_ORDER_S, order.getId()));
+                return;
+            }
 
-                instance = localCloudConnector.getInstance(order);
-                if (instance.hasFailed()) {
-                    LOGGER.info(String.format(Messages.Log.INSTANCE_S_HAS_FAILED, order.getId()));
-                    OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
-                }
-            } catch (UnavailableProviderException e1) {
-                OrderStateTransitioner.transition(order, OrderState.UNABLE_TO_CHECK_STATUS);
-                throw e1;
-            } catch (Exception e2) {
-                order.setOnceFaultMessage(e2.getMessage());
-                LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e2));
-                OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
+            instance = localCloudConnector.getInstance(order);
+            if (instance.hasFailed()) {
+                LOGGER.info(String.format(Messages.Log.INSTANCE_S_HAS_FAILED, order.getId()));
+                OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
             }
+        } catch (UnavailableProviderException e1) {
+            OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.UNABLE_TO_CHECK_STATUS);
+            throw e1;
+        } catch (Exception e2) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e2));
+            OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST,
+                    e2.getMessage());
         }
     }
 }
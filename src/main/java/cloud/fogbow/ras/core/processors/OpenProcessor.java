@@ -2,12 +2,16 @@ package cloud.fogbow.ras.core.processors;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.metrics.ProcessorSweepRecorder;
+import cloud.fogbow.ras.core.metrics.TraceContext;
+import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
@@ -16,17 +20,19 @@ public class OpenProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(OpenProcessor.class);
 
     private String localProviderId;
-    private ChainedList<Order> openOrdersList;
+    private ConcurrentOrderList<Order> openOrdersList;
     /**
      * Attribute that represents the thread sleep time when there are no orders to be processed.
      */
     private Long sleepTime;
+    private ProcessorSweepRecorder sweepRecorder;
 
     public OpenProcessor(String localProviderId, String sleepTimeStr) {
         this.localProviderId = localProviderId;
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.openOrdersList = sharedOrderHolders.getOpenOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.sweepRecorder = new ProcessorSweepRecorder(OpenProcessor.class.getSimpleName());
     }
 
     /**
@@ -40,10 +46,19 @@ public class OpenProcessor implements Runnable {
             try {
                 Order order = this.openOrdersList.getNext();
                 if (order != null) {
-                    processOpenOrder(order);
+                    this.sweepRecorder.recordOrder();
+                    // the requests issued for the order are traced as part of the request that created it
+                    TraceContext.setTraceId(order.getTraceId());
+                    try {
+                        processOpenOrder(order);
+                    } finally {
+                        TraceContext.clear();
+                    }
                 } else {
+                    this.sweepRecorder.endSweep();
                     this.openOrdersList.resetPointer();
                     Thread.sleep(this.sleepTime);
+                    this.sweepRecorder.startSweep();
                 }
             } catch (InterruptedException e) {
                 isActive = false;
@@ -69,19 +84,41 @@ public class OpenProcessor implements Runnable {
      * undesired collateral effects if invoked more than once.
      */
     protected void processOpenOrder(Order order) throws FogbowException {
+        // Check if the order is still in the OPEN state (it could have been changed by another thread)
+        if (!order.getOrderState().equals(OrderState.OPEN)) {
+            return;
+        }
+        CloudConnector cloudConnector = CloudConnectorFactory.getInstance().
+                getCloudConnector(order.getProvider(), order.getCloudName());
+        if (cloudConnector instanceof LocalCloudConnector) {
+            LocalCloudConnector localCloudConnector = (LocalCloudConnector) cloudConnector;
+            if (localCloudConnector.isCircuitOpen(order, Operation.CREATE)) {
+                // The order remains OPEN and is requested again once the circuit closes.
+                LOGGER.debug(String.format(Messages.Log.CIRCUIT_OPEN_SKIPPING_ORDER_S, order.getId()));
+                return;
+            }
+            // The permit is taken before the order is selected and without holding its lock, so that neither
+            // the other threads nor the order itself are held by a rate limited cloud. When no permit is granted
+            // in time, the order remains OPEN and is requested again in the next iteration. A permit taken for an
+            // order that is no longer OPEN once its lock is held is given back.
+            if (!localCloudConnector.acquireCreatePermit()) {
+                LOGGER.debug(String.format(Messages.Log.CREATE_RATE_LIMITED_SKIPPING_ORDER_S, order.getId()));
+                return;
+            }
+        }
         // The order object synchronization is needed to prevent a race
         // condition on order access. For example: a user can delete an open
         // order while this method is trying to get an Instance for this order.
         synchronized (order) {
-            // Check if the order is still in the OPEN state (it could have been changed by another thread)
             OrderState orderState = order.getOrderState();
             if (!orderState.equals(OrderState.OPEN)) {
+                if (cloudConnector instanceof LocalCloudConnector) {
+                    ((LocalCloudConnector) cloudConnector).releaseCreatePermit();
+                }
                 return;
             }
             try {
                 OrderStateTransitioner.transition(order, OrderState.SELECTED);
-                CloudConnector cloudConnector = CloudConnectorFactory.getInstance().
-                        getCloudConnector(order.getProvider(), order.getCloudName());
                 String instanceId = cloudConnector.requestInstance(order);
                 order.setInstanceId(instanceId);
                 if (order.isProviderLocal(this.localProviderId)) {
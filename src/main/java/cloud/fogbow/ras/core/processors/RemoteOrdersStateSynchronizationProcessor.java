@@ -2,36 +2,75 @@ package cloud.fogbow.ras.core.processors;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
 import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.PropertiesHolder;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
+import cloud.fogbow.ras.core.metrics.ProcessorSweepRecorder;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.log4j.Logger;
 
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
 public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(RemoteOrdersStateSynchronizationProcessor.class);
 
-    private ChainedList<Order> remoteProviderOrders;
+    private static final int COMPLETION_POOL_SIZE = 4;
+
+    private ConcurrentOrderList<Order> remoteProviderOrders;
     /**
      * Attribute that represents the thread sleep time when there are no orders to be processed.
      */
     private Long sleepTime;
+    private ProcessorSweepRecorder sweepRecorder;
     private String localProviderId;
+    /**
+     * Attribute that bounds the number of remote orders being retrieved at the same time.
+     */
+    private Semaphore inFlightRequests;
+    private Set<Order> ordersBeingSynchronized;
+    /**
+     * Attribute that runs the updates of the local orders, which take their locks and write to the database, off
+     * the threads that deliver the remote responses and time out the remote requests. Its queue is bounded by the
+     * number of remote orders being retrieved at the same time.
+     */
+    private Executor completionExecutor;
 
     public RemoteOrdersStateSynchronizationProcessor(String localProviderId, String sleepTimeStr) {
         SharedOrderHolders sharedOrdersHolder = SharedOrderHolders.getInstance();
         this.remoteProviderOrders = sharedOrdersHolder.getRemoteProviderOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.sweepRecorder = new ProcessorSweepRecorder(RemoteOrdersStateSynchronizationProcessor.class.getSimpleName());
         this.localProviderId = localProviderId;
+        int maxInFlightRequests = Integer.parseInt(PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.REMOTE_REQUESTS_POOL_SIZE_KEY,
+                ConfigurationPropertyDefaults.REMOTE_REQUESTS_POOL_SIZE));
+        this.inFlightRequests = new Semaphore(maxInFlightRequests);
+        this.ordersBeingSynchronized = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        this.completionExecutor = Executors.newFixedThreadPool(COMPLETION_POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, RemoteOrdersStateSynchronizationProcessor.class.getSimpleName());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
-     * Iterates over the remoteProviderOrders list and tries to process one order at a time. When the order
-     * is null, it indicates that the iteration ended. A new iteration is started after some time.
+     * Iterates over the remoteProviderOrders list and tries to process one order at a time, keeping up to
+     * remote_requests_pool_size orders being retrieved from the remote providers. When the order is null, it
+     * indicates that the iteration ended. A new iteration is started after some time.
      */
     @Override
     public void run() {
@@ -50,10 +89,24 @@ public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
         try {
             Order order = this.remoteProviderOrders.getNext();
             if (order != null) {
-                processRemoteProviderOrder(order);
+                this.sweepRecorder.recordOrder();
+                // waits until there is room for another remote request in flight
+                this.inFlightRequests.acquire();
+                CompletableFuture<Void> synchronization = null;
+                try {
+                    synchronization = processRemoteProviderOrder(order);
+                } finally {
+                    if (synchronization == null) {
+                        this.inFlightRequests.release();
+                    } else {
+                        synchronization.whenComplete((result, e) -> this.inFlightRequests.release());
+                    }
+                }
             } else {
+                this.sweepRecorder.endSweep();
                 this.remoteProviderOrders.resetPointer();
                 Thread.sleep(this.sleepTime);
+                this.sweepRecorder.startSweep();
             }
         } catch (InterruptedException e) {
             LOGGER.error(Messages.Log.THREAD_HAS_BEEN_INTERRUPTED, e);
@@ -67,34 +120,96 @@ public class RemoteOrdersStateSynchronizationProcessor implements Runnable {
 
     /**
      * The RemoteOrdersStateSynchronization processor monitors the state of remote orders to make their local
-     * counterparts consistent.
+     * counterparts consistent. The remote order is requested without waiting for the response, and the local
+     * order is updated when the response arrives.
+     *
+     * @return the synchronization in progress, or null if no request was sent to the remote provider.
      */
     @VisibleForTesting
-    void processRemoteProviderOrder(Order order) throws InternalServerErrorException {
-        synchronized (order) {
-           // Only remote orders need to be synchronized.
-            if (order.isProviderLocal(this.localProviderId)) {
-                // This should never happen.
-                LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
-                return;
-            }
-            try {
-                // Orders in state ASSIGNED_FOR_DELETION and FAILED_ON_REQUEST need not be updated. This is
-                // because the state of a FAILED_ON_REQUEST order cannot be changed by events happening at the
-                // remote provider. ASSIGNED_FOR_DELETION orders will change state only when the remote provider
-                // signals the local requester to close the order
-                if (!order.getOrderState().equals(OrderState.FAILED_ON_REQUEST) &&
-                        !order.getOrderState().equals(OrderState.ASSIGNED_FOR_DELETION)) {
+    CompletableFuture<Void> processRemoteProviderOrder(Order order) throws InternalServerErrorException {
+        // An order whose previous synchronization is still in progress is left for the next iteration.
+        if (!this.ordersBeingSynchronized.add(order)) {
+            return null;
+        }
+        CompletableFuture<Order> remoteOrderRequest = null;
+        long version = 0;
+        try {
+            synchronized (order) {
+                // Only remote orders need to be synchronized.
+                if (order.isProviderLocal(this.localProviderId)) {
+                    // This should never happen.
+                    LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
+                    return null;
+                }
+                if (needsSynchronization(order)) {
                     // Here we know that the CloudConnector is remote, but the use of CloudConnectFactory facilitates testing.
                     RemoteCloudConnector remoteCloudConnector = (RemoteCloudConnector)
                             CloudConnectorFactory.getInstance().getCloudConnector(order.getProvider(), order.getCloudName());
-                    Order remoteOrder = remoteCloudConnector.getRemoteOrder(order);
-                    order.updateFromRemote(remoteOrder);
-                    order.setOrderState(remoteOrder.getOrderState());
+                    version = order.getVersion();
+                    remoteOrderRequest = remoteCloudConnector.getRemoteOrderAsync(order);
+                }
+            }
+        } finally {
+            if (remoteOrderRequest == null) {
+                this.ordersBeingSynchronized.remove(order);
+            }
+        }
+        if (remoteOrderRequest == null) {
+            return null;
+        }
+        long expectedVersion = version;
+        return remoteOrderRequest.<Void>handleAsync((remoteOrder, e) -> {
+            try {
+                if (e != null) {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    LOGGER.warn(String.format(Messages.Exception.GENERIC_EXCEPTION_S, cause.getMessage()));
+                } else {
+                    updateFromRemoteOrder(order, expectedVersion, remoteOrder);
                 }
+            } finally {
+                this.ordersBeingSynchronized.remove(order);
+            }
+            return null;
+        }, this.completionExecutor);
+    }
+
+    /**
+     * @param expectedVersion the version of the order read, under its lock, before the remote order was requested;
+     * the remote order is discarded if the local order has changed since then (ex. it has been closed).
+     */
+    @VisibleForTesting
+    void setCompletionExecutor(Executor completionExecutor) {
+        this.completionExecutor = completionExecutor;
+    }
+
+    @VisibleForTesting
+    void updateFromRemoteOrder(Order order, long expectedVersion, Order remoteOrder) {
+        synchronized (order) {
+            if (order.getVersion() != expectedVersion) {
+                LOGGER.debug(String.format(Messages.Log.DISCARDING_STALE_RESULT_FOR_ORDER_S, order.getId()));
+                return;
+            }
+            if (!needsSynchronization(order)) {
+                return;
+            }
+            try {
+                order.updateFromRemote(remoteOrder);
+                order.setOrderState(remoteOrder.getOrderState());
             } catch (FogbowException e) {
                 LOGGER.warn(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e.getMessage()));
             }
         }
     }
+
+    /**
+     * Orders in state ASSIGNED_FOR_DELETION, FAILED_ON_REQUEST and CLOSED need not be updated. This is because the
+     * state of a FAILED_ON_REQUEST order cannot be changed by events happening at the remote provider.
+     * ASSIGNED_FOR_DELETION orders will change state only when the remote provider signals the local requester to
+     * close the order, and CLOSED orders are no longer active.
+     */
+    private boolean needsSynchronization(Order order) {
+        return !order.getOrderState().equals(OrderState.FAILED_ON_REQUEST) &&
+                !order.getOrderState().equals(OrderState.ASSIGNED_FOR_DELETION) &&
+                !order.getOrderState().equals(OrderState.CLOSED);
+    }
 }
@@ -3,13 +3,15 @@ package cloud.fogbow.ras.core.processors;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.UnavailableProviderException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.metrics.ProcessorSweepRecorder;
+import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
@@ -17,17 +19,19 @@ import org.apache.log4j.Logger;
 public class SpawningProcessor implements Runnable {
     private static final Logger LOGGER = Logger.getLogger(SpawningProcessor.class);
 
-    private ChainedList<Order> spawningOrderList;
+    private ConcurrentOrderList<Order> spawningOrderList;
     /**
      * Attribute that represents the thread sleep time when there are no orders to be processed.
      */
     private Long sleepTime;
+    private ProcessorSweepRecorder sweepRecorder;
     private String localProviderId;
 
     public SpawningProcessor(String providerId, String sleepTimeStr) {
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.spawningOrderList = sharedOrderHolders.getSpawningOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.sweepRecorder = new ProcessorSweepRecorder(SpawningProcessor.class.getSimpleName());
         this.localProviderId = providerId;
     }
 
@@ -43,10 +47,13 @@ public class SpawningProcessor implements Runnable {
             try {
                 order = this.spawningOrderList.getNext();
                 if (order != null) {
+                    this.sweepRecorder.recordOrder();
                     processSpawningOrder(order);
                 } else {
+                    this.sweepRecorder.endSweep();
                     this.spawningOrderList.resetPointer();
                     Thread.sleep(this.sleepTime);
+                    this.sweepRecorder.startSweep();
                 }
             } catch (InterruptedException e) {
                 isActive = false;
@@ -60,10 +67,10 @@ public class SpawningProcessor implements Runnable {
     }
 
     protected void processSpawningOrder(Order order) throws FogbowException {
-        // The order object synchronization is needed to prevent a race
-        // condition on order access. For example: a user can delete an spawning
-        // order while this method is trying to check the status of an instance
-        // that has been requested in the cloud.
+        // The order is checked under its lock, but the lock is released before the cloud is queried, so that a
+        // user can delete or get the order meanwhile; the result is then applied only if the order is still in
+        // the state it was checked in.
+        long version;
         synchronized (order) {
             // Check if the order is still in the SPAWNING state (it could have been changed by another thread)
             OrderState orderState = order.getOrderState();
@@ -79,27 +86,34 @@ public class SpawningProcessor implements Runnable {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
                 return;
             }
-            // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
-            LocalCloudConnector localCloudConnector = (LocalCloudConnector)
-                    CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
-            // We don't audit requests we make
-            localCloudConnector.switchOffAuditing();
+            version = order.getVersion();
+        }
+        // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
+        LocalCloudConnector localCloudConnector = (LocalCloudConnector)
+                CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
+        // We don't audit requests we make
+        localCloudConnector.switchOffAuditing();
+        localCloudConnector.switchToLowPriority();
+        if (localCloudConnector.isCircuitOpen(order, Operation.GET)) {
+            // While the circuit is open the cloud is known to be unreachable, so the order stays SPAWNING.
+            LOGGER.debug(String.format(Messages.Log.CIRCUIT_OPEN_SKIPPING_ORDER_S, order.getId()));
+            return;
+        }
 
-            try {
-                OrderInstance instance = localCloudConnector.getInstance(order);
-                if (instance.hasFailed()) {
-                    OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
-                } else if (instance.isReady()) {
-                    OrderStateTransitioner.transition(order, OrderState.FULFILLED);
-                }
-            } catch (UnavailableProviderException e1) {
-                OrderStateTransitioner.transition(order, OrderState.UNABLE_TO_CHECK_STATUS);
-                throw e1;
-            } catch (Exception e2) {
-                order.setOnceFaultMessage(e2.getMessage());
-                LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e2));
-                OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
+        try {
+            OrderInstance instance = localCloudConnector.getInstance(order);
+            if (instance.hasFailed()) {
+                OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
+            } else if (instance.isReady()) {
+                OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.FULFILLED);
             }
+        } catch (UnavailableProviderException e1) {
+            OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.UNABLE_TO_CHECK_STATUS);
+            throw e1;
+        } catch (Exception e2) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e2));
+            OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST,
+                    e2.getMessage());
         }
     }
 }
@@ -1,13 +1,15 @@
 package cloud.fogbow.ras.core.processors;
 
 import cloud.fogbow.common.exceptions.FogbowException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.metrics.ProcessorSweepRecorder;
+import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Logger;
@@ -16,17 +18,19 @@ public class UnableToCheckStatusProcessor implements Runnable {
 
 	private static final Logger LOGGER = Logger.getLogger(UnableToCheckStatusProcessor.class);
 
-	private ChainedList<Order> unableToCheckStatusOrdersList;
+	private ConcurrentOrderList<Order> unableToCheckStatusOrdersList;
     /**
      * Attribute that represents the thread sleep time when there are no orders to be processed.
      */
 	private Long sleepTime;
+	private ProcessorSweepRecorder sweepRecorder;
 	private String localProviderId;
 
 	public UnableToCheckStatusProcessor(String localProviderId, String sleepTimeStr) {
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.unableToCheckStatusOrdersList = sharedOrderHolders.getUnableToCheckStatusOrdersList();
         this.sleepTime = Long.valueOf(sleepTimeStr);
+        this.sweepRecorder = new ProcessorSweepRecorder(UnableToCheckStatusProcessor.class.getSimpleName());
         this.localProviderId = localProviderId;
     }
 
@@ -43,10 +47,13 @@ public class UnableToCheckStatusProcessor implements Runnable {
                 Order order = this.unableToCheckStatusOrdersList.getNext();
 
                 if (order != null) {
+                    this.sweepRecorder.recordOrder();
                     processUnableToCheckStatusOrder(order);
                 } else {
+                    this.sweepRecorder.endSweep();
                     this.unableToCheckStatusOrdersList.resetPointer();
                     Thread.sleep(this.sleepTime);
+                    this.sweepRecorder.startSweep();
                 }
             } catch (InterruptedException e) {
                 isActive = false;
@@ -65,10 +72,9 @@ public class UnableToCheckStatusProcessor implements Runnable {
 	 */
 	protected void processUnableToCheckStatusOrder(Order order) throws FogbowException {
 		OrderInstance instance = null;
-        // The order object synchronization is needed to prevent a race
-        // condition on order access. For example: a user can delete the
-        // order while this method is trying to check the status of an instance
-        // that was allocated to the order.
+        // Only the check of the order is done under its lock; the instance is retrieved without it, and the
+        // order is moved only if no other thread (e.g. a user deleting it) has changed its state meanwhile.
+        long version;
         synchronized (order) {
             // Check if the order is still in the UNABLE_TO_CHECK_STATUS state (it could have been changed by
             // another thread)
@@ -85,24 +91,31 @@ public class UnableToCheckStatusProcessor implements Runnable {
                 LOGGER.error(Messages.Log.UNEXPECTED_ERROR);
                 return;
             }
-            try {
-                // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
-                LocalCloudConnector localCloudConnector = (LocalCloudConnector)
-                        CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
-                // We don't audit requests we make
-                localCloudConnector.switchOffAuditing();
+            version = order.getVersion();
+        }
+        try {
+            // Here we know that the CloudConnector is local, but the use of CloudConnectFactory facilitates testing.
+            LocalCloudConnector localCloudConnector = (LocalCloudConnector)
+                    CloudConnectorFactory.getInstance().getCloudConnector(this.localProviderId, order.getCloudName());
+            // We don't audit requests we make
+            localCloudConnector.switchOffAuditing();
+            localCloudConnector.switchToLowPriority();
+            if (localCloudConnector.isCircuitOpen(order, Operation.GET)) {
+                // Retrying at full rate while the cloud is down is useless; the order is checked again later.
+                LOGGER.debug(String.format(Messages.Log.CIRCUIT_OPEN_SKIPPING_ORDER_S, order.getId()));
+                return;
+            }
 
-                instance = localCloudConnector.getInstance(order);
-                if (instance.isReady()) {
-                    OrderStateTransitioner.transition(order, OrderState.FULFILLED);
-                } else if (instance.hasFailed()) {
-                    OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
-                }
-            } catch (Exception e) {
-                order.setOnceFaultMessage(e.getMessage());
-                LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e));
-                OrderStateTransitioner.transition(order, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
+            instance = localCloudConnector.getInstance(order);
+            if (instance.isReady()) {
+                OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.FULFILLED);
+            } else if (instance.hasFailed()) {
+                OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST);
             }
+        } catch (Exception e) {
+            LOGGER.info(String.format(Messages.Exception.GENERIC_EXCEPTION_S, e));
+            OrderStateTransitioner.transitionIfUnchanged(order, version, OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST,
+                    e.getMessage());
         }
 	}
 }
@@ -12,7 +12,7 @@ import org.junit.Ignore;
 import org.junit.runner.RunWith;
 import org.powermock.modules.junit4.PowerMockRunner;
 
-import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 
@@ -43,12 +43,13 @@ public class BaseUnitTests {
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         for (OrderState state : OrderState.values()) {
             if (!state.equals(OrderState.CLOSED)) {
-                SynchronizedDoublyLinkedList<Order> ordersList = sharedOrderHolders.getOrdersList(state);
+                ConcurrentOrderList<Order> ordersList = sharedOrderHolders.getOrdersList(state);
                 this.testUtils.cleanList(ordersList);
             }
         }
 
         Map<String, Order> activeOrderMap = sharedOrderHolders.getActiveOrdersMap();
         activeOrderMap.clear();
+        sharedOrderHolders.getOrderDependencyGraph().clear();
     }
 }
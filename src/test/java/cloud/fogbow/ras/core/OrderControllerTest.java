@@ -5,7 +5,6 @@ import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.exceptions.UnacceptableOperationException;
 import cloud.fogbow.common.models.SystemUser;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.api.http.response.*;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.NetworkAllocation;
@@ -14,10 +13,12 @@ import cloud.fogbow.ras.api.http.response.quotas.allocation.VolumeAllocation;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
+import cloud.fogbow.ras.core.cloudconnector.OrderInstanceCache;
 import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.models.Operation;
 import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.*;
 import org.apache.log4j.Level;
 import org.junit.Assert;
@@ -31,8 +32,14 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @PrepareForTest({CloudConnectorFactory.class,
         DatabaseManager.class,
@@ -43,18 +50,19 @@ public class OrderControllerTest extends BaseUnitTests {
 
     private static final String INVALID_ORDER_ID = "invalid-order-id";
     private static final int INSTANCES_LAUNCH_NUMBER = 1;
+    private static final int STRESS_TEST_THREADS_NUMBER = 8;
 
     private OrderController ordersController;
     private LocalCloudConnector localCloudConnector;
     private Map<String, Order> activeOrdersMap;
-    private ChainedList<Order> openOrdersList;
-    private ChainedList<Order> pendingOrdersList;
-    private ChainedList<Order> spawningOrdersList;
-    private ChainedList<Order> fulfilledOrdersList;
-    private ChainedList<Order> failedAfterSuccessfulRequestOrdersList;
-    private ChainedList<Order> failedOnRequestOrdersList;
-    private ChainedList<Order> checkingDeletionOrdersList;
-    private ChainedList<Order> assignedForDeletionOrdersList;
+    private ConcurrentOrderList<Order> openOrdersList;
+    private ConcurrentOrderList<Order> pendingOrdersList;
+    private ConcurrentOrderList<Order> spawningOrdersList;
+    private ConcurrentOrderList<Order> fulfilledOrdersList;
+    private ConcurrentOrderList<Order> failedAfterSuccessfulRequestOrdersList;
+    private ConcurrentOrderList<Order> failedOnRequestOrdersList;
+    private ConcurrentOrderList<Order> checkingDeletionOrdersList;
+    private ConcurrentOrderList<Order> assignedForDeletionOrdersList;
 
     private LoggerAssert loggerTestChecking = new LoggerAssert(OrderController.class);
 
@@ -63,7 +71,7 @@ public class OrderControllerTest extends BaseUnitTests {
 
     @Before
     public void setUp() throws InternalServerErrorException {
-        // mocking database to return empty instances of SynchronizedDoublyLinkedList.
+        // mocking database to return empty instances of ConcurrentOrderList.
         this.testUtils.mockReadOrdersFromDataBase();
 
         // setting up the attributes.
@@ -194,6 +202,104 @@ public class OrderControllerTest extends BaseUnitTests {
         }
     }
 
+    // test case: When many threads try to activate the same order at the same time, only one of
+    // them must succeed, and the order must be placed once in the active orders map and in the open list.
+    @Test
+    public void testActivateSameOrderConcurrently() throws Exception {
+        // set up
+        Order order = this.testUtils.createLocalOrder(this.testUtils.getLocalMemberId());
+        ExecutorService executor = Executors.newFixedThreadPool(STRESS_TEST_THREADS_NUMBER);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        AtomicInteger successfulActivations = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < STRESS_TEST_THREADS_NUMBER; i++) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                try {
+                    this.ordersController.activateOrder(order);
+                    successfulActivations.incrementAndGet();
+                } catch (InternalServerErrorException e) {
+                    // expected for all threads but one
+                }
+                return null;
+            }));
+        }
+
+        // exercise
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // verify
+        Assert.assertEquals(1, successfulActivations.get());
+        Assert.assertEquals(1, this.activeOrdersMap.size());
+        Assert.assertSame(order, this.openOrdersList.getNext());
+        Assert.assertNull(this.openOrdersList.getNext());
+    }
+
+    // test case: While an order is being written in stable storage, another order must be activated without
+    // waiting for it, and the first order must not be visible in the active orders map before it is OPEN.
+    @Test
+    public void testActivateOrderDoesNotSerializeActivations() throws Exception {
+        // set up
+        Order slowOrder = this.testUtils.createLocalOrder(this.testUtils.getLocalMemberId());
+        Order order = this.testUtils.createLocalComputeOrder();
+        CountDownLatch slowOrderBeingStored = new CountDownLatch(1);
+        CountDownLatch releaseSlowOrder = new CountDownLatch(1);
+
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        Mockito.doAnswer(invocation -> {
+            slowOrderBeingStored.countDown();
+            releaseSlowOrder.await();
+            return null;
+        }).when(databaseManager).add(Mockito.eq(slowOrder));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> slowActivation = executor.submit(() -> this.ordersController.activateOrder(slowOrder));
+        slowOrderBeingStored.await();
+
+        try {
+            // exercise
+            this.ordersController.activateOrder(order);
+
+            // verify
+            Assert.assertSame(order, this.activeOrdersMap.get(order.getId()));
+            Assert.assertFalse(this.activeOrdersMap.containsKey(slowOrder.getId()));
+        } finally {
+            releaseSlowOrder.countDown();
+        }
+        Assert.assertEquals(slowOrder.getId(), slowActivation.get());
+        executor.shutdown();
+        Assert.assertSame(slowOrder, this.activeOrdersMap.get(slowOrder.getId()));
+        Assert.assertEquals(OrderState.OPEN, slowOrder.getOrderState());
+    }
+
+    // test case: When the activation of an order fails after the order is OPEN, the order must be removed from
+    // the open orders list, closed and kept out of the active orders map.
+    @Test
+    public void testActivateOrderUndoesActivationOnFailure() throws FogbowException {
+        // set up
+        Order order = this.testUtils.createLocalOrder(this.testUtils.getLocalMemberId());
+        InternalServerErrorException exception = new InternalServerErrorException(TestUtils.ANY_VALUE);
+        Mockito.doThrow(exception).when(this.ordersController).updateOrderDependencies(
+                Mockito.eq(order), Mockito.eq(Operation.CREATE));
+
+        try {
+            // exercise
+            this.ordersController.activateOrder(order);
+            Assert.fail();
+        } catch (InternalServerErrorException e) {
+            // verify
+            Assert.assertSame(exception, e);
+            Assert.assertTrue(this.activeOrdersMap.isEmpty());
+            Assert.assertNull(this.openOrdersList.getNext());
+            Assert.assertEquals(OrderState.CLOSED, order.getOrderState());
+        }
+    }
+
     // test case: Checks if closeOrder changes the order state to CLOSED
     @Test
     public void testCloseOrderSuccess() throws FogbowException {
@@ -1090,30 +1196,68 @@ public class OrderControllerTest extends BaseUnitTests {
         this.ordersController.getOrder(INVALID_ORDER_ID);
     }
 
-    // test case: When calling the updateAllOrdersDependencies method,
-    // it must verify if It performs the updateOrderDependencies to each local active order.
+    // test case: When the instance of a compute is served twice from the instance cache, each response must
+    // list the private networks of the order once.
     @Test
-    public void testUpdateAllOrdersDependencies() throws InternalServerErrorException {
+    public void testGetResourceInstanceFromCacheListsNetworksOnce() throws FogbowException {
         // set up
-        Order orderRemoteActive = Mockito.spy(this.testUtils.createRemoteOrder(TestUtils.ANY_VALUE));
-        ComputeOrder orderLocalNonActive = Mockito.spy(this.testUtils.createLocalComputeOrder());
-        ComputeOrder orderLocalActive = Mockito.spy(this.testUtils.createLocalComputeOrder());
+        NetworkOrder networkOrder = this.testUtils.createLocalNetworkOrder();
+        this.activeOrdersMap.put(networkOrder.getId(), networkOrder);
+        ComputeOrder computeOrder = createCachedComputeOrder(networkOrder.getId());
 
-        this.activeOrdersMap.put(orderLocalActive.getId(), orderLocalActive);
-        this.fulfilledOrdersList.addItem(orderLocalActive);
+        // exercise
+        ComputeInstance firstInstance = (ComputeInstance) this.ordersController.getResourceInstance(computeOrder);
+        ComputeInstance secondInstance = (ComputeInstance) this.ordersController.getResourceInstance(computeOrder);
 
         // verify
-        this.ordersController.updateAllOrdersDependencies();
+        Assert.assertEquals(1, firstInstance.getNetworks().size());
+        Assert.assertEquals(1, secondInstance.getNetworks().size());
+        Assert.assertEquals(networkOrder.getId(), secondInstance.getNetworks().get(0).getId());
+        Mockito.verify(this.localCloudConnector, Mockito.never()).getInstance(Mockito.any(Order.class));
+    }
+
+    // test case: When a network of a compute is closed between two responses served from the instance cache, the
+    // networks of the compute must be rebuilt and the second response must list only the remaining network, once.
+    @Test
+    public void testGetResourceInstanceFromCacheAfterNetworkIsClosed() throws FogbowException {
+        // set up
+        NetworkOrder networkOrder = this.testUtils.createLocalNetworkOrder();
+        NetworkOrder closedNetworkOrder = this.testUtils.createLocalNetworkOrder();
+        this.activeOrdersMap.put(networkOrder.getId(), networkOrder);
+        this.activeOrdersMap.put(closedNetworkOrder.getId(), closedNetworkOrder);
+        ComputeOrder computeOrder = createCachedComputeOrder(networkOrder.getId(), closedNetworkOrder.getId());
+        ComputeInstance firstInstance = (ComputeInstance) this.ordersController.getResourceInstance(computeOrder);
 
         // exercise
-        Mockito.verify(orderLocalActive, Mockito.times(TestUtils.RUN_ONCE))
-                .isRequesterLocal(TestUtils.LOCAL_MEMBER_ID);
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.RUN_ONCE))
-                .updateOrderDependencies(Mockito.eq(orderLocalActive), Mockito.eq(Operation.CREATE));
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.NEVER_RUN))
-                .updateOrderDependencies(Mockito.eq(orderLocalNonActive), Mockito.eq(Operation.CREATE));
-        Mockito.verify(this.ordersController, Mockito.times(TestUtils.NEVER_RUN))
-                .updateOrderDependencies(Mockito.eq(orderRemoteActive), Mockito.eq(Operation.CREATE));
+        closedNetworkOrder.setOrderStateInTestMode(OrderState.CLOSED);
+        this.activeOrdersMap.remove(closedNetworkOrder.getId());
+        ComputeInstance secondInstance = (ComputeInstance) this.ordersController.getResourceInstance(computeOrder);
+
+        // verify
+        Assert.assertEquals(2, firstInstance.getNetworks().size());
+        Assert.assertEquals(1, secondInstance.getNetworks().size());
+        Assert.assertEquals(networkOrder.getId(), secondInstance.getNetworks().get(0).getId());
+    }
+
+    // test case: When a network of a compute is not active when its networks are first read, as while the orders
+    // are recovered at startup, it must be listed once it becomes active.
+    @Test
+    public void testGetNetworkSummariesPicksUpNetworkActivatedLater() {
+        // set up
+        NetworkOrder networkOrder = this.testUtils.createLocalNetworkOrder();
+        NetworkOrder lateNetworkOrder = this.testUtils.createLocalNetworkOrder();
+        this.activeOrdersMap.put(networkOrder.getId(), networkOrder);
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder(
+                Arrays.asList(networkOrder.getId(), lateNetworkOrder.getId()));
+        Assert.assertEquals(1, computeOrder.getNetworkSummaries().size());
+        Assert.assertNull(computeOrder.getNetworkOrders().get(1));
+
+        // exercise
+        this.activeOrdersMap.put(lateNetworkOrder.getId(), lateNetworkOrder);
+
+        // verify
+        Assert.assertEquals(2, computeOrder.getNetworkSummaries().size());
+        Assert.assertSame(lateNetworkOrder, computeOrder.getNetworkOrders().get(1));
     }
 
     // test case: When calling the setFaultMessage method
@@ -1294,6 +1438,11 @@ public class OrderControllerTest extends BaseUnitTests {
         return orderId;
     }
 
+    private ComputeOrder createCachedComputeOrder(String... networkOrderIds) throws FogbowException {
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder(Arrays.asList(networkOrderIds));
+        computeOrder.setInstanceId(TestUtils.FAKE_INSTANCE_ID);
+        computeOrder.setOrderStateInTestMode(OrderState.FULFILLED);
+        OrderInstanceCache.getInstance().load(computeOrder, () -> new ComputeInstance(TestUtils.FAKE_INSTANCE_ID));
+        return computeOrder;
+    }
 }
-
-
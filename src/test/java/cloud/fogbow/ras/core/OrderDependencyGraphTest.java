@@ -0,0 +1,130 @@
+package cloud.fogbow.ras.core;
+
+import cloud.fogbow.ras.core.models.orders.AttachmentOrder;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.NetworkOrder;
+import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
+import cloud.fogbow.ras.core.models.orders.VolumeOrder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class OrderDependencyGraphTest {
+
+    private static final int CONCURRENT_ORDERS = 100;
+    private static final int THREADS = 8;
+    private static final long TERMINATION_TIMEOUT = 10;
+
+    private TestUtils testUtils;
+    private OrderDependencyGraph graph;
+    private NetworkOrder networkOrder;
+    private ComputeOrder computeOrder;
+    private VolumeOrder volumeOrder;
+
+    @Before
+    public void setUp() {
+        this.testUtils = new TestUtils();
+        this.graph = new OrderDependencyGraph();
+        this.networkOrder = this.testUtils.createLocalNetworkOrder();
+        this.computeOrder = this.testUtils.createLocalComputeOrder(Arrays.asList(this.networkOrder.getId()));
+        this.volumeOrder = this.testUtils.createLocalVolumeOrder();
+    }
+
+    // test case: When an attachment is added, both its compute and its volume must have it as a
+    // dependent, and the attachment must have both as dependencies.
+    @Test
+    public void testAddOrderKeepsBothDirections() {
+        // set up
+        AttachmentOrder attachmentOrder = this.testUtils.createLocalAttachmentOrder(this.computeOrder,
+                this.volumeOrder);
+
+        // exercise
+        this.graph.addOrder(attachmentOrder);
+
+        // verify
+        Assert.assertTrue(this.graph.hasDependents(this.computeOrder.getId()));
+        Assert.assertTrue(this.graph.hasDependents(this.volumeOrder.getId()));
+        Assert.assertFalse(this.graph.hasDependents(attachmentOrder.getId()));
+        Assert.assertEquals(Collections.singleton(attachmentOrder.getId()),
+                this.graph.getDependents(this.volumeOrder.getId()));
+
+        Set<String> expectedDependencies = new HashSet<>(Arrays.asList(this.computeOrder.getId(),
+                this.volumeOrder.getId()));
+        Assert.assertEquals(expectedDependencies, this.graph.getDependencies(attachmentOrder.getId()));
+    }
+
+    // test case: When an order is removed, the orders it depended on must not have it as a
+    // dependent anymore, and the removed edges must be returned.
+    @Test
+    public void testRemoveOrderDropsItsEdges() {
+        // set up
+        PublicIpOrder publicIpOrder = this.testUtils.createLocalPublicIpOrder(this.computeOrder.getId());
+        AttachmentOrder attachmentOrder = this.testUtils.createLocalAttachmentOrder(this.computeOrder,
+                this.volumeOrder);
+        this.graph.addOrder(publicIpOrder);
+        this.graph.addOrder(attachmentOrder);
+
+        // exercise
+        Set<String> removedOrderIds = this.graph.removeOrder(attachmentOrder);
+
+        // verify
+        Assert.assertTrue(removedOrderIds.contains(this.volumeOrder.getId()));
+        Assert.assertFalse(this.graph.hasDependents(this.volumeOrder.getId()));
+        Assert.assertEquals(Collections.singleton(publicIpOrder.getId()),
+                this.graph.getDependents(this.computeOrder.getId()));
+        Assert.assertTrue(this.graph.removeOrder(attachmentOrder).isEmpty());
+    }
+
+    // test case: When planning the deletion of an order, its direct and indirect dependents must
+    // be listed once each, after the orders that depend on them.
+    @Test
+    public void testPlanDeletionListsDependentsFirst() {
+        // set up
+        PublicIpOrder publicIpOrder = this.testUtils.createLocalPublicIpOrder(this.computeOrder.getId());
+        AttachmentOrder attachmentOrder = this.testUtils.createLocalAttachmentOrder(this.computeOrder,
+                this.volumeOrder);
+        this.graph.addOrder(this.computeOrder);
+        this.graph.addOrder(publicIpOrder);
+        this.graph.addOrder(attachmentOrder);
+
+        // exercise
+        List<String> plan = this.graph.planDeletion(this.networkOrder.getId());
+
+        // verify
+        Assert.assertEquals(3, plan.size());
+        Assert.assertEquals(this.computeOrder.getId(), plan.get(plan.size() - 1));
+        Assert.assertTrue(plan.containsAll(Arrays.asList(publicIpOrder.getId(), attachmentOrder.getId())));
+        Assert.assertTrue(this.graph.planDeletion(attachmentOrder.getId()).isEmpty());
+    }
+
+    // test case: When dependents of the same order are added and removed concurrently, the order
+    // must have no dependents once all of them have been removed.
+    @Test
+    public void testConcurrentAddAndRemove() throws InterruptedException {
+        // set up
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // exercise
+        for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+            PublicIpOrder publicIpOrder = this.testUtils.createLocalPublicIpOrder(this.computeOrder.getId());
+            executor.submit(() -> {
+                this.graph.addOrder(publicIpOrder);
+                this.graph.removeOrder(publicIpOrder);
+            });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(TERMINATION_TIMEOUT, TimeUnit.SECONDS));
+
+        // verify
+        Assert.assertFalse(this.graph.hasDependents(this.computeOrder.getId()));
+    }
+}
@@ -1,8 +1,8 @@
 package cloud.fogbow.ras.core;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.junit.After;
@@ -77,8 +77,8 @@ public class OrderStateTransitionerTest extends BaseUnitTests {
 
         SharedOrderHolders orderHolders = SharedOrderHolders.getInstance();
 
-        SynchronizedDoublyLinkedList<Order> openOrdersList = orderHolders.getOpenOrdersList();
-        SynchronizedDoublyLinkedList<Order> spawningOrdersList = orderHolders.getSpawningOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = orderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> spawningOrdersList = orderHolders.getSpawningOrdersList();
 
         Order order = createOrder(originState);
         openOrdersList.addItem(order);
@@ -131,7 +131,7 @@ public class OrderStateTransitionerTest extends BaseUnitTests {
         BDDMockito.given(SharedOrderHolders.getInstance()).willReturn(ordersHolder);
 
         Mockito.when(ordersHolder.getOrdersList(originState))
-                .thenReturn(new SynchronizedDoublyLinkedList<>());
+                .thenReturn(new ConcurrentOrderList<>());
 
         // Destination list will fail to be found
         Mockito.when(ordersHolder.getOrdersList(destinationState)).thenReturn(null);
@@ -154,9 +154,9 @@ public class OrderStateTransitionerTest extends BaseUnitTests {
         Order order = createOrder(originState);
 
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        SynchronizedDoublyLinkedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
         openOrdersList.addItem(order);
-        SynchronizedDoublyLinkedList<Order> remoteProviderOrderList = sharedOrderHolders.getRemoteProviderOrdersList();
+        ConcurrentOrderList<Order> remoteProviderOrderList = sharedOrderHolders.getRemoteProviderOrdersList();
 
         // verify before
         Assert.assertEquals(order, openOrdersList.getNext());
@@ -1,20 +1,24 @@
 package cloud.fogbow.ras.core;
 
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
+import cloud.fogbow.ras.core.models.orders.AttachmentOrder;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.VolumeOrder;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
+import java.util.Collections;
 import java.util.UUID;
 
 @PrepareForTest(DatabaseManager.class)
 public class SharedOrderHoldersTest extends BaseUnitTests {
 
-    // test case: As SynchronizedDoublyLinkedList is a sigleton object, when getting the
+    // test case: As ConcurrentOrderList is a sigleton object, when getting the
     // list twice (or more) it must point to the same reference, in other words,
     // they are the same object.
     @Test
@@ -23,8 +27,8 @@ public class SharedOrderHoldersTest extends BaseUnitTests {
         this.testUtils.mockReadOrdersFromDataBase();
         SharedOrderHolders instanceOne = SharedOrderHolders.getInstance();
         SharedOrderHolders instanceTwo = SharedOrderHolders.getInstance();
-        SynchronizedDoublyLinkedList<Order> listFromInstanceOne = instanceOne.getOpenOrdersList();
-        SynchronizedDoublyLinkedList<Order> listFromInstanceTwo = instanceTwo.getOpenOrdersList();
+        ConcurrentOrderList<Order> listFromInstanceOne = instanceOne.getOpenOrdersList();
+        ConcurrentOrderList<Order> listFromInstanceTwo = instanceTwo.getOpenOrdersList();
 
         // verify
         Assert.assertSame(listFromInstanceOne, listFromInstanceTwo);
@@ -106,20 +110,20 @@ public class SharedOrderHoldersTest extends BaseUnitTests {
         int unableToCheckRequestOrderListSizeExpected = localUnableToCheckRequestOrderSize;
         int assignedForDeletionOrderListSizeExpected = localAssignedForDeletionOrderSize;
 
-        SynchronizedDoublyLinkedList<Order> openList = createOrderList(localOpenOrderSize, remoteOpenOrderSize);
-        SynchronizedDoublyLinkedList<Order> selectedList = createOrderList(localSelectedOrderSize, remoteSelectedOrderSize);
-        SynchronizedDoublyLinkedList<Order> fulfilledList = createOrderList(localFulfilledOrderSize, remoteFulfilledOrderSize);
-        SynchronizedDoublyLinkedList<Order> failedAfterSuccessRequestList = createOrderList(
+        ConcurrentOrderList<Order> openList = createOrderList(localOpenOrderSize, remoteOpenOrderSize);
+        ConcurrentOrderList<Order> selectedList = createOrderList(localSelectedOrderSize, remoteSelectedOrderSize);
+        ConcurrentOrderList<Order> fulfilledList = createOrderList(localFulfilledOrderSize, remoteFulfilledOrderSize);
+        ConcurrentOrderList<Order> failedAfterSuccessRequestList = createOrderList(
                 localFailedAfterSuccessRequestOrderSize, remoteFailedAfterSuccessRequestOrderSize);
-        SynchronizedDoublyLinkedList<Order> checkingDeletionList = createOrderList(
+        ConcurrentOrderList<Order> checkingDeletionList = createOrderList(
                 localCheckingDeletionOrderSize, remoteCheckingDeletionOrderSize);
-        SynchronizedDoublyLinkedList<Order> pendingList = createOrderList(localPendingOrderSize, remotePendingOrderSize);
-        SynchronizedDoublyLinkedList<Order> spawningList = createOrderList(localSpawningOrderSize, remoteSpawningOrderSize);
-        SynchronizedDoublyLinkedList<Order> failedOnRequestList = createOrderList(
+        ConcurrentOrderList<Order> pendingList = createOrderList(localPendingOrderSize, remotePendingOrderSize);
+        ConcurrentOrderList<Order> spawningList = createOrderList(localSpawningOrderSize, remoteSpawningOrderSize);
+        ConcurrentOrderList<Order> failedOnRequestList = createOrderList(
                 localFailedOnRequestOrderSize, remoteFailedOnRequestOrderSize);
-        SynchronizedDoublyLinkedList<Order> unableToCheckRequestList = createOrderList(
+        ConcurrentOrderList<Order> unableToCheckRequestList = createOrderList(
                 localUnableToCheckRequestOrderSize, remoteUnableToCheckRequestOrderSize);
-        SynchronizedDoublyLinkedList<Order> assignedForDeletionRequestLis = createOrderList(
+        ConcurrentOrderList<Order> assignedForDeletionRequestLis = createOrderList(
                 localAssignedForDeletionOrderSize, remoteAssignedForDeletionOrderSize);
 
         this.testUtils.mockReadOrdersFromDataBase(openList, selectedList, fulfilledList, failedAfterSuccessRequestList,
@@ -145,7 +149,35 @@ public class SharedOrderHoldersTest extends BaseUnitTests {
         checkList(assignedForDeletionOrderListSizeExpected, sharedOrderHolders.getAssignedForDeletionOrdersList());
     }
 
-    private void checkList(int sizeExpected, SynchronizedDoublyLinkedList<Order> list) {
+    // test case: When calling the constructor method, the dependencies of the recovered orders
+    // requested through the local REST API must be added to the dependency graph.
+    @Test
+    public void testConstructorRecoversOrderDependencies() throws InternalServerErrorException {
+        // set up
+        ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
+        VolumeOrder volumeOrder = this.testUtils.createLocalVolumeOrder();
+        AttachmentOrder attachmentOrder = this.testUtils.createLocalAttachmentOrder(computeOrder, volumeOrder);
+
+        ConcurrentOrderList<Order> fulfilledList = new ConcurrentOrderList<>();
+        fulfilledList.addItem(computeOrder);
+        fulfilledList.addItem(volumeOrder);
+        fulfilledList.addItem(attachmentOrder);
+
+        this.testUtils.mockReadOrdersFromDataBase(new ConcurrentOrderList<>(), new ConcurrentOrderList<>(),
+                fulfilledList, new ConcurrentOrderList<>(), new ConcurrentOrderList<>(), new ConcurrentOrderList<>(),
+                new ConcurrentOrderList<>(), new ConcurrentOrderList<>(), new ConcurrentOrderList<>(),
+                new ConcurrentOrderList<>());
+
+        // exercise
+        SharedOrderHolders sharedOrderHolders = new SharedOrderHolders();
+
+        // verify
+        OrderDependencyGraph graph = sharedOrderHolders.getOrderDependencyGraph();
+        Assert.assertEquals(Collections.singleton(attachmentOrder.getId()), graph.getDependents(computeOrder.getId()));
+        Assert.assertEquals(Collections.singleton(attachmentOrder.getId()), graph.getDependents(volumeOrder.getId()));
+    }
+
+    private void checkList(int sizeExpected, ConcurrentOrderList<Order> list) {
         int listSize = 0;
         while (list.getNext() != null) {
             listSize++;
@@ -153,8 +185,8 @@ public class SharedOrderHoldersTest extends BaseUnitTests {
         Assert.assertEquals(sizeExpected, listSize);
     }
 
-    private SynchronizedDoublyLinkedList<Order> createOrderList(int sizeLocal, int sizeRemote) throws InternalServerErrorException {
-        SynchronizedDoublyLinkedList<Order> list = new SynchronizedDoublyLinkedList<>();
+    private ConcurrentOrderList<Order> createOrderList(int sizeLocal, int sizeRemote) throws InternalServerErrorException {
+        ConcurrentOrderList<Order> list = new ConcurrentOrderList<>();
         for (int i = 0; i < sizeLocal; i++) {
             Order order = Mockito.mock(Order.class);
             Mockito.when(order.isProviderRemote(Mockito.any())).thenReturn(false);
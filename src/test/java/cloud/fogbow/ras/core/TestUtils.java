@@ -4,8 +4,6 @@ import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.models.OpenStackV3User;
 import cloud.fogbow.common.models.SystemUser;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
-import cloud.fogbow.common.models.linkedlists.SynchronizedDoublyLinkedList;
 import cloud.fogbow.common.util.CloudInitUserDataBuilder;
 import cloud.fogbow.ras.api.http.response.quotas.ResourceQuota;
 import cloud.fogbow.ras.api.http.response.quotas.allocation.ResourceAllocation;
@@ -17,6 +15,7 @@ import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.datastore.services.RecoveryService;
 import cloud.fogbow.ras.core.models.NetworkAllocationMode;
 import cloud.fogbow.ras.core.models.UserData;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.*;
 import cloud.fogbow.ras.core.plugins.interoperability.aws.AwsV2ClientUtil;
 import com.google.gson.Gson;
@@ -94,7 +93,7 @@ public class TestUtils {
     public static final String MAP_METHOD = "map";
     public static final String MESSAGE_STATUS_CODE = "Internal server error.";
 
-    public void cleanList(ChainedList<Order> list) throws InternalServerErrorException {
+    public void cleanList(ConcurrentOrderList<Order> list) throws InternalServerErrorException {
         list.resetPointer();
         Order order = null;
         do {
@@ -230,26 +229,26 @@ public class TestUtils {
     }
 
     public void mockReadOrdersFromDataBase() throws InternalServerErrorException {
-                mockReadOrdersFromDataBase(new SynchronizedDoublyLinkedList<>(), new SynchronizedDoublyLinkedList<>(),
-                        new SynchronizedDoublyLinkedList<>(), new SynchronizedDoublyLinkedList<>(),
-                        new SynchronizedDoublyLinkedList<>(), new SynchronizedDoublyLinkedList<>(),
-                        new SynchronizedDoublyLinkedList<>(), new SynchronizedDoublyLinkedList<>(),
-                        new SynchronizedDoublyLinkedList<>(), new SynchronizedDoublyLinkedList<>());
+                mockReadOrdersFromDataBase(new ConcurrentOrderList<>(), new ConcurrentOrderList<>(),
+                        new ConcurrentOrderList<>(), new ConcurrentOrderList<>(),
+                        new ConcurrentOrderList<>(), new ConcurrentOrderList<>(),
+                        new ConcurrentOrderList<>(), new ConcurrentOrderList<>(),
+                        new ConcurrentOrderList<>(), new ConcurrentOrderList<>());
     }
 
     /*
      * Mocks the behavior of the database as if there was no order in any state.
      */
-    public void mockReadOrdersFromDataBase(SynchronizedDoublyLinkedList<Order> openList,
-                                           SynchronizedDoublyLinkedList<Order> selectedList,
-                                           SynchronizedDoublyLinkedList<Order> fulfilledList,
-                                           SynchronizedDoublyLinkedList<Order> failedAfterSuccessRequestList,
-                                           SynchronizedDoublyLinkedList<Order> checkingDeletionList,
-                                           SynchronizedDoublyLinkedList<Order> pendingList,
-                                           SynchronizedDoublyLinkedList<Order> spawningList,
-                                           SynchronizedDoublyLinkedList<Order> failedOnRequestList,
-                                           SynchronizedDoublyLinkedList<Order> unableToCheckRequestList,
-                                           SynchronizedDoublyLinkedList<Order> assignedForDeletionRequestList)
+    public void mockReadOrdersFromDataBase(ConcurrentOrderList<Order> openList,
+                                           ConcurrentOrderList<Order> selectedList,
+                                           ConcurrentOrderList<Order> fulfilledList,
+                                           ConcurrentOrderList<Order> failedAfterSuccessRequestList,
+                                           ConcurrentOrderList<Order> checkingDeletionList,
+                                           ConcurrentOrderList<Order> pendingList,
+                                           ConcurrentOrderList<Order> spawningList,
+                                           ConcurrentOrderList<Order> failedOnRequestList,
+                                           ConcurrentOrderList<Order> unableToCheckRequestList,
+                                           ConcurrentOrderList<Order> assignedForDeletionRequestList)
             throws InternalServerErrorException {
 
         DatabaseManager databaseManager = Mockito.mock(DatabaseManager.class);
@@ -266,6 +265,7 @@ public class TestUtils {
 
         Mockito.doNothing().when(databaseManager).add(Matchers.any(Order.class));
         Mockito.doNothing().when(databaseManager).update(Matchers.any(Order.class));
+        Mockito.doNothing().when(databaseManager).update(Matchers.any(Order.class), Matchers.anyBoolean());
 
         PowerMockito.mockStatic(DatabaseManager.class);
         BDDMockito.given(DatabaseManager.getInstance()).willReturn(databaseManager);
@@ -0,0 +1,148 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class CircuitBreakerTest {
+
+    private static final String CIRCUIT_BREAKER_NAME = "cloud:COMPUTE:GET";
+    private static final int SLIDING_WINDOW_SIZE = 4;
+    private static final int MINIMUM_CALLS = 4;
+    private static final double FAILURE_RATE_THRESHOLD = 50;
+    private static final long BASE_OPEN_TIME = 1000;
+    private static final long MAX_OPEN_TIME = 3000;
+    private static final double BACKOFF_MULTIPLIER = 2;
+    private static final long START_TIME = 10000;
+
+    private CircuitBreaker circuitBreaker;
+
+    @Before
+    public void setUp() {
+        this.circuitBreaker = Mockito.spy(new CircuitBreaker(CIRCUIT_BREAKER_NAME, SLIDING_WINDOW_SIZE,
+                MINIMUM_CALLS, FAILURE_RATE_THRESHOLD, BASE_OPEN_TIME, MAX_OPEN_TIME, BACKOFF_MULTIPLIER));
+        Mockito.doReturn(START_TIME).when(this.circuitBreaker).getCurrentTime();
+    }
+
+    // test case: When fewer calls than the minimum have been recorded, the breaker must stay closed,
+    // even if all of them failed.
+    @Test
+    public void testStaysClosedBelowMinimumCalls() {
+        // exercise
+        recordFailures(MINIMUM_CALLS - 1);
+
+        // verify
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, this.circuitBreaker.getState());
+        Assert.assertTrue(this.circuitBreaker.allowRequest());
+    }
+
+    // test case: When the failure rate in the sliding window reaches the threshold, the breaker must open
+    // and reject calls until the open time has elapsed.
+    @Test
+    public void testOpensWhenFailureRateReachesThreshold() {
+        // set up
+        this.circuitBreaker.recordSuccess();
+        this.circuitBreaker.recordSuccess();
+
+        // exercise
+        recordFailures(2);
+
+        // verify
+        Assert.assertEquals(CircuitBreaker.State.OPEN, this.circuitBreaker.getState());
+        Assert.assertTrue(this.circuitBreaker.isOpen());
+        Assert.assertFalse(this.circuitBreaker.allowRequest());
+        Assert.assertEquals(START_TIME + BASE_OPEN_TIME, this.circuitBreaker.getOpenUntil());
+    }
+
+    // test case: Old outcomes must leave the sliding window, so that failures that happened long ago
+    // do not open the breaker.
+    @Test
+    public void testOldOutcomesLeaveTheSlidingWindow() {
+        // set up
+        recordFailures(1);
+
+        // exercise
+        for (int i = 0; i < SLIDING_WINDOW_SIZE; i++) {
+            this.circuitBreaker.recordSuccess();
+        }
+        recordFailures(1);
+
+        // verify
+        Assert.assertEquals(25.0, this.circuitBreaker.getFailureRate(), 0);
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, this.circuitBreaker.getState());
+    }
+
+    // test case: After the open time, a single probe call must be allowed; if it succeeds, the breaker
+    // must close.
+    @Test
+    public void testHalfOpenProbeSuccessClosesTheBreaker() {
+        // set up
+        recordFailures(MINIMUM_CALLS);
+        Mockito.doReturn(START_TIME + BASE_OPEN_TIME).when(this.circuitBreaker).getCurrentTime();
+
+        // exercise
+        boolean probeAllowed = this.circuitBreaker.allowRequest();
+        boolean secondCallAllowed = this.circuitBreaker.allowRequest();
+        this.circuitBreaker.recordSuccess();
+
+        // verify
+        Assert.assertTrue(probeAllowed);
+        Assert.assertFalse(secondCallAllowed);
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, this.circuitBreaker.getState());
+        Assert.assertEquals(0, this.circuitBreaker.getFailureRate(), 0);
+        Assert.assertTrue(this.circuitBreaker.allowRequest());
+    }
+
+    // test case: Each time the probe fails, the breaker must reopen for an exponentially longer time,
+    // bounded by the maximum open time.
+    @Test
+    public void testHalfOpenProbeFailureBacksOffExponentially() {
+        // set up
+        recordFailures(MINIMUM_CALLS);
+        long currentTime = START_TIME + BASE_OPEN_TIME;
+
+        // exercise and verify
+        currentTime = failProbeAt(currentTime);
+        Assert.assertEquals(currentTime + 2 * BASE_OPEN_TIME, this.circuitBreaker.getOpenUntil());
+
+        currentTime = failProbeAt(currentTime + 2 * BASE_OPEN_TIME);
+        Assert.assertEquals(currentTime + MAX_OPEN_TIME, this.circuitBreaker.getOpenUntil());
+
+        currentTime = failProbeAt(currentTime + MAX_OPEN_TIME);
+        Assert.assertEquals(currentTime + MAX_OPEN_TIME, this.circuitBreaker.getOpenUntil());
+    }
+
+    // test case: When the probe call is allowed but not issued, giving it back must let the next call be used
+    // as the probe, without changing the state of the breaker.
+    @Test
+    public void testReleasedProbeAllowsAnotherProbe() {
+        // set up
+        recordFailures(MINIMUM_CALLS);
+        Mockito.doReturn(START_TIME + BASE_OPEN_TIME).when(this.circuitBreaker).getCurrentTime();
+        Assert.assertTrue(this.circuitBreaker.allowRequest());
+
+        // exercise
+        this.circuitBreaker.releaseRequest();
+
+        // verify
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, this.circuitBreaker.getState());
+        Assert.assertFalse(this.circuitBreaker.isOpen());
+        Assert.assertTrue(this.circuitBreaker.allowRequest());
+        Assert.assertFalse(this.circuitBreaker.allowRequest());
+    }
+
+    private void recordFailures(int failures) {
+        for (int i = 0; i < failures; i++) {
+            this.circuitBreaker.recordFailure();
+        }
+    }
+
+    private long failProbeAt(long currentTime) {
+        Mockito.doReturn(currentTime).when(this.circuitBreaker).getCurrentTime();
+        Assert.assertTrue(this.circuitBreaker.allowRequest());
+        this.circuitBreaker.recordFailure();
+        Assert.assertEquals(CircuitBreaker.State.OPEN, this.circuitBreaker.getState());
+        return currentTime;
+    }
+}
@@ -10,6 +10,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
 import cloud.fogbow.common.models.CloudUser;
 import cloud.fogbow.common.models.SystemUser;
 import cloud.fogbow.ras.api.http.response.quotas.ResourceQuota;
@@ -815,6 +816,115 @@ public class LocalCloudConnectorTest extends BaseUnitTests {
                 Mockito.anyString());
     }
 
+    // test case: When the circuit breaker of the call is open, the call must be rejected with an
+    // UnavailableProviderException before a permit is taken from the rate limiter.
+    @Test
+    public void testCallCloudChecksCircuitBreakerBeforeRateLimiter() throws FogbowException {
+        // set up
+        CircuitBreakerRegistry circuitBreakerRegistry = Mockito.mock(CircuitBreakerRegistry.class);
+        CircuitBreaker circuitBreaker = Mockito.mock(CircuitBreaker.class);
+        Mockito.when(circuitBreakerRegistry.isEnabled()).thenReturn(true);
+        Mockito.when(circuitBreakerRegistry.getCircuitBreaker(Mockito.anyString(), Mockito.eq(ResourceType.QUOTA),
+                Mockito.eq(Operation.GET))).thenReturn(circuitBreaker);
+        Mockito.when(circuitBreaker.allowRequest()).thenReturn(false);
+        RateLimiterRegistry rateLimiterRegistry = Mockito.mock(RateLimiterRegistry.class);
+        this.localCloudConnector.setCircuitBreakerRegistry(circuitBreakerRegistry);
+        this.localCloudConnector.setRateLimiterRegistry(rateLimiterRegistry);
+
+        try {
+            // exercise
+            this.localCloudConnector.getUserQuota(this.testUtils.createSystemUser());
+            Assert.fail();
+        } catch (UnavailableProviderException e) {
+            // verify
+            Mockito.verify(rateLimiterRegistry, Mockito.never()).getRateLimiter(Mockito.anyString(),
+                    Mockito.any(Operation.class), Mockito.any(InteroperabilityPluginInstantiator.class));
+            Mockito.verify(this.quotaPlugin, Mockito.never()).getUserQuota(Mockito.any(CloudUser.class));
+        }
+    }
+
+    // test case: When no rate limit permit is granted in time to a user-facing call, the call must be rejected
+    // with an UnavailableProviderException, and the call allowed by the circuit breaker must be given back.
+    @Test
+    public void testCallCloudGivesUpWaitingForRatePermit() throws FogbowException, InterruptedException {
+        // set up
+        CircuitBreakerRegistry circuitBreakerRegistry = Mockito.mock(CircuitBreakerRegistry.class);
+        CircuitBreaker circuitBreaker = Mockito.mock(CircuitBreaker.class);
+        Mockito.when(circuitBreakerRegistry.isEnabled()).thenReturn(true);
+        Mockito.when(circuitBreakerRegistry.getCircuitBreaker(Mockito.anyString(), Mockito.eq(ResourceType.QUOTA),
+                Mockito.eq(Operation.GET))).thenReturn(circuitBreaker);
+        Mockito.when(circuitBreaker.allowRequest()).thenReturn(true);
+        RateLimiterRegistry rateLimiterRegistry = Mockito.mock(RateLimiterRegistry.class);
+        RateLimiter rateLimiter = Mockito.mock(RateLimiter.class);
+        Mockito.when(rateLimiterRegistry.getRateLimiter(Mockito.anyString(), Mockito.eq(Operation.GET),
+                Mockito.any(InteroperabilityPluginInstantiator.class))).thenReturn(rateLimiter);
+        Mockito.when(rateLimiter.tryAcquire(Mockito.eq(RateLimiter.Priority.HIGH), Mockito.anyLong()))
+                .thenReturn(false);
+        this.localCloudConnector.setCircuitBreakerRegistry(circuitBreakerRegistry);
+        this.localCloudConnector.setRateLimiterRegistry(rateLimiterRegistry);
+
+        try {
+            // exercise
+            this.localCloudConnector.getUserQuota(this.testUtils.createSystemUser());
+            Assert.fail();
+        } catch (UnavailableProviderException e) {
+            // verify
+            Mockito.verify(circuitBreaker, Mockito.times(TestUtils.RUN_ONCE)).releaseRequest();
+            Mockito.verify(circuitBreaker, Mockito.never()).recordFailure();
+            Mockito.verify(this.quotaPlugin, Mockito.never()).getUserQuota(Mockito.any(CloudUser.class));
+        }
+    }
+
+    // test case: When the create permit was taken in advance through acquireCreatePermit, the next requestInstance
+    // call must not take another permit from the rate limiter.
+    @Test
+    public void testRequestInstanceUsesCreatePermitTakenInAdvance() throws FogbowException, InterruptedException {
+        // set up
+        Order order = Mockito.mock(Order.class);
+        CloudUser cloudUser = Mockito.mock(CloudUser.class);
+        Mockito.when(this.mapperPlugin.map(Mockito.any(SystemUser.class))).thenReturn(cloudUser);
+        RateLimiterRegistry rateLimiterRegistry = Mockito.mock(RateLimiterRegistry.class);
+        RateLimiter rateLimiter = Mockito.mock(RateLimiter.class);
+        Mockito.when(rateLimiterRegistry.getRateLimiter(Mockito.anyString(), Mockito.eq(Operation.CREATE),
+                Mockito.any(InteroperabilityPluginInstantiator.class))).thenReturn(rateLimiter);
+        Mockito.when(rateLimiter.tryAcquire(Mockito.eq(RateLimiter.Priority.HIGH), Mockito.anyLong()))
+                .thenReturn(true);
+        this.localCloudConnector.setRateLimiterRegistry(rateLimiterRegistry);
+        Mockito.doReturn(TestUtils.FAKE_INSTANCE_ID).when(this.localCloudConnector)
+                .doRequestInstance(Mockito.eq(order), Mockito.eq(cloudUser));
+
+        // exercise
+        boolean permitTaken = this.localCloudConnector.acquireCreatePermit();
+        this.localCloudConnector.requestInstance(order);
+
+        // verify
+        Assert.assertTrue(permitTaken);
+        Mockito.verify(rateLimiter, Mockito.times(TestUtils.RUN_ONCE)).tryAcquire(
+                Mockito.eq(RateLimiter.Priority.HIGH), Mockito.anyLong());
+    }
+
+    // test case: When the create permit taken in advance is released, it must be given back to the rate limiter
+    // once, and a second release must do nothing.
+    @Test
+    public void testReleaseCreatePermitGivesBackThePermit() throws FogbowException, InterruptedException {
+        // set up
+        RateLimiterRegistry rateLimiterRegistry = Mockito.mock(RateLimiterRegistry.class);
+        RateLimiter rateLimiter = Mockito.mock(RateLimiter.class);
+        Mockito.when(rateLimiterRegistry.getRateLimiter(Mockito.anyString(), Mockito.eq(Operation.CREATE),
+                Mockito.any(InteroperabilityPluginInstantiator.class))).thenReturn(rateLimiter);
+        Mockito.when(rateLimiter.tryAcquire(Mockito.eq(RateLimiter.Priority.HIGH), Mockito.anyLong()))
+                .thenReturn(true);
+        this.localCloudConnector.setRateLimiterRegistry(rateLimiterRegistry);
+        this.localCloudConnector.acquireCreatePermit();
+
+        // exercise
+        this.localCloudConnector.releaseCreatePermit();
+        this.localCloudConnector.releaseCreatePermit();
+
+        // verify
+        Mockito.verify(rateLimiter, Mockito.times(TestUtils.RUN_ONCE)).release();
+    }
+
     // test case: When invoking the getAllImages method with a valid system user, it
     // must call the doGetAllImages method and confirm in auditRequest the GET_ALL
     // operation of the IMAGE resource type.
@@ -0,0 +1,185 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.api.http.response.ComputeInstance;
+import cloud.fogbow.ras.api.http.response.InstanceState;
+import cloud.fogbow.ras.api.http.response.NetworkSummary;
+import cloud.fogbow.ras.api.http.response.OrderInstance;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OrderInstanceCacheTest {
+
+    private static final long TIME_TO_LIVE = 5000;
+    private static final long CURRENT_TIME = 100000;
+    private static final long SMALL_MAX_AGE = 1000;
+    private static final int CONCURRENT_CALLERS = 4;
+    private static final String FAKE_NETWORK_ID = "fake-network-id";
+    private static final String FAKE_NETWORK_NAME = "fake-network-name";
+
+    private TestUtils testUtils;
+    private OrderInstanceCache orderInstanceCache;
+    private Order order;
+
+    @Before
+    public void setUp() {
+        this.testUtils = new TestUtils();
+        this.orderInstanceCache = Mockito.spy(new OrderInstanceCache(TIME_TO_LIVE));
+        Mockito.doReturn(CURRENT_TIME).when(this.orderInstanceCache).getCurrentTime();
+        this.order = this.testUtils.createLocalComputeOrder();
+        this.order.setInstanceId(TestUtils.FAKE_INSTANCE_ID);
+    }
+
+    // test case: An instance that has been loaded must be returned by getIfFresh while it is not older than
+    // both the requested maximum age and the time to live of the cache.
+    @Test
+    public void testGetIfFreshRespectsMaxAgeAndTimeToLive() throws FogbowException {
+        // set up
+        OrderInstance instance = new ComputeInstance(TestUtils.FAKE_INSTANCE_ID);
+        this.orderInstanceCache.load(this.order, () -> instance);
+        Mockito.doReturn(CURRENT_TIME + SMALL_MAX_AGE + 1).when(this.orderInstanceCache).getCurrentTime();
+
+        // exercise and verify
+        Assert.assertEquals(instance, this.orderInstanceCache.getIfFresh(this.order, TIME_TO_LIVE));
+        Assert.assertNull(this.orderInstanceCache.getIfFresh(this.order, SMALL_MAX_AGE));
+        Assert.assertNull(this.orderInstanceCache.getIfFresh(this.order, 0));
+
+        Mockito.doReturn(CURRENT_TIME + TIME_TO_LIVE + 1).when(this.orderInstanceCache).getCurrentTime();
+        Assert.assertNull(this.orderInstanceCache.getIfFresh(this.order, Long.MAX_VALUE));
+    }
+
+    // test case: A cached instance must not be returned when the instance id of the order has changed, nor
+    // after the order has been invalidated.
+    @Test
+    public void testGetIfFreshMissesStaleEntries() throws FogbowException {
+        // set up
+        OrderInstance instance = new ComputeInstance(TestUtils.FAKE_INSTANCE_ID);
+        this.orderInstanceCache.load(this.order, () -> instance);
+
+        // exercise and verify
+        this.order.setInstanceId(TestUtils.ANY_VALUE);
+        Assert.assertNull(this.orderInstanceCache.getIfFresh(this.order, TIME_TO_LIVE));
+
+        this.order.setInstanceId(TestUtils.FAKE_INSTANCE_ID);
+        this.orderInstanceCache.invalidate(this.order.getId());
+        Assert.assertNull(this.orderInstanceCache.getIfFresh(this.order, TIME_TO_LIVE));
+    }
+
+    // test case: Concurrent loads of the instance of the same order must share a single call to the loader.
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+        // set up
+        OrderInstance instance = new ComputeInstance(TestUtils.FAKE_INSTANCE_ID);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        OrderInstanceCache.InstanceLoader loader = () -> {
+            loaderCalls.incrementAndGet();
+            loaderStarted.countDown();
+            try {
+                releaseLoader.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return instance;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+
+        // exercise
+        Future<OrderInstance> firstCaller = executor.submit(() -> this.orderInstanceCache.load(this.order, loader));
+        loaderStarted.await();
+        Future<?>[] otherCallers = new Future<?>[CONCURRENT_CALLERS - 1];
+        for (int i = 0; i < otherCallers.length; i++) {
+            otherCallers[i] = executor.submit(() -> this.orderInstanceCache.load(this.order, loader));
+        }
+        // gives the other callers time to join the in-flight call
+        Thread.sleep(100);
+        releaseLoader.countDown();
+
+        // verify
+        Assert.assertEquals(instance, firstCaller.get());
+        for (Future<?> otherCaller : otherCallers) {
+            Assert.assertEquals(instance, otherCaller.get());
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        Assert.assertEquals(1, loaderCalls.get());
+    }
+
+    // test case: Each caller must get its own copy of the cached instance, so that the changes made by one caller
+    // are seen neither by the other callers nor by the cache.
+    @Test
+    public void testCallersDoNotShareTheCachedInstance() throws FogbowException {
+        // set up
+        ComputeInstance instance = new ComputeInstance(TestUtils.FAKE_INSTANCE_ID);
+        instance.setNetworks(new ArrayList<>(Arrays.asList(new NetworkSummary(FAKE_NETWORK_ID, FAKE_NETWORK_NAME))));
+        ComputeInstance loadedInstance = (ComputeInstance) this.orderInstanceCache.load(this.order, () -> instance);
+
+        // exercise
+        ComputeInstance firstInstance = (ComputeInstance) this.orderInstanceCache.getIfFresh(this.order, TIME_TO_LIVE);
+        ComputeInstance secondInstance = (ComputeInstance) this.orderInstanceCache.getIfFresh(this.order, TIME_TO_LIVE);
+        loadedInstance.setState(InstanceState.FAILED);
+        firstInstance.setState(InstanceState.READY);
+        firstInstance.setProvider(TestUtils.ANY_VALUE);
+        firstInstance.getNetworks().add(new NetworkSummary(TestUtils.ANY_VALUE, TestUtils.ANY_VALUE));
+
+        // verify
+        Assert.assertNotSame(firstInstance, secondInstance);
+        Assert.assertNull(secondInstance.getState());
+        Assert.assertNull(secondInstance.getProvider());
+        Assert.assertEquals(1, secondInstance.getNetworks().size());
+
+        ComputeInstance cachedInstance = (ComputeInstance) this.orderInstanceCache.getIfFresh(this.order, TIME_TO_LIVE);
+        Assert.assertNull(cachedInstance.getState());
+        Assert.assertEquals(1, cachedInstance.getNetworks().size());
+        Assert.assertEquals(FAKE_NETWORK_ID, cachedInstance.getNetworks().get(0).getId());
+    }
+
+    // test case: When the order is invalidated while the instance is being loaded, the loaded instance must still
+    // be returned to the caller, but it must not be cached.
+    @Test
+    public void testLoadInProgressIsDiscardedByInvalidate() throws FogbowException {
+        // set up
+        OrderInstance instance = new ComputeInstance(TestUtils.FAKE_INSTANCE_ID);
+
+        // exercise
+        OrderInstance loadedInstance = this.orderInstanceCache.load(this.order, () -> {
+            this.orderInstanceCache.invalidate(this.order.getId());
+            return instance;
+        });
+
+        // verify
+        Assert.assertEquals(instance, loadedInstance);
+        Assert.assertNull(this.orderInstanceCache.getIfFresh(this.order, TIME_TO_LIVE));
+    }
+
+    // test case: When the loader fails, the error must be thrown and nothing must be cached.
+    @Test
+    public void testFailedLoadIsNotCached() {
+        // exercise
+        try {
+            this.orderInstanceCache.load(this.order, () -> {
+                throw new UnavailableProviderException();
+            });
+            Assert.fail();
+        } catch (FogbowException e) {
+            // verify
+            Assert.assertTrue(e instanceof UnavailableProviderException);
+        }
+        Assert.assertNull(this.orderInstanceCache.getIfFresh(this.order, TIME_TO_LIVE));
+    }
+}
@@ -0,0 +1,111 @@
+package cloud.fogbow.ras.core.cloudconnector;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class RateLimiterTest {
+
+    private static final String RATE_LIMITER_NAME = "cloud:CREATE";
+    private static final double PERMITS_PER_SECOND = 5;
+    private static final int BURST_SIZE = 2;
+    private static final long PERMIT_INTERVAL = 200;
+    private static final long THREAD_START_DELAY = 50;
+    private static final long MAX_WAIT = 10000;
+    private static final long SHORT_WAIT = 20;
+
+    // test case: Up to burstSize permits must be granted without waiting, and the following ones must be
+    // delayed according to the configured rate; the delay must be reported in the queueing metrics.
+    @Test
+    public void testAcquireRespectsBurstSizeAndRate() throws InterruptedException {
+        // set up
+        RateLimiter rateLimiter = new RateLimiter(RATE_LIMITER_NAME, PERMITS_PER_SECOND, BURST_SIZE, MAX_WAIT);
+        rateLimiter.acquire(RateLimiter.Priority.HIGH);
+        rateLimiter.acquire(RateLimiter.Priority.HIGH);
+        long startTime = System.currentTimeMillis();
+
+        // exercise
+        rateLimiter.acquire(RateLimiter.Priority.HIGH);
+
+        // verify
+        long elapsedTime = System.currentTimeMillis() - startTime;
+        Assert.assertTrue(elapsedTime >= PERMIT_INTERVAL / 2);
+        Assert.assertEquals(3, rateLimiter.getAcquisitions(RateLimiter.Priority.HIGH));
+        Assert.assertTrue(rateLimiter.getMaxQueueingDelay(RateLimiter.Priority.HIGH) >= PERMIT_INTERVAL / 2);
+        Assert.assertEquals(0, rateLimiter.getAcquisitions(RateLimiter.Priority.LOW));
+        Assert.assertEquals(0, rateLimiter.getWaitingRequests());
+    }
+
+    // test case: When a low and a high priority caller are both waiting for a permit, the high priority
+    // caller must be served first, even if it arrived later.
+    @Test
+    public void testHighPriorityIsServedFirst() throws InterruptedException {
+        // set up
+        RateLimiter rateLimiter = new RateLimiter(RATE_LIMITER_NAME, PERMITS_PER_SECOND, 1, MAX_WAIT);
+        rateLimiter.acquire(RateLimiter.Priority.HIGH);
+        List<RateLimiter.Priority> servedPriorities = Collections.synchronizedList(new ArrayList<>());
+
+        Thread lowPriorityCaller = createCaller(rateLimiter, RateLimiter.Priority.LOW, servedPriorities);
+        Thread highPriorityCaller = createCaller(rateLimiter, RateLimiter.Priority.HIGH, servedPriorities);
+
+        // exercise
+        lowPriorityCaller.start();
+        Thread.sleep(THREAD_START_DELAY);
+        highPriorityCaller.start();
+        lowPriorityCaller.join();
+        highPriorityCaller.join();
+
+        // verify
+        Assert.assertEquals(RateLimiter.Priority.HIGH, servedPriorities.get(0));
+        Assert.assertEquals(RateLimiter.Priority.LOW, servedPriorities.get(1));
+        Assert.assertEquals(1, rateLimiter.getAcquisitions(RateLimiter.Priority.LOW));
+        Assert.assertTrue(rateLimiter.getAverageQueueingDelay(RateLimiter.Priority.LOW) >
+                rateLimiter.getAverageQueueingDelay(RateLimiter.Priority.HIGH));
+    }
+
+    // test case: A permit given back through release must be available to the next caller at once.
+    @Test
+    public void testReleaseGivesBackThePermit() throws InterruptedException {
+        // set up
+        RateLimiter rateLimiter = new RateLimiter(RATE_LIMITER_NAME, PERMITS_PER_SECOND, 1, SHORT_WAIT);
+        Assert.assertTrue(rateLimiter.tryAcquire(RateLimiter.Priority.HIGH, rateLimiter.getMaxWait()));
+
+        // exercise
+        rateLimiter.release();
+
+        // verify
+        Assert.assertTrue(rateLimiter.tryAcquire(RateLimiter.Priority.HIGH, 0));
+    }
+
+    // test case: When no permit is available within the given time, tryAcquire must give up, leaving the queue
+    // and the metrics of the granted permits unchanged.
+    @Test
+    public void testTryAcquireGivesUpAfterTimeout() throws InterruptedException {
+        // set up
+        RateLimiter rateLimiter = new RateLimiter(RATE_LIMITER_NAME, PERMITS_PER_SECOND, 1, SHORT_WAIT);
+        Assert.assertTrue(rateLimiter.tryAcquire(RateLimiter.Priority.HIGH, rateLimiter.getMaxWait()));
+
+        // exercise
+        boolean acquired = rateLimiter.tryAcquire(RateLimiter.Priority.HIGH, rateLimiter.getMaxWait());
+
+        // verify
+        Assert.assertFalse(acquired);
+        Assert.assertEquals(1, rateLimiter.getAcquisitions(RateLimiter.Priority.HIGH));
+        Assert.assertEquals(0, rateLimiter.getWaitingRequests());
+    }
+
+    private Thread createCaller(RateLimiter rateLimiter, RateLimiter.Priority priority,
+                                List<RateLimiter.Priority> servedPriorities) {
+        return new Thread(() -> {
+            try {
+                rateLimiter.acquire(priority);
+                servedPriorities.add(priority);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+}
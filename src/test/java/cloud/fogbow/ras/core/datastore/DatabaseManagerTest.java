@@ -0,0 +1,107 @@
+package cloud.fogbow.ras.core.datastore;
+
+import cloud.fogbow.ras.api.http.response.quotas.allocation.ComputeAllocation;
+import cloud.fogbow.ras.core.datastore.services.AuditableOrderStateChangeService;
+import cloud.fogbow.ras.core.datastore.services.RecoveryService;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+
+public class DatabaseManagerTest {
+
+    private static final String FAKE_FAULT_MESSAGE = "fake-fault-message";
+    private static final long FAKE_STATE_CHANGE_TIME = 1000L;
+
+    private DatabaseManager databaseManager;
+    private RecoveryService recoveryService;
+    private AuditableOrderStateChangeService auditableOrderStateChangeService;
+    private ComputeOrder order;
+
+    @Before
+    public void setUp() throws Exception {
+        this.recoveryService = Mockito.mock(RecoveryService.class);
+        this.auditableOrderStateChangeService = Mockito.mock(AuditableOrderStateChangeService.class);
+        this.databaseManager = DatabaseManager.getInstance();
+        this.databaseManager.setRecoveryService(this.recoveryService);
+        this.databaseManager.setAuditableOrderStateChangeService(this.auditableOrderStateChangeService);
+        this.order = new ComputeOrder();
+        this.order.setOrderStateInTestMode(OrderState.FULFILLED);
+        this.databaseManager.add(this.order);
+        Mockito.reset(this.recoveryService, this.auditableOrderStateChangeService);
+    }
+
+    // test case: When neither the state nor any other persisted field of the order has changed, the update must
+    // neither write the order nor register a state change.
+    @Test
+    public void testUpdateUnchangedOrder() throws Exception {
+        // set up
+        this.order.setOnceFaultMessage(null);
+        this.order.setActualAllocation(this.order.getActualAllocation());
+
+        // exercise
+        this.databaseManager.update(this.order, false);
+
+        // verify
+        Assert.assertFalse(this.order.isDirty());
+        Mockito.verify(this.recoveryService, Mockito.never()).update(Mockito.eq(this.order));
+        Mockito.verify(this.auditableOrderStateChangeService, Mockito.never()).registerStateChange(
+                Mockito.eq(this.order));
+    }
+
+    // test case: When a persisted field of the order has changed, but not its state, the update must write the
+    // order without registering a state change, and the order must be clean afterwards.
+    @Test
+    public void testUpdateDirtyOrder() throws Exception {
+        // set up
+        this.order.setOnceFaultMessage(FAKE_FAULT_MESSAGE);
+        this.order.setActualAllocation(new ComputeAllocation(1, 2, 3, 4));
+        Assert.assertTrue(this.order.isDirty());
+
+        // exercise
+        this.databaseManager.update(this.order, false);
+
+        // verify
+        Assert.assertFalse(this.order.isDirty());
+        Mockito.verify(this.recoveryService, Mockito.times(1)).update(Mockito.eq(this.order));
+        Mockito.verify(this.auditableOrderStateChangeService, Mockito.never()).registerStateChange(
+                Mockito.eq(this.order));
+    }
+
+    // test case: When the active orders are read, the time each one entered its state must be taken from its
+    // latest registered state change, and kept as it is for an order with no registered state change.
+    @Test
+    public void testReadActiveOrdersSeedsStateChangeTime() throws Exception {
+        // set up
+        ComputeOrder orderWithoutStateChanges = new ComputeOrder();
+        long initialStateChangeTime = orderWithoutStateChanges.getStateChangeTime();
+        Mockito.when(this.recoveryService.readActiveOrders(Mockito.eq(OrderState.FULFILLED)))
+                .thenReturn(Arrays.asList(this.order, orderWithoutStateChanges));
+        Mockito.when(this.auditableOrderStateChangeService.getLatestStateChangeTime(Mockito.eq(this.order)))
+                .thenReturn(FAKE_STATE_CHANGE_TIME);
+
+        // exercise
+        this.databaseManager.readActiveOrders(OrderState.FULFILLED);
+
+        // verify
+        Assert.assertEquals(FAKE_STATE_CHANGE_TIME, this.order.getStateChangeTime());
+        Assert.assertEquals(initialStateChangeTime, orderWithoutStateChanges.getStateChangeTime());
+    }
+
+    // test case: When the state of the order has changed, the update must write the order and register the state
+    // change.
+    @Test
+    public void testUpdateOrderWithNewState() throws Exception {
+        // exercise
+        this.databaseManager.update(this.order, true);
+
+        // verify
+        Mockito.verify(this.recoveryService, Mockito.times(1)).update(Mockito.eq(this.order));
+        Mockito.verify(this.auditableOrderStateChangeService, Mockito.times(1)).registerStateChange(
+                Mockito.eq(this.order));
+    }
+}
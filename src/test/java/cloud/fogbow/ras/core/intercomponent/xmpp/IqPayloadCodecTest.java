@@ -0,0 +1,100 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.common.models.SystemUser;
+import cloud.fogbow.ras.core.models.orders.ComputeOrder;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.dom4j.DocumentHelper;
+import org.dom4j.Element;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.xmpp.packet.IQ;
+
+import java.util.ArrayList;
+
+public class IqPayloadCodecTest {
+
+    private static final int COMPRESSION_THRESHOLD = 64;
+    private static final String FAKE_PROVIDER = "fake-provider";
+    private static final String FAKE_METHOD = "fake-method";
+    private static final String FAKE_ELEMENT = "fake-element";
+    private static final String FAKE_USER_ID = "fake-user-id";
+    private static final String FAKE_USER_NAME = "fake-user-name";
+    private static final String FAKE_TOKEN_PROVIDER = "fake-token-provider";
+    private static final String UNKNOWN_CLASS_NAME = "cloud.fogbow.ras.UnknownClass";
+
+    private IqPayloadCodec codec;
+    private Order order;
+
+    @Before
+    public void setUp() {
+        this.codec = new IqPayloadCodec(true, COMPRESSION_THRESHOLD);
+        SystemUser systemUser = new SystemUser(FAKE_USER_ID, FAKE_USER_NAME, FAKE_TOKEN_PROVIDER);
+        this.order = new ComputeOrder(systemUser, "requesting-provider", "providing-provider", "default",
+                "host-name", 1, 2, 3, "image-id", null, "public-key", new ArrayList<>());
+    }
+
+    // test case: A large payload sent to a provider that accepts compression must be gzipped, and must be read
+    // back into an equal object.
+    @Test
+    public void testWriteAndReadCompressedPayload() throws InternalServerErrorException {
+        // set up
+        Element element = DocumentHelper.createElement(FAKE_ELEMENT);
+
+        // exercise
+        this.codec.writePayload(element, this.order, true);
+
+        // verify
+        Assert.assertEquals(IqPayloadCodec.GZIP_ENCODING, element.attributeValue(IqPayloadCodec.ENCODING_ATTRIBUTE));
+        Order readOrder = (Order) this.codec.readPayload(element, ComputeOrder.class.getName());
+        Assert.assertEquals(this.codec.toJson(this.order), this.codec.toJson(readOrder));
+    }
+
+    // test case: A payload sent to a provider that does not accept compression, or smaller than the threshold,
+    // must be plain JSON.
+    @Test
+    public void testWritePlainPayload() throws InternalServerErrorException {
+        // set up
+        Element legacyElement = DocumentHelper.createElement(FAKE_ELEMENT);
+        Element smallElement = DocumentHelper.createElement(FAKE_ELEMENT);
+
+        // exercise
+        this.codec.writePayload(legacyElement, this.order, false);
+        this.codec.writePayload(smallElement, FAKE_USER_ID, true);
+
+        // verify
+        Assert.assertNull(legacyElement.attributeValue(IqPayloadCodec.ENCODING_ATTRIBUTE));
+        Assert.assertEquals(this.codec.toJson(this.order), legacyElement.getText());
+        Assert.assertNull(smallElement.attributeValue(IqPayloadCodec.ENCODING_ATTRIBUTE));
+        Assert.assertEquals(FAKE_USER_ID, this.codec.readPayload(smallElement, String.class));
+    }
+
+    // test case: Only the requests and responses tagged with the codec version must be taken as accepting
+    // compression, and a provider must be recorded as accepting it once one of its responses is tagged.
+    @Test
+    public void testCompressionNegotiation() {
+        // set up
+        IQ legacyResponse = new IQ(IQ.Type.result);
+        legacyResponse.getElement().addElement(IqElement.QUERY.toString(), FAKE_METHOD);
+        IQ response = new IQ(IQ.Type.result);
+        this.codec.addQueryElement(response, FAKE_METHOD);
+
+        // exercise and verify
+        Assert.assertFalse(this.codec.acceptsCompression(new IQ(IQ.Type.result)));
+        Assert.assertFalse(this.codec.acceptsCompression(legacyResponse));
+        Assert.assertTrue(this.codec.acceptsCompression(response));
+
+        this.codec.updateProviderCapabilities(FAKE_PROVIDER, legacyResponse);
+        Assert.assertFalse(this.codec.acceptsCompression(FAKE_PROVIDER));
+        this.codec.updateProviderCapabilities(FAKE_PROVIDER, response);
+        Assert.assertTrue(this.codec.acceptsCompression(FAKE_PROVIDER));
+    }
+
+    // test case: Resolving a class that is not in the classpath must throw an InternalServerErrorException.
+    @Test(expected = InternalServerErrorException.class)
+    public void testResolveUnknownClass() throws InternalServerErrorException {
+        // exercise
+        this.codec.resolveClass(UNKNOWN_CLASS_NAME);
+    }
+}
@@ -0,0 +1,106 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.xmpp.packet.IQ;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class RemoteRequestDispatcherTest {
+
+    private static final long TIMEOUT = 200;
+    private static final long WAIT_TIME = 5000;
+    private static final String FAKE_PROVIDER_ID = "fake-provider-id";
+    private static final String FAKE_RESULT = "fake-result";
+
+    private RemoteRequestDispatcher dispatcher;
+    private RemoteRequestDispatcher.IqSender iqSender;
+
+    @Before
+    public void setUp() {
+        this.iqSender = Mockito.mock(RemoteRequestDispatcher.IqSender.class);
+        this.dispatcher = new RemoteRequestDispatcher(TIMEOUT, this.iqSender);
+    }
+
+    // test case: When the response to a dispatched request is delivered, the future must be completed with the
+    // result of the handler applied to that response.
+    @Test
+    public void testDispatchCompletesWithHandledResponse() throws Exception {
+        // set up
+        IQ iq = new IQ(IQ.Type.get);
+        IQ response = IQ.createResultIQ(iq);
+
+        // exercise
+        CompletableFuture<String> result = this.dispatcher.dispatch(iq, iqResponse -> {
+            Assert.assertEquals(iq.getID(), iqResponse.getID());
+            return FAKE_RESULT;
+        });
+        boolean delivered = this.dispatcher.deliverResponse(response);
+
+        // verify
+        Mockito.verify(this.iqSender, Mockito.times(1)).send(Mockito.eq(iq));
+        Assert.assertTrue(delivered);
+        Assert.assertEquals(FAKE_RESULT, result.get(WAIT_TIME, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(0, this.dispatcher.getPendingRequests());
+    }
+
+    // test case: When the response does not arrive in time, the handler must be applied to a null response,
+    // and the response arriving afterwards must be discarded.
+    @Test
+    public void testDispatchTimesOut() throws Exception {
+        // set up
+        IQ iq = new IQ(IQ.Type.get);
+
+        // exercise
+        CompletableFuture<String> result = this.dispatcher.dispatch(iq, iqResponse -> {
+            XmppErrorConditionToExceptionTranslator.handleError(iqResponse, FAKE_PROVIDER_ID);
+            return FAKE_RESULT;
+        });
+
+        // verify
+        try {
+            result.get(WAIT_TIME, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof UnavailableProviderException);
+        }
+        Assert.assertFalse(this.dispatcher.deliverResponse(IQ.createResultIQ(iq)));
+        Assert.assertEquals(0, this.dispatcher.getPendingRequests());
+    }
+
+    // test case: When sending the request fails, the future must fail with the same error.
+    @Test
+    public void testDispatchFailsWhenSendFails() throws Exception {
+        // set up
+        IQ iq = new IQ(IQ.Type.get);
+        IllegalStateException exception = new IllegalStateException();
+        Mockito.doThrow(exception).when(this.iqSender).send(Mockito.eq(iq));
+
+        // exercise
+        CompletableFuture<String> result = this.dispatcher.dispatch(iq, iqResponse -> FAKE_RESULT);
+
+        // verify
+        try {
+            result.get(WAIT_TIME, TimeUnit.MILLISECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertSame(exception, e.getCause());
+        }
+        Assert.assertEquals(0, this.dispatcher.getPendingRequests());
+    }
+
+    // test case: A response to a request that was not sent through the dispatcher must not be taken by it.
+    @Test
+    public void testDeliverResponseToUnknownRequest() {
+        // set up
+        IQ response = IQ.createResultIQ(new IQ(IQ.Type.get));
+
+        // exercise and verify
+        Assert.assertFalse(this.dispatcher.deliverResponse(response));
+    }
+}
@@ -0,0 +1,193 @@
+package cloud.fogbow.ras.core.intercomponent.xmpp;
+
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.api.http.response.XmppHandlerStatus;
+import org.jamppa.component.handler.AbstractQueryHandler;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.xmpp.packet.IQ;
+import org.xmpp.packet.JID;
+import org.xmpp.packet.PacketError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class RemoteRequestHandlerDispatcherTest {
+
+    private static final int POOL_SIZE = 1;
+    private static final int METHOD_QUEUE_CAPACITY = 10;
+    private static final int SENDER_CAPACITY = 3;
+    private static final long TIMEOUT = 5000;
+    private static final long POLLING_INTERVAL = 10;
+    private static final String FAKE_METHOD = "fake-method";
+    private static final String FAKE_SENDER_A = "provider-a@fake-domain";
+    private static final String FAKE_SENDER_B = "provider-b@fake-domain";
+    private static final String FAKE_SENDER_C = "provider-c@fake-domain";
+
+    private RemoteRequestHandlerDispatcher dispatcher;
+    private BlockingQueue<IQ> sentResponses;
+    private CountDownLatch releaseHandler;
+    private List<String> handledSenders;
+    private AbstractQueryHandler handler;
+
+    @Before
+    public void setUp() {
+        this.sentResponses = new LinkedBlockingQueue<>();
+        this.dispatcher = new RemoteRequestHandlerDispatcher(POOL_SIZE, METHOD_QUEUE_CAPACITY, SENDER_CAPACITY,
+                this.sentResponses::add);
+        this.releaseHandler = new CountDownLatch(1);
+        this.handledSenders = Collections.synchronizedList(new ArrayList<>());
+        this.handler = Mockito.mock(AbstractQueryHandler.class);
+        Mockito.doAnswer(invocation -> {
+            IQ iq = (IQ) invocation.getArguments()[0];
+            this.releaseHandler.await();
+            this.handledSenders.add(iq.getFrom().toBareJID());
+            return IQ.createResultIQ(iq);
+        }).when(this.handler).handle(Mockito.any(IQ.class));
+    }
+
+    @After
+    public void tearDown() {
+        this.releaseHandler.countDown();
+    }
+
+    // test case: When a request is admitted, no response must be returned to the caller; the response of the
+    // handler must be sent by the worker instead, and the request must be counted in the metrics of its method.
+    @Test
+    public void testHandleSendsHandlerResponse() throws Exception {
+        // set up
+        this.releaseHandler.countDown();
+        IQ iq = createIq(FAKE_SENDER_A);
+
+        // exercise
+        IQ returnedResponse = this.dispatcher.handle(iq, FAKE_METHOD, this.handler);
+
+        // verify
+        Assert.assertNull(returnedResponse);
+        IQ response = this.sentResponses.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(iq.getID(), response.getID());
+        Assert.assertNull(response.getError());
+        XmppHandlerStatus status = this.dispatcher.getHandlersStatus().get(0);
+        Assert.assertEquals(FAKE_METHOD, status.getMethod());
+        Assert.assertEquals(1, status.getHandledRequests());
+        Assert.assertEquals(0, status.getRejectedRequests());
+    }
+
+    // test case: While the handler of an admitted request is running, the caller must not be held waiting for it,
+    // and nothing must be sent until the handler is done.
+    @Test
+    public void testHandleReturnsBeforeHandlerIsDone() throws Exception {
+        // exercise
+        IQ returnedResponse = this.dispatcher.handle(createIq(FAKE_SENDER_A), FAKE_METHOD, this.handler);
+        waitForRunningRequests(1);
+
+        // verify
+        Assert.assertNull(returnedResponse);
+        Assert.assertTrue(this.sentResponses.isEmpty());
+        this.releaseHandler.countDown();
+        Assert.assertNotNull(this.sentResponses.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
+    // test case: When the handler of an admitted request fails, the worker must send an error response
+    // translated from the exception, instead of an overload error.
+    @Test
+    public void testHandleSendsErrorResponseWhenHandlerFails() throws Exception {
+        // set up
+        Mockito.doThrow(new RuntimeException()).when(this.handler).handle(Mockito.any(IQ.class));
+        IQ iq = createIq(FAKE_SENDER_A);
+
+        // exercise
+        this.dispatcher.handle(iq, FAKE_METHOD, this.handler);
+
+        // verify
+        IQ response = this.sentResponses.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+        Assert.assertEquals(iq.getID(), response.getID());
+        Assert.assertNotNull(response.getError());
+        Assert.assertNotEquals(PacketError.Condition.resource_constraint, response.getError().getCondition());
+    }
+
+    // test case: While the worker is busy, the queued requests must be taken in turns from each sender, instead
+    // of in arrival order.
+    @Test
+    public void testQueuedRequestsAreHandledFairlyBySender() throws Exception {
+        // set up
+        handle(FAKE_SENDER_C);
+        waitForRunningRequests(1);
+        handle(FAKE_SENDER_A);
+        handle(FAKE_SENDER_A);
+        handle(FAKE_SENDER_B);
+
+        // exercise
+        this.releaseHandler.countDown();
+        for (int i = 0; i < 4; i++) {
+            Assert.assertNotNull(this.sentResponses.poll(TIMEOUT, TimeUnit.MILLISECONDS));
+        }
+
+        // verify
+        List<String> expectedOrder = new ArrayList<>();
+        expectedOrder.add(FAKE_SENDER_C);
+        expectedOrder.add(FAKE_SENDER_A);
+        expectedOrder.add(FAKE_SENDER_B);
+        expectedOrder.add(FAKE_SENDER_A);
+        Assert.assertEquals(expectedOrder, this.handledSenders);
+    }
+
+    // test case: When a sender already has as many requests as its capacity, its next request must be rejected
+    // at once with a resource-constraint error.
+    @Test
+    public void testHandleRejectsRequestsOverSenderCapacity() throws Exception {
+        // set up
+        for (int i = 0; i < SENDER_CAPACITY; i++) {
+            handle(FAKE_SENDER_A);
+        }
+
+        // exercise
+        IQ response = this.dispatcher.handle(createIq(FAKE_SENDER_A), FAKE_METHOD, this.handler);
+
+        // verify
+        Assert.assertEquals(PacketError.Condition.resource_constraint, response.getError().getCondition());
+        Assert.assertEquals(1, this.dispatcher.getHandlersStatus().get(0).getRejectedRequests());
+    }
+
+    // test case: An overload error must be translated, at the requesting provider, into an unavailable provider
+    // error.
+    @Test(expected = UnavailableProviderException.class)
+    public void testOverloadErrorIsTranslatedToUnavailableProvider() throws Exception {
+        // set up
+        RemoteRequestHandlerDispatcher dispatcher = new RemoteRequestHandlerDispatcher(POOL_SIZE, 0,
+                SENDER_CAPACITY, this.sentResponses::add);
+        IQ response = dispatcher.handle(createIq(FAKE_SENDER_A), FAKE_METHOD, this.handler);
+
+        // exercise
+        XmppErrorConditionToExceptionTranslator.handleError(response, FAKE_SENDER_A);
+    }
+
+    private IQ createIq(String sender) {
+        IQ iq = new IQ(IQ.Type.get);
+        iq.setFrom(new JID(sender));
+        return iq;
+    }
+
+    private void handle(String sender) {
+        Assert.assertNull(this.dispatcher.handle(createIq(sender), FAKE_METHOD, this.handler));
+    }
+
+    private void waitForRunningRequests(int runningRequests) throws InterruptedException {
+        while (getStatus() == null || getStatus().getRunningRequests() < runningRequests) {
+            Thread.sleep(POLLING_INTERVAL);
+        }
+    }
+
+    private XmppHandlerStatus getStatus() {
+        List<XmppHandlerStatus> statusList = this.dispatcher.getHandlersStatus();
+        return statusList.isEmpty() ? null : statusList.get(0);
+    }
+}
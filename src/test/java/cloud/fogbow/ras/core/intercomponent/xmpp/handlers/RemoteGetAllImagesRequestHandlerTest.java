@@ -30,7 +30,7 @@ public class RemoteGetAllImagesRequestHandlerTest {
     private static final String REQUESTING_MEMBER = "requester";
 
     private static final String IQ_RESULT_FORMAT = "\n<iq type=\"result\" id=\"%s\" from=\"%s\" to=\"%s\">\n" +
-            "  <query xmlns=\"remoteGetAllImages\">\n" +
+            "  <query xmlns=\"remoteGetAllImages\" codecVersion=\"1\">\n" +
             "    <imageSummaryList>[{\"id\":\"image-id1\",\"name\":\"%s\"},{\"id\":\"image-id2\",\"name\":\"%s\"}]</imageSummaryList>\n" +
             "    <imageSummaryListClassName>java.util.ArrayList</imageSummaryListClassName>\n" +
             "  </query>\n" +
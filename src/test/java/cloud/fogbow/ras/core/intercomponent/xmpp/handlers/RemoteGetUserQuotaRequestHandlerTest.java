@@ -36,7 +36,7 @@ public class RemoteGetUserQuotaRequestHandlerTest {
     private RemoteGetUserQuotaRequestHandler remoteGetUserQuotaRequestHandler;
 
     private static final String EXPECTED_QUOTA = "\n<iq type=\"result\" id=\"%s\" from=\"%s\" to=\"%s\">\n"
-            + "  <query xmlns=\"remoteGetUserQuota\">\n"
+            + "  <query xmlns=\"remoteGetUserQuota\" codecVersion=\"1\">\n"
             + "    <userQuota>{\"totalQuota\":{\"instances\":1,\"vCPU\":1,\"ram\":1,\"disk\":1},"
             + "\"usedQuota\":{\"instances\":1,\"vCPU\":1,\"ram\":1,\"disk\":1},"
             + "\"availableQuota\":{\"instances\":0,\"vCPU\":0,\"ram\":0,\"disk\":0}}"
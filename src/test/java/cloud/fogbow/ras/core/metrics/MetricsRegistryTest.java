@@ -0,0 +1,65 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.api.http.response.MetricStatus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+public class MetricsRegistryTest {
+
+    private static final String FAKE_METRIC_NAME = "fake.metric";
+    private static final String FAKE_TAG = "fake-tag";
+    private static final String FAKE_TAG_VALUE = "fake-tag-value";
+    private static final String OTHER_TAG_VALUE = "other-tag-value";
+
+    private MetricsRegistry metricsRegistry;
+
+    @Before
+    public void setUp() {
+        this.metricsRegistry = new MetricsRegistry(false);
+    }
+
+    // test case: Asking for a metric with the same name and tags must return the same metric, and asking for one
+    // with other tags must return a different one.
+    @Test
+    public void testTimerIsIdentifiedByNameAndTags() {
+        // exercise
+        Timer timer = this.metricsRegistry.timer(FAKE_METRIC_NAME, FAKE_TAG, FAKE_TAG_VALUE);
+        Timer sameTimer = this.metricsRegistry.timer(FAKE_METRIC_NAME, FAKE_TAG, FAKE_TAG_VALUE);
+        Timer otherTimer = this.metricsRegistry.timer(FAKE_METRIC_NAME, FAKE_TAG, OTHER_TAG_VALUE);
+
+        // verify
+        Assert.assertSame(timer, sameTimer);
+        Assert.assertNotSame(timer, otherTimer);
+        Assert.assertEquals(FAKE_TAG_VALUE, timer.getTags().get(FAKE_TAG));
+    }
+
+    // test case: The status of a gauge must be read from its supplier when the metrics are listed.
+    @Test
+    public void testGetMetricsStatusReadsGauges() {
+        // set up
+        long[] value = {1};
+        this.metricsRegistry.registerGauge(FAKE_METRIC_NAME, () -> value[0], FAKE_TAG, FAKE_TAG_VALUE);
+        value[0] = 7;
+
+        // exercise
+        List<MetricStatus> statusList = this.metricsRegistry.getMetricsStatus();
+
+        // verify
+        Assert.assertEquals(1, statusList.size());
+        Assert.assertEquals(Gauge.TYPE, statusList.get(0).getType());
+        Assert.assertEquals(7L, statusList.get(0).getValues().get(MetricStatus.VALUE));
+    }
+
+    // test case: Asking for a metric of another type under the name and tags of an existing one must fail.
+    @Test(expected = IllegalArgumentException.class)
+    public void testMetricTypeMismatch() {
+        // set up
+        this.metricsRegistry.timer(FAKE_METRIC_NAME);
+
+        // exercise
+        this.metricsRegistry.meter(FAKE_METRIC_NAME);
+    }
+}
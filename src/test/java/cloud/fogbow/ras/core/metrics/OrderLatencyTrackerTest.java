@@ -0,0 +1,141 @@
+package cloud.fogbow.ras.core.metrics;
+
+import cloud.fogbow.ras.api.http.response.SlowOrderStatus;
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.core.models.ResourceType;
+import cloud.fogbow.ras.core.models.orders.Order;
+import cloud.fogbow.ras.core.models.orders.OrderState;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class OrderLatencyTrackerTest {
+
+    private static final String FAKE_THRESHOLDS = "SELECTED:100, SPAWNING:1000";
+    private static final long SELECTED_THRESHOLD = 100;
+    private static final long SPAWNING_THRESHOLD = 1000;
+    private static final long NOW = 100000;
+
+    private OrderLatencyTracker tracker;
+
+    @Before
+    public void setUp() {
+        this.tracker = new OrderLatencyTracker(OrderLatencyTracker.parseThresholds(FAKE_THRESHOLDS));
+    }
+
+    // test case: The thresholds must be read from the STATE:milliseconds pairs, ignoring blanks around them.
+    @Test
+    public void testParseThresholds() {
+        // exercise
+        Map<OrderState, Long> thresholds = OrderLatencyTracker.parseThresholds(FAKE_THRESHOLDS);
+
+        // verify
+        Assert.assertEquals(2, thresholds.size());
+        Assert.assertEquals(SELECTED_THRESHOLD, thresholds.get(OrderState.SELECTED).longValue());
+        Assert.assertEquals(SPAWNING_THRESHOLD, thresholds.get(OrderState.SPAWNING).longValue());
+    }
+
+    // test case: A threshold without its time must be rejected.
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseMalformedThresholds() {
+        // exercise
+        OrderLatencyTracker.parseThresholds(OrderState.SELECTED.name());
+    }
+
+    // test case: Malformed thresholds must be replaced with the default thresholds instead of being rejected.
+    @Test
+    public void testLoadMalformedThresholds() {
+        // set up
+        Map<OrderState, Long> defaultThresholds = OrderLatencyTracker.parseThresholds(
+                ConfigurationPropertyDefaults.SLOW_ORDER_THRESHOLDS);
+
+        // exercise
+        Map<OrderState, Long> thresholds = OrderLatencyTracker.loadThresholds(OrderState.SELECTED.name());
+
+        // verify
+        Assert.assertEquals(defaultThresholds, thresholds);
+    }
+
+    // test case: Thresholds with an unknown state or a time that is not a number must also be replaced with the
+    // default thresholds.
+    @Test
+    public void testLoadThresholdsWithInvalidValues() {
+        // set up
+        Map<OrderState, Long> defaultThresholds = OrderLatencyTracker.parseThresholds(
+                ConfigurationPropertyDefaults.SLOW_ORDER_THRESHOLDS);
+
+        // exercise
+        Map<OrderState, Long> unknownStateThresholds = OrderLatencyTracker.loadThresholds("UNKNOWN:100");
+        Map<OrderState, Long> invalidTimeThresholds = OrderLatencyTracker.loadThresholds("SELECTED:ten");
+
+        // verify
+        Assert.assertEquals(defaultThresholds, unknownStateThresholds);
+        Assert.assertEquals(defaultThresholds, invalidTimeThresholds);
+    }
+
+    // test case: When an order goes from OPEN to FULFILLED through other states, the whole time since it was
+    // opened must be recorded once in the timer of its cloud and resource type.
+    @Test
+    public void testRecordStateChangeTimesOpenToFulfilled() {
+        // set up
+        String cloudName = UUID.randomUUID().toString();
+        Order order = mockOrder(OrderState.OPEN, NOW - 300, cloudName);
+
+        // exercise
+        this.tracker.recordStateChange(order, OrderState.SELECTED, NOW - 200);
+        Mockito.when(order.getOrderState()).thenReturn(OrderState.SELECTED);
+        Mockito.when(order.getStateChangeTime()).thenReturn(NOW - 200);
+        this.tracker.recordStateChange(order, OrderState.SPAWNING, NOW - 100);
+        Mockito.when(order.getOrderState()).thenReturn(OrderState.SPAWNING);
+        Mockito.when(order.getStateChangeTime()).thenReturn(NOW - 100);
+        this.tracker.recordStateChange(order, OrderState.FULFILLED, NOW);
+
+        // verify
+        Timer timer = MetricsRegistry.getInstance().timer(MetricsRegistry.ORDER_TRANSITION_TIME,
+                MetricsRegistry.CLOUD_TAG, cloudName,
+                MetricsRegistry.RESOURCE_TYPE_TAG, ResourceType.COMPUTE.toString(),
+                MetricsRegistry.TRANSITION_TAG, "OPEN->FULFILLED");
+        Assert.assertEquals(1, timer.getCount());
+        Assert.assertEquals(300, timer.getMax());
+    }
+
+    // test case: Only the orders in states with a threshold must be listed, the slowest first, up to the limit,
+    // and the ones over the threshold of their state must be flagged.
+    @Test
+    public void testGetSlowestOrders() {
+        // set up
+        Order slowSelectedOrder = mockOrder(OrderState.SELECTED, NOW - 500, null);
+        Order spawningOrder = mockOrder(OrderState.SPAWNING, NOW - 800, null);
+        Order selectedOrder = mockOrder(OrderState.SELECTED, NOW - 50, null);
+        Order fulfilledOrder = mockOrder(OrderState.FULFILLED, NOW - 5000, null);
+        List<Order> orders = Arrays.asList(slowSelectedOrder, spawningOrder, selectedOrder, fulfilledOrder);
+
+        // exercise
+        List<SlowOrderStatus> slowestOrders = this.tracker.getSlowestOrders(orders, 2, NOW);
+
+        // verify
+        Assert.assertEquals(2, slowestOrders.size());
+        Assert.assertEquals(spawningOrder.getId(), slowestOrders.get(0).getOrderId());
+        Assert.assertFalse(slowestOrders.get(0).isExceeded());
+        Assert.assertEquals(slowSelectedOrder.getId(), slowestOrders.get(1).getOrderId());
+        Assert.assertEquals(500, slowestOrders.get(1).getTimeInState());
+        Assert.assertTrue(slowestOrders.get(1).isExceeded());
+        Assert.assertEquals(1, this.tracker.countSlowOrders(orders, NOW));
+    }
+
+    private Order mockOrder(OrderState state, long stateChangeTime, String cloudName) {
+        Order order = Mockito.mock(Order.class);
+        Mockito.when(order.getId()).thenReturn(UUID.randomUUID().toString());
+        Mockito.when(order.getType()).thenReturn(ResourceType.COMPUTE);
+        Mockito.when(order.getCloudName()).thenReturn(cloudName);
+        Mockito.when(order.getOrderState()).thenReturn(state);
+        Mockito.when(order.getStateChangeTime()).thenReturn(stateChangeTime);
+        return order;
+    }
+}
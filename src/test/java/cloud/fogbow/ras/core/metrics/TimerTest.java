@@ -0,0 +1,48 @@
+package cloud.fogbow.ras.core.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class TimerTest {
+
+    private static final String TIMER_NAME = "fake-timer";
+
+    // test case: The percentiles must be reported as the upper bound of the bucket they fall in, never above
+    // the maximum, and the count, errors, mean and maximum must be exact.
+    @Test
+    public void testRecord() {
+        // set up
+        Timer timer = new Timer(TIMER_NAME, Collections.emptyMap());
+
+        // exercise
+        for (int i = 0; i < 98; i++) {
+            timer.record(3);
+        }
+        timer.record(40, true);
+        timer.record(140, true);
+
+        // verify
+        Assert.assertEquals(100, timer.getCount());
+        Assert.assertEquals(2, timer.getErrors());
+        Assert.assertEquals(140, timer.getMax());
+        Assert.assertEquals(4.74, timer.getMean(), 0.001);
+        Assert.assertEquals(5, timer.getP50());
+        Assert.assertEquals(5, timer.getP95());
+        Assert.assertEquals(50, timer.getP99());
+        Assert.assertEquals(140, timer.getPercentile(1));
+    }
+
+    // test case: A timer with no durations recorded must report zero for all of its values.
+    @Test
+    public void testEmptyTimer() {
+        // set up
+        Timer timer = new Timer(TIMER_NAME, Collections.emptyMap());
+
+        // verify
+        Assert.assertEquals(0, timer.getCount());
+        Assert.assertEquals(0, timer.getMean(), 0);
+        Assert.assertEquals(0, timer.getP99());
+    }
+}
@@ -0,0 +1,173 @@
+package cloud.fogbow.ras.core.models.linkedlists;
+
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.models.orders.Order;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ConcurrentOrderListTest {
+
+    private static final int ORDERS_NUMBER = 500;
+    private static final int THREADS_NUMBER = 4;
+
+    private TestUtils testUtils;
+    private ConcurrentOrderList<Order> list;
+
+    @Before
+    public void setUp() {
+        this.testUtils = new TestUtils();
+        this.list = new ConcurrentOrderList<>();
+    }
+
+    // test case: When getNext is called, it must return the orders in the order they were added,
+    // and null when the end of the list is reached.
+    @Test
+    public void testGetNextFollowsInsertionOrder() {
+        // set up
+        Order firstOrder = this.testUtils.createLocalComputeOrder();
+        Order secondOrder = this.testUtils.createLocalComputeOrder();
+        this.list.addItem(firstOrder);
+        this.list.addItem(secondOrder);
+
+        // exercise and verify
+        Assert.assertSame(firstOrder, this.list.getNext());
+        Assert.assertSame(secondOrder, this.list.getNext());
+        Assert.assertNull(this.list.getNext());
+
+        this.list.resetPointer();
+        Assert.assertSame(firstOrder, this.list.getNext());
+    }
+
+    // test case: When an order is removed, it must not be returned by any cursor anymore,
+    // and a second removal must return false.
+    @Test
+    public void testRemoveItem() {
+        // set up
+        Order firstOrder = this.testUtils.createLocalComputeOrder();
+        Order secondOrder = this.testUtils.createLocalComputeOrder();
+        this.list.addItem(firstOrder);
+        this.list.addItem(secondOrder);
+
+        // exercise
+        boolean firstRemoval = this.list.removeItemById(firstOrder.getId());
+        boolean secondRemoval = this.list.removeItem(firstOrder);
+
+        // verify
+        Assert.assertTrue(firstRemoval);
+        Assert.assertFalse(secondRemoval);
+        Assert.assertEquals(1, this.list.size());
+        Assert.assertNull(this.list.findItemById(firstOrder.getId()));
+        Assert.assertSame(secondOrder, this.list.getNext());
+        Assert.assertNull(this.list.getNext());
+    }
+
+    // test case: An order removed while a cursor is positioned on it must not prevent the cursor
+    // from reaching the orders that come after it.
+    @Test
+    public void testRemoveItemUnderCursor() {
+        // set up
+        Order firstOrder = this.testUtils.createLocalComputeOrder();
+        Order secondOrder = this.testUtils.createLocalComputeOrder();
+        this.list.addItem(firstOrder);
+        this.list.addItem(secondOrder);
+        Assert.assertSame(firstOrder, this.list.getNext());
+
+        // exercise
+        this.list.removeItem(firstOrder);
+
+        // verify
+        Assert.assertSame(secondOrder, this.list.getNext());
+    }
+
+    // test case: Adding an order that is already in the list must keep a single entry for it.
+    @Test
+    public void testAddItemTwice() {
+        // set up
+        Order order = this.testUtils.createLocalComputeOrder();
+
+        // exercise
+        this.list.addItem(order);
+        this.list.addItem(order);
+
+        // verify
+        Assert.assertEquals(1, this.list.size());
+        Assert.assertSame(order, this.list.getNext());
+        Assert.assertNull(this.list.getNext());
+    }
+
+    // test case: Cursors must walk the list independently from each other and from the default cursor.
+    @Test
+    public void testIndependentCursors() {
+        // set up
+        Order firstOrder = this.testUtils.createLocalComputeOrder();
+        Order secondOrder = this.testUtils.createLocalComputeOrder();
+        this.list.addItem(firstOrder);
+        this.list.addItem(secondOrder);
+        ConcurrentOrderList.Cursor<Order> cursor = this.list.newCursor();
+
+        // exercise
+        this.list.getNext();
+        this.list.getNext();
+
+        // verify
+        Assert.assertSame(firstOrder, cursor.getNext());
+        Assert.assertSame(secondOrder, cursor.getNext());
+        Assert.assertNull(cursor.getNext());
+    }
+
+    // test case: Orders added and removed concurrently by several threads must leave the list with
+    // exactly the orders that were not removed, in spite of the compactions triggered by the removals.
+    @Test
+    public void testConcurrentAddAndRemove() throws Exception {
+        // set up
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_NUMBER);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<List<Order>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS_NUMBER; i++) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                List<Order> keptOrders = new ArrayList<>();
+                for (int j = 0; j < ORDERS_NUMBER; j++) {
+                    Order order = this.testUtils.createLocalComputeOrder();
+                    this.list.addItem(order);
+                    if (j % 2 == 0) {
+                        this.list.removeItem(order);
+                    } else {
+                        keptOrders.add(order);
+                    }
+                    this.list.getNext();
+                }
+                return keptOrders;
+            }));
+        }
+
+        // exercise
+        startSignal.countDown();
+        Set<Order> expectedOrders = new HashSet<>();
+        for (Future<List<Order>> future : futures) {
+            expectedOrders.addAll(future.get());
+        }
+        executor.shutdown();
+
+        // verify
+        Set<Order> foundOrders = new HashSet<>();
+        ConcurrentOrderList.Cursor<Order> cursor = this.list.newCursor();
+        Order order;
+        while ((order = cursor.getNext()) != null) {
+            foundOrders.add(order);
+        }
+        Assert.assertEquals(expectedOrders, foundOrders);
+        Assert.assertEquals(expectedOrders.size(), this.list.size());
+    }
+}
@@ -322,7 +322,7 @@ public class AwsV2CloudUtilTest extends BaseUnitTests {
         Assert.assertEquals(instance, AwsV2CloudUtil.getInstanceFrom(response));
     }
 
-    //test case: test if the method makes the expected call.
+    //test case: test if the volumes of the instance are described by a single request.
     @Test
     public void testGetInstanceVolumes() throws FogbowException {
         //setup
@@ -344,8 +344,25 @@ public class AwsV2CloudUtilTest extends BaseUnitTests {
         //exercise
         AwsV2CloudUtil.getInstanceVolumes(instance, this.client);
         //verify
-        PowerMockito.verifyStatic(AwsV2CloudUtil.class, Mockito.times(volumeIds.size()));
-        AwsV2CloudUtil.doDescribeVolumesRequest(Mockito.any(DescribeVolumesRequest.class), Mockito.eq(this.client));
+        DescribeVolumesRequest request = DescribeVolumesRequest.builder().volumeIds(volumeIds).build();
+        PowerMockito.verifyStatic(AwsV2CloudUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+        AwsV2CloudUtil.doDescribeVolumesRequest(Mockito.eq(request), Mockito.eq(this.client));
+    }
+
+    //test case: test if no request is made for an instance without volumes.
+    @Test
+    public void testGetInstanceVolumesWithoutVolumes() throws FogbowException {
+        //setup
+        Instance instance = Instance.builder().instanceId(FAKE_RESOURCE_ID).build();
+        PowerMockito.mockStatic(AwsV2CloudUtil.class);
+        BDDMockito.given(AwsV2CloudUtil.getVolumeIds(Mockito.any(Instance.class))).willReturn(new ArrayList<>());
+        BDDMockito.given(AwsV2CloudUtil.getInstanceVolumes(Mockito.any(Instance.class), Mockito.any(Ec2Client.class))).willCallRealMethod();
+        //exercise
+        List<Volume> volumes = AwsV2CloudUtil.getInstanceVolumes(instance, this.client);
+        //verify
+        Assert.assertTrue(volumes.isEmpty());
+        PowerMockito.verifyStatic(AwsV2CloudUtil.class, Mockito.times(TestUtils.NEVER_RUN));
+        AwsV2CloudUtil.doDescribeVolumesRequest(Mockito.any(DescribeVolumesRequest.class), Mockito.any(Ec2Client.class));
     }
     
     // test case: When calling the getAddressById method, it must verify
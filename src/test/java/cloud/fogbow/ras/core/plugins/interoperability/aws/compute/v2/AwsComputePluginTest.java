@@ -129,8 +129,6 @@ public class AwsComputePluginTest extends BaseUnitTests {
         ComputeOrder order = this.testUtils.createLocalComputeOrder();
         AwsV2User cloudUser = Mockito.mock(AwsV2User.class);
 
-        Mockito.doNothing().when(this.plugin).updateHardwareRequirements(Mockito.eq(cloudUser));
-
         ComputeInstance instance = Mockito.mock(ComputeInstance.class);
         Mockito.doReturn(instance).when(this.plugin).doGetInstance(Mockito.eq(order.getInstanceId()), Mockito.eq(this.client));
 
@@ -141,7 +139,7 @@ public class AwsComputePluginTest extends BaseUnitTests {
         PowerMockito.verifyStatic(AwsV2ClientUtil.class, VerificationModeFactory.times(TestUtils.RUN_ONCE));
         AwsV2ClientUtil.createEc2Client(Mockito.eq(cloudUser.getToken()), Mockito.anyString());
 
-        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.NEVER_RUN))
                 .updateHardwareRequirements(Mockito.eq(cloudUser));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doGetInstance(Mockito.eq(order.getInstanceId()),
                 Mockito.eq(this.client));
@@ -214,11 +212,12 @@ public class AwsComputePluginTest extends BaseUnitTests {
         Assert.assertFalse(status);
     }
 	
-    // test case: When calling the getMemoryValueFrom method, with a empty set
-    // flavors, it must return a zero value.
+    // test case: When calling the getMemoryValueFrom method, with an empty
+    // flavor file, it must return a zero value.
     @Test
-    public void testGetMemoryValueWithASetFlavorsEmpty() {
+    public void testGetMemoryValueWithAnEmptyFlavorFile() throws FogbowException {
         // set up
+        Mockito.doReturn(new ArrayList<String>()).when(this.plugin).loadLinesFromFlavorFile();
         InstanceType instanceType = InstanceType.T1_MICRO;
         int expected = ZERO_VALUE;
 
@@ -226,7 +225,6 @@ public class AwsComputePluginTest extends BaseUnitTests {
         int memory = this.plugin.getMemoryValueFrom(instanceType);
 
         // verify
-        Assert.assertTrue(this.plugin.getFlavors().isEmpty());
         Assert.assertEquals(expected, memory);
     }
 	
@@ -317,7 +315,7 @@ public class AwsComputePluginTest extends BaseUnitTests {
     // test case: When calling the buildComputeInstance method, it must verify
     // that is call was successful.
     @Test
-    public void testBuildComputeInstance() {
+    public void testBuildComputeInstance() throws FogbowException {
         // set up
         Instance instance = buildInstance();
         Mockito.doReturn(FLAVOR_MEMORY_VALUE).when(this.plugin).getMemoryValueFrom(Mockito.eq(instance.instanceType()));
@@ -456,11 +454,10 @@ public class AwsComputePluginTest extends BaseUnitTests {
     // test case: When calling the getMemoryValueFrom method, it must verify that
     // the obtained memory is the equals as expected.
     @Test
-    public void testGetMemoryValueFrom() {
+    public void testGetMemoryValueFrom() throws FogbowException {
         // set up
-        AwsHardwareRequirements flavor = createFlavor(null);
-        TreeSet flavors = createFlavorsCollection(flavor);
-        Mockito.doReturn(flavors).when(this.plugin).getFlavors();
+        String[] lines = { generateFlavorsResourceLine() };
+        Mockito.doReturn(Arrays.asList(lines)).when(this.plugin).loadLinesFromFlavorFile();
 
         int expected = TestUtils.MEMORY_VALUE;
 
@@ -471,6 +468,22 @@ public class AwsComputePluginTest extends BaseUnitTests {
         Assert.assertEquals(expected, memory);
     }
 
+    // test case: When calling the getMemoryValueFrom method several times, the
+    // flavor file must be read only once.
+    @Test
+    public void testGetMemoryValueFromReadsFlavorFileOnce() throws FogbowException {
+        // set up
+        String[] lines = { generateFlavorsResourceLine() };
+        Mockito.doReturn(Arrays.asList(lines)).when(this.plugin).loadLinesFromFlavorFile();
+
+        // exercise
+        this.plugin.getMemoryValueFrom(InstanceType.T2_MICRO);
+        this.plugin.getMemoryValueFrom(InstanceType.T1_MICRO);
+
+        // verify
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).loadLinesFromFlavorFile();
+    }
+
     // test case: When calling the checkTerminatedStateFrom method with an
     // instance terminated, it must verify if an InstanceNotFoundException has
     // been thrown.
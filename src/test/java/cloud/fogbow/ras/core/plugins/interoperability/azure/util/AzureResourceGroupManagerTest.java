@@ -0,0 +1,166 @@
+package cloud.fogbow.ras.core.plugins.interoperability.azure.util;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.azure.AzureTestUtils;
+
+import com.microsoft.azure.management.Azure;
+import com.microsoft.azure.management.resources.ResourceGroup;
+import com.microsoft.azure.management.resources.ResourceGroup.DefinitionStages;
+import com.microsoft.azure.management.resources.ResourceGroups;
+
+import rx.Completable;
+
+public class AzureResourceGroupManagerTest {
+
+    private static final String ANOTHER_RESOURCE_NAME = "another-resource-name";
+    private static final long CURRENT_TIME = 1000;
+
+    private AzureResourceGroupManager manager;
+    private Azure azure;
+    private ResourceGroups resourceGroups;
+
+    @Before
+    public void setUp() {
+        this.manager = Mockito.spy(new AzureResourceGroupManager());
+        Mockito.doReturn(CURRENT_TIME).when(this.manager).getCurrentTime();
+
+        this.azure = Mockito.mock(Azure.class);
+        this.resourceGroups = Mockito.mock(ResourceGroups.class);
+        Mockito.when(this.azure.resourceGroups()).thenReturn(this.resourceGroups);
+    }
+
+    // test case: When calling the exists method twice within the time to live, it
+    // must check the existence of the resource group in the cloud only once, and
+    // check it again after the time to live has passed.
+    @Test
+    public void testExistsCachesTheExistence() {
+        // set up
+        String resourceGroupName = AzureTestUtils.RESOURCE_NAME;
+        Mockito.when(this.resourceGroups.checkExistence(Mockito.eq(resourceGroupName))).thenReturn(true);
+
+        // exercise
+        boolean firstExistence = this.manager.exists(this.azure, resourceGroupName);
+        boolean secondExistence = this.manager.exists(this.azure, resourceGroupName);
+
+        // verify
+        Assert.assertTrue(firstExistence);
+        Assert.assertTrue(secondExistence);
+        Mockito.verify(this.resourceGroups, Mockito.times(TestUtils.RUN_ONCE))
+                .checkExistence(Mockito.eq(resourceGroupName));
+
+        // exercise
+        Mockito.doReturn(CURRENT_TIME + AzureResourceGroupManager.TIME_TO_LIVE).when(this.manager).getCurrentTime();
+        this.manager.exists(this.azure, resourceGroupName);
+
+        // verify
+        Mockito.verify(this.resourceGroups, Mockito.times(TestUtils.RUN_TWICE))
+                .checkExistence(Mockito.eq(resourceGroupName));
+    }
+
+    // test case: When calling the create method, it must create the resource group
+    // in the cloud and answer the following exists calls without checking the
+    // cloud.
+    @Test
+    public void testCreateUpdatesTheExistence() throws Exception {
+        // set up
+        String regionName = AzureTestUtils.DEFAULT_REGION_NAME;
+        String resourceGroupName = AzureTestUtils.RESOURCE_NAME;
+
+        DefinitionStages.Blank definitionStagesBlank = Mockito.mock(DefinitionStages.Blank.class);
+        Mockito.when(this.resourceGroups.define(Mockito.eq(resourceGroupName))).thenReturn(definitionStagesBlank);
+
+        DefinitionStages.WithCreate definitionStagesWithCreate = Mockito.mock(DefinitionStages.WithCreate.class);
+        Mockito.when(definitionStagesBlank.withRegion(Mockito.eq(regionName))).thenReturn(definitionStagesWithCreate);
+
+        ResourceGroup resourceGroup = Mockito.mock(ResourceGroup.class);
+        Mockito.when(resourceGroup.name()).thenReturn(resourceGroupName);
+        Mockito.when(definitionStagesWithCreate.create()).thenReturn(resourceGroup);
+
+        // exercise
+        String name = this.manager.create(this.azure, regionName, resourceGroupName);
+
+        // verify
+        Assert.assertEquals(resourceGroupName, name);
+        Assert.assertTrue(this.manager.exists(this.azure, resourceGroupName));
+        Mockito.verify(definitionStagesWithCreate, Mockito.times(TestUtils.RUN_ONCE)).create();
+        Mockito.verify(this.resourceGroups, Mockito.never()).checkExistence(Mockito.anyString());
+    }
+
+    // test case: When the pending groups are deleted, each queued resource group
+    // must be deleted once in the same batch, the subscribers of the deletions must
+    // complete, and the groups must no longer exist for the manager.
+    @Test
+    public void testDeletePendingGroupsDeletesTheQueuedGroups() {
+        // set up
+        String resourceGroupName = AzureTestUtils.RESOURCE_NAME;
+        Mockito.when(this.resourceGroups.deleteByNameAsync(Mockito.anyString())).thenReturn(Completable.complete());
+
+        Completable firstDeletion = this.manager.deleteAsync(this.azure, resourceGroupName);
+        Completable secondDeletion = this.manager.deleteAsync(this.azure, ANOTHER_RESOURCE_NAME);
+        Completable repeatedDeletion = this.manager.deleteAsync(this.azure, resourceGroupName);
+        boolean[] completions = new boolean[3];
+        firstDeletion.subscribe(() -> completions[0] = true);
+        secondDeletion.subscribe(() -> completions[1] = true);
+        repeatedDeletion.subscribe(() -> completions[2] = true);
+
+        // exercise
+        this.manager.deletePendingGroups();
+
+        // verify
+        Mockito.verify(this.resourceGroups, Mockito.times(TestUtils.RUN_ONCE))
+                .deleteByNameAsync(Mockito.eq(resourceGroupName));
+        Mockito.verify(this.resourceGroups, Mockito.times(TestUtils.RUN_ONCE))
+                .deleteByNameAsync(Mockito.eq(ANOTHER_RESOURCE_NAME));
+        Assert.assertArrayEquals(new boolean[] { true, true, true }, completions);
+        Assert.assertFalse(this.manager.exists(this.azure, resourceGroupName));
+        Mockito.verify(this.resourceGroups, Mockito.never()).checkExistence(Mockito.anyString());
+    }
+
+    // test case: When the deletion of a group of the batch fails, only the
+    // subscribers of that group must get the error, and the other group of the
+    // batch must still be deleted.
+    @Test
+    public void testDeletePendingGroupsReportsEachOutcome() {
+        // set up
+        String resourceGroupName = AzureTestUtils.RESOURCE_NAME;
+        Mockito.when(this.resourceGroups.deleteByNameAsync(Mockito.eq(resourceGroupName)))
+                .thenReturn(Completable.error(new RuntimeException()));
+        Mockito.when(this.resourceGroups.deleteByNameAsync(Mockito.eq(ANOTHER_RESOURCE_NAME)))
+                .thenReturn(Completable.complete());
+
+        Completable failedDeletion = this.manager.deleteAsync(this.azure, resourceGroupName);
+        Completable succeededDeletion = this.manager.deleteAsync(this.azure, ANOTHER_RESOURCE_NAME);
+        boolean[] completions = new boolean[2];
+        boolean[] errors = new boolean[2];
+        failedDeletion.subscribe(() -> completions[0] = true, error -> errors[0] = true);
+        succeededDeletion.subscribe(() -> completions[1] = true, error -> errors[1] = true);
+
+        // exercise
+        this.manager.deletePendingGroups();
+
+        // verify
+        Assert.assertArrayEquals(new boolean[] { false, true }, completions);
+        Assert.assertArrayEquals(new boolean[] { true, false }, errors);
+        Assert.assertFalse(this.manager.exists(this.azure, ANOTHER_RESOURCE_NAME));
+    }
+
+    // test case: When a deletion is not subscribed, the resource group must not be
+    // queued for deletion.
+    @Test
+    public void testDeleteAsyncQueuesOnSubscription() {
+        // set up
+        this.manager.deleteAsync(this.azure, AzureTestUtils.RESOURCE_NAME);
+
+        // exercise
+        this.manager.deletePendingGroups();
+
+        // verify
+        Mockito.verify(this.resourceGroups, Mockito.never()).deleteByNameAsync(Mockito.anyString());
+    }
+
+}
@@ -0,0 +1,70 @@
+package cloud.fogbow.ras.core.plugins.interoperability.cloudstack;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.models.CloudStackUser;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransport;
+import cloud.fogbow.ras.core.plugins.interoperability.util.FakeHttpServer;
+import org.apache.http.HttpStatus;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.UUID;
+
+public class CloudStackPooledHttpClientTest {
+
+    private static final int MAX_CONNECTIONS = 2;
+    private static final int TIMEOUT = 1000;
+    private static final String FAKE_PATH = "/client/api?command=listVirtualMachines&signature=fake-signature";
+    private static final String FAKE_BODY = "{\"listvirtualmachinesresponse\":{}}";
+    private static final String GET_METHOD = "GET";
+
+    private FakeHttpServer server;
+    private CloudStackPooledHttpClient client;
+    private CloudStackUser cloudUser;
+
+    @Before
+    public void setUp() throws IOException {
+        this.server = new FakeHttpServer();
+        this.client = new CloudStackPooledHttpClient(new CloudHttpTransport(UUID.randomUUID().toString(),
+                MAX_CONNECTIONS, MAX_CONNECTIONS, TIMEOUT, TIMEOUT, TIMEOUT));
+        this.cloudUser = new CloudStackUser(TestUtils.FAKE_USER_ID, TestUtils.FAKE_USER_NAME, TestUtils.ANY_VALUE,
+                TestUtils.ANY_VALUE, new HashMap<>());
+    }
+
+    @After
+    public void tearDown() {
+        this.server.stop();
+    }
+
+    // test case: When invoking doGetRequest, the signed URL must be requested as it is, and the body of the
+    // response must be returned.
+    @Test
+    public void testDoGetRequest() throws FogbowException {
+        // set up
+        this.server.respondWith(HttpStatus.SC_OK, FAKE_BODY);
+
+        // exercise
+        String response = this.client.doGetRequest(this.server.getUrl(FAKE_PATH), this.cloudUser);
+
+        // verify
+        Assert.assertEquals(FAKE_BODY, response);
+        Assert.assertEquals(GET_METHOD, this.server.getLastMethod());
+    }
+
+    // test case: When the cloud cannot be reached, an UnavailableProviderException must be thrown.
+    @Test(expected = UnavailableProviderException.class)
+    public void testDoGetRequestWhenCloudIsUnreachable() throws FogbowException {
+        // set up
+        String url = this.server.getUrl(FAKE_PATH);
+        this.server.stop();
+
+        // exercise
+        this.client.doGetRequest(url, this.cloudUser);
+    }
+}
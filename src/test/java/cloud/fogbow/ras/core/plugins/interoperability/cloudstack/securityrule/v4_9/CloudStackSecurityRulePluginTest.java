@@ -2,6 +2,7 @@ package cloud.fogbow.ras.core.plugins.interoperability.cloudstack.securityrule.v
 
 import cloud.fogbow.common.constants.CloudStackConstants;
 import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
 import cloud.fogbow.common.exceptions.InvalidParameterException;
 import cloud.fogbow.common.exceptions.UnavailableProviderException;
@@ -388,6 +389,65 @@ public class CloudStackSecurityRulePluginTest extends BaseUnitTests {
         Assert.assertEquals(securityRulesExpected, securityRules);
     }
 
+    // test case: When calling the getPublicIpId method with an order that already has the
+    // ID of its IP address, it must return it without reading the public IP plugin state.
+    @Test
+    public void testGetPublicIpIdFromOrder() throws FogbowException {
+        // set up
+        String publicIpId = "publicIpId";
+        Order order = Mockito.mock(Order.class);
+        Mockito.when(order.getSecurityGroupId()).thenReturn(publicIpId);
+
+        PowerMockito.mockStatic(CloudStackPublicIpPlugin.class);
+
+        // exercise
+        String publicIpIdFound = this.plugin.getPublicIpId(order);
+
+        // verify
+        Assert.assertEquals(publicIpId, publicIpIdFound);
+        PowerMockito.verifyStatic(CloudStackPublicIpPlugin.class, Mockito.never());
+        CloudStackPublicIpPlugin.getPublicIpId(Mockito.anyString());
+    }
+
+    // test case: When calling the getPublicIpId method with an order without the ID of its IP
+    // address, it must take the ID from the public IP plugin state and store it in the order.
+    @Test
+    public void testGetPublicIpIdStoresIdInOrder() throws FogbowException {
+        // set up
+        String orderId = "orderId";
+        String publicIpId = "publicIpId";
+        Order order = Mockito.mock(Order.class);
+        Mockito.when(order.getId()).thenReturn(orderId);
+
+        PowerMockito.mockStatic(CloudStackPublicIpPlugin.class);
+        PowerMockito.when(CloudStackPublicIpPlugin.getPublicIpId(Mockito.eq(orderId))).thenReturn(publicIpId);
+
+        // exercise
+        String publicIpIdFound = this.plugin.getPublicIpId(order);
+
+        // verify
+        Assert.assertEquals(publicIpId, publicIpIdFound);
+        Mockito.verify(order, Mockito.times(TestUtils.RUN_ONCE)).setSecurityGroupId(Mockito.eq(publicIpId));
+    }
+
+    // test case: When calling the getPublicIpId method with an order whose IP address is not
+    // known, it must throw an InstanceNotFoundException.
+    @Test
+    public void testGetPublicIpIdFail() throws FogbowException {
+        // set up
+        Order order = Mockito.mock(Order.class);
+        Mockito.when(order.getId()).thenReturn("orderId");
+
+        PowerMockito.mockStatic(CloudStackPublicIpPlugin.class);
+
+        // verify
+        this.expectedException.expect(InstanceNotFoundException.class);
+        this.expectedException.expectMessage(Messages.Exception.INSTANCE_NOT_FOUND);
+
+        // exercise
+        this.plugin.getPublicIpId(order);
+    }
+
     // test case: When calling the doGetSecurityRules method with network order,
     // it must verify if It returns an empty list.
     @Test
@@ -0,0 +1,223 @@
+package cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.sdk;
+
+import cloud.fogbow.common.exceptions.FatalErrorException;
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.ras.core.cloudconnector.RateLimiter;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudConstants;
+import cloud.fogbow.ras.core.plugins.interoperability.emulatedcloud.EmulatedCloudStateMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+public class EmulatedCloudBehaviorTest {
+
+    private static final String CLOUD_CONF_TEMPLATE_PATH = "src/main/resources/templates/clouds/emulated-cloud/cloud.conf";
+    private static final String FAKE_LATENCY_MEAN = "50";
+    private static final String FAKE_LATENCY_WITH_DEVIATION = "50,1000";
+    private static final String FAKE_PROVISIONING_DELAY = "10";
+    private static final String FAKE_RATE_LIMIT = "2";
+    private static final String FAKE_RATE_LIMITER_NAME = "fake-rate-limiter";
+    private static final String UNKNOWN_DISTRIBUTION = "uniform";
+    private static final long LATENCY_MEAN = 50;
+    private static final long NOW = 100000;
+    private static final int SAMPLES = 1000;
+
+    // test case: The plugins of the same emulated cloud must share its behavior, while the plugins of another
+    // emulated cloud, configured by another cloud.conf, must get a behavior of their own.
+    @Test
+    public void testGetInstanceByConfFilePath() {
+        // set up
+        String confFilePath = UUID.randomUUID().toString();
+        String otherConfFilePath = UUID.randomUUID().toString();
+
+        // exercise
+        EmulatedCloudBehavior behavior = EmulatedCloudBehavior.getInstance(confFilePath, new Properties());
+        EmulatedCloudBehavior sameBehavior = EmulatedCloudBehavior.getInstance(confFilePath, new Properties());
+        EmulatedCloudBehavior otherBehavior = EmulatedCloudBehavior.getInstance(otherConfFilePath, new Properties());
+
+        // verify
+        Assert.assertSame(behavior, sameBehavior);
+        Assert.assertNotSame(behavior, otherBehavior);
+    }
+
+    // test case: Requests beyond the burst size must be rejected until enough time has passed for the rate to
+    // grant a new permit.
+    @Test
+    public void testPerformRejectsRequestsOverTheRateLimit() throws FogbowException {
+        // set up
+        Properties properties = new Properties();
+        properties.setProperty(EmulatedCloudConstants.Conf.RATE_LIMIT_KEY, FAKE_RATE_LIMIT);
+        FakeClockBehavior behavior = new FakeClockBehavior(properties);
+
+        behavior.perform(EmulatedCloudBehavior.OperationType.GET);
+        behavior.perform(EmulatedCloudBehavior.OperationType.GET);
+
+        // exercise
+        try {
+            behavior.perform(EmulatedCloudBehavior.OperationType.GET);
+            Assert.fail();
+        } catch (UnavailableProviderException e) {
+            // verify
+            Assert.assertEquals(EmulatedCloudConstants.Exception.REQUEST_RATE_LIMIT_EXCEEDED, e.getMessage());
+        }
+
+        // exercise
+        behavior.nanoTime += TimeUnit.MILLISECONDS.toNanos(500);
+        behavior.perform(EmulatedCloudBehavior.OperationType.GET);
+    }
+
+    // test case: Without a rate limit, no request must be rejected.
+    @Test
+    public void testPerformWithoutRateLimit() throws FogbowException {
+        // set up
+        FakeClockBehavior behavior = new FakeClockBehavior(new Properties());
+
+        // exercise
+        for (int i = 0; i < SAMPLES; i++) {
+            behavior.perform(EmulatedCloudBehavior.OperationType.CREATE);
+        }
+    }
+
+    // test case: The fixed distribution must always give the mean latency, and an operation without a latency
+    // configured must take none.
+    @Test
+    public void testSampleFixedLatency() {
+        // set up
+        Properties properties = new Properties();
+        properties.setProperty(EmulatedCloudConstants.Conf.LATENCY_DISTRIBUTION_KEY,
+                EmulatedCloudConstants.LatencyDistribution.FIXED);
+        properties.setProperty(EmulatedCloudConstants.Conf.LATENCY_CREATE_KEY, FAKE_LATENCY_WITH_DEVIATION);
+        EmulatedCloudBehavior behavior = new EmulatedCloudBehavior(properties);
+
+        // exercise and verify
+        for (int i = 0; i < SAMPLES; i++) {
+            Assert.assertEquals(LATENCY_MEAN, behavior.sampleLatency(EmulatedCloudBehavior.OperationType.CREATE));
+            Assert.assertEquals(0, behavior.sampleLatency(EmulatedCloudBehavior.OperationType.GET));
+        }
+    }
+
+    // test case: A normal latency with a deviation larger than its mean must be clamped to zero rather than be
+    // negative.
+    @Test
+    public void testSampleNormalLatencyIsNeverNegative() {
+        // set up
+        Properties properties = new Properties();
+        properties.setProperty(EmulatedCloudConstants.Conf.LATENCY_GET_KEY, FAKE_LATENCY_WITH_DEVIATION);
+        EmulatedCloudBehavior behavior = new EmulatedCloudBehavior(properties);
+
+        // exercise and verify
+        for (int i = 0; i < SAMPLES; i++) {
+            Assert.assertTrue(behavior.sampleLatency(EmulatedCloudBehavior.OperationType.GET) >= 0);
+        }
+    }
+
+    // test case: Exponential latencies must never be negative and must average around their mean.
+    @Test
+    public void testSampleExponentialLatency() {
+        // set up
+        Properties properties = new Properties();
+        properties.setProperty(EmulatedCloudConstants.Conf.LATENCY_DISTRIBUTION_KEY,
+                EmulatedCloudConstants.LatencyDistribution.EXPONENTIAL);
+        properties.setProperty(EmulatedCloudConstants.Conf.LATENCY_DELETE_KEY, FAKE_LATENCY_MEAN);
+        EmulatedCloudBehavior behavior = new EmulatedCloudBehavior(properties);
+
+        // exercise
+        long total = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            long latency = behavior.sampleLatency(EmulatedCloudBehavior.OperationType.DELETE);
+            Assert.assertTrue(latency >= 0);
+            total += latency;
+        }
+
+        // verify
+        double average = (double) total / SAMPLES;
+        Assert.assertTrue(average > LATENCY_MEAN / 2 && average < LATENCY_MEAN * 2);
+    }
+
+    // test case: An unknown latency distribution must be rejected when the behavior is created.
+    @Test(expected = FatalErrorException.class)
+    public void testUnknownLatencyDistribution() {
+        // set up
+        Properties properties = new Properties();
+        properties.setProperty(EmulatedCloudConstants.Conf.LATENCY_DISTRIBUTION_KEY, UNKNOWN_DISTRIBUTION);
+
+        // exercise
+        new EmulatedCloudBehavior(properties);
+    }
+
+    // test case: The load testing keys that the cloud.conf template ships blank must be taken as absent: the
+    // behavior must be created with the default distribution and nothing else enabled.
+    @Test
+    public void testBehaviorFromTemplateBlankKeys() throws IOException, FogbowException {
+        // set up
+        Properties properties = new Properties();
+        try (InputStream template = new FileInputStream(CLOUD_CONF_TEMPLATE_PATH)) {
+            properties.load(template);
+        }
+        Assert.assertEquals("", properties.getProperty(EmulatedCloudConstants.Conf.LATENCY_DISTRIBUTION_KEY));
+
+        // exercise
+        EmulatedCloudBehavior behavior = new EmulatedCloudBehavior(properties);
+
+        // verify
+        for (int i = 0; i < SAMPLES; i++) {
+            behavior.perform(EmulatedCloudBehavior.OperationType.CREATE);
+        }
+        Assert.assertEquals(0, behavior.sampleLatency(EmulatedCloudBehavior.OperationType.GET));
+    }
+
+    // test case: A resource must stay in the build state during the provisioning delay, and be in its own state
+    // afterwards.
+    @Test
+    public void testGetCloudStateDuringProvisioningDelay() {
+        // set up
+        Properties properties = new Properties();
+        properties.setProperty(EmulatedCloudConstants.Conf.PROVISIONING_DELAY_KEY, FAKE_PROVISIONING_DELAY);
+        FakeClockBehavior behavior = new FakeClockBehavior(properties);
+        EmulatedResource resource = Mockito.mock(EmulatedResource.class);
+        Mockito.when(resource.getCreationTime()).thenReturn(NOW);
+
+        // exercise
+        behavior.currentTime = NOW + TimeUnit.SECONDS.toMillis(5);
+        String provisioningState = behavior.getCloudState(resource, EmulatedCloudStateMapper.ACTIVE_STATUS);
+        behavior.currentTime = NOW + TimeUnit.SECONDS.toMillis(10);
+        String provisionedState = behavior.getCloudState(resource, EmulatedCloudStateMapper.ACTIVE_STATUS);
+
+        // verify
+        Assert.assertEquals(EmulatedCloudStateMapper.BUILD_STATUS, provisioningState);
+        Assert.assertEquals(EmulatedCloudStateMapper.ACTIVE_STATUS, provisionedState);
+    }
+
+    private static class FakeClockBehavior extends EmulatedCloudBehavior {
+        // both start at zero, as the constructor of the behavior reads the clock before they can be assigned
+        private long currentTime;
+        private long nanoTime;
+
+        private FakeClockBehavior(Properties properties) {
+            super(properties);
+        }
+
+        @Override
+        long getCurrentTime() {
+            return this.currentTime;
+        }
+
+        @Override
+        RateLimiter createRateLimiter(double requestsPerSecond, int burstSize) {
+            return new RateLimiter(FAKE_RATE_LIMITER_NAME, requestsPerSecond, burstSize, 0) {
+                @Override
+                protected long getNanoTime() {
+                    return FakeClockBehavior.this.nanoTime;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.ras.constants.Messages;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennebula.client.Client;
+import org.opennebula.client.secgroup.SecurityGroup;
+import org.opennebula.client.secgroup.SecurityGroupPool;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@PrepareForTest({DatabaseManager.class, OpenNebulaClientUtil.class})
+public class OpenNebulaSecurityGroupCacheTest extends OpenNebulaBaseTests {
+
+    private static final String ANOTHER_SECURITY_GROUP_ID = "2";
+    private static final String ANOTHER_SECURITY_GROUP_NAME = "another-security-group";
+    private static final String SECURITY_GROUP_ID = "1";
+    private static final String SECURITY_GROUP_NAME = "security-group";
+    private static final String USER_ID = "user-id";
+
+    private OpenNebulaSecurityGroupCache cache;
+    private List<SecurityGroup> securityGroups;
+    private long currentTime;
+
+    @Before
+    public void setUp() throws FogbowException {
+        super.setUp();
+        this.cache = Mockito.spy(new OpenNebulaSecurityGroupCache());
+        Mockito.doAnswer(invocation -> this.currentTime).when(this.cache).getCurrentTime();
+
+        this.securityGroups = new ArrayList<>();
+        this.securityGroups.add(this.mockSecurityGroup(SECURITY_GROUP_ID, SECURITY_GROUP_NAME));
+
+        SecurityGroupPool securityGroupPool = Mockito.mock(SecurityGroupPool.class);
+        Mockito.when(securityGroupPool.iterator()).thenAnswer(invocation -> this.securityGroups.iterator());
+        Mockito.when(OpenNebulaClientUtil.getSecurityGroupPool(Mockito.any(Client.class)))
+                .thenReturn(securityGroupPool);
+    }
+
+    // test case: When the same security group is looked up several times, the security group
+    // pool must be read only once.
+    @Test
+    public void testFindByNameReadsPoolOnce() throws FogbowException {
+        // set up
+        String[] securityGroupIds = { ANOTHER_SECURITY_GROUP_ID, SECURITY_GROUP_ID };
+
+        // exercise
+        SecurityGroup securityGroup = this.cache.findByName(this.client, USER_ID, securityGroupIds,
+                SECURITY_GROUP_NAME);
+        SecurityGroup sameSecurityGroup = this.cache.findById(this.client, USER_ID, SECURITY_GROUP_ID);
+
+        // verify
+        Assert.assertEquals(SECURITY_GROUP_ID, securityGroup.getId());
+        Assert.assertEquals(SECURITY_GROUP_ID, sameSecurityGroup.getId());
+
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+        OpenNebulaClientUtil.getSecurityGroupPool(Mockito.eq(this.client));
+    }
+
+    // test case: When a security group is not in the cached pool, the pool must be read again,
+    // so the groups created after it was cached are found.
+    @Test
+    public void testFindByIdReloadsPoolOnMiss() throws FogbowException {
+        // set up
+        this.cache.findById(this.client, USER_ID, SECURITY_GROUP_ID);
+        this.securityGroups.add(this.mockSecurityGroup(ANOTHER_SECURITY_GROUP_ID, ANOTHER_SECURITY_GROUP_NAME));
+
+        // exercise
+        SecurityGroup securityGroup = this.cache.findById(this.client, USER_ID, ANOTHER_SECURITY_GROUP_ID);
+
+        // verify
+        Assert.assertEquals(ANOTHER_SECURITY_GROUP_ID, securityGroup.getId());
+
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
+        OpenNebulaClientUtil.getSecurityGroupPool(Mockito.eq(this.client));
+    }
+
+    // test case: When the cached pool is older than the time to live, it must be read again.
+    @Test
+    public void testFindByIdReloadsExpiredPool() throws FogbowException {
+        // set up
+        this.cache.findById(this.client, USER_ID, SECURITY_GROUP_ID);
+        this.currentTime += OpenNebulaSecurityGroupCache.TIME_TO_LIVE;
+
+        // exercise
+        this.cache.findById(this.client, USER_ID, SECURITY_GROUP_ID);
+
+        // verify
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
+        OpenNebulaClientUtil.getSecurityGroupPool(Mockito.eq(this.client));
+    }
+
+    // test case: When a security group removed from the cache is looked up, the pool must be
+    // read again.
+    @Test
+    public void testRemoveDropsCachedPool() throws FogbowException {
+        // set up
+        this.cache.findById(this.client, USER_ID, SECURITY_GROUP_ID);
+
+        // exercise
+        this.cache.remove(SECURITY_GROUP_ID);
+        this.cache.findById(this.client, USER_ID, SECURITY_GROUP_ID);
+
+        // verify
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
+        OpenNebulaClientUtil.getSecurityGroupPool(Mockito.eq(this.client));
+    }
+
+    // test case: When a security group is not in the pool, even after reading it again, the
+    // findById method must throw an InstanceNotFoundException.
+    @Test
+    public void testFindByIdFail() throws FogbowException {
+        // set up
+        String expected = Messages.Exception.INSTANCE_NOT_FOUND;
+
+        try {
+            // exercise
+            this.cache.findById(this.client, USER_ID, ANOTHER_SECURITY_GROUP_ID);
+            Assert.fail();
+        } catch (InstanceNotFoundException e) {
+            // verify
+            Assert.assertEquals(expected, e.getMessage());
+        }
+    }
+
+    // test case: When none of the given security groups has the given name, the findByName
+    // method must return null.
+    @Test
+    public void testFindByNameWithoutMatch() throws FogbowException {
+        // set up
+        String[] securityGroupIds = { SECURITY_GROUP_ID };
+
+        // exercise
+        SecurityGroup securityGroup = this.cache.findByName(this.client, USER_ID, securityGroupIds,
+                ANOTHER_SECURITY_GROUP_NAME);
+
+        // verify
+        Assert.assertNull(securityGroup);
+    }
+
+    private SecurityGroup mockSecurityGroup(String id, String name) {
+        SecurityGroup securityGroup = Mockito.mock(SecurityGroup.class);
+        Mockito.when(securityGroup.getId()).thenReturn(id);
+        Mockito.when(securityGroup.getName()).thenReturn(name);
+        return securityGroup;
+    }
+}
@@ -0,0 +1,149 @@
+package cloud.fogbow.ras.core.plugins.interoperability.opennebula;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opennebula.client.Client;
+import org.opennebula.client.vm.VirtualMachine;
+import org.opennebula.client.vm.VirtualMachinePool;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@PrepareForTest({DatabaseManager.class, OpenNebulaClientUtil.class})
+public class OpenNebulaVirtualMachineStateWatcherTest extends OpenNebulaBaseTests {
+
+    private static final int ANOTHER_VIRTUAL_MACHINE_ID = 2;
+    private static final int VIRTUAL_MACHINE_ID = 1;
+    private static final long FUTURE_TIMEOUT = 5;
+    private static final String ACTIVE_STATE = "ACTIVE";
+    private static final String POWEROFF_STATE = "POWEROFF";
+
+    private OpenNebulaVirtualMachineStateWatcher watcher;
+    private VirtualMachinePool virtualMachinePool;
+    private VirtualMachine virtualMachine;
+    private VirtualMachine anotherVirtualMachine;
+    private long currentTime;
+
+    @Before
+    public void setUp() throws FogbowException {
+        super.setUp();
+        this.watcher = Mockito.spy(new OpenNebulaVirtualMachineStateWatcher());
+        Mockito.doNothing().when(this.watcher).startPolling();
+        Mockito.doAnswer(invocation -> this.currentTime).when(this.watcher).getCurrentTime();
+
+        this.virtualMachine = this.mockVirtualMachine(VIRTUAL_MACHINE_ID);
+        this.anotherVirtualMachine = this.mockVirtualMachine(ANOTHER_VIRTUAL_MACHINE_ID);
+        this.virtualMachinePool = Mockito.mock(VirtualMachinePool.class);
+        Mockito.when(OpenNebulaClientUtil.getVirtualMachinePool(Mockito.any(Client.class), Mockito.anyInt(),
+                Mockito.anyInt())).thenReturn(this.virtualMachinePool);
+    }
+
+    // test case: When the watched virtual machines are polled, they must be read with a single
+    // request for the pool, and only the futures of the machines that reached their target state
+    // must be completed.
+    @Test
+    public void testPollCompletesMachinesInTargetState() throws Exception {
+        // set up
+        CompletableFuture<Void> future = this.watcher.watch(this.client, this.virtualMachine, POWEROFF_STATE);
+        CompletableFuture<Void> anotherFuture = this.watcher.watch(this.client, this.anotherVirtualMachine,
+                POWEROFF_STATE);
+        this.mockStates(POWEROFF_STATE, ACTIVE_STATE);
+
+        // exercise
+        this.watcher.poll();
+
+        // verify
+        future.get(FUTURE_TIMEOUT, TimeUnit.SECONDS);
+        Assert.assertFalse(anotherFuture.isDone());
+        Assert.assertEquals(TestUtils.RUN_ONCE, this.watcher.getWatchCount());
+
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+        OpenNebulaClientUtil.getVirtualMachinePool(Mockito.eq(this.client), Mockito.eq(VIRTUAL_MACHINE_ID),
+                Mockito.eq(ANOTHER_VIRTUAL_MACHINE_ID));
+    }
+
+    // test case: When a watched virtual machine has not reached its target state, it must not be
+    // checked again before its check interval, which grows each time it is checked.
+    @Test
+    public void testPollBacksOff() throws Exception {
+        // set up
+        this.watcher.watch(this.client, this.virtualMachine, POWEROFF_STATE);
+        this.mockStates(ACTIVE_STATE, ACTIVE_STATE);
+        this.watcher.poll();
+
+        // exercise
+        this.currentTime += OpenNebulaVirtualMachineStateWatcher.POLL_INTERVAL;
+        this.watcher.poll();
+        this.currentTime += OpenNebulaVirtualMachineStateWatcher.POLL_INTERVAL;
+        this.watcher.poll();
+
+        // verify
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
+        OpenNebulaClientUtil.getVirtualMachinePool(Mockito.any(Client.class), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    // test case: When a watched virtual machine does not reach its target state before the
+    // timeout, its future must fail with an InternalServerErrorException.
+    @Test
+    public void testPollExpiresWatch() throws Exception {
+        // set up
+        CompletableFuture<Void> future = this.watcher.watch(this.client, this.virtualMachine, POWEROFF_STATE);
+        this.mockStates(ACTIVE_STATE, ACTIVE_STATE);
+        this.currentTime += OpenNebulaVirtualMachineStateWatcher.TIMEOUT;
+
+        // exercise
+        this.watcher.poll();
+
+        // verify
+        this.verifyFailure(future, InternalServerErrorException.class);
+        Assert.assertEquals(0, this.watcher.getWatchCount());
+    }
+
+    // test case: When a watched virtual machine is not in the pool anymore, its future must fail
+    // with an InstanceNotFoundException.
+    @Test
+    public void testPollFailsWatchOfMissingMachine() throws Exception {
+        // set up
+        CompletableFuture<Void> future = this.watcher.watch(this.client, this.virtualMachine, POWEROFF_STATE);
+
+        // exercise
+        this.watcher.poll();
+
+        // verify
+        this.verifyFailure(future, InstanceNotFoundException.class);
+        Assert.assertEquals(0, this.watcher.getWatchCount());
+    }
+
+    private void verifyFailure(CompletableFuture<Void> future, Class<? extends Exception> exceptionClass)
+            throws Exception {
+        try {
+            future.get(FUTURE_TIMEOUT, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(exceptionClass.isInstance(e.getCause()));
+        }
+    }
+
+    private void mockStates(String state, String anotherState) {
+        Mockito.when(this.virtualMachine.stateStr()).thenReturn(state);
+        Mockito.when(this.anotherVirtualMachine.stateStr()).thenReturn(anotherState);
+        Mockito.when(this.virtualMachinePool.getById(VIRTUAL_MACHINE_ID)).thenReturn(this.virtualMachine);
+        Mockito.when(this.virtualMachinePool.getById(ANOTHER_VIRTUAL_MACHINE_ID)).thenReturn(this.anotherVirtualMachine);
+    }
+
+    private VirtualMachine mockVirtualMachine(int id) {
+        VirtualMachine virtualMachine = Mockito.mock(VirtualMachine.class);
+        Mockito.when(virtualMachine.id()).thenReturn(id);
+        return virtualMachine;
+    }
+}
@@ -28,12 +28,16 @@ import cloud.fogbow.ras.core.models.orders.VolumeOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaBaseTests;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaStateMapper;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.GetVirtualMachineResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.GetVirtualMachineTemplate;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.VirtualMachineDisk;
 
 @PrepareForTest({ DatabaseManager.class, OpenNebulaClientUtil.class, VirtualMachine.class })
 public class OpenNebulaAttachmentPluginTest extends OpenNebulaBaseTests {
 
     private static final String ANOTHER_DEVICE_PATH = "/sda";
     private static final String DEFAULT_DEVICE_PATH = "/dev/sdb";
+    private static final String FAKE_DISK_ID = "2";
     private static final String FAKE_INSTANCE_ID = "1";
     private static final String FAKE_VIRTUAL_MACHINE_ID = "1";
     private static final String FAKE_VOLUME_ID = "1";
@@ -43,6 +47,7 @@ public class OpenNebulaAttachmentPluginTest extends OpenNebulaBaseTests {
     private OpenNebulaAttachmentPlugin plugin;
     private AttachmentOrder attachmentOrder;
     private VirtualMachine virtualMachine;
+    private GetVirtualMachineResponse virtualMachineResponse;
     private String template;
     private OneResponse response;
     private CloudUser cloudUser;
@@ -55,6 +60,7 @@ public class OpenNebulaAttachmentPluginTest extends OpenNebulaBaseTests {
         this.attachmentOrder = createAttachmentOrder();
 
         this.virtualMachine = Mockito.mock(VirtualMachine.class);
+        this.virtualMachineResponse = this.createVirtualMachineResponse();
         this.response = Mockito.mock(OneResponse.class);
         this.client = Mockito.mock(Client.class);
         this.template = this.generateAttachmentTemplate();
@@ -62,6 +68,8 @@ public class OpenNebulaAttachmentPluginTest extends OpenNebulaBaseTests {
 
         PowerMockito.when(OpenNebulaClientUtil.getVirtualMachine(Mockito.any(Client.class), Mockito.anyString()))
                 .thenReturn(this.virtualMachine);
+        PowerMockito.when(OpenNebulaClientUtil.getVirtualMachineResponse(Mockito.any(Client.class),
+                Mockito.anyString())).thenReturn(this.virtualMachineResponse);
         Mockito.when(this.virtualMachine.info()).thenReturn(this.response);
         Mockito.when(this.response.getMessage()).thenReturn(VIRTUAL_MACHINE_CONTENT);
     }
@@ -399,24 +407,42 @@ public class OpenNebulaAttachmentPluginTest extends OpenNebulaBaseTests {
         String computeId = this.attachmentOrder.getComputeId();
         String volumeId = this.attachmentOrder.getVolumeId();
 
-        String deviceTarget = OpenNebulaAttachmentPlugin.DEFAULT_TARGET;
-        String deviceTargetPath = String.format(OpenNebulaAttachmentPlugin.TARGET_PATH_FORMAT, volumeId);
-        Mockito.when(this.virtualMachine.xpath(Mockito.eq(deviceTargetPath))).thenReturn(deviceTarget);
-
         String imageState = OpenNebulaStateMapper.USED_STATE;
         Mockito.doReturn(imageState).when(this.plugin).getImageState(Mockito.eq(this.client), Mockito.eq(volumeId));
 
         // exercise
-        this.plugin.doGetInstance(this.client, this.attachmentOrder.getInstanceId(), computeId, volumeId);
+        AttachmentInstance instance = this.plugin.doGetInstance(this.client, this.attachmentOrder.getInstanceId(),
+                computeId, volumeId);
 
         // verify
         PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-        OpenNebulaClientUtil.getVirtualMachine(Mockito.any(Client.class), Mockito.eq(computeId));
-
-        Mockito.verify(this.virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(deviceTargetPath));
+        OpenNebulaClientUtil.getVirtualMachineResponse(Mockito.any(Client.class), Mockito.eq(computeId));
 
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getImageState(Mockito.eq(client),
                 Mockito.eq(volumeId));
+
+        Assert.assertEquals(OpenNebulaAttachmentPlugin.DEFAULT_TARGET, instance.getDevice());
+    }
+
+    // test case: When calling the getImageDiskId method, it must return the ID of
+    // the disk of the virtual machine created from the given image, or null if
+    // the virtual machine has no such disk.
+    @Test
+    public void testGetImageDiskId() throws FogbowException {
+        // set up
+        String computeId = this.attachmentOrder.getComputeId();
+        String anotherVolumeId = FAKE_VOLUME_ID + FAKE_DISK_ID;
+
+        // exercise
+        String diskId = this.plugin.getImageDiskId(this.client, computeId, FAKE_VOLUME_ID);
+        String missingDiskId = this.plugin.getImageDiskId(this.client, computeId, anotherVolumeId);
+
+        // verify
+        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_TWICE));
+        OpenNebulaClientUtil.getVirtualMachineResponse(Mockito.any(Client.class), Mockito.eq(computeId));
+
+        Assert.assertEquals(FAKE_DISK_ID, diskId);
+        Assert.assertNull(missingDiskId);
     }
     
     // test case: When calling the getImageState method, with a valid client and
@@ -486,6 +512,20 @@ public class OpenNebulaAttachmentPluginTest extends OpenNebulaBaseTests {
         return template;
     }
 
+    private GetVirtualMachineResponse createVirtualMachineResponse() {
+        VirtualMachineDisk disk = new VirtualMachineDisk();
+        disk.setId(FAKE_DISK_ID);
+        disk.setImageId(FAKE_VOLUME_ID);
+        disk.setTarget(OpenNebulaAttachmentPlugin.DEFAULT_TARGET);
+
+        GetVirtualMachineTemplate template = new GetVirtualMachineTemplate();
+        template.getDisks().add(disk);
+
+        GetVirtualMachineResponse virtualMachine = new GetVirtualMachineResponse();
+        virtualMachine.setTemplate(template);
+        return virtualMachine;
+    }
+
     private AttachmentOrder createAttachmentOrder(String...args) {
         ComputeOrder computeOrder = this.testUtils.createLocalComputeOrder();
         computeOrder.setInstanceId(FAKE_VIRTUAL_MACHINE_ID);
@@ -43,18 +43,19 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 	private static final String FAKE_BASE64_SCRIPT = "fake-base64-script";
 
 	private static final String ZERO_STRING_VALUE = "0";
+	private static final String FAKE_IP_ADDRESS_1 = "172.16.100.201";
+	private static final String FAKE_IP_ADDRESS_2 = "172.16.100.202";
 	private static final String FAKE_ID = "fake-id";
 	private static final String FAKE_PRIVATE_NETWORK_ID = "fake-private-network-id";
 	private static final String FLAVOR_KIND_NAME = "smallest-flavor";
 	private static final String IMAGE_SIZE_PATH = OpenNebulaComputePlugin.IMAGE_SIZE_PATH;
-	private static final String TEMPLATE_CPU_PATH = OpenNebulaComputePlugin.TEMPLATE_CPU_PATH;
-	private static final String TEMPLATE_MEMORY_PATH = OpenNebulaComputePlugin.TEMPLATE_MEMORY_PATH;
 
 	private static final int CPU_VALUE_1 = 1;
 	private static final int CPU_VALUE_8 = 8;
 	private static final int MEMORY_VALUE_1024 = 1024;
 	private static final int MEMORY_VALUE_2048 = 2048;
 	private static final int DISK_VALUE_6GB = 6144;
+	private static final int DISK_VALUE_8GB = 8192;
 	private static final int DISK_VALUE_30GB = 30720;
 	private static final int ZERO_VALUE = 0;
 	private static final int ONE_VALUE = 1;
@@ -519,9 +520,6 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 	    Mockito.when(virtualMachine.getId()).thenReturn(this.computeOrder.getInstanceId());
 		Mockito.when(virtualMachine.getName()).thenReturn(this.computeOrder.getName());
 		Mockito.when(virtualMachine.lcmStateStr()).thenReturn(OrderState.FULFILLED.toString());
-		Mockito.when(virtualMachine.xpath(TEMPLATE_CPU_PATH)).thenReturn(String.valueOf(this.computeOrder.getvCPU()));
-		Mockito.when(virtualMachine.xpath(TEMPLATE_MEMORY_PATH)).thenReturn(String.valueOf(this.computeOrder.getRam()));
-		Mockito.when(virtualMachine.xpath(TEMPLATE_DISK_SIZE_PATH)).thenReturn(String.valueOf(this.computeOrder.getDisk()));
 		Mockito.when(response.getMessage()).thenReturn(this.getVirtualMachineResponse());
 
 		Mockito.doNothing().when(this.plugin).setComputeInstanceNetworks(Mockito.any(ComputeInstance.class));
@@ -534,13 +532,13 @@ public class OpenNebulaComputePluginTest extends OpenNebulaBaseTests {
 		Mockito.verify(virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).getId();
 		Mockito.verify(virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).getName();
 		Mockito.verify(virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).lcmStateStr();
-		Mockito.verify(virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(TEMPLATE_CPU_PATH));
-		Mockito.verify(virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(TEMPLATE_MEMORY_PATH));
-		Mockito.verify(virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(TEMPLATE_DISK_SIZE_PATH));
 		Mockito.verify(response, Mockito.times(TestUtils.RUN_ONCE)).getMessage();
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).setComputeInstanceNetworks(Mockito.any(ComputeInstance.class));
 
-		Assert.assertEquals(this.computeOrder.getDisk() / ONE_GIGABYTE_IN_MEGABYTES, computeInstance.getDisk());
+		Assert.assertEquals(CPU_VALUE_1, computeInstance.getvCPU());
+		Assert.assertEquals(MEMORY_VALUE_1024, computeInstance.getRam());
+		Assert.assertEquals(DISK_VALUE_8GB / ONE_GIGABYTE_IN_MEGABYTES, computeInstance.getDisk());
+		Assert.assertEquals(Arrays.asList(FAKE_IP_ADDRESS_1, FAKE_IP_ADDRESS_2), computeInstance.getIpAddresses());
 	}
 
 	// test case: when invoking deleteInstance with a valid compute order and cloud user,
@@ -8,7 +8,11 @@ import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaBaseTests;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaSecurityGroupCache;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.AddressRange;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.CreateNetworkReserveRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkTemplate;
 import org.apache.commons.net.util.SubnetUtils;
 import org.junit.Assert;
 import org.junit.Before;
@@ -45,10 +49,12 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 	private static final int MAXIMUM_INTEGER_VALUE = 2147483647;
 	private static final int NEGATIVE_SIZE_VALUE = -1;
 	private static final int ZERO_VALUE = 0;
-	private static final Integer ONE_VALUE = 1;
+	private static final int ONE_VALUE = 1;
 
 	private OpenNebulaNetworkPlugin plugin;
+	private OpenNebulaSecurityGroupCache securityGroupCache;
 	private VirtualNetwork virtualNetwork;
+	private GetVirtualNetworkResponse virtualNetworkResponse;
 	private NetworkOrder networkOrder;
 	private String orderId;
 	private String instanceId;
@@ -58,13 +64,18 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		super.setUp();
 
 		this.plugin = Mockito.spy(new OpenNebulaNetworkPlugin(this.openNebulaConfFilePath));
+		this.securityGroupCache = Mockito.mock(OpenNebulaSecurityGroupCache.class);
+		this.plugin.setSecurityGroupCache(this.securityGroupCache);
 		this.virtualNetwork = Mockito.mock(VirtualNetwork.class);
+		this.virtualNetworkResponse = new GetVirtualNetworkResponse();
 		this.networkOrder = Mockito.spy(this.createNetworkOrder());
 		this.orderId = this.networkOrder.getId();
 		this.instanceId = this.networkOrder.getInstanceId();
 
 		Mockito.when(OpenNebulaClientUtil.getVirtualNetwork(Mockito.any(Client.class), Mockito.anyString()))
 				.thenReturn(this.virtualNetwork);
+		Mockito.when(OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.any(Client.class), Mockito.anyString()))
+				.thenReturn(this.virtualNetworkResponse);
 	}
 
 	// test case: When calling the requestInstance method, with a valid client and
@@ -77,7 +88,7 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		CreateNetworkReserveRequest request = Mockito.mock(CreateNetworkReserveRequest.class);
 
 		Mockito.doReturn(request).when(this.plugin).getCreateNetworkReserveRequest(
-				Mockito.any(NetworkOrder.class), Mockito.any(VirtualNetwork.class));
+				Mockito.any(NetworkOrder.class), Mockito.any(GetVirtualNetworkResponse.class));
 		Mockito.doReturn(this.networkOrder.getInstanceId()).when(this.plugin).doRequestInstance(
 				Mockito.any(Client.class),Mockito.any(CreateNetworkReserveRequest.class));
 
@@ -88,7 +99,7 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class);
 		OpenNebulaClientUtil.createClient(Mockito.anyString(), Mockito.eq(this.cloudUser.getToken()));
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class);
-		OpenNebulaClientUtil.getVirtualNetwork(Mockito.any(Client.class), Mockito.anyString());
+		OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.any(Client.class), Mockito.anyString());
 
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doRequestInstance(
 				Mockito.any(Client.class), Mockito.any(CreateNetworkReserveRequest.class));
@@ -102,71 +113,67 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		SubnetUtils.SubnetInfo subnetInfo = new SubnetUtils(FAKE_CIDR_ADDRESS).getInfo();
 		String firstAddress = subnetInfo.getLowAddress();
 		int size = subnetInfo.getAddressCount();
+		AddressRange addressRange = this.createAddressRange(ID_VALUE_ZERO, FAKE_ADDRESS, FAKE_SIZE, ID_VALUE_ZERO);
 
-		Mockito.doReturn(ZERO_VALUE).when(this.plugin).getAddressRangeIndex(
-				Mockito.any(VirtualNetwork.class), Mockito.anyString(), Mockito.anyInt());
+		Mockito.doReturn(addressRange).when(this.plugin).getAddressRange(
+				Mockito.any(GetVirtualNetworkResponse.class), Mockito.anyString(), Mockito.anyInt());
 		Mockito.doReturn(ID_VALUE_ZERO).when(this.plugin).getAddressRangeId(
-				Mockito.any(VirtualNetwork.class), Mockito.anyInt(), Mockito.anyString());
-		Mockito.doReturn(FAKE_ADDRESS).when(this.plugin).getNextAvailableAddress(
-				Mockito.any(VirtualNetwork.class), Mockito.anyInt());
+				Mockito.any(AddressRange.class), Mockito.anyString());
+		Mockito.doReturn(FAKE_ADDRESS).when(this.plugin).getNextAvailableAddress(Mockito.any(AddressRange.class));
 
 		// exercise
-		this.plugin.getCreateNetworkReserveRequest(this.networkOrder, this.virtualNetwork);
+		this.plugin.getCreateNetworkReserveRequest(this.networkOrder, this.virtualNetworkResponse);
 
 		// verify
 		Mockito.verify(this.networkOrder, Mockito.times(TestUtils.RUN_ONCE)).getCidr();
 		Mockito.verify(this.networkOrder, Mockito.times(TestUtils.RUN_ONCE)).getName();
-		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getAddressRangeIndex(
-				Mockito.eq(this.virtualNetwork), Mockito.eq(firstAddress), Mockito.eq(size));
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getAddressRange(
+				Mockito.eq(this.virtualNetworkResponse), Mockito.eq(firstAddress), Mockito.eq(size));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getAddressRangeId(
-				Mockito.eq(this.virtualNetwork), Mockito.eq(ZERO_VALUE), Mockito.eq(FAKE_CIDR_ADDRESS));
+				Mockito.eq(addressRange), Mockito.eq(FAKE_CIDR_ADDRESS));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getNextAvailableAddress(
-				Mockito.eq(this.virtualNetwork), Mockito.eq(ZERO_VALUE));
+				Mockito.eq(addressRange));
 	}
 
-	// test case: when invoking getAddressRangeIndex with valid virtual network, the plugin
-	// should return the address range index where the new network reservation should be
-	// made; return null otherwise.
+	// test case: when invoking getAddressRange with valid virtual network, the plugin
+	// should return the address range where the new network reservation should be
+	// made, skipping the ranges without IPv4 addresses; return null otherwise.
 	@Test
-	public void testGetAddressRangeIndex() throws InvalidParameterException {
+	public void testGetAddressRange() throws InvalidParameterException {
 		// set up
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(String.format(ADDRESS_RANGE_IP_PATH_FORMAT, ONE_VALUE))))
-				.thenReturn(FAKE_ADDRESS)
-				.thenReturn(EMPTY_STRING);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(String.format(ADDRESS_RANGE_SIZE_PATH_FORMAT, ONE_VALUE))))
-				.thenReturn(TEN_STRING_VALUE);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(String.format(ADDRESS_RANGE_USED_LEASES_PATH_FORMAT, ONE_VALUE))))
-				.thenReturn(ID_VALUE_ZERO);
+		AddressRange ethernetAddressRange = this.createAddressRange(ID_VALUE_ZERO, null, TEN_STRING_VALUE, ID_VALUE_ZERO);
+		AddressRange addressRange = this.createAddressRange(ID_VALUE_ONE, FAKE_ADDRESS, TEN_STRING_VALUE, ID_VALUE_ZERO);
+		this.virtualNetworkResponse.getAddressRanges().add(ethernetAddressRange);
+		this.virtualNetworkResponse.getAddressRanges().add(addressRange);
 
 		// exercise
-		Integer index = this.plugin.getAddressRangeIndex(this.virtualNetwork, FIRST_ADDRESS, ONE_VALUE);
-		Integer nullIndex = this.plugin.getAddressRangeIndex(this.virtualNetwork, FIRST_ADDRESS, ONE_VALUE);
-
-		// verifiy
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_SIX_TIMES)).xpath(Mockito.anyString());
-		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).convertToInteger(Mockito.anyString());
-		Assert.assertEquals(ONE_VALUE, index);
-		Assert.assertEquals(null, nullIndex);
+		AddressRange fittingAddressRange = this.plugin.getAddressRange(this.virtualNetworkResponse, FIRST_ADDRESS,
+				ONE_VALUE);
+		AddressRange nullAddressRange = this.plugin.getAddressRange(this.virtualNetworkResponse, FIRST_ADDRESS,
+				MAXIMUM_INTEGER_VALUE);
+
+		// verify
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_TWICE)).generateAddressCidr(
+				Mockito.eq(FAKE_ADDRESS), Mockito.eq(TEN_STRING_VALUE));
+		Assert.assertEquals(addressRange, fittingAddressRange);
+		Assert.assertNull(nullAddressRange);
 	}
 
-	// test case: when invoking getAddressRangeId with valid virtual network, address range index and
-	// cidr, the plugin should return the address range id where the new network reservation should
-	// be made.
+	// test case: when invoking getAddressRangeId with a valid address range and cidr, the plugin should
+	// return the address range id where the new network reservation should be made.
 	@Test
 	public void testGetAddressRangeId() throws UnacceptableOperationException {
 		// set up
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(String.format(ADDRESS_RANGE_ID_PATH_FORMAT, ONE_VALUE))))
-				.thenReturn(String.valueOf(ONE_VALUE));
+		AddressRange addressRange = this.createAddressRange(ID_VALUE_ONE, FAKE_ADDRESS, TEN_STRING_VALUE, ID_VALUE_ZERO);
 
 		// exercise
-		String index = this.plugin.getAddressRangeId(this.virtualNetwork, ONE_VALUE, FAKE_CIDR_ADDRESS);
+		String index = this.plugin.getAddressRangeId(addressRange, FAKE_CIDR_ADDRESS);
 
 		// verify
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.anyString());
-		Assert.assertEquals(String.valueOf(ONE_VALUE), index);
+		Assert.assertEquals(ID_VALUE_ONE, index);
 	}
 
-	// test case: when invoking getAddressRangeId with a null address range index (meaning no address range fits
+	// test case: when invoking getAddressRangeId with a null address range (meaning no address range fits
 	// the order) the plugin should throw a UnacceptableOperationException.
 	@Test
 	public void testGetAddressRangeIdFail() {
@@ -175,7 +182,7 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 
 		// exercise
 		try {
-			this.plugin.getAddressRangeId(this.virtualNetwork, null, FAKE_CIDR_ADDRESS);
+			this.plugin.getAddressRangeId(null, FAKE_CIDR_ADDRESS);
 			Assert.fail();
 		} catch (UnacceptableOperationException e) {
 			// verify
@@ -183,25 +190,22 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		}
 	}
 
-	// test case: when invoking getNextAvailableAddress with valid virtual network and address range index,
-	// the plugin should return the first available address for the new network reservation.
+	// test case: when invoking getNextAvailableAddress with a valid address range, the plugin should
+	// return the first available address for the new network reservation.
 	@Test
 	public void testGetNextAvailableAddress() throws InvalidParameterException {
 		// set up
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(String.format(ADDRESS_RANGE_IP_PATH_FORMAT, ONE_VALUE))))
-				.thenReturn(FAKE_ADDRESS);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(String.format(ADDRESS_RANGE_SIZE_PATH_FORMAT, ONE_VALUE))))
-				.thenReturn(TEN_STRING_VALUE);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(String.format(ADDRESS_RANGE_USED_LEASES_PATH_FORMAT, ONE_VALUE))))
-				.thenReturn(String.valueOf(ONE_VALUE))
-				.thenReturn(ID_VALUE_ZERO);
+		AddressRange usedAddressRange = this.createAddressRange(ID_VALUE_ONE, FAKE_ADDRESS, TEN_STRING_VALUE,
+				ID_VALUE_ONE);
+		AddressRange unusedAddressRange = this.createAddressRange(ID_VALUE_ONE, FAKE_ADDRESS, TEN_STRING_VALUE,
+				ID_VALUE_ZERO);
 
 		// exercise
-		this.plugin.getNextAvailableAddress(this.virtualNetwork, ONE_VALUE);
-		String defaultFistIp = this.plugin.getNextAvailableAddress(this.virtualNetwork, ONE_VALUE);
+		String nextAddress = this.plugin.getNextAvailableAddress(usedAddressRange);
+		String defaultFistIp = this.plugin.getNextAvailableAddress(unusedAddressRange);
 
 		// verify
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_SIX_TIMES)).xpath(Mockito.anyString());
+		Assert.assertNotEquals(FAKE_ADDRESS, nextAddress);
 		Assert.assertEquals(FAKE_ADDRESS, defaultFistIp);
 	}
 
@@ -261,15 +265,15 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 	public void testCreateSecurityGroup() throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
 		// set up
 		Mockito.when(OpenNebulaClientUtil.allocateSecurityGroup(Mockito.any(Client.class), Mockito.anyString())).thenReturn(ID_VALUE_ZERO);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(VNET_ADDRESS_RANGE_IP_PATH))).thenReturn(FAKE_ADDRESS);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(VNET_ADDRESS_RANGE_SIZE_PATH))).thenReturn(FAKE_SIZE);
+		this.virtualNetworkResponse.getAddressRanges().add(
+				this.createAddressRange(ID_VALUE_ZERO, FAKE_ADDRESS, FAKE_SIZE, ID_VALUE_ZERO));
 
 		// exercise
 		this.plugin.createSecurityGroup(this.client, this.instanceId);
 
 		// verify
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-		OpenNebulaClientUtil.getVirtualNetwork(Mockito.eq(this.client), Mockito.eq(this.instanceId));
+		OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.eq(this.client), Mockito.eq(this.instanceId));
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
 		OpenNebulaClientUtil.allocateSecurityGroup(Mockito.eq(this.client), Mockito.anyString());
 
@@ -283,15 +287,16 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		// set up
 		NetworkInstance instance = new NetworkInstance(FAKE_INSTANCE_ID);
 
-		Mockito.doReturn(instance).when(this.plugin).doGetInstance(Mockito.any(VirtualNetwork.class));
+		Mockito.doReturn(instance).when(this.plugin).doGetInstance(Mockito.any(GetVirtualNetworkResponse.class));
 
 		// exercise
 		this.plugin.getInstance(this.networkOrder, this.cloudUser);
 
 		// verify
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-		OpenNebulaClientUtil.getVirtualNetwork(Mockito.eq(this.client), Mockito.eq(this.instanceId));
-		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doGetInstance(Mockito.eq(this.virtualNetwork));
+		OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.eq(this.client), Mockito.eq(this.instanceId));
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doGetInstance(
+				Mockito.eq(this.virtualNetworkResponse));
 	}
 
 	// test case: when invoking doGetInstance with a valid ONe virtual network, the plugin
@@ -299,26 +304,25 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 	@Test
 	public void testDoGetInstance() throws InvalidParameterException {
 	    // set up
-		Mockito.when(this.virtualNetwork.getId()).thenReturn(ID_VALUE_ZERO);
-		Mockito.when(this.virtualNetwork.getName()).thenReturn(FAKE_NETWORK_NAME);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(VNET_TEMPLATE_VLAN_ID_PATH))).thenReturn(FAKE_VLAN_ID);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(VNET_ADDRESS_RANGE_IP_PATH))).thenReturn(FAKE_ADDRESS);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.eq(VNET_ADDRESS_RANGE_SIZE_PATH))).thenReturn(FAKE_SIZE);
-		Mockito.doReturn(FAKE_ADDRESS).when(this.plugin).generateAddressCidr(Mockito.anyString(), Mockito.anyString());
+		GetVirtualNetworkTemplate template = new GetVirtualNetworkTemplate();
+		template.setVlanId(FAKE_VLAN_ID);
+		this.virtualNetworkResponse.setId(ID_VALUE_ZERO);
+		this.virtualNetworkResponse.setName(FAKE_NETWORK_NAME);
+		this.virtualNetworkResponse.setTemplate(template);
+		this.virtualNetworkResponse.getAddressRanges().add(
+				this.createAddressRange(ID_VALUE_ZERO, FAKE_ADDRESS, FAKE_SIZE, ID_VALUE_ZERO));
 
 		// exercise
-		NetworkInstance instance = this.plugin.doGetInstance(this.virtualNetwork);
+		NetworkInstance instance = this.plugin.doGetInstance(this.virtualNetworkResponse);
 
 		// verify
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).getId();
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).getName();
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(VNET_TEMPLATE_VLAN_ID_PATH));
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(VNET_ADDRESS_RANGE_IP_PATH));
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(VNET_ADDRESS_RANGE_SIZE_PATH));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).generateAddressCidr(
 				Mockito.eq(FAKE_ADDRESS), Mockito.eq(FAKE_SIZE));
 
-		Assert.assertNotNull(instance);
+		Assert.assertEquals(ID_VALUE_ZERO, instance.getId());
+		Assert.assertEquals(FAKE_NETWORK_NAME, instance.getName());
+		Assert.assertEquals(FAKE_VLAN_ID, instance.getvLAN());
+		Assert.assertEquals(FAKE_CIDR_ADDRESS, instance.getCidr());
 	}
 
 	// test case: when invoking deleteInstance with valid order and cloud user,
@@ -329,7 +333,8 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		SecurityGroup securityGroup = Mockito.mock(SecurityGroup.class);
 
 		Mockito.doReturn(securityGroup).when(this.plugin).getSecurityGroupForVirtualNetwork(
-				Mockito.any(Client.class), Mockito.any(VirtualNetwork.class), Mockito.anyString());
+				Mockito.any(Client.class), Mockito.anyString(), Mockito.any(VirtualNetwork.class),
+				Mockito.anyString());
 		Mockito.doNothing().when(this.plugin).deleteSecurityGroup(Mockito.any(SecurityGroup.class));
 		Mockito.doNothing().when(this.plugin).doDeleteInstance(Mockito.any(VirtualNetwork.class));
 
@@ -343,7 +348,8 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		OpenNebulaClientUtil.getVirtualNetwork(Mockito.eq(this.client), Mockito.eq(this.instanceId));
 
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getSecurityGroupForVirtualNetwork(
-				Mockito.eq(this.client), Mockito.eq(this.virtualNetwork), Mockito.eq(this.instanceId));
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(this.virtualNetwork),
+				Mockito.eq(this.instanceId));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).deleteSecurityGroup(securityGroup);
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doDeleteInstance(this.virtualNetwork);
 	}
@@ -353,44 +359,44 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 	// return the ID of the security group created together with this Virtual
 	// Network.
 	@Test
-	public void testGetSecurityGroupForVirtualNetwork() throws UnauthorizedRequestException, InstanceNotFoundException,
-			InvalidParameterException {
+	public void testGetSecurityGroupForVirtualNetwork() throws InternalServerErrorException {
 		// set up
         String securityGroupIds = ID_VALUE_ZERO + SECURITY_GROUPS_SEPARATOR + ID_VALUE_ONE;
+        String[] expectedSecurityGroupIds = { ID_VALUE_ZERO, ID_VALUE_ONE };
         SecurityGroup securityGroup = Mockito.mock(SecurityGroup.class);
 
-        Mockito.when(securityGroup.getName()).thenReturn(FAKE_NETWORK_NAME);
 		Mockito.when(this.virtualNetwork.xpath(VNET_TEMPLATE_SECURITY_GROUPS_PATH)).thenReturn(securityGroupIds);
-		Mockito.when(OpenNebulaClientUtil.getSecurityGroup(Mockito.any(Client.class), Mockito.anyString()))
-				.thenReturn(securityGroup);
+		Mockito.when(this.securityGroupCache.findByName(Mockito.any(Client.class), Mockito.anyString(),
+				Mockito.any(String[].class), Mockito.anyString())).thenReturn(securityGroup);
 		Mockito.doReturn(FAKE_NETWORK_NAME).when(this.plugin).generateSecurityGroupName(Mockito.anyString());
 
 		// excercise
-		SecurityGroup secGroup = this.plugin.getSecurityGroupForVirtualNetwork(this.client, this.virtualNetwork, this.networkOrder.getId());
+		SecurityGroup secGroup = this.plugin.getSecurityGroupForVirtualNetwork(this.client, this.cloudUser.getId(),
+				this.virtualNetwork, this.networkOrder.getId());
 
 
 		// verify
-		PowerMockito.verifyStatic(OpenNebulaClientUtil.class);
-		OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), Mockito.eq(ID_VALUE_ZERO));
+		Mockito.verify(this.securityGroupCache, Mockito.times(TestUtils.RUN_ONCE)).findByName(
+				Mockito.eq(this.client), Mockito.eq(this.cloudUser.getId()), Mockito.eq(expectedSecurityGroupIds),
+				Mockito.eq(FAKE_NETWORK_NAME));
 
 		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(VNET_TEMPLATE_SECURITY_GROUPS_PATH));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).generateSecurityGroupName(Mockito.eq(this.orderId));
-		Mockito.verify(securityGroup, Mockito.times(TestUtils.RUN_ONCE)).getName();
 
-		Assert.assertNotNull(secGroup);
+		Assert.assertEquals(securityGroup, secGroup);
 	}
 
 	// test case: When calling the getSecurityGroupBy method, with an empty security
 	// group, it must return a null security group ID associated with the virtual
 	// network passed by parameter.
 	@Test
-	public void testGetSecurityGroupForVirtualNetworkNull() throws UnauthorizedRequestException, InstanceNotFoundException,
-			InvalidParameterException {
+	public void testGetSecurityGroupForVirtualNetworkNull() throws InternalServerErrorException {
 		// set up
 		Mockito.when(this.virtualNetwork.xpath(VNET_TEMPLATE_SECURITY_GROUPS_PATH)).thenReturn(null);
 
 		// excercise
-		SecurityGroup secGroup = this.plugin.getSecurityGroupForVirtualNetwork(this.client, this.virtualNetwork, this.networkOrder.getId());
+		SecurityGroup secGroup = this.plugin.getSecurityGroupForVirtualNetwork(this.client, this.cloudUser.getId(),
+				this.virtualNetwork, this.networkOrder.getId());
 
 
 		// verify
@@ -410,6 +416,7 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		Mockito.when(securityGroup.delete()).thenReturn(response);
 		Mockito.when(response.isError()).thenReturn(false).thenReturn(true);
 		Mockito.when(response.getMessage()).thenReturn(ID_VALUE_ZERO);
+		Mockito.when(securityGroup.getId()).thenReturn(ID_VALUE_ZERO);
 
 		// exercise
 		this.plugin.deleteSecurityGroup(securityGroup);
@@ -419,6 +426,7 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		Mockito.verify(securityGroup, Mockito.times(TestUtils.RUN_TWICE)).delete();
 		Mockito.verify(response, Mockito.times(TestUtils.RUN_TWICE)).isError();
 		Mockito.verify(response, Mockito.times(TestUtils.RUN_ONCE)).getMessage();
+		Mockito.verify(this.securityGroupCache, Mockito.times(TestUtils.RUN_ONCE)).remove(Mockito.eq(ID_VALUE_ZERO));
 	}
 
 	// test case: when calling doDeleteInstance with a valid ONe virtual network, the plugin
@@ -463,6 +471,7 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).delete();
 		Mockito.verify(response, Mockito.times(TestUtils.RUN_ONCE)).isError();
 		Mockito.verify(response, Mockito.times(TestUtils.RUN_ONCE)).getMessage();
+		Mockito.verify(this.securityGroupCache, Mockito.times(TestUtils.RUN_ONCE)).remove(Mockito.eq(ID_VALUE_ZERO));
 	}
 
 	// test case: When calling the calculateCIDR method with a negative size value,
@@ -540,6 +549,15 @@ public class OpenNebulaNetworkPluginTest extends OpenNebulaBaseTests {
 		return networkOrder;
 	}
 
+	private AddressRange createAddressRange(String id, String ip, String size, String usedLeases) {
+		AddressRange addressRange = new AddressRange();
+		addressRange.setId(id);
+		addressRange.setIp(ip);
+		addressRange.setSize(size);
+		addressRange.setUsedLeases(usedLeases);
+		return addressRange;
+	}
+
 	private String getNetworkUpdateTemplate() {
 		return "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
 				+ "<TEMPLATE>\n"
@@ -1,14 +1,18 @@
 package cloud.fogbow.ras.core.plugins.interoperability.opennebula.publicip.v5_4;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import cloud.fogbow.common.exceptions.*;
-import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.constants.SystemConstants;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaBaseTests;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.GetVirtualMachineResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.compute.model.VirtualMachineNic;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.CreateNetworkReserveRequest;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkTemplate;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,13 +31,14 @@ import cloud.fogbow.ras.api.http.response.PublicIpInstance;
 import cloud.fogbow.ras.core.models.orders.PublicIpOrder;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaStateMapper;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaVirtualMachineStateWatcher;
 
 import static cloud.fogbow.ras.core.plugins.interoperability.opennebula.publicip.v5_4.OpenNebulaPublicIpPlugin.*;
 
-@PrepareForTest({DatabaseManager.class, OpenNebulaClientUtil.class, SecurityGroup.class, Thread.class, VirtualNetwork.class})
+@PrepareForTest({DatabaseManager.class, OpenNebulaClientUtil.class, SecurityGroup.class, VirtualNetwork.class})
 public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 
-	private static final String ACTIVE_STATE = "ACTIVE";
+	private static final String ANOTHER_INSTANCE_ID = "2";
 	private static final String EMPTY_STRING = "";
 	private static final String FAKE_IP_ADDRESS = "10.1.0.100";
 	private static final String FAKE_NAME = "fake-name";
@@ -49,12 +54,15 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 	private String computeId;
 	private VirtualNetwork virtualNetwork;
 	private VirtualMachine virtualMachine;
+	private GetVirtualNetworkResponse virtualNetworkResponse;
+	private GetVirtualMachineResponse virtualMachineResponse;
 	private OneResponse response;
 
 	@Before
 	public void setUp() throws FogbowException {
 	    super.setUp();
 
+		OpenNebulaPublicIpPlugin.clearRemovals();
 		this.plugin = Mockito.spy(new OpenNebulaPublicIpPlugin(this.openNebulaConfFilePath));
 
 		this.publicIpOrder = this.createPublicIpOrder();
@@ -63,11 +71,18 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 		this.virtualNetwork = Mockito.mock(VirtualNetwork.class);
 		this.virtualMachine = Mockito.mock(VirtualMachine.class);
 		this.response = Mockito.mock(OneResponse.class);
+		this.virtualNetworkResponse = new GetVirtualNetworkResponse();
+		this.virtualNetworkResponse.setTemplate(new GetVirtualNetworkTemplate());
+		this.virtualMachineResponse = new GetVirtualMachineResponse();
 
 		Mockito.when(OpenNebulaClientUtil.getVirtualNetwork(Mockito.any(Client.class), Mockito.anyString()))
 				.thenReturn(this.virtualNetwork);
 		Mockito.when(OpenNebulaClientUtil.getVirtualMachine(Mockito.any(Client.class), Mockito.anyString()))
 				.thenReturn(this.virtualMachine);
+		Mockito.when(OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.any(Client.class), Mockito.anyString()))
+				.thenReturn(this.virtualNetworkResponse);
+		Mockito.when(OpenNebulaClientUtil.getVirtualMachineResponse(Mockito.any(Client.class), Mockito.anyString()))
+				.thenReturn(this.virtualMachineResponse);
 	}
 	
 	// test case: When calling the isReady method, if the state of public IP is
@@ -284,61 +299,126 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 		OpenNebulaClientUtil.createClient(Mockito.anyString(), Mockito.eq(this.cloudUser.getToken()));
 	}
 
+	// test case: when invoking doDeleteInstance, the plugin should start the removal of the
+	// public ip from the compute it is attached to
 	@Test
 	public void testDoDeleteInstance() throws UnauthorizedRequestException, InstanceNotFoundException,
-			InvalidParameterException, InternalServerErrorException {
+			InvalidParameterException {
 		// set up
+		Mockito.doNothing().when(this.plugin).startRemoval(Mockito.any(Client.class), Mockito.anyString(),
+				Mockito.anyString());
+
+		// exercise
+		this.plugin.doDeleteInstance(this.client, this.publicIpOrder);
+
+		// verify
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).startRemoval(
+				Mockito.eq(this.client), Mockito.eq(this.instanceId), Mockito.eq(this.computeId));
+	}
+
+	// test case: when invoking startRemoval, the plugin should retrieve the respective ONe
+	// virtual machine and remove the public ip from it, without waiting for the removal
+	@Test
+	public void testStartRemoval() throws UnauthorizedRequestException, InstanceNotFoundException,
+			InvalidParameterException {
+		// set up
+		Mockito.doReturn(new CompletableFuture<Void>()).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+
+		// exercise
+		this.plugin.startRemoval(this.client, this.instanceId, this.computeId);
+
+		// verify
+		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+		OpenNebulaClientUtil.getVirtualMachine(Mockito.eq(this.client), Mockito.eq(this.computeId));
+
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).removePublicIp(
+				Mockito.eq(this.client), Mockito.eq(this.virtualMachine), Mockito.eq(this.instanceId));
+	}
+
+	// test case: when invoking startRemoval for a public ip of a compute whose other public ip
+	// is still being removed, the plugin should only start the new removal after the first one
+	// has finished
+	@Test
+	public void testStartRemovalOfPublicIpsOfSameCompute() throws UnauthorizedRequestException,
+			InstanceNotFoundException, InvalidParameterException {
+		// set up
+		CompletableFuture<Void> firstRemoval = new CompletableFuture<>();
+		Mockito.doReturn(firstRemoval).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.eq(this.instanceId));
+		Mockito.doReturn(new CompletableFuture<Void>()).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.eq(ANOTHER_INSTANCE_ID));
+
+		this.plugin.startRemoval(this.client, this.instanceId, this.computeId);
+
+		// exercise
+		this.plugin.startRemoval(this.client, ANOTHER_INSTANCE_ID, this.computeId);
+
+		// verify
+		Mockito.verify(this.plugin, Mockito.never()).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.eq(ANOTHER_INSTANCE_ID));
+
+		firstRemoval.complete(null);
+
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).removePublicIp(
+				Mockito.eq(this.client), Mockito.eq(this.virtualMachine), Mockito.eq(ANOTHER_INSTANCE_ID));
+	}
+
+	// test case: when invoking removePublicIp, the plugin should shut the virtual machine off and,
+	// once the virtual machine is powered off, detach its public ip nic, delete the fogbow security
+	// group and the public ip instance network reserve, and resume the virtual machine
+	@Test
+	public void testRemovePublicIp() throws Exception {
+		// set up
+		OpenNebulaVirtualMachineStateWatcher stateWatcher = Mockito.mock(OpenNebulaVirtualMachineStateWatcher.class);
+		Mockito.doReturn(CompletableFuture.completedFuture(null)).when(stateWatcher).watch(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+		this.plugin.setStateWatcher(stateWatcher);
+
 		Mockito.doReturn(this.response).when(this.virtualMachine).poweroff(Mockito.anyBoolean());
 		Mockito.doReturn(this.response).when(this.virtualMachine).resume();
-		Mockito.doReturn(true).when(this.plugin).isPowerOff(Mockito.any(VirtualMachine.class));
 		Mockito.doNothing().when(this.plugin).detachPublicIpFromCompute(Mockito.any(VirtualMachine.class), Mockito.anyString());
 		Mockito.doNothing().when(this.plugin).deleteSecurityGroup(Mockito.any(Client.class), Mockito.anyString());
 		Mockito.doNothing().when(this.plugin).deletePublicIp(Mockito.any(Client.class), Mockito.anyString());
 
 		// exercise
-		this.plugin.doDeleteInstance(this.client, this.publicIpOrder);
+		this.plugin.removePublicIp(this.client, this.virtualMachine, this.instanceId).get();
 
 		// verify
-		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-		OpenNebulaClientUtil.getVirtualMachine(Mockito.eq(this.client), Mockito.eq(this.publicIpOrder.getComputeId()));
-
 		Mockito.verify(this.virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).poweroff(Mockito.eq(SHUT_OFF));
-		Mockito.verify(this.virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).resume();
-		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).isPowerOff(Mockito.eq(this.virtualMachine));
+		Mockito.verify(stateWatcher, Mockito.times(TestUtils.RUN_ONCE)).watch(
+				Mockito.eq(this.client), Mockito.eq(this.virtualMachine), Mockito.eq(POWEROFF_STATE));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).detachPublicIpFromCompute(
 				Mockito.eq(this.virtualMachine), Mockito.eq(this.instanceId));
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).deleteSecurityGroup(
 				Mockito.eq(this.client), Mockito.eq(this.instanceId));
-		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doDeleteInstance(
-				Mockito.eq(this.client), Mockito.eq(this.publicIpOrder));
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).deletePublicIp(
+				Mockito.eq(this.client), Mockito.eq(this.instanceId));
+		Mockito.verify(this.virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).resume();
 	}
 
-	// test case: when invoking doDeleteInstance with invalid parameters, the plugin should
-	// throw an InternalServerErrorException
+	// test case: when invoking removePublicIp and the virtual machine does not power off, the
+	// plugin should not release any resource, and the removal should fail
 	@Test
-	public void testDoDeleteInstanceFail() throws FogbowException {
+	public void testRemovePublicIpFail() {
 		// set up
-		String message = String.format(Messages.Exception.ERROR_WHILE_REMOVING_RESOURCE_S_S, PUBLIC_IP_RESOURCE, this.instanceId);
+		CompletableFuture<Void> powerOff = new CompletableFuture<>();
+		powerOff.completeExceptionally(new InternalServerErrorException());
+		OpenNebulaVirtualMachineStateWatcher stateWatcher = Mockito.mock(OpenNebulaVirtualMachineStateWatcher.class);
+		Mockito.doReturn(powerOff).when(stateWatcher).watch(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+		this.plugin.setStateWatcher(stateWatcher);
 
 		Mockito.doReturn(this.response).when(this.virtualMachine).poweroff(Mockito.anyBoolean());
-		Mockito.doReturn(false).when(this.plugin).isPowerOff(Mockito.any(VirtualMachine.class));
 
 		// exercise
-        try	{
-			this.plugin.deleteInstance(this.publicIpOrder, this.cloudUser);
-			Assert.fail();
-		} catch (InternalServerErrorException e) {
-        	Assert.assertEquals(message, e.getMessage());
-		}
+		CompletableFuture<Void> removal = this.plugin.removePublicIp(this.client, this.virtualMachine, this.instanceId);
 
 		// verify
-		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-		OpenNebulaClientUtil.createClient(Mockito.anyString(), Mockito.eq(this.cloudUser.getToken()));
-		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-		OpenNebulaClientUtil.getVirtualMachine(Mockito.eq(this.client), Mockito.eq(this.publicIpOrder.getComputeId()));
-
+		Assert.assertTrue(removal.isCompletedExceptionally());
 		Mockito.verify(this.virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).poweroff(Mockito.eq(SHUT_OFF));
-		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).isPowerOff(Mockito.eq(this.virtualMachine));
+		Mockito.verify(this.virtualMachine, Mockito.never()).resume();
+		Mockito.verifyZeroInteractions(this.virtualNetwork);
 	}
 
 	// test case: when invoking deletePublicIp the plugin should retrieve the respective ONe
@@ -518,7 +598,7 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 
 		Mockito.when(OpenNebulaClientUtil.getSecurityGroup(Mockito.any(Client.class), Mockito.anyString()))
 				.thenReturn(securityGroup);
-		Mockito.when(this.virtualNetwork.xpath(Mockito.anyString())).thenReturn(STRING_SECURITY_GROUPS);
+		this.virtualNetworkResponse.getTemplate().setSecurityGroups(STRING_SECURITY_GROUPS);
 		Mockito.when(securityGroup.getName()).thenReturn(secGroupName);
 
 		// exercise
@@ -526,11 +606,10 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 
 		// verify
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-		OpenNebulaClientUtil.getVirtualNetwork(Mockito.eq(this.client), Mockito.eq(this.instanceId));
+		OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.eq(this.client), Mockito.eq(this.instanceId));
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
 		OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), Mockito.anyString());
 
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(SECURITY_GROUPS_PATH));
 		Mockito.verify(securityGroup, Mockito.times(TestUtils.RUN_ONCE)).getName();
 		Assert.assertNotNull(secGroup);
 	}
@@ -540,17 +619,13 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 	@Test
 	public void testGetSecurityGroupForPublicIpNetworkNull() throws UnauthorizedRequestException, InstanceNotFoundException,
 			InvalidParameterException {
-		// set up
-		Mockito.when(this.virtualNetwork.xpath(Mockito.anyString())).thenReturn(null);
-
 		// exercise
 		SecurityGroup secGroup = this.plugin.getSecurityGroupForPublicIpNetwork(this.client, this.instanceId);
 
 		// verify
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-		OpenNebulaClientUtil.getVirtualNetwork(Mockito.eq(this.client), Mockito.eq(this.instanceId));
+		OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.eq(this.client), Mockito.eq(this.instanceId));
 
-		Mockito.verify(this.virtualNetwork, Mockito.times(TestUtils.RUN_ONCE)).xpath(Mockito.eq(SECURITY_GROUPS_PATH));
 		Assert.assertNull(secGroup);
 	}
 
@@ -562,7 +637,7 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
         PublicIpInstance instance = Mockito.mock(PublicIpInstance.class);
 
 		Mockito.doReturn(instance).when(this.plugin).doGetInstance(
-				Mockito.any(Client.class), Mockito.anyString(), Mockito.anyString());
+				Mockito.any(Client.class), Mockito.anyString(), Mockito.anyString(), Mockito.anyBoolean());
 
 		// exercise
 		this.plugin.getInstance(this.publicIpOrder, this.cloudUser);
@@ -572,60 +647,189 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 		OpenNebulaClientUtil.createClient(Mockito.anyString(), Mockito.eq(this.cloudUser.getToken()));
 
 		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doGetInstance(
-				Mockito.eq(this.client), Mockito.eq(this.instanceId), Mockito.eq(this.publicIpOrder.getComputeId()));
+				Mockito.eq(this.client), Mockito.eq(this.instanceId), Mockito.eq(this.publicIpOrder.getComputeId()),
+				Mockito.eq(false));
 	}
 
 	// test case: when invoking doGetInstance with valid client, public ip instance, and compute id
 	// the plugin should return the respective public ip address
 	@Test
-	public void testDoGetInstance() throws UnauthorizedRequestException, InstanceNotFoundException, InvalidParameterException {
+	public void testDoGetInstance() throws FogbowException {
 		// set up
-		String publicIpPath = String.format(EXPRESSION_IP_FROM_NETWORK_ID_S_FORMAT, this.instanceId);
+		this.addNicToVirtualMachineResponse(this.instanceId, FAKE_IP_ADDRESS);
 
-		Mockito.when(this.virtualMachine.xpath(Mockito.anyString())).thenReturn(FAKE_IP_ADDRESS);
+		// exercise
+		PublicIpInstance instance = this.plugin.doGetInstance(this.client, this.instanceId, this.computeId, false);
+
+		// verify
+		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
+		OpenNebulaClientUtil.getVirtualMachineResponse(Mockito.eq(this.client), Mockito.eq(this.computeId));
+
+		Assert.assertEquals(FAKE_IP_ADDRESS, instance.getIp());
+	}
+
+	// test case: when invoking doGetInstance for a public ip that is not attached to the compute,
+	// the plugin should check that its network still exists
+	@Test
+	public void testDoGetInstanceWithoutNic() throws FogbowException {
+		// set up
+		this.addNicToVirtualMachineResponse(ANOTHER_INSTANCE_ID, FAKE_IP_ADDRESS);
 
 		// exercise
-		this.plugin.doGetInstance(this.client, this.instanceId, this.computeId);
+		PublicIpInstance instance = this.plugin.doGetInstance(this.client, this.instanceId, this.computeId, false);
 
 		// verify
 		PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-		OpenNebulaClientUtil.getVirtualMachine(Mockito.eq(this.client), Mockito.eq(this.computeId));
+		OpenNebulaClientUtil.getVirtualNetwork(Mockito.eq(this.client), Mockito.eq(this.instanceId));
+
+		Assert.assertNull(instance.getIp());
+	}
+
+	// test case: when invoking doGetInstance for a public ip whose removal has finished, the
+	// plugin should throw an InstanceNotFoundException
+	@Test(expected = InstanceNotFoundException.class)
+	public void testDoGetInstanceAfterRemoval() throws FogbowException {
+		// set up
+		Mockito.doReturn(CompletableFuture.completedFuture(null)).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+		this.plugin.startRemoval(this.client, this.instanceId, this.computeId);
+
+		// exercise
+		this.plugin.doGetInstance(this.client, this.instanceId, this.computeId, true);
+	}
+
+	// test case: when invoking doGetInstance, through another plugin instance, for a public ip whose
+	// removal has finished, the plugin should throw an InstanceNotFoundException, since a new plugin
+	// is created for each request to the cloud
+	@Test(expected = InstanceNotFoundException.class)
+	public void testDoGetInstanceAfterRemovalThroughAnotherPlugin() throws FogbowException {
+		// set up
+		CompletableFuture<Void> removal = new CompletableFuture<>();
+		Mockito.doReturn(removal).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+		this.plugin.deleteInstance(this.publicIpOrder, this.cloudUser);
+		removal.complete(null);
 
-		Mockito.verify(this.virtualMachine, Mockito.times(TestUtils.RUN_ONCE)).xpath(publicIpPath);
+		OpenNebulaPublicIpPlugin anotherPlugin = Mockito.spy(new OpenNebulaPublicIpPlugin(this.openNebulaConfFilePath));
+		this.addNicToVirtualMachineResponse(this.instanceId, FAKE_IP_ADDRESS);
+
+		// exercise
+		anotherPlugin.doGetInstance(this.client, this.instanceId, this.computeId, true);
 	}
 
-	// test case: When calling the isPowerOff method and exceeding the number of
-	// attempts to verify the status of the virtual machine in the cloud, it must
-	// return false.
+	// test case: when invoking doGetInstance, through another plugin instance, for a public ip whose
+	// removal is in progress, the plugin should return the public ip instance without starting
+	// another removal
 	@Test
-	public void testExceededNumberAttemptsToVerifyIsPowerOff() {
+	public void testDoGetInstanceDuringRemovalThroughAnotherPlugin() throws FogbowException {
 		// set up
-		VirtualMachine virtualMachine = Mockito.mock(VirtualMachine.class);
-		Mockito.when(virtualMachine.stateStr()).thenReturn(ACTIVE_STATE);
+		Mockito.doReturn(new CompletableFuture<Void>()).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+		this.plugin.startRemoval(this.client, this.instanceId, this.computeId);
+
+		OpenNebulaPublicIpPlugin anotherPlugin = Mockito.spy(new OpenNebulaPublicIpPlugin(this.openNebulaConfFilePath));
+		this.addNicToVirtualMachineResponse(this.instanceId, FAKE_IP_ADDRESS);
 
 		// exercise
-		boolean powerOff = this.plugin.isPowerOff(virtualMachine);
+		PublicIpInstance instance = anotherPlugin.doGetInstance(this.client, this.instanceId, this.computeId, true);
 
 		// verify
-		Assert.assertFalse(powerOff);
+		Assert.assertEquals(FAKE_IP_ADDRESS, instance.getIp());
+		Mockito.verify(anotherPlugin, Mockito.never()).startRemoval(
+				Mockito.any(Client.class), Mockito.anyString(), Mockito.anyString());
 	}
 
-	// test case: When calling the isPowerOff method with a valid virtual machine,
-	// it must return true if the state of the virtual machine switches to
-	// power-off.
+	// test case: when invoking startRemoval, through another plugin instance, for a public ip of a
+	// compute whose other public ip is still being removed, the plugin should only start the new
+	// removal after the first one has finished
 	@Test
-	public void testIsPowerOff() {
+	public void testStartRemovalOfPublicIpsOfSameComputeThroughAnotherPlugin() throws FogbowException {
 		// set up
-		VirtualMachine virtualMachine = Mockito.mock(VirtualMachine.class);
-		Mockito.when(virtualMachine.stateStr()).thenReturn(OpenNebulaPublicIpPlugin.POWEROFF_STATE);
+		CompletableFuture<Void> firstRemoval = new CompletableFuture<>();
+		Mockito.doReturn(firstRemoval).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+		this.plugin.startRemoval(this.client, this.instanceId, this.computeId);
+
+		OpenNebulaPublicIpPlugin anotherPlugin = Mockito.spy(new OpenNebulaPublicIpPlugin(this.openNebulaConfFilePath));
+		Mockito.doReturn(new CompletableFuture<Void>()).when(anotherPlugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
 
 		// exercise
-		boolean powerOff = this.plugin.isPowerOff(virtualMachine);
+		anotherPlugin.startRemoval(this.client, ANOTHER_INSTANCE_ID, this.computeId);
 
 		// verify
-		Assert.assertTrue(powerOff);
+		Mockito.verify(anotherPlugin, Mockito.never()).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+
+		firstRemoval.complete(null);
+
+		Mockito.verify(anotherPlugin, Mockito.times(TestUtils.RUN_ONCE)).removePublicIp(
+				Mockito.eq(this.client), Mockito.eq(this.virtualMachine), Mockito.eq(ANOTHER_INSTANCE_ID));
 	}
-	
+
+	// test case: when invoking doGetInstance for a public ip that is checking its deletion, still
+	// attached to the compute and with no removal in progress (ex. after the RAS restarted), the
+	// plugin should start its removal again
+	@Test
+	public void testDoGetInstanceRestartsRemoval() throws FogbowException {
+		// set up
+		Mockito.doReturn(new CompletableFuture<Void>()).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+		this.addNicToVirtualMachineResponse(this.instanceId, FAKE_IP_ADDRESS);
+
+		// exercise
+		PublicIpInstance instance = this.plugin.doGetInstance(this.client, this.instanceId, this.computeId, true);
+
+		// verify
+		Assert.assertEquals(FAKE_IP_ADDRESS, instance.getIp());
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).startRemoval(
+				Mockito.eq(this.client), Mockito.eq(this.instanceId), Mockito.eq(this.computeId));
+	}
+
+	// test case: when invoking doGetInstance for a public ip that is checking its deletion, already
+	// detached from the compute but whose network still exists, with no removal in progress, the
+	// plugin should release the public ip and throw an InstanceNotFoundException
+	@Test
+	public void testDoGetInstanceReleasesDetachedPublicIp() throws FogbowException {
+		// set up
+		Mockito.doReturn(null).when(this.plugin).getSecurityGroupForPublicIpNetwork(
+				Mockito.any(Client.class), Mockito.anyString());
+		Mockito.doNothing().when(this.plugin).deletePublicIp(Mockito.any(Client.class), Mockito.anyString());
+
+		try {
+			// exercise
+			this.plugin.doGetInstance(this.client, this.instanceId, this.computeId, true);
+			Assert.fail();
+		} catch (InstanceNotFoundException e) {
+			// verify
+			Mockito.verify(this.plugin, Mockito.never()).deleteSecurityGroup(
+					Mockito.any(Client.class), Mockito.anyString());
+			Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).deletePublicIp(
+					Mockito.eq(this.client), Mockito.eq(this.instanceId));
+		}
+	}
+
+	// test case: when invoking doGetInstance for a public ip whose removal has failed, the plugin
+	// should start the removal again and return the public ip instance
+	@Test
+	public void testDoGetInstanceAfterFailedRemoval() throws FogbowException {
+		// set up
+		CompletableFuture<Void> failedRemoval = new CompletableFuture<>();
+		failedRemoval.completeExceptionally(new InternalServerErrorException());
+		Mockito.doReturn(failedRemoval).doReturn(new CompletableFuture<Void>()).when(this.plugin).removePublicIp(
+				Mockito.any(Client.class), Mockito.any(VirtualMachine.class), Mockito.anyString());
+		this.addNicToVirtualMachineResponse(this.instanceId, FAKE_IP_ADDRESS);
+		this.plugin.startRemoval(this.client, this.instanceId, this.computeId);
+
+		// exercise
+		PublicIpInstance instance = this.plugin.doGetInstance(this.client, this.instanceId, this.computeId, true);
+
+		// verify
+		Assert.assertEquals(FAKE_IP_ADDRESS, instance.getIp());
+		Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_TWICE)).removePublicIp(
+				Mockito.eq(this.client), Mockito.eq(this.virtualMachine), Mockito.eq(this.instanceId));
+	}
+
 	// test case: Successful call verification of getRandomUUID method.
 	@Test
 	public void testGetRandomUUIDSuccessfully() {
@@ -663,6 +867,13 @@ public class OpenNebulaPublicIpPluginTest extends OpenNebulaBaseTests {
 		return template;
 	}
 
+	private void addNicToVirtualMachineResponse(String networkId, String ip) {
+		VirtualMachineNic nic = new VirtualMachineNic();
+		nic.setNetworkId(networkId);
+		nic.setIp(ip);
+		this.virtualMachineResponse.getTemplate().getNics().add(nic);
+	}
+
 	private PublicIpOrder createPublicIpOrder() {
 		return this.testUtils.createLocalPublicIpOrder(STRING_ID_ONE);
 	}
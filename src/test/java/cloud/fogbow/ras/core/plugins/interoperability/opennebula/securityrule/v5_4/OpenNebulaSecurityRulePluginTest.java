@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkResponse;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.network.model.GetVirtualNetworkTemplate;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.SecurityRuleUtil;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.CreateSecurityGroupRequest;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.sdk.v5_4.securityrule.model.GetSecurityGroupResponse;
@@ -15,7 +17,6 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.opennebula.client.OneResponse;
 import org.opennebula.client.secgroup.SecurityGroup;
-import org.opennebula.client.vnet.VirtualNetwork;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
@@ -36,8 +37,9 @@ import cloud.fogbow.ras.core.models.ResourceType;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaBaseTests;
 import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaClientUtil;
+import cloud.fogbow.ras.core.plugins.interoperability.opennebula.OpenNebulaSecurityGroupCache;
 
-@PrepareForTest({ DatabaseManager.class, GetSecurityGroupResponse.class, OpenNebulaClientUtil.class, VirtualNetwork.class })
+@PrepareForTest({ DatabaseManager.class, GetSecurityGroupResponse.class, OpenNebulaClientUtil.class })
 public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
 
     private static final String ANOTHER_SECURITY_GROUP_ID = "another-security-group-id";
@@ -53,13 +55,18 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
     private static final int DEFAULT_SSH_PORT = 22;
     
     private OpenNebulaSecurityRulePlugin plugin;
+    private OpenNebulaSecurityGroupCache securityGroupCache;
     private String endpoint;
+    private String userId;
 
     @Before
     public void setUp() throws FogbowException {
         super.setUp();
         this.plugin = Mockito.spy(new OpenNebulaSecurityRulePlugin(this.openNebulaConfFilePath));
+        this.securityGroupCache = Mockito.mock(OpenNebulaSecurityGroupCache.class);
+        this.plugin.setSecurityGroupCache(this.securityGroupCache);
         this.endpoint = OPENNEBULA_ENDPOINT;
+        this.userId = this.cloudUser.getId();
     }
     
     // test case: When calling the requestSecurityRule method, it must verify
@@ -72,7 +79,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         
         SecurityGroup securityGroup = Mockito.mock(SecurityGroup.class);
         Mockito.doReturn(securityGroup).when(this.plugin).getSecurityGroup(Mockito.eq(this.client),
-                Mockito.eq(majorOrder));
+                Mockito.eq(this.userId), Mockito.eq(majorOrder));
         
         String securiryRuleId = defineSecurityRuleId(Direction.IN);
         Mockito.doReturn(securiryRuleId).when(this.plugin).doRequestSecurityRule(Mockito.any(SecurityGroup.class),
@@ -86,7 +93,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         OpenNebulaClientUtil.createClient(Mockito.eq(this.endpoint), Mockito.eq(this.cloudUser.getToken()));
 
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getSecurityGroup(Mockito.eq(this.client),
-                Mockito.eq(majorOrder));
+                Mockito.eq(this.userId), Mockito.eq(majorOrder));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .createSecurityRuleRequest(Mockito.eq(securityRule), Mockito.eq(securityGroup));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doRequestSecurityRule(Mockito.eq(securityGroup),
@@ -112,7 +119,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         OpenNebulaClientUtil.createClient(Mockito.eq(this.endpoint), Mockito.eq(this.cloudUser.getToken()));
 
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).getSecurityGroup(Mockito.eq(this.client),
-                Mockito.eq(majorOrder));
+                Mockito.eq(this.userId), Mockito.eq(majorOrder));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doGetSecurityRules(Mockito.eq(securityGroup));
     }
 
@@ -126,8 +133,8 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
 
         Rule rule = buildRule();
         Mockito.doReturn(rule).when(this.plugin).doUnpackingSecurityRuleId(Mockito.eq(securityRuleId));
-        Mockito.doNothing().when(this.plugin).doDeleteSecurityRule(Mockito.eq(this.client), Mockito.eq(rule),
-                Mockito.eq(securityGroupId));
+        Mockito.doNothing().when(this.plugin).doDeleteSecurityRule(Mockito.eq(this.client),
+                Mockito.eq(this.userId), Mockito.eq(rule), Mockito.eq(securityGroupId));
 
         // exercise
         this.plugin.deleteSecurityRule(securityRuleId, this.cloudUser);
@@ -139,7 +146,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .doUnpackingSecurityRuleId(Mockito.eq(securityRuleId));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).doDeleteSecurityRule(Mockito.eq(this.client),
-                Mockito.eq(rule), Mockito.eq(securityGroupId));
+                Mockito.eq(this.userId), Mockito.eq(rule), Mockito.eq(securityGroupId));
     }
     
     // test case: When calling the doDeleteSecurityRule method, it must verify
@@ -151,8 +158,8 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         String securityGroupId = TestUtils.FAKE_SECURITY_GROUP_ID;
 
         SecurityGroup securityGroup = Mockito.mock(SecurityGroup.class);
-        Mockito.when(OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), Mockito.eq(securityGroupId)))
-                .thenReturn(securityGroup);
+        Mockito.when(this.securityGroupCache.findById(Mockito.eq(this.client), Mockito.eq(this.userId),
+                Mockito.eq(securityGroupId))).thenReturn(securityGroup);
 
         List<Rule> rules = buildRulesCollection(rule);
         GetSecurityGroupResponse response = buildSecurityGroupResponse(rules);
@@ -161,11 +168,11 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         Mockito.doNothing().when(this.plugin).updateSecurityGroup(Mockito.eq(securityGroup), Mockito.anyString());
 
         // exercise
-        this.plugin.doDeleteSecurityRule(this.client, rule, securityGroupId);
+        this.plugin.doDeleteSecurityRule(this.client, this.userId, rule, securityGroupId);
 
         // verify
-        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-        OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), Mockito.eq(securityGroupId));
+        Mockito.verify(this.securityGroupCache, Mockito.times(TestUtils.RUN_ONCE)).findById(Mockito.eq(this.client),
+                Mockito.eq(this.userId), Mockito.eq(securityGroupId));
 
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .doGetSecurityGroupResponse(Mockito.eq(securityGroup));
@@ -185,8 +192,8 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         String securityGroupId = TestUtils.FAKE_SECURITY_GROUP_ID;
 
         SecurityGroup securityGroup = Mockito.mock(SecurityGroup.class);
-        Mockito.when(OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), Mockito.eq(securityGroupId)))
-                .thenReturn(securityGroup);
+        Mockito.when(this.securityGroupCache.findById(Mockito.eq(this.client), Mockito.eq(this.userId),
+                Mockito.eq(securityGroupId))).thenReturn(securityGroup);
 
         Rule rule = buildRule();
         List<Rule> rules = buildRulesCollection(rule);
@@ -197,7 +204,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
 
         try {
             // exercise
-            this.plugin.doDeleteSecurityRule(this.client, anotherRule, securityGroupId);
+            this.plugin.doDeleteSecurityRule(this.client, this.userId, anotherRule, securityGroupId);
             Assert.fail();
         } catch (InstanceNotFoundException e) {
             // verify
@@ -377,8 +384,8 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         String securityGroupName = SystemConstants.PN_SECURITY_GROUP_PREFIX + TestUtils.FAKE_INSTANCE_ID;
         Mockito.doReturn(securityGroupName).when(this.plugin).retrieveSecurityGroupName(Mockito.eq(majorOrder));
 
-        VirtualNetwork virtualNetwork = Mockito.mock(VirtualNetwork.class);
-        PowerMockito.when(OpenNebulaClientUtil.getVirtualNetwork(Mockito.eq(this.client), 
+        GetVirtualNetworkResponse virtualNetwork = new GetVirtualNetworkResponse();
+        PowerMockito.when(OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.eq(this.client),
                 Mockito.eq(majorOrder.getInstanceId()))).thenReturn(virtualNetwork);
 
         String content = String.format(SECURITY_GROUP_CONTENT_FORMAT, securityGroupId, ANOTHER_SECURITY_GROUP_ID);
@@ -386,22 +393,22 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
 
         SecurityGroup securityGroup = mockSecurityGroupFromNetwork(securityGroupId, securityGroupName);
         Mockito.doReturn(securityGroup).when(this.plugin).findSecurityGroupByName(Mockito.eq(this.client),
-                Mockito.eq(content), Mockito.eq(securityGroupName));
+                Mockito.eq(this.userId), Mockito.eq(content), Mockito.eq(securityGroupName));
 
         // exercise
-        this.plugin.getSecurityGroup(client, majorOrder);
+        this.plugin.getSecurityGroup(this.client, this.userId, majorOrder);
 
         // verify
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .retrieveSecurityGroupName(Mockito.eq(majorOrder));
 
         PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-        OpenNebulaClientUtil.getVirtualNetwork(Mockito.eq(this.client), Mockito.eq(majorOrder.getInstanceId()));
+        OpenNebulaClientUtil.getVirtualNetworkResponse(Mockito.eq(this.client), Mockito.eq(majorOrder.getInstanceId()));
 
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .getSecurityGroupContentFrom(Mockito.eq(virtualNetwork));
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).findSecurityGroupByName(Mockito.eq(this.client),
-                Mockito.eq(content), Mockito.eq(securityGroupName));
+                Mockito.eq(this.userId), Mockito.eq(content), Mockito.eq(securityGroupName));
     }
 
     // test case: When calling the findSecurityGroupByName method, it must
@@ -413,16 +420,21 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         String securityGroupName = SystemConstants.PN_SECURITY_GROUP_PREFIX + TestUtils.FAKE_INSTANCE_ID;
         String content = String.format(SECURITY_GROUP_CONTENT_FORMAT, securityGroupId, ANOTHER_SECURITY_GROUP_ID);
         
+        String[] securityGroupIds = { securityGroupId, ANOTHER_SECURITY_GROUP_ID };
+
         SecurityGroup securityGroup = mockSecurityGroupFromNetwork(securityGroupId, securityGroupName);
-        PowerMockito.when(OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), 
-                Mockito.eq(securityGroupId))).thenReturn(securityGroup);
+        Mockito.when(this.securityGroupCache.findByName(Mockito.eq(this.client), Mockito.eq(this.userId),
+                Mockito.eq(securityGroupIds), Mockito.eq(securityGroupName))).thenReturn(securityGroup);
 
         // exercise
-        this.plugin.findSecurityGroupByName(this.client, content, securityGroupName);
+        SecurityGroup foundSecurityGroup = this.plugin.findSecurityGroupByName(this.client, this.userId, content,
+                securityGroupName);
 
         // verify
-        PowerMockito.verifyStatic(OpenNebulaClientUtil.class, Mockito.times(TestUtils.RUN_ONCE));
-        OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), Mockito.eq(securityGroupId));
+        Mockito.verify(this.securityGroupCache, Mockito.times(TestUtils.RUN_ONCE)).findByName(
+                Mockito.eq(this.client), Mockito.eq(this.userId), Mockito.eq(securityGroupIds),
+                Mockito.eq(securityGroupName));
+        Assert.assertEquals(securityGroup, foundSecurityGroup);
     }
     
     // test case: When calling the findSecurityGroupByName method with a security
@@ -432,10 +444,6 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
     public void testFindSecurityGroupByNameFail() throws FogbowException {
         // set up
         String securityGroupId = TestUtils.FAKE_SECURITY_GROUP_ID;
-        String securityGroupName = SystemConstants.PN_SECURITY_GROUP_PREFIX + TestUtils.FAKE_INSTANCE_ID;
-        SecurityGroup securityGroup = mockSecurityGroupFromNetwork(securityGroupId, securityGroupName);
-        PowerMockito.when(OpenNebulaClientUtil.getSecurityGroup(Mockito.eq(this.client), 
-                Mockito.eq(securityGroupId))).thenReturn(securityGroup);
         
         String anotherSecurityGroupName = SystemConstants.PIP_SECURITY_GROUP_PREFIX + TestUtils.FAKE_INSTANCE_ID;
         String content = securityGroupId;
@@ -444,7 +452,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
 
         try {
             // exercise
-            this.plugin.findSecurityGroupByName(this.client, content, anotherSecurityGroupName);
+            this.plugin.findSecurityGroupByName(this.client, this.userId, content, anotherSecurityGroupName);
             Assert.fail();
         } catch (InstanceNotFoundException e) {
             // verify
@@ -459,15 +467,13 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
     public void testGetSecurityGroupContentFromVirtualNetwork() throws FogbowException {
         // set up
         String content = TestUtils.FAKE_SECURITY_GROUP_ID;
-        VirtualNetwork virtualNetwork = Mockito.mock(VirtualNetwork.class);
-        Mockito.when(virtualNetwork.xpath(OpenNebulaSecurityRulePlugin.SECURITY_GROUPS_PATH)).thenReturn(content);
+        GetVirtualNetworkResponse virtualNetwork = createVirtualNetworkResponse(content);
 
         // exercise
-        this.plugin.getSecurityGroupContentFrom(virtualNetwork);
+        String securityGroups = this.plugin.getSecurityGroupContentFrom(virtualNetwork);
 
         // verify
-        Mockito.verify(virtualNetwork, Mockito.times(TestUtils.RUN_ONCE))
-                .xpath(OpenNebulaSecurityRulePlugin.SECURITY_GROUPS_PATH);
+        Assert.assertEquals(content, securityGroups);
     }
     
     // test case: When calling the getSecurityGroupContentFrom method with a virtual
@@ -477,8 +483,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
     public void testGetSecurityGroupContentFromVirtualNetworkWithNullContent() throws FogbowException {
         // set up
         String content = null;
-        VirtualNetwork virtualNetwork = Mockito.mock(VirtualNetwork.class);
-        Mockito.when(virtualNetwork.xpath(OpenNebulaSecurityRulePlugin.SECURITY_GROUPS_PATH)).thenReturn(content);
+        GetVirtualNetworkResponse virtualNetwork = createVirtualNetworkResponse(content);
         
         String expected = Messages.Log.CONTENT_SECURITY_GROUP_NOT_DEFINED;
 
@@ -499,8 +504,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
     public void testGetSecurityGroupContentFromVirtualNetworkWithEmptyContent() throws FogbowException {
         // set up
         String content = TestUtils.EMPTY_STRING;
-        VirtualNetwork virtualNetwork = Mockito.mock(VirtualNetwork.class);
-        Mockito.when(virtualNetwork.xpath(OpenNebulaSecurityRulePlugin.SECURITY_GROUPS_PATH)).thenReturn(content);
+        GetVirtualNetworkResponse virtualNetwork = createVirtualNetworkResponse(content);
         
         String expected = Messages.Log.CONTENT_SECURITY_GROUP_NOT_DEFINED;
 
@@ -925,6 +929,14 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
         return template.marshalTemplate();
     }
     
+    private GetVirtualNetworkResponse createVirtualNetworkResponse(String securityGroups) {
+        GetVirtualNetworkTemplate template = new GetVirtualNetworkTemplate();
+        template.setSecurityGroups(securityGroups);
+        GetVirtualNetworkResponse virtualNetwork = new GetVirtualNetworkResponse();
+        virtualNetwork.setTemplate(template);
+        return virtualNetwork;
+    }
+
     private SecurityGroup mockSecurityGroupFromNetwork(String securityGroupId, String securityGroupName) {
         SecurityGroup securityGroup = Mockito.mock(SecurityGroup.class);
         Mockito.when(securityGroup.getId()).thenReturn(securityGroupId);
@@ -1011,7 +1023,7 @@ public class OpenNebulaSecurityRulePluginTest extends OpenNebulaBaseTests {
     private SecurityGroup getSecurityGroupMocked(Order majorOrder) throws FogbowException {
         SecurityGroup securityGroup = Mockito.mock(SecurityGroup.class);
         Mockito.doReturn(securityGroup).when(this.plugin).getSecurityGroup(Mockito.eq(this.client),
-                Mockito.eq(majorOrder));
+                Mockito.eq(this.userId), Mockito.eq(majorOrder));
         
         Mockito.when(securityGroup.getId()).thenReturn(TestUtils.FAKE_SECURITY_GROUP_ID);
         Mockito.when(securityGroup.getName()).thenReturn(SystemConstants.PN_SECURITY_GROUP_PREFIX + TestUtils.FAKE_ORDER_ID);
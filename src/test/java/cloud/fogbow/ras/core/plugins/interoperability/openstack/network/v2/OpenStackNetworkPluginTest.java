@@ -114,6 +114,36 @@ public class OpenStackNetworkPluginTest extends BaseUnitTests {
         Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).createSecurityGroupRules(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
     }
 
+    //test case: When the subnet cannot be created, the network and the security group created alongside it must be
+    //removed, and no security group rule must be requested.
+    @Test
+    public void testRequestInstanceWhenSubnetCreationFails() throws FogbowException {
+        //setup
+        PowerMockito.mockStatic(OpenStackPluginUtils.class);
+        NetworkOrder order = testUtils.createNetworkOrder(FAKE_REQUESTING_MEMBER, FAKE_PROVIDING_MEMBER);
+        CreateNetworkResponse createNetworkResponse = new CreateNetworkResponse(new CreateNetworkResponse.Network(NETWORK_ID));
+        Mockito.doReturn(createNetworkResponse).when(openStackNetworkPlugin).createNetwork(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doReturn(new CreateSecurityGroupResponse(new CreateSecurityGroupResponse.SecurityGroup(SECURITY_GROUP_ID))).when(openStackNetworkPlugin)
+                .createSecurityGroup(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        FogbowException fogbowException = new FogbowException(TestUtils.EMPTY_STRING);
+        Mockito.doThrow(fogbowException).when(openStackNetworkPlugin).createSubNet(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(openStackNetworkPlugin).removeNetwork(Mockito.any(), Mockito.any());
+        Mockito.doNothing().when(openStackNetworkPlugin).removeSecurityGroup(Mockito.any(), Mockito.any());
+
+        try {
+            //exercise
+            openStackNetworkPlugin.requestInstance(order, openStackV3User);
+            Assert.fail();
+        } catch (FogbowException ex) {
+            //verify
+            Assert.assertEquals(fogbowException, ex);
+            Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).undoRequest(Mockito.eq(openStackV3User), Mockito.eq(NETWORK_ID), Mockito.eq(SECURITY_GROUP_ID));
+            Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).removeNetwork(Mockito.eq(openStackV3User), Mockito.eq(NETWORK_ID));
+            Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).removeSecurityGroup(Mockito.eq(openStackV3User), Mockito.eq(SECURITY_GROUP_ID));
+            Mockito.verify(openStackNetworkPlugin, Mockito.never()).createSecurityGroupRules(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        }
+    }
+
     //test case: Check if the method makes the expected calls
     @Test
     public void testGetInstance() throws FogbowException {
@@ -326,7 +356,8 @@ public class OpenStackNetworkPluginTest extends BaseUnitTests {
         Mockito.verify(openStackHttpClient, Mockito.times(TestUtils.RUN_ONCE)).doPostRequest(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
-    //test case: check if the method makes the expected calls when a HttpException is thrown
+    //test case: check if the method makes the expected calls when a HttpException is thrown; removing the network
+    //is left to the caller, which also knows whether a security group was created alongside the subnet
     @Test
     public void testCreateSubnetWhenHttpException() throws FogbowException, HttpResponseException {
         //setup
@@ -343,7 +374,7 @@ public class OpenStackNetworkPluginTest extends BaseUnitTests {
             //verify
             Mockito.verify(openStackHttpClient, Mockito.times(TestUtils.RUN_ONCE)).doPostRequest(Mockito.any(), Mockito.any(), Mockito.any());
             Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).generateJsonEntityToCreateSubnet(Mockito.any(), Mockito.any(), Mockito.any());
-            Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).removeNetwork(Mockito.any(), Mockito.any());
+            Mockito.verify(openStackNetworkPlugin, Mockito.never()).removeNetwork(Mockito.any(), Mockito.any());
             PowerMockito.verifyStatic(HttpErrorConditionToFogbowExceptionMapper.class, Mockito.times(TestUtils.RUN_ONCE));
         }
     }
@@ -362,7 +393,8 @@ public class OpenStackNetworkPluginTest extends BaseUnitTests {
         Mockito.verify(openStackHttpClient, Mockito.times(TestUtils.RUN_ONCE)).doPostRequest(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
-    //test case: check if the method makes the expected calls when a httpException is thrown
+    //test case: check if the method makes the expected calls when a httpException is thrown; removing the network
+    //is left to the caller
     @Test
     public void testCreateSecurityGroupWhenHttpException() throws FogbowException, HttpResponseException {
         //setup
@@ -379,7 +411,7 @@ public class OpenStackNetworkPluginTest extends BaseUnitTests {
             PowerMockito.verifyStatic(CreateSecurityGroupResponse.class, Mockito.times(0));
             CreateSecurityGroupResponse.fromJson(TestUtils.EMPTY_STRING);
             Mockito.verify(openStackHttpClient, Mockito.times(TestUtils.RUN_ONCE)).doPostRequest(Mockito.any(), Mockito.any(), Mockito.any());
-            Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).removeNetwork(Mockito.any(), Mockito.any());
+            Mockito.verify(openStackNetworkPlugin, Mockito.never()).removeNetwork(Mockito.any(), Mockito.any());
             PowerMockito.verifyStatic(HttpErrorConditionToFogbowExceptionMapper.class, Mockito.times(TestUtils.RUN_ONCE));
         }
     }
@@ -407,7 +439,8 @@ public class OpenStackNetworkPluginTest extends BaseUnitTests {
         Mockito.verify(openStackHttpClient, Mockito.times(3)).doPostRequest(Mockito.any(), Mockito.any(), Mockito.any());
     }
 
-    //test case: check if the method makes the expected calls when a HttpException is thrown.
+    //test case: check if the method makes the expected calls when a HttpException is thrown. The rules are
+    //requested concurrently, so all of them are requested before the network and the security group are removed.
     @Test
     public void testCreateSecurityGroupRulesWhenHttpException() throws FogbowException, HttpResponseException {
         //setup
@@ -433,7 +466,7 @@ public class OpenStackNetworkPluginTest extends BaseUnitTests {
             //verify
             Mockito.verify(openStackNetworkPlugin, Mockito.times(2)).createAllTcpRuleRequest(Mockito.any(), Mockito.any(), Mockito.any());
             Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).createIcmpRuleRequest(Mockito.any(), Mockito.any());
-            Mockito.verify(openStackHttpClient, Mockito.times(1)).doPostRequest(Mockito.any(), Mockito.any(), Mockito.any());
+            Mockito.verify(openStackHttpClient, Mockito.times(3)).doPostRequest(Mockito.any(), Mockito.any(), Mockito.any());
             Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).removeNetwork(Mockito.any(), Mockito.any());
             Mockito.verify(openStackNetworkPlugin, Mockito.times(TestUtils.RUN_ONCE)).removeSecurityGroup(Mockito.any(), Mockito.any());
             PowerMockito.verifyStatic(HttpErrorConditionToFogbowExceptionMapper.class, Mockito.times(TestUtils.RUN_ONCE));
@@ -168,6 +168,53 @@ public class OpenStackPublicIpPluginTest extends BaseUnitTests {
                 Mockito.eq(securityGroupId), Mockito.eq(instanceId), Mockito.eq(order), Mockito.eq(cloudUser));
     }
 
+    // test case: When invoking the requestInstance method and the association of the
+    // security group fails, it must verify that the security group rules were still
+    // requested, and that the floating IP and the security group were deleted.
+    @Test
+    public void testRequestInstanceWhenAssociationFails() throws FogbowException {
+        // set up
+        PublicIpOrder order = this.testUtils.createLocalPublicIpOrder(TestUtils.FAKE_COMPUTE_ID);
+        OpenStackV3User cloudUser = this.testUtils.createOpenStackUser();
+
+        String instanceId = TestUtils.FAKE_INSTANCE_ID;
+        String securityGroupId = TestUtils.FAKE_SECURITY_GROUP_ID;
+
+        Mockito.doReturn(FAKE_NETWORK_PORT_ID).when(this.plugin).getNetworkPortId(Mockito.eq(order),
+                Mockito.eq(cloudUser));
+        Mockito.doReturn(instanceId).when(this.plugin).doRequestInstance(Mockito.any(CreateFloatingIpRequest.class),
+                Mockito.eq(cloudUser));
+        Mockito.doReturn(securityGroupId).when(this.plugin).doCreateSecurityGroup(Mockito.eq(instanceId),
+                Mockito.eq(cloudUser));
+        Mockito.doNothing().when(this.plugin).allowAllIngressSecurityRules(Mockito.eq(securityGroupId),
+                Mockito.eq(cloudUser));
+        FogbowException expectedException = new FogbowException(TestUtils.MESSAGE_STATUS_CODE);
+        Mockito.doThrow(expectedException).when(this.plugin).associateSecurityGroup(Mockito.eq(securityGroupId),
+                Mockito.eq(instanceId), Mockito.eq(order), Mockito.eq(cloudUser));
+        Mockito.doNothing().when(this.plugin).doDeleteInstance(Mockito.eq(instanceId), Mockito.eq(cloudUser));
+        Mockito.doNothing().when(this.plugin).deleteSecurityGroup(Mockito.eq(securityGroupId),
+                Mockito.eq(cloudUser));
+
+        try {
+            // exercise
+            this.plugin.requestInstance(order, cloudUser);
+            Assert.fail();
+        } catch (FogbowException e) {
+            // verify
+            Assert.assertEquals(expectedException, e);
+            Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                    .allowAllIngressSecurityRules(Mockito.eq(securityGroupId), Mockito.eq(cloudUser));
+            Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE)).undoRequest(Mockito.eq(instanceId),
+                    Mockito.eq(securityGroupId), Mockito.eq(false), Mockito.eq(order), Mockito.eq(cloudUser));
+            Mockito.verify(this.plugin, Mockito.never()).disassociateSecurityGroup(Mockito.anyString(),
+                    Mockito.eq(order), Mockito.eq(cloudUser));
+            Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                    .deleteSecurityGroup(Mockito.eq(securityGroupId), Mockito.eq(cloudUser));
+            Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                    .doDeleteInstance(Mockito.eq(instanceId), Mockito.eq(cloudUser));
+        }
+    }
+
     // test case: When invoking the getInstance method with a valid public IP order
     // and a cloud user, it must verify that the call was successful.
     @Test
@@ -553,8 +600,8 @@ public class OpenStackPublicIpPluginTest extends BaseUnitTests {
     
     // test case: When calling the associateSecurityGroup method and an unexpected
     // error occurs, it must verify that the map method of the
-    // HttpErrorConditionToFogbowExceptionMapper class and the deleteSecurityGroup method
-    // from this class were been called.
+    // HttpErrorConditionToFogbowExceptionMapper class has been called, and that the
+    // security group was not deleted, since that is left to the requestInstance method.
     @Test
     public void testAssociateSecurityGroupFail() throws Exception {
         // set up
@@ -588,7 +635,7 @@ public class OpenStackPublicIpPluginTest extends BaseUnitTests {
             Assert.fail();
         } catch (Exception e) {
             // verify
-            Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+            Mockito.verify(this.plugin, Mockito.never())
                     .deleteSecurityGroup(Mockito.eq(securityGroupId), Mockito.eq(cloudUser));
 
             PowerMockito.verifyStatic(HttpErrorConditionToFogbowExceptionMapper.class, Mockito.times(TestUtils.RUN_ONCE));
@@ -152,6 +152,34 @@ public class OpenStackSecurityRulesPluginTest extends BaseUnitTests {
 
         Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
                 .getSecurityRuleInstances(Mockito.eq(response));
+
+        Assert.assertEquals(securityGroupId, this.majorOrder.getSecurityGroupId());
+    }
+
+    // test case: When calling the getSecurityRules method with an order that already
+    // has the ID of its security group, it must not look the group up by name.
+    @Test
+    public void testGetSecurityRulesWithSecurityGroupIdInOrder() throws FogbowException {
+        // set up
+        String securityGroupId = TestUtils.FAKE_SECURITY_GROUP_ID;
+        this.majorOrder.setSecurityGroupId(securityGroupId);
+
+        GetSecurityRulesResponse response = Mockito.mock(GetSecurityRulesResponse.class);
+        Mockito.doReturn(response).when(this.plugin)
+                .doGetSecurityRules(Mockito.eq(securityGroupId), Mockito.eq(this.cloudUser));
+
+        List<SecurityRuleInstance> securityRuleInstances = Mockito.mock(List.class);
+        Mockito.doReturn(securityRuleInstances).when(this.plugin).getSecurityRuleInstances(Mockito.any());
+
+        // exercise
+        this.plugin.getSecurityRules(this.majorOrder, this.cloudUser);
+
+        // verify
+        Mockito.verify(this.plugin, Mockito.never())
+                .retrieveSecurityGroupId(Mockito.anyString(), Mockito.any(OpenStackV3User.class));
+
+        Mockito.verify(this.plugin, Mockito.times(TestUtils.RUN_ONCE))
+                .doGetSecurityRules(Mockito.eq(securityGroupId), Mockito.eq(this.cloudUser));
     }
 
     // test case: When calling the deleteSecurityRule method, it must verify if the
@@ -0,0 +1,102 @@
+package cloud.fogbow.ras.core.plugins.interoperability.openstack.util;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.models.OpenStackV3User;
+import cloud.fogbow.ras.core.TestUtils;
+import cloud.fogbow.ras.core.plugins.interoperability.util.CloudHttpTransport;
+import cloud.fogbow.ras.core.plugins.interoperability.util.FakeHttpServer;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ContentType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.UUID;
+
+public class OpenStackPooledHttpClientTest {
+
+    private static final int MAX_CONNECTIONS = 2;
+    private static final int TIMEOUT = 1000;
+    private static final String FAKE_PATH = "/v2.1/servers";
+    private static final String FAKE_TOKEN = "fake-token";
+    private static final String FAKE_BODY = "{\"server\":{}}";
+    private static final String X_AUTH_TOKEN_HEADER = "X-Auth-Token";
+    private static final String GET_METHOD = "GET";
+    private static final String POST_METHOD = "POST";
+    private static final String DELETE_METHOD = "DELETE";
+
+    private FakeHttpServer server;
+    private OpenStackPooledHttpClient client;
+    private OpenStackV3User cloudUser;
+
+    @Before
+    public void setUp() throws IOException {
+        this.server = new FakeHttpServer();
+        this.client = new OpenStackPooledHttpClient(new CloudHttpTransport(UUID.randomUUID().toString(),
+                MAX_CONNECTIONS, MAX_CONNECTIONS, TIMEOUT, TIMEOUT, TIMEOUT));
+        this.cloudUser = new OpenStackV3User(TestUtils.FAKE_USER_ID, TestUtils.FAKE_USER_NAME, FAKE_TOKEN,
+                TestUtils.FAKE_PROJECT_ID);
+    }
+
+    @After
+    public void tearDown() {
+        this.server.stop();
+    }
+
+    // test case: When invoking doGetRequest, the token of the user and the JSON media type must be sent in the
+    // headers, and the body of the response must be returned.
+    @Test
+    public void testDoGetRequestSetsHeaders() throws FogbowException {
+        // set up
+        this.server.respondWith(HttpStatus.SC_OK, FAKE_BODY);
+
+        // exercise
+        String response = this.client.doGetRequest(this.server.getUrl(FAKE_PATH), this.cloudUser);
+
+        // verify
+        Assert.assertEquals(FAKE_BODY, response);
+        Assert.assertEquals(GET_METHOD, this.server.getLastMethod());
+        Assert.assertEquals(FAKE_TOKEN, this.server.getLastHeaders().getFirst(X_AUTH_TOKEN_HEADER));
+        Assert.assertEquals(ContentType.APPLICATION_JSON.getMimeType(),
+                this.server.getLastHeaders().getFirst(HttpHeaders.ACCEPT));
+    }
+
+    // test case: When invoking doPostRequest, the body must be sent as JSON, along with the token of the user.
+    @Test
+    public void testDoPostRequestSendsJsonBody() throws FogbowException {
+        // set up
+        this.server.respondWith(HttpStatus.SC_ACCEPTED, FAKE_BODY);
+
+        // exercise
+        String response = this.client.doPostRequest(this.server.getUrl(FAKE_PATH), FAKE_BODY, this.cloudUser);
+
+        // verify
+        Assert.assertEquals(FAKE_BODY, response);
+        Assert.assertEquals(POST_METHOD, this.server.getLastMethod());
+        Assert.assertEquals(FAKE_BODY, this.server.getLastBody());
+        Assert.assertEquals(FAKE_TOKEN, this.server.getLastHeaders().getFirst(X_AUTH_TOKEN_HEADER));
+        Assert.assertTrue(this.server.getLastHeaders().getFirst(HttpHeaders.CONTENT_TYPE)
+                .startsWith(ContentType.APPLICATION_JSON.getMimeType()));
+    }
+
+    // test case: When invoking doDeleteRequest for a resource that no longer exists in the cloud, an
+    // InstanceNotFoundException must be thrown.
+    @Test(expected = InstanceNotFoundException.class)
+    public void testDoDeleteRequestOfMissingResource() throws FogbowException {
+        // set up
+        this.server.respondWith(HttpStatus.SC_NOT_FOUND, null);
+
+        try {
+            // exercise
+            this.client.doDeleteRequest(this.server.getUrl(FAKE_PATH), this.cloudUser);
+        } finally {
+            // verify
+            Assert.assertEquals(DELETE_METHOD, this.server.getLastMethod());
+            Assert.assertEquals(FAKE_TOKEN, this.server.getLastHeaders().getFirst(X_AUTH_TOKEN_HEADER));
+        }
+    }
+}
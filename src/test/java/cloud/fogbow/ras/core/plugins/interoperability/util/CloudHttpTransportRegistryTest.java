@@ -0,0 +1,88 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
+import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
+import cloud.fogbow.ras.core.PropertiesHolder;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.UUID;
+
+public class CloudHttpTransportRegistryTest {
+
+    private static final String CLOUD_CONF_FILE_NAME = "cloud.conf";
+    private static final String PROPERTY_FORMAT = "%s=%s";
+    private static final int FAKE_MAX_CONNECTIONS = 7;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private CloudHttpTransportRegistry registry;
+    private String cloudName;
+
+    @Before
+    public void setUp() {
+        this.registry = CloudHttpTransportRegistry.getInstance();
+        // the registry is shared by the whole process, so each test uses a cloud of its own
+        this.cloudName = UUID.randomUUID().toString();
+    }
+
+    // test case: The settings present in the cloud.conf file of the cloud must be used, the missing or blank
+    // ones must be read from ras.conf, and the name of the cloud must be the name of its directory.
+    @Test
+    public void testGetTransportReadsCloudSettingsFallingBackToRasConf() throws IOException {
+        // set up
+        String confFilePath = createCloudConf(
+                String.format(PROPERTY_FORMAT, ConfigurationPropertyKeys.HTTP_MAX_CONNECTIONS_KEY, FAKE_MAX_CONNECTIONS),
+                String.format(PROPERTY_FORMAT, ConfigurationPropertyKeys.HTTP_MAX_CONNECTIONS_PER_ROUTE_KEY, ""));
+        int expectedMaxConnectionsPerRoute = Integer.parseInt(PropertiesHolder.getInstance().getProperty(
+                ConfigurationPropertyKeys.HTTP_MAX_CONNECTIONS_PER_ROUTE_KEY,
+                ConfigurationPropertyDefaults.HTTP_MAX_CONNECTIONS_PER_ROUTE).trim());
+
+        // exercise
+        CloudHttpTransport transport = this.registry.getTransport(confFilePath);
+
+        // verify
+        Assert.assertEquals(this.cloudName, transport.getCloudName());
+        Assert.assertEquals(FAKE_MAX_CONNECTIONS, transport.getMaxConnections());
+        Assert.assertEquals(expectedMaxConnectionsPerRoute, transport.getMaxConnectionsPerRoute());
+    }
+
+    // test case: The plugins of a cloud must share its transport, and the HTTP clients built on it.
+    @Test
+    public void testPluginsOfTheSameCloudShareTheTransport() throws IOException {
+        // set up
+        String confFilePath = createCloudConf();
+        String anotherConfFilePath = createCloudConfOf(UUID.randomUUID().toString());
+
+        // exercise
+        CloudHttpTransport transport = this.registry.getTransport(confFilePath);
+
+        // verify
+        Assert.assertSame(transport, this.registry.getTransport(confFilePath));
+        Assert.assertNotSame(transport, this.registry.getTransport(anotherConfFilePath));
+        Assert.assertSame(this.registry.getOpenStackHttpClient(confFilePath),
+                this.registry.getOpenStackHttpClient(confFilePath));
+        Assert.assertSame(this.registry.getCloudStackHttpClient(confFilePath),
+                this.registry.getCloudStackHttpClient(confFilePath));
+    }
+
+    private String createCloudConf(String... properties) throws IOException {
+        return createCloudConfOf(this.cloudName, properties);
+    }
+
+    private String createCloudConfOf(String cloudName, String... properties) throws IOException {
+        File cloudDirectory = this.temporaryFolder.newFolder(cloudName);
+        File confFile = new File(cloudDirectory, CLOUD_CONF_FILE_NAME);
+        Files.write(confFile.toPath(), Arrays.asList(properties), StandardCharsets.UTF_8);
+        return confFile.getAbsolutePath();
+    }
+}
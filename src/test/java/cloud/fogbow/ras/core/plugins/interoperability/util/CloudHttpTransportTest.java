@@ -0,0 +1,141 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import cloud.fogbow.common.exceptions.FogbowException;
+import cloud.fogbow.common.exceptions.InstanceNotFoundException;
+import cloud.fogbow.common.exceptions.InvalidParameterException;
+import cloud.fogbow.common.exceptions.UnavailableProviderException;
+import cloud.fogbow.common.util.connectivity.HttpErrorConditionToFogbowExceptionMapper;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.UUID;
+
+public class CloudHttpTransportTest {
+
+    private static final int MAX_CONNECTIONS = 2;
+    private static final int CONNECT_TIMEOUT = 1000;
+    private static final int READ_TIMEOUT = 1000;
+    private static final long KEEP_ALIVE_TIME = 1000;
+    private static final String FAKE_PATH = "/fake-path";
+    private static final String FAKE_RESPONSE_BODY = "{\"fake-key\":\"fake-value\"}";
+    private static final String FAKE_ERROR_BODY = "fake-error-message";
+
+    private FakeHttpServer server;
+    private CloudHttpTransport transport;
+
+    @Before
+    public void setUp() throws IOException {
+        this.server = new FakeHttpServer();
+        this.transport = new CloudHttpTransport(UUID.randomUUID().toString(), MAX_CONNECTIONS, MAX_CONNECTIONS,
+                CONNECT_TIMEOUT, READ_TIMEOUT, KEEP_ALIVE_TIME);
+    }
+
+    @After
+    public void tearDown() {
+        this.server.stop();
+    }
+
+    // test case: When the response is successful, its body must be returned, and the connection must be given
+    // back to the pool.
+    @Test
+    public void testExecuteReturnsResponseBody() throws FogbowException {
+        // set up
+        this.server.respondWith(HttpStatus.SC_OK, FAKE_RESPONSE_BODY);
+
+        // exercise
+        String firstResponse = this.transport.execute(new HttpGet(this.server.getUrl(FAKE_PATH)));
+        String secondResponse = this.transport.execute(new HttpGet(this.server.getUrl(FAKE_PATH)));
+
+        // verify
+        Assert.assertEquals(FAKE_RESPONSE_BODY, firstResponse);
+        Assert.assertEquals(FAKE_RESPONSE_BODY, secondResponse);
+    }
+
+    // test case: When the response has no body, null must be returned.
+    @Test
+    public void testExecuteWithoutResponseBody() throws FogbowException {
+        // set up
+        this.server.respondWith(HttpStatus.SC_NO_CONTENT, null);
+
+        // exercise
+        String response = this.transport.execute(new HttpGet(this.server.getUrl(FAKE_PATH)));
+
+        // verify
+        Assert.assertNull(response);
+    }
+
+    // test case: When the cloud answers with not found, an InstanceNotFoundException carrying the error body
+    // must be thrown.
+    @Test
+    public void testExecuteMapsNotFoundStatus() {
+        // set up
+        this.server.respondWith(HttpStatus.SC_NOT_FOUND, FAKE_ERROR_BODY);
+
+        try {
+            // exercise
+            this.transport.execute(new HttpGet(this.server.getUrl(FAKE_PATH)));
+            Assert.fail();
+        } catch (FogbowException e) {
+            // verify
+            Assert.assertTrue(e instanceof InstanceNotFoundException);
+            Assert.assertEquals(FAKE_ERROR_BODY, e.getMessage());
+        }
+    }
+
+    // test case: When the cloud answers with bad request, an InvalidParameterException carrying the error body
+    // must be thrown.
+    @Test
+    public void testExecuteMapsBadRequestStatus() {
+        // set up
+        this.server.respondWith(HttpStatus.SC_BAD_REQUEST, FAKE_ERROR_BODY);
+
+        try {
+            // exercise
+            this.transport.execute(new HttpGet(this.server.getUrl(FAKE_PATH)));
+            Assert.fail();
+        } catch (FogbowException e) {
+            // verify
+            Assert.assertTrue(e instanceof InvalidParameterException);
+            Assert.assertEquals(FAKE_ERROR_BODY, e.getMessage());
+        }
+    }
+
+    // test case: Any other unsuccessful status must be mapped as the other HTTP clients of the plugins do,
+    // keeping the error body.
+    @Test
+    public void testExecuteMapsOtherUnsuccessfulStatuses() {
+        int[] statuses = {HttpStatus.SC_UNAUTHORIZED, HttpStatus.SC_FORBIDDEN, HttpStatus.SC_CONFLICT,
+                HttpStatus.SC_INTERNAL_SERVER_ERROR, HttpStatus.SC_SERVICE_UNAVAILABLE};
+        for (int status : statuses) {
+            // set up
+            this.server.respondWith(status, FAKE_ERROR_BODY);
+            FogbowException expected = HttpErrorConditionToFogbowExceptionMapper.map(status, FAKE_ERROR_BODY);
+
+            try {
+                // exercise
+                this.transport.execute(new HttpGet(this.server.getUrl(FAKE_PATH)));
+                Assert.fail();
+            } catch (FogbowException e) {
+                // verify
+                Assert.assertEquals(expected.getClass(), e.getClass());
+                Assert.assertEquals(expected.getMessage(), e.getMessage());
+            }
+        }
+    }
+
+    // test case: When the cloud cannot be reached, an UnavailableProviderException must be thrown.
+    @Test(expected = UnavailableProviderException.class)
+    public void testExecuteWhenCloudIsUnreachable() throws FogbowException {
+        // set up
+        String url = this.server.getUrl(FAKE_PATH);
+        this.server.stop();
+
+        // exercise
+        this.transport.execute(new HttpGet(url));
+    }
+}
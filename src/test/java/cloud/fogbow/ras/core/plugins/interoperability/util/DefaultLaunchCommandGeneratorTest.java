@@ -134,9 +134,9 @@ public class DefaultLaunchCommandGeneratorTest {
     }
 
 
-    // test case: Test the application of token replacements in mime string.
+    // test case: Test the application of token replacements when rendering a precompiled template.
     @Test
-    public void testApplyTokensReplacements() {
+    public void testRenderTemplateWithTokensReplacements() {
 
         // set up
         ComputeOrder order = this.createComputeOrder();
@@ -155,12 +155,14 @@ public class DefaultLaunchCommandGeneratorTest {
                 DefaultLaunchCommandGenerator.TOKEN_USER_SSH_PUBLIC_KEY + System.lineSeparator();
         expectedMimeString += order.getPublicKey() + System.lineSeparator();
 
+        LaunchCommandTemplate template = LaunchCommandTemplate.parse(mimeString, 0, mimeString.length());
+        StringBuilder buffer = new StringBuilder();
+
         // exercise
-        String replacedMimeString =
-                this.launchCommandGenerator.applyTokensReplacements(order, mimeString);
+        template.render(this.launchCommandGenerator.getTokensReplacements(order), buffer);
 
         // verify
-        Assert.assertEquals(expectedMimeString, replacedMimeString);
+        Assert.assertEquals(expectedMimeString, buffer.toString());
     }
 
     private ComputeOrder createComputeOrder() {
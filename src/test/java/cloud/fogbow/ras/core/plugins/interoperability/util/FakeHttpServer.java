@@ -0,0 +1,71 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An HTTP server on the loopback interface that answers every request with the same status and body, and keeps
+ * the last request received, so that the HTTP clients of the plugins can be tested without a cloud.
+ */
+public class FakeHttpServer {
+    private static final String LOCALHOST = "127.0.0.1";
+    private static final String URL_FORMAT = "http://%s:%d%s";
+
+    private final HttpServer server;
+    private volatile int status;
+    private volatile String responseBody;
+    private volatile String lastMethod;
+    private volatile Headers lastHeaders;
+    private volatile String lastBody;
+    private boolean stopped;
+
+    public FakeHttpServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getByName(LOCALHOST), 0), 0);
+        this.server.createContext("/", exchange -> {
+            this.lastMethod = exchange.getRequestMethod();
+            this.lastHeaders = exchange.getRequestHeaders();
+            this.lastBody = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+            byte[] body = this.responseBody == null ? new byte[0] : this.responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(this.status, body.length == 0 ? -1 : body.length);
+            try (OutputStream responseStream = exchange.getResponseBody()) {
+                responseStream.write(body);
+            }
+        });
+        this.server.start();
+    }
+
+    public void respondWith(int status, String responseBody) {
+        this.status = status;
+        this.responseBody = responseBody;
+    }
+
+    public String getUrl(String path) {
+        return String.format(URL_FORMAT, LOCALHOST, this.server.getAddress().getPort(), path);
+    }
+
+    public String getLastMethod() {
+        return this.lastMethod;
+    }
+
+    public Headers getLastHeaders() {
+        return this.lastHeaders;
+    }
+
+    public String getLastBody() {
+        return this.lastBody;
+    }
+
+    public synchronized void stop() {
+        if (!this.stopped) {
+            this.server.stop(0);
+            this.stopped = true;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package cloud.fogbow.ras.core.plugins.interoperability.util;
+
+import cloud.fogbow.common.exceptions.InternalServerErrorException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+public class LaunchCommandTemplateEngineTest {
+
+    private static final String TOKEN_ID = "#TOKEN_ID#";
+    private static final String TOKEN_SSH_USER = "#TOKEN_SSH_USER#";
+    private static final String FAKE_ORDER_ID = "fake-order-id";
+    private static final String FAKE_SSH_USER = "fake-ssh-user";
+    private static final String TEMPLATE_CONTENT = "user: #TOKEN_SSH_USER#\norder: #TOKEN_ID# #TOKEN_UNKNOWN# #TOKEN_#id#";
+    private static final String RENDERED_TEMPLATE = "user: fake-ssh-user\norder: fake-order-id #TOKEN_UNKNOWN# #TOKEN_#id#";
+    private static final String CHANGED_TEMPLATE_CONTENT = "changed user: #TOKEN_SSH_USER#";
+    private static final String RENDERED_CHANGED_TEMPLATE = "changed user: fake-ssh-user";
+    private static final long ONE_MINUTE = 60000;
+
+    private LaunchCommandTemplateEngine templateEngine;
+    private Map<String, String> replacements;
+    private File templateFile;
+
+    @Before
+    public void setUp() throws IOException {
+        this.templateEngine = LaunchCommandTemplateEngine.getInstance();
+        this.replacements = new HashMap<>();
+        this.replacements.put(TOKEN_ID, FAKE_ORDER_ID);
+        this.replacements.put(TOKEN_SSH_USER, FAKE_SSH_USER);
+        this.templateFile = File.createTempFile("launch-command", ".cfg");
+        Files.write(this.templateFile.toPath(), TEMPLATE_CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @After
+    public void tearDown() {
+        this.templateFile.delete();
+    }
+
+    // test case: When rendering a template, the known tokens must be replaced by their values, while unknown
+    // and malformed tokens must be kept as they are.
+    @Test
+    public void testRenderTemplate() {
+        // set up
+        StringBuilder output = new StringBuilder();
+
+        // exercise
+        this.templateEngine.getTemplate(this.templateFile.getPath()).render(this.replacements, output);
+
+        // verify
+        Assert.assertEquals(RENDERED_TEMPLATE, output.toString());
+    }
+
+    // test case: Replacing the tokens of a text must give the same result as rendering a template with the same
+    // content.
+    @Test
+    public void testReplaceTokens() {
+        // set up
+        StringBuilder output = new StringBuilder();
+
+        // exercise
+        LaunchCommandTemplate.replaceTokens(TEMPLATE_CONTENT, this.replacements, output);
+
+        // verify
+        Assert.assertEquals(RENDERED_TEMPLATE, output.toString());
+    }
+
+    // test case: The same parsed template must be returned while the file is unchanged, and the template must be
+    // parsed again once the file changes.
+    @Test
+    public void testGetTemplateReloadsChangedFile() throws IOException {
+        // set up
+        String path = this.templateFile.getPath();
+        LaunchCommandTemplate template = this.templateEngine.getTemplate(path);
+
+        // exercise and verify
+        Assert.assertSame(template, this.templateEngine.getTemplate(path));
+
+        Files.write(this.templateFile.toPath(), CHANGED_TEMPLATE_CONTENT.getBytes(StandardCharsets.UTF_8));
+        this.templateFile.setLastModified(this.templateFile.lastModified() + ONE_MINUTE);
+        StringBuilder output = new StringBuilder();
+        this.templateEngine.getTemplate(path).render(this.replacements, output);
+        Assert.assertEquals(RENDERED_CHANGED_TEMPLATE, output.toString());
+    }
+
+    // test case: A compressed launch command must be decoded back into the original one by base64 decoding and
+    // gunzipping it.
+    @Test
+    public void testEncodeCompressed() throws InternalServerErrorException, IOException {
+        // exercise
+        String encodedLaunchCommand = this.templateEngine.encodeCompressed(RENDERED_TEMPLATE);
+
+        // verify
+        byte[] compressedBytes = Base64.getDecoder().decode(encodedLaunchCommand);
+        ByteArrayOutputStream decompressedBytes = new ByteArrayOutputStream();
+        try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressedBytes))) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = inputStream.read(buffer)) > 0) {
+                decompressedBytes.write(buffer, 0, read);
+            }
+        }
+        Assert.assertEquals(RENDERED_TEMPLATE, new String(decompressedBytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
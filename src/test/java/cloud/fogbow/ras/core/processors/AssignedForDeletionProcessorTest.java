@@ -3,13 +3,13 @@ package cloud.fogbow.ras.core.processors;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.*;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Level;
@@ -29,8 +29,8 @@ import java.util.Map;
 public class AssignedForDeletionProcessorTest extends BaseUnitTests {
 
     private Map<String, Order> activeOrdersMap;
-    private ChainedList<Order> assignedForDeletionOrderList;
-    private ChainedList<Order> remoteOrderList;
+    private ConcurrentOrderList<Order> assignedForDeletionOrderList;
+    private ConcurrentOrderList<Order> remoteOrderList;
     private AssignedForDeletionProcessor processor;
     private OrderController orderController;
 
@@ -3,7 +3,6 @@ package cloud.fogbow.ras.core.processors;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.*;
@@ -11,6 +10,7 @@ import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
 import cloud.fogbow.ras.core.models.Operation;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Level;
@@ -30,8 +30,8 @@ import java.util.Map;
 public class CheckingDeletionProcessorTest extends BaseUnitTests {
 
     private Map<String, Order> activeOrdersMap;
-    private ChainedList<Order> checkingDeletionOrderList;
-    private ChainedList<Order> remoteOrderList;
+    private ConcurrentOrderList<Order> checkingDeletionOrderList;
+    private ConcurrentOrderList<Order> remoteOrderList;
     private CheckingDeletionProcessor processor;
     private OrderController orderController;
 
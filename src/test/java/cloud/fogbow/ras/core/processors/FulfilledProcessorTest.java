@@ -13,7 +13,6 @@ import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.UnavailableProviderException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.api.http.response.ComputeInstance;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.ConfigurationPropertyKeys;
@@ -24,6 +23,7 @@ import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 
@@ -35,9 +35,9 @@ public class FulfilledProcessorTest extends BaseUnitTests {
      */
     private static final int MAX_SLEEP_TIME = 10000;
 
-    private ChainedList<Order> failedOrderList;
-    private ChainedList<Order> remoteOrderList;
-    private ChainedList<Order> fulfilledOrderList;
+    private ConcurrentOrderList<Order> failedOrderList;
+    private ConcurrentOrderList<Order> remoteOrderList;
+    private ConcurrentOrderList<Order> fulfilledOrderList;
     private FulfilledProcessor processor;
     private CloudConnector cloudConnector;
     private Properties properties;
@@ -11,7 +11,6 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.core.BaseUnitTests;
 import cloud.fogbow.ras.core.OrderController;
@@ -19,7 +18,9 @@ import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
+import cloud.fogbow.ras.core.cloudconnector.LocalCloudConnector;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 
@@ -36,7 +37,8 @@ public class OpenProcessorTest extends BaseUnitTests {
     @Before
     public void setUp() throws InternalServerErrorException {
         this.testUtils.mockReadOrdersFromDataBase();
-        this.testUtils.mockLocalCloudConnectorFromFactory();
+        LocalCloudConnector localCloudConnector = this.testUtils.mockLocalCloudConnectorFromFactory();
+        Mockito.when(localCloudConnector.acquireCreatePermit()).thenReturn(true);
 
         this.cloudConnector = CloudConnectorFactory.getInstance().getCloudConnector(TestUtils.LOCAL_MEMBER_ID,
                 TestUtils.DEFAULT_CLOUD_NAME);
@@ -81,8 +83,8 @@ public class OpenProcessorTest extends BaseUnitTests {
         // test if the open order list is empty and 
         // the spawningList is with the localOrder
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
-        ChainedList<Order> spawningOrdersList = sharedOrderHolders.getSpawningOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> spawningOrdersList = sharedOrderHolders.getSpawningOrdersList();
         Assert.assertTrue(this.listIsEmpty(openOrdersList));
         Assert.assertSame(localOrder, spawningOrdersList.getNext());
     }
@@ -111,8 +113,8 @@ public class OpenProcessorTest extends BaseUnitTests {
         // test if the open order list is empty and the failedList is with the
         // localOrder
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
-        ChainedList<Order> failedOrdersList = sharedOrderHolders.getFailedOnRequestOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> failedOrdersList = sharedOrderHolders.getFailedOnRequestOrdersList();
         Assert.assertTrue(this.listIsEmpty(openOrdersList));
         Assert.assertSame(localOrder, failedOrdersList.getNext());
     }
@@ -142,12 +144,62 @@ public class OpenProcessorTest extends BaseUnitTests {
         // test if the open order list is empty and 
         // the failedList is with the localOrder
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
-        ChainedList<Order> failedOrdersList = sharedOrderHolders.getFailedOnRequestOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> failedOrdersList = sharedOrderHolders.getFailedOnRequestOrdersList();
         Assert.assertTrue(this.listIsEmpty(openOrdersList));
         Assert.assertSame(localOrder, failedOrdersList.getNext());
     }
 
+    //test case: test if the open processor keeps an open local order in the OPEN state, without requesting
+    //its instance, when no create permit of the cloud is granted in time.
+    @Test
+    public void testProcessOpenLocalOrderWithoutCreatePermit() throws Exception {
+        //set up
+        Order localOrder = this.testUtils.createLocalOrder(this.testUtils.getLocalMemberId());
+
+        this.orderController.activateOrder(localOrder);
+
+        Mockito.when(((LocalCloudConnector) this.cloudConnector).acquireCreatePermit()).thenReturn(false);
+
+        //exercise
+        this.thread = new Thread(this.processor);
+        this.thread.start();
+        Thread.sleep(TestUtils.DEFAULT_SLEEP_TIME);
+
+        //verify
+        Assert.assertEquals(OrderState.OPEN, localOrder.getOrderState());
+        Mockito.verify(this.cloudConnector, Mockito.never()).requestInstance(Mockito.any(Order.class));
+
+        // test if the order is still in the open order list
+        SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        Assert.assertFalse(this.listIsEmpty(openOrdersList));
+    }
+
+    //test case: test if the open processor gives back the create permit, without requesting the instance, when
+    //the order is no longer OPEN once its lock is taken.
+    @Test
+    public void testProcessOrderNoLongerOpenReleasesCreatePermit() throws Exception {
+        //set up
+        Order localOrder = this.testUtils.createLocalOrder(this.testUtils.getLocalMemberId());
+
+        this.orderController.activateOrder(localOrder);
+
+        LocalCloudConnector localCloudConnector = (LocalCloudConnector) this.cloudConnector;
+        Mockito.when(localCloudConnector.acquireCreatePermit()).thenAnswer(invocation -> {
+            // the order is closed while the permit is being taken
+            localOrder.setOrderStateInTestMode(OrderState.CLOSED);
+            return true;
+        });
+
+        //exercise
+        this.processor.processOpenOrder(localOrder);
+
+        //verify
+        Mockito.verify(localCloudConnector, Mockito.times(TestUtils.RUN_ONCE)).releaseCreatePermit();
+        Mockito.verify(this.cloudConnector, Mockito.never()).requestInstance(Mockito.any(Order.class));
+    }
+
     //test case: test if the open processor is setting to pending an open intercomponent order.
     @Test
     public void testProcessOpenRemoteOrder() throws Exception {
@@ -171,8 +223,8 @@ public class OpenProcessorTest extends BaseUnitTests {
         // test if the open order list is empty and
         // the pendingList is with the localOrder
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
-        ChainedList<Order> pendingOrdersList = sharedOrderHolders.getRemoteProviderOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> pendingOrdersList = sharedOrderHolders.getRemoteProviderOrdersList();
         Assert.assertTrue(this.listIsEmpty(openOrdersList));
         Assert.assertSame(remoteOrder, pendingOrdersList.getNext());
     }
@@ -201,8 +253,8 @@ public class OpenProcessorTest extends BaseUnitTests {
         // test if the open order list is empty and
         // the remoteOrdersList is with the localOrder
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
-        ChainedList<Order> remoteOrdersList = sharedOrderHolders.getRemoteProviderOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> remoteOrdersList = sharedOrderHolders.getRemoteProviderOrdersList();
         Assert.assertTrue(this.listIsEmpty(openOrdersList));
         Assert.assertSame(remoteOrder, remoteOrdersList.getNext());
     }
@@ -224,7 +276,7 @@ public class OpenProcessorTest extends BaseUnitTests {
 
         //verify
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
         Assert.assertEquals(OrderState.PENDING, order.getOrderState());
         Assert.assertFalse(this.listIsEmpty(openOrdersList));
     }
@@ -262,8 +314,8 @@ public class OpenProcessorTest extends BaseUnitTests {
         // test if the open order list is empty and
         // the selectedList is with the localOrder
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
-        ChainedList<Order> selectedOrdersList = sharedOrderHolders.getSelectedOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> selectedOrdersList = sharedOrderHolders.getSelectedOrdersList();
         Assert.assertTrue(this.listIsEmpty(openOrdersList));
         Assert.assertSame(localOrder, selectedOrdersList.getNext());
     }
@@ -288,7 +340,7 @@ public class OpenProcessorTest extends BaseUnitTests {
 
         //verify
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
-        ChainedList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
+        ConcurrentOrderList<Order> openOrdersList = sharedOrderHolders.getOpenOrdersList();
         openOrdersList.addItem(order);
         Assert.assertEquals(OrderState.OPEN, order.getOrderState());
         Assert.assertFalse(this.listIsEmpty(openOrdersList));
@@ -379,7 +431,7 @@ public class OpenProcessorTest extends BaseUnitTests {
         Assert.assertEquals(OrderState.OPEN, localOrder.getOrderState());
     }
 
-    private boolean listIsEmpty(ChainedList<Order> list) {
+    private boolean listIsEmpty(ConcurrentOrderList<Order> list) {
         list.resetPointer();
         return list.getNext() == null;
     }
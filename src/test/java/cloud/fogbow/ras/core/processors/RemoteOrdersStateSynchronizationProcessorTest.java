@@ -2,7 +2,6 @@ package cloud.fogbow.ras.core.processors;
 
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.constants.Messages;
 import cloud.fogbow.ras.core.BaseUnitTests;
@@ -12,9 +11,11 @@ import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.cloudconnector.RemoteCloudConnector;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 import org.apache.log4j.Level;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -23,6 +24,10 @@ import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @PrepareForTest({ RemoteCloudConnector.class,
         DatabaseManager.class,
         CloudConnectorFactory.class,
@@ -30,7 +35,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
         RemoteOrdersStateSynchronizationProcessor.class })
 public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests {
 
-    private ChainedList<Order> remoteOrderList;
+    private ConcurrentOrderList<Order> remoteOrderList;
     private RemoteOrdersStateSynchronizationProcessor processor;
 
     private LoggerAssert loggerTestChecking = new LoggerAssert(RemoteOrdersStateSynchronizationProcessor.class);
@@ -43,6 +48,8 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
 
         this.processor = Mockito.spy(new RemoteOrdersStateSynchronizationProcessor(
                 TestUtils.LOCAL_MEMBER_ID, ConfigurationPropertyDefaults.CHECKING_DELETION_ORDERS_SLEEP_TIME));
+        // the local orders are updated on the thread that completes the remote request
+        this.processor.setCompletionExecutor(Runnable::run);
 
         SharedOrderHolders sharedOrderHolders = SharedOrderHolders.getInstance();
         this.remoteOrderList = sharedOrderHolders.getRemoteProviderOrdersList();
@@ -62,7 +69,8 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
         Order remoteOrder = Mockito.mock(Order.class);
         OrderState remoteOrderState = OrderState.FULFILLED;
         Mockito.when(remoteOrder.getOrderState()).thenReturn(remoteOrderState);
-        Mockito.when(remoteCloudConnector.getRemoteOrder(Mockito.eq(order))).thenReturn(remoteOrder);
+        Mockito.when(remoteCloudConnector.getRemoteOrderAsync(Mockito.eq(order)))
+                .thenReturn(CompletableFuture.completedFuture(remoteOrder));
 
         Mockito.doNothing().when(order).updateFromRemote(Mockito.eq(remoteOrder));
         Mockito.doNothing().when(order).setOrderState(Mockito.eq(remoteOrderState));
@@ -87,7 +95,9 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
         RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
         String errorMessageException = TestUtils.ANY_VALUE;
         FogbowException fogbowException = new FogbowException(errorMessageException);
-        Mockito.when(remoteCloudConnector.getRemoteOrder(Mockito.eq(order))).thenThrow(fogbowException);
+        CompletableFuture<Order> failedRequest = new CompletableFuture<>();
+        failedRequest.completeExceptionally(fogbowException);
+        Mockito.when(remoteCloudConnector.getRemoteOrderAsync(Mockito.eq(order))).thenReturn(failedRequest);
 
         String infoMessageExpected = String.format(Messages.Exception.GENERIC_EXCEPTION_S, errorMessageException);
 
@@ -114,7 +124,7 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
 
         // verify
         Mockito.verify(order, Mockito.times(TestUtils.NEVER_RUN)).getOrderState();
-        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.NEVER_RUN)).getRemoteOrder(Mockito.eq(order));
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.NEVER_RUN)).getRemoteOrderAsync(Mockito.eq(order));
         this.loggerTestChecking.assertEqualsInOrder(Level.ERROR, Messages.Exception.UNEXPECTED_ERROR);
 
     }
@@ -136,7 +146,7 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
         // verify
         Mockito.verify(order, Mockito.times(TestUtils.RUN_ONCE)).getOrderState();
         Mockito.verify(order, Mockito.times(TestUtils.RUN_ONCE)).isProviderLocal(Mockito.any());
-        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.NEVER_RUN)).getRemoteOrder(Mockito.eq(order));
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.NEVER_RUN)).getRemoteOrderAsync(Mockito.eq(order));
     }
 
     // test case: When calling the processRemoteProviderOrder method with remote ASSIGNED_FOR_DELETION order,
@@ -157,7 +167,118 @@ public class RemoteOrdersStateSynchronizationProcessorTest extends BaseUnitTests
         // verify
         Mockito.verify(order, Mockito.times(TestUtils.RUN_TWICE)).getOrderState();
         Mockito.verify(order, Mockito.times(TestUtils.RUN_ONCE)).isProviderLocal(Mockito.any());
-        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.NEVER_RUN)).getRemoteOrder(Mockito.eq(order));
+        Mockito.verify(remoteCloudConnector, Mockito.times(TestUtils.NEVER_RUN)).getRemoteOrderAsync(Mockito.eq(order));
+    }
+
+    // test case: When calling the processRemoteProviderOrder method with a remote order whose previous
+    // synchronization is still in progress, it must not request the remote order again until the
+    // previous request completes.
+    @Test
+    public void testProcessRemoteProviderOrderWhenPreviousRequestIsInProgress() throws FogbowException {
+
+        // set up
+        Order order = Mockito.spy(this.testUtils.createRemoteOrder(TestUtils.ANY_VALUE));
+        order.setOrderState(OrderState.FULFILLED);
+
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        CompletableFuture<Order> pendingRequest = new CompletableFuture<>();
+        Mockito.when(remoteCloudConnector.getRemoteOrderAsync(Mockito.eq(order))).thenReturn(pendingRequest);
+        Order remoteOrder = Mockito.mock(Order.class);
+        Mockito.when(remoteOrder.getOrderState()).thenReturn(OrderState.FULFILLED);
+        Mockito.doNothing().when(order).updateFromRemote(Mockito.eq(remoteOrder));
+
+        // exercise
+        CompletableFuture<Void> firstSynchronization = this.processor.processRemoteProviderOrder(order);
+        CompletableFuture<Void> secondSynchronization = this.processor.processRemoteProviderOrder(order);
+        pendingRequest.complete(remoteOrder);
+        CompletableFuture<Void> thirdSynchronization = this.processor.processRemoteProviderOrder(order);
+
+        // verify
+        Assert.assertNotNull(firstSynchronization);
+        Assert.assertNull(secondSynchronization);
+        Assert.assertNotNull(thirdSynchronization);
+        Assert.assertTrue(firstSynchronization.isDone());
+        Mockito.verify(remoteCloudConnector, Mockito.times(2)).getRemoteOrderAsync(Mockito.eq(order));
+        Mockito.verify(order, Mockito.times(2)).updateFromRemote(Mockito.eq(remoteOrder));
+    }
+
+    // test case: When calling the processRemoteProviderOrder method and the order is closed while the remote
+    // order is being retrieved, it must discard the remote order and keep the order CLOSED.
+    @Test
+    public void testProcessRemoteProviderOrderWhenOrderIsClosedDuringRequest() throws FogbowException {
+
+        // set up
+        Order order = Mockito.spy(this.testUtils.createRemoteOrder(TestUtils.ANY_VALUE));
+        order.setOrderState(OrderState.FULFILLED);
+
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        CompletableFuture<Order> pendingRequest = new CompletableFuture<>();
+        Mockito.when(remoteCloudConnector.getRemoteOrderAsync(Mockito.eq(order))).thenReturn(pendingRequest);
+        Order remoteOrder = Mockito.mock(Order.class);
+        Mockito.when(remoteOrder.getOrderState()).thenReturn(OrderState.FULFILLED);
+
+        CompletableFuture<Void> synchronization = this.processor.processRemoteProviderOrder(order);
+        order.setOrderState(OrderState.CLOSED);
+
+        // exercise
+        pendingRequest.complete(remoteOrder);
+
+        // verify
+        Assert.assertTrue(synchronization.isDone());
+        Mockito.verify(order, Mockito.never()).updateFromRemote(Mockito.any(Order.class));
+        Assert.assertEquals(OrderState.CLOSED, order.getOrderState());
+    }
+
+    // test case: The local order must be updated on the completion executor, and not on the thread that
+    // delivers the remote response.
+    @Test
+    public void testProcessRemoteProviderOrderUpdatesOnCompletionExecutor() throws Exception {
+
+        // set up
+        Order order = Mockito.spy(this.testUtils.createRemoteOrder(TestUtils.ANY_VALUE));
+        order.setOrderState(OrderState.FULFILLED);
+
+        RemoteCloudConnector remoteCloudConnector = this.testUtils.mockRemoteCloudConnectorFromFactory();
+        CompletableFuture<Order> pendingRequest = new CompletableFuture<>();
+        Mockito.when(remoteCloudConnector.getRemoteOrderAsync(Mockito.eq(order))).thenReturn(pendingRequest);
+        Order remoteOrder = Mockito.mock(Order.class);
+        Mockito.when(remoteOrder.getOrderState()).thenReturn(OrderState.FULFILLED);
+        Mockito.doNothing().when(order).updateFromRemote(Mockito.eq(remoteOrder));
+
+        List<Runnable> completions = new ArrayList<>();
+        this.processor.setCompletionExecutor(completions::add);
+        CompletableFuture<Void> synchronization = this.processor.processRemoteProviderOrder(order);
+
+        // exercise
+        pendingRequest.complete(remoteOrder);
+
+        // verify
+        Assert.assertFalse(synchronization.isDone());
+        Mockito.verify(order, Mockito.never()).updateFromRemote(Mockito.any(Order.class));
+        Assert.assertEquals(1, completions.size());
+
+        completions.get(0).run();
+        Assert.assertTrue(synchronization.isDone());
+        Mockito.verify(order, Mockito.times(TestUtils.RUN_ONCE)).updateFromRemote(Mockito.eq(remoteOrder));
+    }
+
+    // test case: When calling the updateFromRemoteOrder method with a CLOSED order whose version has not changed,
+    // it must not update the order from the remote order.
+    @Test
+    public void testUpdateFromRemoteOrderWhenOrderIsClosed() throws FogbowException {
+
+        // set up
+        Order order = Mockito.spy(this.testUtils.createRemoteOrder(TestUtils.ANY_VALUE));
+        order.setOrderState(OrderState.CLOSED);
+        Order remoteOrder = Mockito.mock(Order.class);
+        Mockito.when(remoteOrder.getOrderState()).thenReturn(OrderState.FULFILLED);
+
+        // exercise
+        this.processor.updateFromRemoteOrder(order, order.getVersion(), remoteOrder);
+
+        // verify
+        Mockito.verify(order, Mockito.never()).updateFromRemote(Mockito.any(Order.class));
+        Assert.assertEquals(OrderState.CLOSED, order.getOrderState());
     }
 
     // test case: When calling the synchronizeWithRemote method and throws a Throwable
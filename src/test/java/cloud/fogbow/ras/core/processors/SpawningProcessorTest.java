@@ -11,17 +11,18 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.UnavailableProviderException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.api.http.response.ComputeInstance;
 import cloud.fogbow.ras.api.http.response.InstanceState;
 import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
 import cloud.fogbow.ras.core.BaseUnitTests;
+import cloud.fogbow.ras.core.OrderStateTransitioner;
 import cloud.fogbow.ras.core.SharedOrderHolders;
 import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.AttachmentOrder;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
@@ -31,11 +32,11 @@ public class SpawningProcessorTest extends BaseUnitTests {
 
     private static final int SPAWNING_SLEEP_TIME = 2000;
 
-    private ChainedList<Order> failedOrderList;
-    private ChainedList<Order> fulfilledOrderList;
-    private ChainedList<Order> openOrderList;
-    private ChainedList<Order> spawningOrderList;
-    private ChainedList<Order> remoteOrderList;
+    private ConcurrentOrderList<Order> failedOrderList;
+    private ConcurrentOrderList<Order> fulfilledOrderList;
+    private ConcurrentOrderList<Order> openOrderList;
+    private ConcurrentOrderList<Order> spawningOrderList;
+    private ConcurrentOrderList<Order> remoteOrderList;
     private CloudConnector cloudConnector;
     private SpawningProcessor processor;
     private Thread thread;
@@ -351,6 +352,34 @@ public class SpawningProcessorTest extends BaseUnitTests {
         Assert.assertEquals(OrderState.FAILED_AFTER_SUCCESSFUL_REQUEST, order.getOrderState());
     }
     
+    // test case: When the state of the order changes while the processSpawningOrder
+    // method waits for the instance, the result of the cloud request must be discarded
+    // and the order must be left in the state it was moved to.
+    @Test
+    public void testProcessSpawningOrderDiscardsStaleResult() throws FogbowException {
+        // set up
+        Order order = this.testUtils.createLocalOrder(this.testUtils.getLocalMemberId());
+        order.setInstanceId(TestUtils.FAKE_INSTANCE_ID);
+        order.setOrderState(OrderState.SPAWNING);
+        this.spawningOrderList.addItem(order);
+
+        OrderInstance orderInstance = new ComputeInstance(TestUtils.FAKE_INSTANCE_ID);
+        orderInstance.setReady();
+
+        Mockito.doAnswer(invocation -> {
+            OrderStateTransitioner.transition(order, OrderState.ASSIGNED_FOR_DELETION);
+            return orderInstance;
+        }).when(this.cloudConnector).getInstance(Mockito.any(Order.class));
+
+        // exercise
+        this.processor.processSpawningOrder(order);
+
+        // verify
+        Assert.assertEquals(OrderState.ASSIGNED_FOR_DELETION, order.getOrderState());
+        Assert.assertNull(this.fulfilledOrderList.getNext());
+        Assert.assertNull(this.spawningOrderList.getNext());
+    }
+
     // test case: When calling the processSpawningOrder method with a
     // remote member ID, the order state should change to PENDING.
     @Test
@@ -10,7 +10,6 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import cloud.fogbow.common.exceptions.FogbowException;
 import cloud.fogbow.common.exceptions.InstanceNotFoundException;
 import cloud.fogbow.common.exceptions.InternalServerErrorException;
-import cloud.fogbow.common.models.linkedlists.ChainedList;
 import cloud.fogbow.ras.api.http.response.ComputeInstance;
 import cloud.fogbow.ras.api.http.response.OrderInstance;
 import cloud.fogbow.ras.constants.ConfigurationPropertyDefaults;
@@ -20,15 +19,16 @@ import cloud.fogbow.ras.core.TestUtils;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnector;
 import cloud.fogbow.ras.core.cloudconnector.CloudConnectorFactory;
 import cloud.fogbow.ras.core.datastore.DatabaseManager;
+import cloud.fogbow.ras.core.models.linkedlists.ConcurrentOrderList;
 import cloud.fogbow.ras.core.models.orders.Order;
 import cloud.fogbow.ras.core.models.orders.OrderState;
 
 @PrepareForTest({ CloudConnectorFactory.class, DatabaseManager.class })
 public class UnableToCheckStatusProcessorTest extends BaseUnitTests {
 
-    private ChainedList<Order> unableToCheckStatus;
-    private ChainedList<Order> fulfilledOrderList;
-    private ChainedList<Order> remoteOrderList;
+    private ConcurrentOrderList<Order> unableToCheckStatus;
+    private ConcurrentOrderList<Order> fulfilledOrderList;
+    private ConcurrentOrderList<Order> remoteOrderList;
     private CloudConnector cloudConnector;
     private UnableToCheckStatusProcessor processor;
     private Thread thread;
@@ -208,7 +208,7 @@ public class AttachmentTest extends BaseUnitTests {
 
         AttachmentInstance attachmentInstance = new AttachmentInstance(fakeId);
         Mockito.doReturn(attachmentInstance).when(this.facade)
-                .getAttachment(Mockito.anyString(), Mockito.anyString());
+                .getAttachment(Mockito.anyString(), Mockito.anyString(), Mockito.any());
 
         RequestBuilder requestBuilder =
                 createRequestBuilder(HttpMethod.GET, attachmentIdEndpoint, getHttpHeaders(), "");
@@ -229,7 +229,7 @@ public class AttachmentTest extends BaseUnitTests {
         Assert.assertEquals(attachmentInstance, resultAttachmentInstance);
 
         Mockito.verify(this.facade, Mockito.times(1))
-                .getAttachment(Mockito.anyString(), Mockito.anyString());
+                .getAttachment(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     // test case: Request an attachment by his id when the instance is not found. 
@@ -241,7 +241,7 @@ public class AttachmentTest extends BaseUnitTests {
         String attachmentIdEndpoint = ATTACHMENT_ENDPOINT + "/" + fakeId;
         Mockito.doThrow(new InstanceNotFoundException())
                 .when(this.facade)
-                .getAttachment(Mockito.anyString(), Mockito.anyString());
+                .getAttachment(Mockito.anyString(), Mockito.anyString(), Mockito.any());
 
         RequestBuilder requestBuilder =
                 createRequestBuilder(HttpMethod.GET, attachmentIdEndpoint, getHttpHeaders(), "");
@@ -253,7 +253,7 @@ public class AttachmentTest extends BaseUnitTests {
         int expectedStatus = HttpStatus.NOT_FOUND.value();
         Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
         Mockito.verify(this.facade, Mockito.times(1))
-                .getAttachment(Mockito.anyString(), Mockito.anyString());
+                .getAttachment(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     // test case: Delete an attachment by his id and test successfully return. 
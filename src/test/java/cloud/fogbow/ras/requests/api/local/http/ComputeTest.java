@@ -222,7 +222,7 @@ public class ComputeTest {
         // set up
         final String FAKE_ID = "fake-Id-1";
         String computeIdEndpoint = COMPUTE_ENDPOINT + "/" + FAKE_ID;
-        Mockito.doThrow(new UnauthenticatedUserException()).when(this.facade).getCompute(Mockito.anyString(), Mockito.anyString());
+        Mockito.doThrow(new UnauthenticatedUserException()).when(this.facade).getCompute(Mockito.anyString(), Mockito.anyString(), Mockito.any());
         RequestBuilder requestBuilder = createRequestBuilder(HttpMethod.GET, computeIdEndpoint, getHttpHeaders(), "");
 
         // exercise
@@ -232,7 +232,7 @@ public class ComputeTest {
         int expectedStatus = HttpStatus.UNAUTHORIZED.value();
         Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
 
-        Mockito.verify(this.facade, Mockito.times(1)).getCompute(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(this.facade, Mockito.times(1)).getCompute(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     // test case: Request a compute by its id with an unauthorized user. Check the response of request
@@ -243,7 +243,7 @@ public class ComputeTest {
         // set up
         final String FAKE_ID = "fake-Id-1";
         String computeIdEndpoint = COMPUTE_ENDPOINT + "/" + FAKE_ID;
-        Mockito.doThrow(new UnauthorizedRequestException()).when(this.facade).getCompute(Mockito.anyString(), Mockito.anyString());
+        Mockito.doThrow(new UnauthorizedRequestException()).when(this.facade).getCompute(Mockito.anyString(), Mockito.anyString(), Mockito.any());
         RequestBuilder requestBuilder = createRequestBuilder(HttpMethod.GET, computeIdEndpoint, getHttpHeaders(), "");
 
         // exercise
@@ -254,7 +254,7 @@ public class ComputeTest {
         int expectedStatus = HttpStatus.FORBIDDEN.value();
         Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
 
-        Mockito.verify(this.facade, Mockito.times(1)).getCompute(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(this.facade, Mockito.times(1)).getCompute(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     // test case: Request a compute by its id when the instance is not found. Check the response of request
@@ -265,7 +265,7 @@ public class ComputeTest {
         // set up
         final String FAKE_ID = "fake-Id-1";
         String computeIdEndpoint = COMPUTE_ENDPOINT + "/" + FAKE_ID;
-        Mockito.doThrow(new InstanceNotFoundException()).when(this.facade).getCompute(Mockito.anyString(), Mockito.anyString());
+        Mockito.doThrow(new InstanceNotFoundException()).when(this.facade).getCompute(Mockito.anyString(), Mockito.anyString(), Mockito.any());
         RequestBuilder requestBuilder = createRequestBuilder(HttpMethod.GET, computeIdEndpoint, getHttpHeaders(), "");
 
         // exercise
@@ -275,7 +275,7 @@ public class ComputeTest {
         int expectedStatus = HttpStatus.NOT_FOUND.value();
         Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
 
-        Mockito.verify(this.facade, Mockito.times(1)).getCompute(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(this.facade, Mockito.times(1)).getCompute(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     // test case: Request a compute by its id and test successfully return. Check the response of request
@@ -288,7 +288,7 @@ public class ComputeTest {
 
         String computeIdEndpoint = COMPUTE_ENDPOINT + "/" + FAKE_ID;
         ComputeInstance computeInstance = new ComputeInstance(FAKE_ID);
-        Mockito.doReturn(computeInstance).when(this.facade).getCompute(Mockito.anyString(), Mockito.anyString());
+        Mockito.doReturn(computeInstance).when(this.facade).getCompute(Mockito.anyString(), Mockito.anyString(), Mockito.any());
         RequestBuilder requestBuilder = createRequestBuilder(HttpMethod.GET, computeIdEndpoint, getHttpHeaders(), "");
 
         // exercise
@@ -302,7 +302,7 @@ public class ComputeTest {
         Assert.assertNotNull(resultComputeInstance);
         Assert.assertEquals(computeInstance.getId(), resultComputeInstance.getId());
 
-        Mockito.verify(this.facade, Mockito.times(1)).getCompute(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(this.facade, Mockito.times(1)).getCompute(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     // test case: Delete a compute by its id and test successfully return. Check the response of request
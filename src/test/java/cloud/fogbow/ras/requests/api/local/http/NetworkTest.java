@@ -188,7 +188,7 @@ public class NetworkTest {
 
         PowerMockito.mockStatic(ApplicationFacade.class);
         BDDMockito.given(ApplicationFacade.getInstance()).willReturn(this.facade);
-        Mockito.doReturn(instance).when(this.facade).getNetwork(Mockito.anyString(), Mockito.anyString());
+        Mockito.doReturn(instance).when(this.facade).getNetwork(Mockito.anyString(), Mockito.anyString(), Mockito.any());
 
         HttpHeaders headers = getHttpHeaders();
         int expectedStatus = HttpStatus.OK.value();
@@ -206,7 +206,7 @@ public class NetworkTest {
                 NetworkInstance.class);
         Assert.assertEquals(instance.getId(), resultInstance.getId());
         Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
-        Mockito.verify(this.facade, Mockito.times(1)).getNetwork(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(this.facade, Mockito.times(1)).getNetwork(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     // test case: Fail to get a network instance
@@ -185,7 +185,7 @@ public class PublicIpTest extends BaseUnitTests {
 
         PowerMockito.mockStatic(ApplicationFacade.class);
         BDDMockito.given(ApplicationFacade.getInstance()).willReturn(this.facade);
-        Mockito.doReturn(instance).when(this.facade).getPublicIp(Mockito.anyString(), Mockito.anyString());
+        Mockito.doReturn(instance).when(this.facade).getPublicIp(Mockito.anyString(), Mockito.anyString(), Mockito.any());
 
         HttpHeaders headers = getHttpHeaders();
         int expectedStatus = HttpStatus.OK.value();
@@ -203,7 +203,7 @@ public class PublicIpTest extends BaseUnitTests {
                 NetworkInstance.class);
         Assert.assertEquals(instance.getId(), resultInstance.getId());
         Assert.assertEquals(expectedStatus, result.getResponse().getStatus());
-        Mockito.verify(this.facade, Mockito.times(1)).getPublicIp(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(this.facade, Mockito.times(1)).getPublicIp(Mockito.anyString(), Mockito.anyString(), Mockito.any());
     }
 
     // test case: Fail to get a public IP instance
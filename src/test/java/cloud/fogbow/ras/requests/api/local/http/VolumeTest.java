@@ -113,7 +113,7 @@ public class VolumeTest {
 
         // exercise
         Mockito.doReturn(volumeInstance).when(this.facade).getVolume(Mockito.anyString(),
-                Mockito.anyString());
+                Mockito.anyString(), Mockito.any());
 
         HttpHeaders headers = getHttpHeaders();
 
@@ -128,7 +128,7 @@ public class VolumeTest {
                 .fromJson(result.getResponse().getContentAsString(), VolumeInstance.class);
 
         // verify
-        Mockito.verify(this.facade, times(1)).getVolume(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(this.facade, times(1)).getVolume(Mockito.anyString(), Mockito.anyString(), Mockito.any());
 
         Assert.assertEquals(volumeInstance.getId(), resultInstance.getId());
         Assert.assertEquals(expectedStatus, result.getResponse().getStatus());